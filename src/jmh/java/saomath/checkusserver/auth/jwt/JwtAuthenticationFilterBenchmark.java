@@ -0,0 +1,81 @@
+package saomath.checkusserver.auth.jwt;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 비용
+ *
+ * - sameToken: 같은 토큰으로 반복 요청 (일반적인 로그인 사용자)
+ * - distinctTokens: 매 요청 다른 토큰 (검증 캐시에 없는 첫 요청)
+ * - validateToken: 필터 없이 토큰 검증만
+ * 로그 수준은 운영과 같이 ERROR로 두고 측정합니다. (src/jmh/resources/logback.xml)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    // 검증 캐시(기본 10000건)보다 많아 항상 캐시에 없는 토큰이 되도록 함
+    private static final int DISTINCT_TOKENS = 20_000;
+
+    private final FilterChain chain = (request, response) -> { };
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String[] distinctTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-0123456789-benchmark-secret-key-0123456789");
+        properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+        tokenProvider = new JwtTokenProvider(properties);
+        filter = new JwtAuthenticationFilter(tokenProvider);
+
+        token = tokenProvider.generateAccessToken(1L, "teacher", List.of("TEACHER"));
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = tokenProvider.generateAccessToken((long) i, "user" + i, List.of("STUDENT"));
+        }
+    }
+
+    @Benchmark
+    public Authentication sameToken() throws Exception {
+        return filter(token);
+    }
+
+    @Benchmark
+    public Authentication distinctTokens() throws Exception {
+        String current = distinctTokens[next];
+        next = (next + 1) % DISTINCT_TOKENS;
+        return filter(current);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    private Authentication filter(String jwt) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/study-time/monitor");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -31,36 +31,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String requestURI = request.getRequestURI();
-        log.info("Processing request: {} {}", request.getMethod(), requestURI);
+        log.debug("Processing request: {} {}", request.getMethod(), request.getRequestURI());
 
         try {
             String jwt = getJwtFromRequest(request);
             log.debug("JWT from request: {}", jwt != null ? "present" : "absent");
 
             if (StringUtils.hasText(jwt)) {
-                log.debug("Validating JWT token");
-                // JWT 검증을 단계별로 수행
-                if (jwtTokenProvider.validateToken(jwt)) {
-                    log.debug("JWT token is valid");
-                    if (jwtTokenProvider.isAccessToken(jwt)) {
-                        log.debug("JWT is access token, setting authentication");
-                        setAuthentication(request, jwt);
-                    } else {
-                        log.debug("JWT is not access token");
-                        SecurityContextHolder.clearContext();
-                    }
+                // 서명 검증과 클레임 추출을 한 번에 수행 (최근 검증한 토큰은 캐시 사용)
+                VerifiedToken token = jwtTokenProvider.verify(jwt);
+                if (token != null && token.isAccessToken()) {
+                    log.debug("JWT is access token, setting authentication");
+                    setAuthentication(request, token);
                 } else {
-                    log.info("Invalid or expired JWT token");
+                    log.debug("JWT is not access token");
                     SecurityContextHolder.clearContext();
                 }
             } else {
                 log.debug("No JWT token found in request");
             }
 
-        } catch (io.jsonwebtoken.JwtException ex) {
-            // JWT 관련 예외만 명시적으로 처리
-            log.warn("JWT processing failed: {}", ex.getMessage());
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException ex) {
+            // 서명 오류, 만료, 형식 오류
+            log.info("Invalid or expired JWT token: {}", ex.getMessage());
             SecurityContextHolder.clearContext();
 
         } catch (Exception ex) {
@@ -72,37 +65,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(HttpServletRequest request, String jwt) {
-        log.info("Starting setAuthentication with JWT");
+    private void setAuthentication(HttpServletRequest request, VerifiedToken token) {
         try {
-            log.info("Extracting data from JWT token");
-            Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-            String username = jwtTokenProvider.getUsernameFromToken(jwt);
-            List<String> roles = jwtTokenProvider.getRolesFromToken(jwt);
-
-            log.info("JWT token data: userId={}, username={}, roles={}", userId, username, roles);
+            Long userId = token.userId();
+            String username = token.username();
+            List<SimpleGrantedAuthority> authorities = token.roles().stream()
+                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                    .collect(Collectors.toList());
 
             if (userId == null) {
                 log.warn("User ID not found in JWT token, falling back to username-only authentication");
                 // 기존 방식으로 fallback
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .collect(Collectors.toList());
-
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(username, null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("Set fallback authentication with username: {}", username);
                 return;
             }
 
-            log.info("Creating authorities for roles: {}", roles);
-            List<SimpleGrantedAuthority> authorities = roles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .collect(Collectors.toList());
-
-            log.info("Creating CustomUserPrincipal with userId: {}, username: {}", userId, username);
             // CustomUserPrincipal 객체 생성
             CustomUserPrincipal userPrincipal =
                 new CustomUserPrincipal(
@@ -117,17 +97,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     true  // accountNonLocked
                 );
 
-            log.info("Created CustomUserPrincipal: ID={}, Username={}", userPrincipal.getId(), userPrincipal.getUsername());
-
-            log.info("Creating UsernamePasswordAuthenticationToken");
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userPrincipal, null, authorities);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-            log.info("Setting authentication in SecurityContext");
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.info("Successfully authenticated user: {} (ID: {}) with roles: {}", username, userId, roles);
+            log.debug("Authenticated user: {} (ID: {}) with roles: {}", username, userId, token.roles());
 
         } catch (Exception ex) {
             log.error("Failed to set authentication: {}", ex.getMessage(), ex);
@@ -11,4 +11,8 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
+    // 검증된 토큰 캐시 최대 항목 수
+    private int verifiedCacheSize = 10000;
+    // 검증된 토큰 캐시 유지 시간(ms). 토큰 만료 시각이 더 빠르면 만료 시각까지만 사용
+    private long verifiedCacheTtl = 300000;
 }
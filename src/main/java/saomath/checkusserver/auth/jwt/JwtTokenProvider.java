@@ -2,23 +2,60 @@ package saomath.checkusserver.auth.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import saomath.checkusserver.common.cache.BoundedCache;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 
+/**
+ * JWT 발급 및 검증
+ *
+ * 서명 키와 파서는 한 번만 만들어 재사용합니다.
+ * verify는 토큰을 한 번만 파싱해 VerifiedToken을 돌려주고, 검증된 토큰은 토큰 해시를 키로 캐시해
+ * 같은 토큰으로 들어오는 이후 요청은 서명 검증을 건너뜁니다. 캐시 항목은 토큰 만료 시각이 지나면 사용하지 않습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final BoundedCache<String, VerifiedToken> verifiedTokens;
+
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.verifiedTokens = new BoundedCache<>("jwt.verified",
+                jwtProperties.getVerifiedCacheSize(),
+                Duration.ofMillis(jwtProperties.getVerifiedCacheTtl()));
+    }
 
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser().verifyWith(getSigningKey()).build();
+            parser = current;
+        }
+        return current;
     }
 
     // Access Token 생성
@@ -51,23 +88,38 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번 검증하고 내용을 반환합니다.
+     * 최근에 검증한 토큰이면 서명 검증 없이 캐시된 결과를 반환합니다.
+     * @throws JwtException 서명이 틀리거나 만료되었거나 형식이 잘못된 경우
+     * @throws IllegalArgumentException 토큰이 비어있는 경우
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어있습니다.");
+        }
+
+        String key = hash(token);
+        VerifiedToken verified = verifiedTokens.get(key, k -> parse(token));
+        if (verified.isExpired(Instant.now())) {
+            // 캐시에 남아있던 만료 토큰은 다시 파싱해 만료 예외를 그대로 던짐
+            verifiedTokens.invalidate(key);
+            return parse(token);
+        }
+        return verified;
+    }
+
     // Token에서 사용자명 추출
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getSubject();
+        return verify(token).username();
     }
     
     // Token에서 사용자 ID 추출
     public Long getUserIdFromToken(String token) {
         try {
-            Claims claims = getClaimsFromToken(token);
-            log.info("JWT Claims: {}", claims);
-            Object userId = claims.get("userId");
-            log.info("UserId from token: {} (type: {})", userId, userId != null ? userId.getClass().getSimpleName() : "null");
-            if (userId instanceof Number) {
-                return ((Number) userId).longValue();
-            }
-            return null;
+            Long userId = verify(token).userId();
+            log.debug("UserId from token: {}", userId);
+            return userId;
         } catch (Exception e) {
             log.error("Error extracting userId from token", e);
             return null;
@@ -75,22 +127,19 @@ public class JwtTokenProvider {
     }
 
     // Token에서 역할 추출
-    @SuppressWarnings("unchecked")
     public List<String> getRolesFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return (List<String>) claims.get("roles");
+        return verify(token).roles();
     }
 
     // Token에서 타입 추출 (access/refresh)
     public String getTokenType(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return (String) claims.get("type");
+        return verify(token).type();
     }
 
     // Token 유효성 검증
     public boolean validateToken(String token) {
         try {
-            getClaimsFromToken(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("JWT Token validation error: {}", e.getMessage());
@@ -101,8 +150,7 @@ public class JwtTokenProvider {
     // Token 만료 여부 확인
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = getClaimsFromToken(token);
-            return claims.getExpiration().before(new Date());
+            return verify(token).isExpired(Instant.now());
         } catch (JwtException | IllegalArgumentException e) {
             return true;
         }
@@ -128,16 +176,32 @@ public class JwtTokenProvider {
 
     // Token에서 만료 시간 추출
     public Date getExpirationFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getExpiration();
+        Instant expiresAt = verify(token).expiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
-    // Token에서 Claims 추출
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    // 서명 검증 후 필요한 클레임만 추출
+    @SuppressWarnings("unchecked")
+    private VerifiedToken parse(String token) {
+        Claims claims = getParser().parseSignedClaims(token).getPayload();
+        Object userId = claims.get("userId");
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                userId instanceof Number number ? number.longValue() : null,
+                claims.getSubject(),
+                (List<String>) claims.get("roles"),
+                (String) claims.get("type"),
+                expiration != null ? expiration.toInstant() : null
+        );
+    }
+
+    // 원본 토큰 대신 해시를 캐시 키로 사용 (메모리에 토큰을 그대로 남기지 않음)
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 }
@@ -0,0 +1,29 @@
+package saomath.checkusserver.auth.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 JWT의 내용 (불변)
+ * 한 번 파싱한 결과를 필터와 캐시에서 그대로 재사용합니다.
+ */
+public record VerifiedToken(
+        Long userId,
+        String username,
+        List<String> roles,
+        String type,
+        Instant expiresAt
+) {
+
+    public VerifiedToken {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -1,5 +1,6 @@
 package saomath.checkusserver.auth.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +9,7 @@ import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.auth.domain.UserRole;
 import saomath.checkusserver.user.domain.StudentProfile;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 디스코드 ID로 사용자 조회 (논리삭제된 사용자 제외)
     @Query("SELECT u FROM User u WHERE u.discordId = :discordId AND u.deletedAt IS NULL")
     Optional<User> findByDiscordId(@Param("discordId") String discordId);
+
+    // 여러 디스코드 ID로 사용자 일괄 조회 (논리삭제된 사용자 제외)
+    @Query("SELECT u FROM User u WHERE u.discordId IN :discordIds AND u.deletedAt IS NULL")
+    List<User> findAllByDiscordIdIn(@Param("discordIds") Collection<String> discordIds);
     
     // 학생 필터링을 위한 복합 쿼리 (논리삭제된 사용자 제외)
     @Query("SELECT DISTINCT u FROM User u " +
@@ -54,6 +60,46 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "WHERE r.name = 'STUDENT' AND ur.status = 'ACTIVE' AND u.deletedAt IS NULL")
     List<User> findAllStudents();
 
+    // 학생 목록 키셋 페이지 조회 (이름순, 이름이 없으면 빈 문자열로 취급). 직전 페이지 마지막 학생의 (이름, ID) 다음부터 조회
+    @Query("SELECT u FROM User u " +
+           "WHERE u.deletedAt IS NULL " +
+           "AND EXISTS (SELECT 1 FROM UserRole ur WHERE ur.user.id = u.id AND ur.role.name = 'STUDENT' AND ur.status = 'ACTIVE') " +
+           "AND (:classId IS NULL OR EXISTS (SELECT 1 FROM StudentClass sc WHERE sc.student.id = u.id AND sc.classEntity.id = :classId)) " +
+           "AND (:grade IS NULL OR EXISTS (SELECT 1 FROM StudentProfile sp WHERE sp.user.id = u.id AND sp.grade = :grade)) " +
+           "AND (:status IS NULL OR EXISTS (SELECT 1 FROM StudentProfile sp WHERE sp.user.id = u.id AND sp.status = :status)) " +
+           "AND (:schoolId IS NULL OR EXISTS (SELECT 1 FROM StudentProfile sp WHERE sp.user.id = u.id AND sp.school.id = :schoolId)) " +
+           "AND (:afterId IS NULL OR COALESCE(u.name, '') > :afterName " +
+           "     OR (COALESCE(u.name, '') = :afterName AND u.id > :afterId)) " +
+           "ORDER BY COALESCE(u.name, '') ASC, u.id ASC")
+    List<User> findStudentPageOrderByName(
+            @Param("classId") Long classId,
+            @Param("grade") Integer grade,
+            @Param("status") StudentProfile.StudentStatus status,
+            @Param("schoolId") Long schoolId,
+            @Param("afterName") String afterName,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // 학생 목록 키셋 페이지 조회 (ID순). 직전 페이지 마지막 학생 ID 다음부터 조회
+    @Query("SELECT u FROM User u " +
+           "WHERE u.deletedAt IS NULL " +
+           "AND EXISTS (SELECT 1 FROM UserRole ur WHERE ur.user.id = u.id AND ur.role.name = 'STUDENT' AND ur.status = 'ACTIVE') " +
+           "AND (:classId IS NULL OR EXISTS (SELECT 1 FROM StudentClass sc WHERE sc.student.id = u.id AND sc.classEntity.id = :classId)) " +
+           "AND (:grade IS NULL OR EXISTS (SELECT 1 FROM StudentProfile sp WHERE sp.user.id = u.id AND sp.grade = :grade)) " +
+           "AND (:status IS NULL OR EXISTS (SELECT 1 FROM StudentProfile sp WHERE sp.user.id = u.id AND sp.status = :status)) " +
+           "AND (:schoolId IS NULL OR EXISTS (SELECT 1 FROM StudentProfile sp WHERE sp.user.id = u.id AND sp.school.id = :schoolId)) " +
+           "AND (:afterId IS NULL OR u.id > :afterId) " +
+           "ORDER BY u.id ASC")
+    List<User> findStudentPageOrderById(
+            @Param("classId") Long classId,
+            @Param("grade") Integer grade,
+            @Param("status") StudentProfile.StudentStatus status,
+            @Param("schoolId") Long schoolId,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
     // 모든 재원 중인 학생 조회 (스터디 모니터링용, 논리삭제된 사용자 제외)
     @Query("SELECT DISTINCT u FROM User u " +
            "JOIN UserRole ur ON u.id = ur.user.id " +
@@ -63,6 +109,33 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "AND sp.status = 'ENROLLED' AND u.deletedAt IS NULL")
     List<User> findAllEnrolledStudents();
 
+    // 재원 중인 학생 ID 목록 조회 (모니터링 정합성 검사용)
+    @Query("SELECT DISTINCT u.id FROM User u " +
+           "JOIN UserRole ur ON u.id = ur.user.id " +
+           "JOIN Role r ON ur.role.id = r.id " +
+           "LEFT JOIN StudentProfile sp ON u.id = sp.user.id " +
+           "WHERE r.name = 'STUDENT' AND ur.status = 'ACTIVE' " +
+           "AND sp.status = 'ENROLLED' AND u.deletedAt IS NULL")
+    List<Long> findAllEnrolledStudentIds();
+
+    // 재원 중인 학생 단건 조회 (모니터링 부분 갱신용)
+    @Query("SELECT DISTINCT u FROM User u " +
+           "JOIN UserRole ur ON u.id = ur.user.id " +
+           "JOIN Role r ON ur.role.id = r.id " +
+           "LEFT JOIN StudentProfile sp ON u.id = sp.user.id " +
+           "WHERE u.id = :userId AND r.name = 'STUDENT' AND ur.status = 'ACTIVE' " +
+           "AND sp.status = 'ENROLLED' AND u.deletedAt IS NULL")
+    Optional<User> findEnrolledStudentById(@Param("userId") Long userId);
+
+    // 재원 중인 학생 여러 명 조회 (모니터링 대량 갱신용)
+    @Query("SELECT DISTINCT u FROM User u " +
+           "JOIN UserRole ur ON u.id = ur.user.id " +
+           "JOIN Role r ON ur.role.id = r.id " +
+           "LEFT JOIN StudentProfile sp ON u.id = sp.user.id " +
+           "WHERE u.id IN :userIds AND r.name = 'STUDENT' AND ur.status = 'ACTIVE' " +
+           "AND sp.status = 'ENROLLED' AND u.deletedAt IS NULL")
+    List<User> findEnrolledStudentsByIds(@Param("userIds") Collection<Long> userIds);
+
     // 교사 상태별 조회 (논리삭제된 사용자 제외)
     @Query("SELECT DISTINCT u FROM User u " +
            "JOIN UserRole ur ON u.id = ur.user.id " +
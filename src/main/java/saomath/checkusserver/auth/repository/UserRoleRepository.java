@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import saomath.checkusserver.auth.domain.UserRole;
 import saomath.checkusserver.user.dto.UserRoleResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,9 @@ public interface UserRoleRepository extends JpaRepository<UserRole, UserRole.Use
     @Query("SELECT ur FROM UserRole ur JOIN FETCH ur.user JOIN FETCH ur.role WHERE ur.user.id = :userId AND ur.status = :status")
     List<UserRole> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") UserRole.RoleStatus status);
     
+    @Query("SELECT ur FROM UserRole ur JOIN FETCH ur.user JOIN FETCH ur.role WHERE ur.user.id IN :userIds AND ur.status = :status")
+    List<UserRole> findByUserIdInAndStatus(@Param("userIds") Collection<Long> userIds, @Param("status") UserRole.RoleStatus status);
+    
     @Query("SELECT ur FROM UserRole ur JOIN FETCH ur.user JOIN FETCH ur.role WHERE ur.role.name = :roleName AND ur.status = :status")
     List<UserRole> findByRoleNameAndStatus(@Param("roleName") String roleName, @Param("status") UserRole.RoleStatus status);
     
@@ -9,6 +9,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
+import saomath.checkusserver.common.cache.ReferenceDataChangedEvent;
 import saomath.checkusserver.auth.domain.CustomUserPrincipal;
 import saomath.checkusserver.common.validation.ValidationUtils;
 import saomath.checkusserver.auth.domain.RefreshToken;
@@ -40,6 +42,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final StudentProfileRepository studentProfileRepository;
     private final SchoolRepository schoolRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final UserRoleService userRoleService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
@@ -292,11 +295,13 @@ public class AuthService {
     }
 
     private School getOrCreateSchool(String schoolName) {
-        return schoolRepository.findByName(schoolName)
+        return referenceDataCache.findSchoolByName(schoolName)
                 .orElseGet(() -> {
                     School newSchool = new School();
                     newSchool.setName(schoolName);
-                    return schoolRepository.save(newSchool);
+                    School savedSchool = schoolRepository.save(newSchool);
+                    applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.SCHOOL));
+                    return savedSchool;
                 });
     }
 }
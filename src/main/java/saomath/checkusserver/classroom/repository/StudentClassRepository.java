@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import saomath.checkusserver.classroom.domain.StudentClass;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,10 @@ public interface StudentClassRepository extends JpaRepository<StudentClass, Stud
     @Query("SELECT sc FROM StudentClass sc WHERE sc.student.id = :studentId")
     List<StudentClass> findByStudentId(@Param("studentId") Long studentId);
     
+    // 배치 조회: 여러 학생의 소속 반을 한 번에 조회
+    @Query("SELECT sc FROM StudentClass sc JOIN FETCH sc.classEntity WHERE sc.student.id IN :studentIds")
+    List<StudentClass> findByStudentIdsWithClass(@Param("studentIds") Collection<Long> studentIds);
+    
     @Query("SELECT sc FROM StudentClass sc WHERE sc.classEntity.id = :classId")
     List<StudentClass> findByClassId(@Param("classId") Long classId);
     
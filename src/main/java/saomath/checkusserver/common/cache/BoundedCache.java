@@ -0,0 +1,234 @@
+package saomath.checkusserver.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기 제한과 만료 시간이 있는 동시성 캐시
+ *
+ * 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 넘치면 임의의 항목을 제거해 최대 크기의 90%까지 줄입니다(근사 제한).
+ * 정리할 때 여유분만큼 한꺼번에 비우므로 전체 순회는 여유분만큼 저장할 때마다 한 번만 일어나고,
+ * 정리 중에 들어온 다른 저장은 정리를 기다리지 않고 건너뜁니다.
+ * 로더가 DB를 읽는 동안 무효화가 일어나면 읽어온 값은 저장하지 않아 오래된 값이 다시 들어가지 않습니다.
+ * 로더가 null을 반환하면 저장하지 않으므로, 없는 값도 캐싱하려면 Optional 등으로 감싸서 사용합니다.
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    // 넘쳤을 때 줄이는 목표 크기 (최대 크기의 90%)
+    private final int trimSize;
+    private final long ttlNanos;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // 무효화마다 증가. 로드 시작 시점과 다르면 로드 결과를 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(String name, int maximumSize, Duration ttl) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize는 1 이상이어야 합니다: " + maximumSize);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.trimSize = maximumSize - maximumSize / 10;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료되었으면 로더로 읽어 저장합니다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            hits.increment();
+            return entry.value();
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+        V value = loader.apply(key);
+        if (value != null) {
+            store(key, value, loadGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료되었으면 mappingFunction으로 만든 값을 원자적으로 저장합니다.
+     * 같은 키에 동시에 호출해도 mappingFunction은 한 번만 실행됩니다.
+     * mappingFunction은 키 단위 잠금 안에서 실행되므로 DB 조회처럼 오래 걸리는 작업이 아니라
+     * 아직 완료되지 않은 future를 만드는 정도로 짧아야 합니다.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        long now = System.nanoTime();
+        boolean[] created = {false};
+        Entry<V> entry = entries.compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            created[0] = true;
+            V value = mappingFunction.apply(k);
+            return value != null ? new Entry<>(value, now + ttlNanos) : null;
+        });
+        if (!created[0]) {
+            hits.increment();
+            return entry.value();
+        }
+        misses.increment();
+        if (entries.size() > maximumSize) {
+            evictOverflow();
+        }
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * 여러 키를 한 번에 조회합니다. 캐시에 없는 키만 모아 bulkLoader로 한 번에 읽어 저장합니다.
+     * bulkLoader 결과에 없는 키는 반환 맵에도 포함되지 않습니다.
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        long now = System.nanoTime();
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                hits.increment();
+                result.put(key, entry.value());
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        misses.add(missing.size());
+        long loadGeneration = generation.get();
+        bulkLoader.apply(missing).forEach((key, value) -> {
+            if (value != null) {
+                store(key, value, loadGeneration);
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 특정 키를 무효화합니다.
+     */
+    public void invalidate(K key) {
+        if (key == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * 전체 항목을 무효화합니다.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * cache.gets(result=hit/miss), cache.evictions, cache.size 지표를 등록합니다.
+     */
+    public BoundedCache<K, V> bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::doubleValue)
+                .tags("cache", name, "result", "hit")
+                .description("캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::doubleValue)
+                .tags("cache", name, "result", "miss")
+                .description("캐시 미적중(로드) 수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::doubleValue)
+                .tags("cache", name)
+                .description("크기 제한으로 제거된 항목 수")
+                .register(registry);
+        Gauge.builder("cache.size", entries, Map::size)
+                .tags("cache", name)
+                .description("캐시 항목 수")
+                .register(registry);
+        return this;
+    }
+
+    private void store(K key, V value, long loadGeneration) {
+        Entry<V> fresh = new Entry<>(value, System.nanoTime() + ttlNanos);
+        // 무효화와 같은 키에 대해 원자적으로 처리되도록 compute 안에서 세대를 확인
+        entries.compute(key, (k, current) -> generation.get() == loadGeneration ? fresh : current);
+        if (entries.size() > maximumSize) {
+            evictOverflow();
+        }
+    }
+
+    private void evictOverflow() {
+        // 다른 스레드가 정리 중이면 맡기고 바로 반환
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            entries.entrySet().removeIf(e -> {
+                if (e.getValue().isExpired(now)) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            });
+
+            Iterator<K> iterator = entries.keySet().iterator();
+            while (entries.size() > trimSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
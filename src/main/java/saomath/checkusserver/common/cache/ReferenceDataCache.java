@@ -0,0 +1,172 @@
+package saomath.checkusserver.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import saomath.checkusserver.auth.domain.Role;
+import saomath.checkusserver.auth.repository.RoleRepository;
+import saomath.checkusserver.classroom.domain.ClassEntity;
+import saomath.checkusserver.classroom.repository.ClassRepository;
+import saomath.checkusserver.school.domain.School;
+import saomath.checkusserver.school.repository.SchoolRepository;
+import saomath.checkusserver.studyTime.domain.Activity;
+import saomath.checkusserver.studyTime.repository.ActivityRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기준 데이터(활동, 학교, 역할, 반) 스냅샷 캐시
+ *
+ * 작고 거의 바뀌지 않는 테이블을 한 번에 읽어 ID/이름 조회를 메모리에서 처리합니다.
+ * - 스냅샷은 별도 읽기 전용 트랜잭션에서 읽으므로 커밋된 데이터만 담깁니다.
+ * - 스냅샷에 없는 값은 저장소에서 직접 조회합니다(다른 인스턴스에서 방금 추가한 행 등).
+ * - 서비스에서 기준 데이터를 바꾸면 ReferenceDataChangedEvent로 커밋 후 무효화하고, 그 외 변경은 refresh-minutes마다 반영됩니다.
+ * 반환된 엔티티는 준영속 상태로 여러 요청이 공유하므로 수정하지 말고 조회/연관관계 참조용으로만 사용합니다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private final ActivityRepository activityRepository;
+    private final SchoolRepository schoolRepository;
+    private final RoleRepository roleRepository;
+    private final ClassRepository classRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final long refreshNanos;
+
+    private volatile Snapshot snapshot;
+    // 무효화마다 증가. 로드 시작 시점과 다르면 로드 결과를 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReferenceDataCache(ActivityRepository activityRepository,
+                              SchoolRepository schoolRepository,
+                              RoleRepository roleRepository,
+                              ClassRepository classRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${reference-data.refresh-minutes:10}") long refreshMinutes) {
+        this.activityRepository = activityRepository;
+        this.schoolRepository = schoolRepository;
+        this.roleRepository = roleRepository;
+        this.classRepository = classRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setReadOnly(true);
+        this.refreshNanos = Duration.ofMinutes(refreshMinutes).toNanos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        Snapshot loaded = snapshot();
+        log.info("기준 데이터 캐시 로드 - 활동: {}, 학교: {}, 역할: {}, 반: {}",
+                loaded.activitiesById().size(), loaded.schoolsById().size(),
+                loaded.rolesByName().size(), loaded.classesById().size());
+    }
+
+    public Optional<Activity> findActivity(Long activityId) {
+        if (activityId == null) {
+            return Optional.empty();
+        }
+        Activity activity = snapshot().activitiesById().get(activityId);
+        return activity != null ? Optional.of(activity) : activityRepository.findById(activityId);
+    }
+
+    public Optional<School> findSchool(Long schoolId) {
+        if (schoolId == null) {
+            return Optional.empty();
+        }
+        School school = snapshot().schoolsById().get(schoolId);
+        return school != null ? Optional.of(school) : schoolRepository.findById(schoolId);
+    }
+
+    public Optional<School> findSchoolByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        School school = snapshot().schoolsByName().get(name);
+        return school != null ? Optional.of(school) : schoolRepository.findByName(name);
+    }
+
+    public Optional<Role> findRoleByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        Role role = snapshot().rolesByName().get(name);
+        return role != null ? Optional.of(role) : roleRepository.findByName(name);
+    }
+
+    public Optional<ClassEntity> findClass(Long classId) {
+        if (classId == null) {
+            return Optional.empty();
+        }
+        ClassEntity classEntity = snapshot().classesById().get(classId);
+        return classEntity != null ? Optional.of(classEntity) : classRepository.findById(classId);
+    }
+
+    /**
+     * 스냅샷을 버리고 다음 조회 때 다시 읽습니다.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        log.debug("기준 데이터 변경으로 캐시 무효화 - 종류: {}", event.getType());
+        invalidate();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAtNanos() < refreshNanos) {
+            return current;
+        }
+
+        long loadGeneration = generation.get();
+        Snapshot loaded = snapshotTransaction.execute(status -> load());
+        synchronized (this) {
+            if (generation.get() == loadGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private Snapshot load() {
+        List<Activity> activities = activityRepository.findAll();
+        List<School> schools = schoolRepository.findAll();
+        List<Role> roles = roleRepository.findAll();
+        List<ClassEntity> classes = classRepository.findAll();
+
+        return new Snapshot(
+                activities.stream().collect(Collectors.toUnmodifiableMap(Activity::getId, Function.identity())),
+                schools.stream().collect(Collectors.toUnmodifiableMap(School::getId, Function.identity())),
+                schools.stream().collect(Collectors.toUnmodifiableMap(School::getName, Function.identity(), (a, b) -> a)),
+                roles.stream().collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity(), (a, b) -> a)),
+                classes.stream().collect(Collectors.toUnmodifiableMap(ClassEntity::getId, Function.identity())),
+                System.nanoTime()
+        );
+    }
+
+    private record Snapshot(
+            Map<Long, Activity> activitiesById,
+            Map<Long, School> schoolsById,
+            Map<String, School> schoolsByName,
+            Map<String, Role> rolesByName,
+            Map<Long, ClassEntity> classesById,
+            long loadedAtNanos
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package saomath.checkusserver.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기준 데이터(활동, 학교, 역할, 반) 변경 이벤트
+ * 커밋 후 ReferenceDataCache 스냅샷을 무효화합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReferenceDataChangedEvent {
+
+    public enum Type {
+        ACTIVITY, SCHOOL, ROLE, CLASS
+    }
+
+    private final Type type;
+}
@@ -0,0 +1,157 @@
+package saomath.checkusserver.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import saomath.checkusserver.notification.event.UserDiscordIdChangeEvent;
+import saomath.checkusserver.notification.event.UserRegisteredEvent;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+import saomath.checkusserver.user.event.UserRoleChangedEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 API 조건부 GET(If-None-Match)용 리소스 버전 카운터
+ *
+ * 쓰기 서비스가 커밋 후 버전을 올리고, 컨트롤러는 저장소를 읽기 전에 버전으로 ETag를 만들어 비교합니다.
+ * - 버전은 반드시 데이터보다 먼저 읽습니다. 그래야 커밋과 겹친 조회도 다음 요청에서 다시 받게 됩니다.
+ * - 버전은 인스턴스 메모리에만 있으므로 ETag에 기동 시각(epoch)을 넣어, 재시작으로 0부터 다시 센 버전이 이전 ETag와 겹치지 않게 합니다.
+ * - 버전은 이 인스턴스의 커밋 후 이벤트로만 올라갑니다. 다른 인스턴스의 쓰기는 알 수 없으므로 서버가 한 대로 동작할 때만 올바릅니다.
+ *   (실시간 모니터링 뷰, 진행 중 세션 레지스트리, 디스코드 봇과 같은 전제) 여러 대로 늘리려면 DB 기반 버전으로 바꿔야 합니다.
+ * - 학생/교사/학교/활동 변경은 기존 도메인 이벤트로, 그 외 변경은 서비스에서 bumpAfterCommit으로 반영합니다.
+ */
+@Slf4j
+@Component
+public class ResourceVersions {
+
+    public enum Resource {
+        STUDENTS,              // 학생 목록
+        TEACHERS,              // 교사 목록
+        SCHOOLS,               // 학교 목록
+        ACTIVITIES,            // 활동 목록
+        WEEKLY_SCHEDULE,       // 학생별 주간 시간표 (scope = 학생 ID)
+        NOTIFICATION_SETTINGS  // 사용자별 알림 설정 (scope = 사용자 ID)
+    }
+
+    private static final long GLOBAL = 0L;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<Key, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 목록 리소스의 현재 ETag
+     */
+    public String etag(Resource resource) {
+        return etag(resource, GLOBAL);
+    }
+
+    /**
+     * 학생/사용자 단위 리소스의 현재 ETag (따옴표 포함)
+     */
+    public String etag(Resource resource, Long scope) {
+        Key key = new Key(resource, scopeOf(scope));
+        return "\"" + resource.name().toLowerCase() + "-" + key.scope() + "-" + epoch + "-" + version(key) + "\"";
+    }
+
+    public void bump(Resource resource) {
+        bump(resource, GLOBAL);
+    }
+
+    /**
+     * 버전을 즉시 올립니다. 커밋 후 이벤트 리스너처럼 이미 커밋된 뒤에 호출합니다.
+     */
+    public void bump(Resource resource, Long scope) {
+        versions.computeIfAbsent(new Key(resource, scopeOf(scope)), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void bumpAfterCommit(Resource resource) {
+        bumpAfterCommit(resource, GLOBAL);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 버전을 올립니다.
+     * 커밋 전에 올리면 다른 요청이 새 버전으로 이전 데이터를 받아 갈 수 있습니다.
+     * (afterCommit 콜백 안에서는 새 동기화를 등록할 수 없으므로 커밋 후 리스너에서는 bump를 사용합니다)
+     */
+    public void bumpAfterCommit(Resource resource, Long scope) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(resource, scope);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(resource, scope);
+            }
+        });
+    }
+
+    /**
+     * 학생 정보 수정/삭제/복구: 학생 목록, 해당 학생의 시간표와 알림 설정(수신자 정보)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        bump(Resource.STUDENTS);
+        bump(Resource.WEEKLY_SCHEDULE, event.getStudentId());
+        bump(Resource.NOTIFICATION_SETTINGS, event.getStudentId());
+    }
+
+    /**
+     * 역할 할당/승인/일시정지: 학생·교사 목록 구성과 알림 기본값이 바뀜
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        bump(Resource.STUDENTS);
+        bump(Resource.TEACHERS);
+        bump(Resource.NOTIFICATION_SETTINGS, event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        bump(Resource.STUDENTS);
+        bump(Resource.TEACHERS);
+        bump(Resource.NOTIFICATION_SETTINGS, event.getUser().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDiscordIdChanged(UserDiscordIdChangeEvent event) {
+        bump(Resource.STUDENTS);
+        bump(Resource.TEACHERS);
+        bump(Resource.NOTIFICATION_SETTINGS, event.getUser().getId());
+    }
+
+    /**
+     * 학교 이름은 학생 목록에도 포함되고, 반 변경은 학생·교사 목록의 반 정보에 반영됨
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        switch (event.getType()) {
+            case SCHOOL -> {
+                bump(Resource.SCHOOLS);
+                bump(Resource.STUDENTS);
+            }
+            case ACTIVITY -> bump(Resource.ACTIVITIES);
+            case CLASS, ROLE -> {
+                bump(Resource.STUDENTS);
+                bump(Resource.TEACHERS);
+            }
+        }
+        log.debug("기준 데이터 변경으로 리소스 버전 증가 - 종류: {}", event.getType());
+    }
+
+    private long version(Key key) {
+        AtomicLong version = versions.get(key);
+        return version != null ? version.get() : 0L;
+    }
+
+    private static long scopeOf(Long scope) {
+        return scope != null ? scope : GLOBAL;
+    }
+
+    private record Key(Resource resource, long scope) {
+    }
+}
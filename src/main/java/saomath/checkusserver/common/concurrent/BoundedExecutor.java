@@ -0,0 +1,241 @@
+package saomath.checkusserver.common.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동시 실행 수와 대기 수가 제한된 가상 스레드 실행기
+ *
+ * 작업마다 가상 스레드를 만들되, 동시에 실행되는 작업은 concurrency개로 제한하고 나머지는 대기시킵니다.
+ * 실행 중 + 대기 작업이 concurrency + queueCapacity를 넘으면 거절 정책을 따릅니다.
+ * - ABORT: RejectedExecutionException (supply는 실패한 future 반환)
+ * - CALLER_RUNS: 호출 스레드에서 바로 실행해 유입 속도를 늦춤
+ * 블로킹 I/O(JDA complete, HTTP 호출)를 가상 스레드에서 수행하므로 공용 ForkJoinPool을 막지 않습니다.
+ */
+@Slf4j
+public class BoundedExecutor implements Executor, AutoCloseable {
+
+    public enum RejectionPolicy {
+        ABORT,
+        CALLER_RUNS
+    }
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 10000;
+
+    private final String name;
+    private final int concurrency;
+    private final int queueCapacity;
+    private final RejectionPolicy rejectionPolicy;
+    private final Semaphore permits;
+    private final ExecutorService threads;
+
+    // 대기 + 실행 중 작업 수
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    // 종료 대기 시간이 지나 남은 작업을 중단하는 중
+    private volatile boolean terminating;
+
+    private volatile Timer waitTimer;
+    private volatile Timer runTimer;
+
+    public BoundedExecutor(String name, int concurrency, int queueCapacity, RejectionPolicy rejectionPolicy) {
+        if (concurrency <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("concurrency는 1 이상, queueCapacity는 0 이상이어야 합니다: " + name);
+        }
+        this.name = name;
+        this.concurrency = concurrency;
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+        this.permits = new Semaphore(concurrency, true);
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (pending.incrementAndGet() > concurrency + queueCapacity) {
+            pending.decrementAndGet();
+            rejected.increment();
+            if (rejectionPolicy == RejectionPolicy.CALLER_RUNS && !threads.isShutdown()) {
+                log.warn("{} 실행기 포화, 호출 스레드에서 실행 - 실행 중: {}, 대기: {}", name, getActiveCount(), getQueuedCount());
+                task.run();
+                return;
+            }
+            throw new RejectedExecutionException(name + " 실행기 포화 - 실행 중: " + getActiveCount() + ", 대기: " + getQueuedCount());
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            threads.execute(() -> run(task, submittedAt));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 작업 결과를 future로 반환합니다. 거절되거나 종료로 실행되지 못하면
+     * RejectedExecutionException으로 실패한 future를 반환합니다.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        SupplyTask<T> task = new SupplyTask<>(supplier);
+        try {
+            execute(task);
+        } catch (RejectedExecutionException e) {
+            task.future.completeExceptionally(e);
+        }
+        return task.future;
+    }
+
+    private void run(Runnable task, long submittedAt) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(task, e);
+            return;
+        }
+        // 중단 중에 먼저 끝난 작업이 반납한 permit을 받은 경우 (인터럽트보다 먼저 깨어남)
+        if (terminating) {
+            permits.release();
+            abandon(task, null);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        record(waitTimer, startedAt - submittedAt);
+        active.incrementAndGet();
+        try {
+            task.run();
+        } catch (Throwable e) {
+            log.error("{} 실행기 작업 실패", name, e);
+        } finally {
+            active.decrementAndGet();
+            pending.decrementAndGet();
+            permits.release();
+            record(runTimer, System.nanoTime() - startedAt);
+        }
+    }
+
+    private void abandon(Runnable task, InterruptedException cause) {
+        pending.decrementAndGet();
+        log.warn("{} 실행기 종료로 대기 중인 작업을 실행하지 않음", name);
+        if (task instanceof SupplyTask<?> supplyTask) {
+            RejectedExecutionException abandoned = new RejectedExecutionException(name + " 실행기 종료로 작업을 실행하지 않음");
+            abandoned.initCause(cause);
+            supplyTask.future.completeExceptionally(abandoned);
+        }
+    }
+
+    /**
+     * supply 작업. 대기 중에 실행기가 종료되면 run에서 future를 실패로 완료합니다.
+     */
+    private static final class SupplyTask<T> implements Runnable {
+
+        private final Supplier<T> supplier;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private SupplyTask(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getQueuedCount() {
+        return Math.max(pending.get() - active.get(), 0);
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * executor.active, executor.queued, executor.rejected, executor.wait, executor.run 지표를 등록합니다.
+     */
+    public BoundedExecutor bindTo(MeterRegistry registry) {
+        Gauge.builder("executor.active", this, BoundedExecutor::getActiveCount)
+                .tags("name", name)
+                .description("실행 중인 작업 수")
+                .register(registry);
+        Gauge.builder("executor.queued", this, BoundedExecutor::getQueuedCount)
+                .tags("name", name)
+                .description("실행 대기 작업 수")
+                .register(registry);
+        FunctionCounter.builder("executor.rejected", rejected, LongAdder::doubleValue)
+                .tags("name", name)
+                .description("포화로 거절(또는 호출 스레드 실행)된 작업 수")
+                .register(registry);
+        waitTimer = Timer.builder("executor.wait")
+                .tags("name", name)
+                .description("제출부터 실행 시작까지 대기 시간")
+                .register(registry);
+        runTimer = Timer.builder("executor.run")
+                .tags("name", name)
+                .description("작업 실행 시간")
+                .register(registry);
+        return this;
+    }
+
+    /**
+     * 빈 종료 시 호출. 남은 작업을 최대 10초 기다립니다.
+     */
+    @Override
+    public void close() {
+        shutdown(SHUTDOWN_TIMEOUT_MS);
+    }
+
+    /**
+     * 새 작업을 받지 않고, 실행/대기 중인 작업을 timeout 동안 기다린 뒤 남은 작업을 중단합니다.
+     */
+    public void shutdown(long timeoutMs) {
+        threads.shutdown();
+        try {
+            if (!threads.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("{} 실행기 종료 대기 시간 초과 - 남은 작업 {}건 중단", name, pending.get());
+                terminating = true;
+                threads.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            terminating = true;
+            threads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package saomath.checkusserver.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 링 버퍼 (잠금 없음)
+ *
+ * 최근 N개 항목만 보관하고, 가득 차면 가장 오래된 칸을 덮어씁니다.
+ * 쓰기는 순번을 하나 받아 해당 칸에 넣기만 하므로 여러 스레드가 동시에 써도 막히지 않습니다.
+ * 조회 결과는 근사 스냅샷으로, 조회 도중 들어온 항목이 섞이거나 빠질 수 있습니다(모니터링/디버깅 용도).
+ */
+public class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(T item) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq % slots.length()), item);
+    }
+
+    /**
+     * 보관 중인 항목을 오래된 순으로 반환합니다.
+     */
+    public List<T> snapshot() {
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        List<T> result = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            T item = slots.get((int) (seq % slots.length()));
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return (int) Math.min(sequence.get(), slots.length());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
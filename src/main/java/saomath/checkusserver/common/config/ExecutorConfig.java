@@ -0,0 +1,58 @@
+package saomath.checkusserver.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import saomath.checkusserver.common.concurrent.BoundedExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 채널별 전용 실행기
+ * - discordExecutor: 디스코드 DM/채널 메시지
+ * - alimtalkExecutor: 알림톡 HTTP 발송
+ * - eventListenerExecutor: @Async 이벤트 리스너 기본 실행기
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ExecutorConfig implements AsyncConfigurer {
+
+    private final ExecutorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public BoundedExecutor discordExecutor() {
+        return create("discord", properties.getDiscord());
+    }
+
+    @Bean
+    public BoundedExecutor alimtalkExecutor() {
+        return create("alimtalk", properties.getAlimtalk());
+    }
+
+    @Bean
+    public BoundedExecutor eventListenerExecutor() {
+        return create("event-listener", properties.getEvents());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return eventListenerExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 이벤트 처리 실패 - {}.{}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), e);
+    }
+
+    private BoundedExecutor create(String name, ExecutorProperties.Pool pool) {
+        return new BoundedExecutor(name, pool.getConcurrency(), pool.getQueueCapacity(), pool.getRejectionPolicy())
+                .bindTo(meterRegistry);
+    }
+}
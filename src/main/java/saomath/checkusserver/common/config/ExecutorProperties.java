@@ -0,0 +1,38 @@
+package saomath.checkusserver.common.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.common.concurrent.BoundedExecutor;
+
+/**
+ * 작업 종류별 전용 실행기 설정
+ * 한 채널이 느려져도(예: Bizgo 응답 지연) 다른 채널의 발송이나 이벤트 처리가 밀리지 않도록 실행기를 나눕니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "executors")
+@Getter
+@Setter
+public class ExecutorProperties {
+    // 디스코드 메시지 전송 (JDA complete 블로킹 호출)
+    private Pool discord = new Pool(8, 500, BoundedExecutor.RejectionPolicy.ABORT);
+    // 알림톡 HTTP 발송
+    private Pool alimtalk = new Pool(10, 1000, BoundedExecutor.RejectionPolicy.ABORT);
+    // @Async 이벤트 리스너
+    private Pool events = new Pool(16, 1000, BoundedExecutor.RejectionPolicy.CALLER_RUNS);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        // 동시에 실행하는 최대 작업 수
+        private int concurrency;
+        // 실행을 기다릴 수 있는 최대 작업 수 (초과 시 거절 정책 적용)
+        private int queueCapacity;
+        private BoundedExecutor.RejectionPolicy rejectionPolicy;
+    }
+}
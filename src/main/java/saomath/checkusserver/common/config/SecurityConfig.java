@@ -86,8 +86,15 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.DELETE, "/schools/**").hasAnyRole("TEACHER", "ADMIN")
                         .requestMatchers("/teachers/**").hasAnyRole("TEACHER", "ADMIN")
                         .requestMatchers("/students/**").hasAnyRole("TEACHER", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/weekly-schedule/materialize").hasAnyRole("TEACHER", "ADMIN")
                         .requestMatchers("/admin/**").hasAnyRole("ADMIN", "TEACHER") //TODO 교사는 학생승인만 가능하게 분리
 
+                        // 공부 시간 관리 작업 (아래 /study-time/** 보다 먼저 매칭)
+                        .requestMatchers("/study-time/monitor/stream").hasAnyRole("TEACHER", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/study-time/monitor/rebuild").hasAnyRole("TEACHER", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/study-time/assign/bulk", "/study-time/assign/class").hasAnyRole("TEACHER", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/study-time/summary/rebuild").hasAnyRole("TEACHER", "ADMIN")
+
                         // 학생/학부모 엔드포인트
                         .requestMatchers("/users/**").hasAnyRole("STUDENT", "TEACHER", "GUARDIAN", "ADMIN")
                         .requestMatchers("/study-time/**").hasAnyRole("STUDENT", "TEACHER", "GUARDIAN", "ADMIN")
@@ -132,7 +139,8 @@ public class SecurityConfig {
                 "Authorization",
                 "Content-Type",
                 "X-CSRF-TOKEN",
-                "X-Requested-With"
+                "X-Requested-With",
+                "If-None-Match"
         ));
 
         // 인증 정보 포함 허용
@@ -142,7 +150,8 @@ public class SecurityConfig {
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
                 "X-Total-Count",
-                "X-CSRF-TOKEN"
+                "X-CSRF-TOKEN",
+                "ETag"
         ));
 
         // preflight 요청 캐시 시간
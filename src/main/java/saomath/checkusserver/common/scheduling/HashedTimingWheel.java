@@ -0,0 +1,95 @@
+package saomath.checkusserver.common.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 틱 단위 해시 타이밍 휠
+ *
+ * 작업을 만기 틱의 슬롯(tick % wheelSize)에 넣고, advance 호출 시 지나간 슬롯만 확인해 만기 작업을 꺼냅니다.
+ * 한 바퀴 이상 뒤의 작업도 같은 슬롯에 만기 틱과 함께 저장되므로 별도의 회전 수 계산이 필요 없습니다.
+ * 같은 틱에 같은 작업을 여러 번 등록해도 한 번만 꺼냅니다(equals 기준).
+ */
+public class HashedTimingWheel<T> {
+
+    private final List<Map<Long, Set<T>>> slots;
+    private final int mask;
+    private long currentTick;
+    private int pending;
+
+    /**
+     * @param wheelSize 슬롯 수 (2의 거듭제곱)
+     * @param startTick 시작 틱. 이 틱 이전(포함) 작업은 등록되지 않습니다.
+     */
+    public HashedTimingWheel(int wheelSize, long startTick) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new HashMap<>());
+        }
+        this.mask = wheelSize - 1;
+        this.currentTick = startTick;
+    }
+
+    /**
+     * 작업 등록
+     * @return 등록 여부. 이미 지난 틱이거나 같은 작업이 있으면 false
+     */
+    public synchronized boolean schedule(long deadlineTick, T task) {
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        boolean added = slots.get((int) (deadlineTick & mask))
+                .computeIfAbsent(deadlineTick, k -> new LinkedHashSet<>())
+                .add(task);
+        if (added) {
+            pending++;
+        }
+        return added;
+    }
+
+    /**
+     * 지정한 틱까지 휠을 돌리고 만기된 작업을 반환합니다.
+     */
+    public synchronized List<T> advance(long toTick) {
+        List<T> expired = new ArrayList<>();
+        if (toTick <= currentTick) {
+            return expired;
+        }
+
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+        long from = Math.max(currentTick + 1, toTick - mask);
+        for (long tick = from; tick <= toTick; tick++) {
+            Map<Long, Set<T>> slot = slots.get((int) (tick & mask));
+            if (slot.isEmpty()) {
+                continue;
+            }
+            Iterator<Map.Entry<Long, Set<T>>> iterator = slot.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Set<T>> entry = iterator.next();
+                if (entry.getKey() <= toTick) {
+                    expired.addAll(entry.getValue());
+                    pending -= entry.getValue().size();
+                    iterator.remove();
+                }
+            }
+        }
+        currentTick = toTick;
+        return expired;
+    }
+
+    public synchronized long getCurrentTick() {
+        return currentTick;
+    }
+
+    public synchronized int size() {
+        return pending;
+    }
+}
@@ -0,0 +1,59 @@
+package saomath.checkusserver.common.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 조건부 GET(If-None-Match)용 ETag 생성/비교
+ */
+public final class ETagUtils {
+
+    /**
+     * 브라우저/프록시가 응답을 저장하되 매번 ETag로 재검증하도록 합니다. (사용자별 데이터이므로 private)
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETagUtils() {
+    }
+
+    /**
+     * 직렬화된 내용으로 강한 ETag를 만듭니다. (따옴표 포함)
+     */
+    public static String strongETag(byte[] content) {
+        return "\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더 값 중 하나라도 etag와 같으면 true
+     * 여러 값(쉼표 구분)과 "*"를 허용하고, If-None-Match 규칙대로 W/ 접두사는 무시하고 비교합니다.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        String target = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || opaque(value).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 본문 없는 304 응답
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,24 @@
+package saomath.checkusserver.discord.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음성채널 이벤트 비동기 처리 큐 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "discord.ingest")
+@Getter
+@Setter
+public class VoiceIngestProperties {
+    // 파티션(레인) 수. 같은 디스코드 사용자의 이벤트는 항상 같은 레인에서 순서대로 처리됨
+    private int lanes = 8;
+    // 레인별 큐 최대 크기
+    private int laneCapacity = 1000;
+    // 큐가 가득 찼을 때 대기 없이 넣기를 시도하는 시간 (초과 시 공간이 생길 때까지 호출 스레드를 대기시킴)
+    private long offerTimeoutMs = 50;
+    // 종료 시 남은 이벤트 처리를 기다리는 최대 시간
+    private long shutdownDrainTimeoutMs = 10000;
+}
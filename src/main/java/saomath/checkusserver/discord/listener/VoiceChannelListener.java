@@ -8,16 +8,17 @@ import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 import saomath.checkusserver.discord.entity.VoiceChannelEvent;
-import saomath.checkusserver.discord.service.VoiceChannelEventService;
+import saomath.checkusserver.discord.service.VoiceEventIngestionQueue;
 
 @Slf4j
 @Component
 public class VoiceChannelListener extends ListenerAdapter {
 
-    private final VoiceChannelEventService voiceChannelEventService;
+    // JDA 이벤트 스레드를 막지 않도록 이벤트 처리는 비동기 큐에 위임
+    private final VoiceEventIngestionQueue voiceEventIngestionQueue;
 
-    public VoiceChannelListener(VoiceChannelEventService voiceChannelEventService) {
-        this.voiceChannelEventService = voiceChannelEventService;
+    public VoiceChannelListener(VoiceEventIngestionQueue voiceEventIngestionQueue) {
+        this.voiceEventIngestionQueue = voiceEventIngestionQueue;
     }
 
     @Override
@@ -63,7 +64,7 @@ public class VoiceChannelListener extends ListenerAdapter {
                 .withCurrentTimestamp()
                 .build();
         
-        voiceChannelEventService.processVoiceChannelEvent(event);
+        voiceEventIngestionQueue.submit(event);
     }
 
     /**
@@ -89,7 +90,7 @@ public class VoiceChannelListener extends ListenerAdapter {
                 .withCurrentTimestamp()
                 .build();
         
-        voiceChannelEventService.processVoiceChannelEvent(event);
+        voiceEventIngestionQueue.submit(event);
     }
 
     /**
@@ -119,7 +120,7 @@ public class VoiceChannelListener extends ListenerAdapter {
                 .withCurrentTimestamp()
                 .build();
         
-        voiceChannelEventService.processVoiceChannelEvent(event);
+        voiceEventIngestionQueue.submit(event);
     }
 
     /**
@@ -3,14 +3,19 @@ package saomath.checkusserver.discord.service;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.entities.User;
-import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import saomath.checkusserver.common.concurrent.BoundedExecutor;
 import saomath.checkusserver.discord.config.DiscordProperties;
+import saomath.checkusserver.discord.service.DiscordDirectMessageSender.DeliveryOutcome;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -19,12 +24,19 @@ public class DiscordBotService {
 
     private final JDA jda;
     private final DiscordProperties discordProperties;
+    private final DiscordDirectMessageSender directMessageSender;
+    // 채널 전송(complete())과 DM 속도 조절 대기는 공용 풀이 아닌 전용 가상 스레드 실행기에서 처리
+    private final BoundedExecutor discordExecutor;
 
     public DiscordBotService(
             JDA jda, 
-            DiscordProperties discordProperties) {
+            DiscordProperties discordProperties,
+            DiscordDirectMessageSender directMessageSender,
+            @Qualifier("discordExecutor") BoundedExecutor discordExecutor) {
         this.jda = jda;
         this.discordProperties = discordProperties;
+        this.directMessageSender = directMessageSender;
+        this.discordExecutor = discordExecutor;
     }
 
     @PostConstruct
@@ -52,33 +64,9 @@ public class DiscordBotService {
             return CompletableFuture.completedFuture(false);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // 사용자 조회
-                User user = jda.getUserById(userId);
-                if (user == null) {
-                    log.warn("디스코드 사용자를 찾을 수 없습니다. ID: {}", userId);
-                    return false;
-                }
-
-                // 개인 채널 열기
-                PrivateChannel privateChannel = user.openPrivateChannel().complete();
-                if (privateChannel == null) {
-                    log.warn("개인 채널을 열 수 없습니다. 사용자 ID: {}", userId);
-                    return false;
-                }
-
-                // 메시지 전송
-                privateChannel.sendMessage(message).complete();
-                log.debug("디스코드 DM 전송 성공: 사용자={}, 메시지 길이={}", 
-                        user.getName(), message.length());
-                return true;
-
-            } catch (Exception e) {
-                log.error("디스코드 DM 전송 실패: 사용자 ID={}", userId, e);
-                return false;
-            }
-        });
+        return discordExecutor.supply(() -> directMessageSender.send(userId, message))
+                .thenCompose(Function.identity())
+                .thenApply(outcome -> outcome == DeliveryOutcome.SENT);
     }
 
     /**
@@ -93,7 +81,7 @@ public class DiscordBotService {
             return CompletableFuture.completedFuture(false);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
+        return discordExecutor.supply(() -> {
             try {
                 log.info("Discord 채널 메시지 전송 시작: channelId={}, JDA ready={}", 
                         channelId, jda != null && jda.getStatus() == JDA.Status.CONNECTED);
@@ -154,28 +142,28 @@ public class DiscordBotService {
      * @return 성공한 전송 수
      */
     public CompletableFuture<Integer> sendBroadcastMessage(Iterable<String> userIds, String message) {
+        return broadcastDirectMessage(userIds, message)
+                .thenApply(outcomes -> (int) outcomes.values().stream()
+                        .filter(outcome -> outcome == DeliveryOutcome.SENT)
+                        .count());
+    }
+
+    /**
+     * 여러 사용자에게 동일한 메시지를 전송하고 사용자별 결과를 반환합니다.
+     * @param userIds 디스코드 사용자 ID 목록
+     * @param message 전송할 메시지
+     * @return 디스코드 사용자 ID별 전송 결과
+     */
+    public CompletableFuture<Map<String, DeliveryOutcome>> broadcastDirectMessage(Iterable<String> userIds, String message) {
         if (!discordProperties.isEnabled()) {
             log.debug("Discord bot이 비활성화되어 브로드캐스트를 건너뜁니다.");
-            return CompletableFuture.completedFuture(0);
+            return CompletableFuture.completedFuture(Map.of());
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            int successCount = 0;
-            for (String userId : userIds) {
-                try {
-                    boolean success = sendDirectMessage(userId, message).get();
-                    if (success) {
-                        successCount++;
-                    }
-                    // 메시지 간 딜레이 (Discord API 제한 고려)
-                    Thread.sleep(100);
-                } catch (Exception e) {
-                    log.error("브로드캐스트 중 오류 발생: 사용자 ID={}", userId, e);
-                }
-            }
-            
-            log.info("브로드캐스트 완료: 성공={} 건", successCount);
-            return successCount;
-        });
+        List<String> recipients = new ArrayList<>();
+        userIds.forEach(recipients::add);
+        // 토큰 대기만 실행기 작업 하나에서 처리하고, 전송 완료는 기다리지 않음
+        return discordExecutor.supply(() -> directMessageSender.broadcast(recipients, message))
+                .thenCompose(Function.identity());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,210 @@
+package saomath.checkusserver.discord.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.common.cache.BoundedCache;
+import saomath.checkusserver.common.ratelimit.TokenBucket;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 디스코드 개인 메시지(DM) 전송기
+ *
+ * - 사용자별 개인 채널을 캐싱해, 두 번째 메시지부터는 채널 열기 요청 없이 바로 전송
+ * - 캐시에 없는 사용자도 JDA 사용자 캐시와 무관하게 REST로 개인 채널을 열어 전송
+ * - 요청은 JDA의 비동기 submit()으로 보내고, 경로별 버킷과 429 재시도는 JDA 속도 제한기가 처리
+ * - 보내는 쪽에서는 토큰 버킷으로 전역 제한(초당 50건)보다 낮게 요청 속도를 맞춤
+ * 토큰을 기다리는 동안 호출 스레드가 대기하므로 전용 실행기(가상 스레드)에서 호출합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discord.bot.enabled", havingValue = "true")
+public class DiscordDirectMessageSender {
+
+    public enum DeliveryOutcome {
+        SENT,
+        // 존재하지 않는 디스코드 사용자
+        UNKNOWN_USER,
+        // 서버를 나갔거나 DM을 막아 둔 사용자
+        DM_BLOCKED,
+        FAILED
+    }
+
+    private final JDA jda;
+    private final TokenBucket rateLimiter;
+    // 디스코드 사용자 ID -> 개인 채널 (열기 요청 중인 것 포함, 같은 사용자에게 동시에 보내도 한 번만 열림)
+    private final BoundedCache<String, CompletableFuture<PrivateChannel>> channels;
+
+    private final Map<DeliveryOutcome, Counter> outcomeCounters = new EnumMap<>(DeliveryOutcome.class);
+    private final Timer latencyTimer;
+    private final Timer broadcastTimer;
+
+    public DiscordDirectMessageSender(JDA jda,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${discord.dm.permits-per-second:40}") double permitsPerSecond,
+                                      @Value("${discord.dm.burst:10}") int burst,
+                                      @Value("${discord.dm.channel-cache.maximum-size:10000}") int channelCacheSize,
+                                      @Value("${discord.dm.channel-cache.ttl-hours:12}") long channelCacheTtlHours) {
+        this.jda = jda;
+        this.rateLimiter = new TokenBucket(permitsPerSecond, burst);
+        this.channels = new BoundedCache<String, CompletableFuture<PrivateChannel>>(
+                "discord.private-channel", channelCacheSize, Duration.ofHours(channelCacheTtlHours))
+                .bindTo(meterRegistry);
+
+        for (DeliveryOutcome outcome : DeliveryOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("discord.dm.sent")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .description("디스코드 DM 전송 결과 수")
+                    .register(meterRegistry));
+        }
+        this.latencyTimer = Timer.builder("discord.dm.latency")
+                .description("DM 요청부터 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.broadcastTimer = Timer.builder("discord.dm.broadcast")
+                .description("브로드캐스트 전체 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DM을 전송합니다. 요청 속도를 맞추는 동안만 호출 스레드가 대기하고, 전송 결과는 future로 반환합니다.
+     * @param userId 디스코드 사용자 ID
+     * @param message 전송할 메시지
+     * @return 전송 결과 (예외로 끝나지 않음)
+     */
+    public CompletableFuture<DeliveryOutcome> send(String userId, String message) {
+        long startedAt = System.nanoTime();
+        try {
+            pace();
+            return channelFor(userId)
+                    .thenCompose(channel -> channel.sendMessage(message).submit())
+                    .handle((sent, error) -> complete(userId, error, startedAt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(complete(userId, e, startedAt));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(complete(userId, e, startedAt));
+        }
+    }
+
+    /**
+     * 여러 사용자에게 같은 메시지를 전송합니다.
+     * 고정 간격 대신 토큰이 허용하는 만큼 동시에 보내고, 사용자별 결과를 반환합니다(중복 ID는 한 번만 전송).
+     */
+    public CompletableFuture<Map<String, DeliveryOutcome>> broadcast(Collection<String> userIds, String message) {
+        long startedAt = System.nanoTime();
+        Map<String, CompletableFuture<DeliveryOutcome>> pending = new LinkedHashMap<>();
+        for (String userId : new LinkedHashSet<>(userIds)) {
+            pending.put(userId, send(userId, message));
+        }
+
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture[0]))
+                .thenApply(done -> {
+                    Map<String, DeliveryOutcome> outcomes = new LinkedHashMap<>();
+                    pending.forEach((userId, future) -> outcomes.put(userId, future.join()));
+
+                    long elapsedNanos = System.nanoTime() - startedAt;
+                    broadcastTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                    long sent = outcomes.values().stream().filter(outcome -> outcome == DeliveryOutcome.SENT).count();
+                    double seconds = Math.max(elapsedNanos / 1e9, 0.001);
+                    log.info("브로드캐스트 완료: 대상={}, 성공={}, 소요={}ms, 처리량={}건/초",
+                            outcomes.size(), sent, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                            String.format("%.1f", outcomes.size() / seconds));
+                    return outcomes;
+                });
+    }
+
+    /**
+     * 캐시된 개인 채널 무효화 (채널을 다시 열어야 하는 경우)
+     */
+    public void invalidate(String userId) {
+        channels.invalidate(userId);
+    }
+
+    /**
+     * 개인 채널 future. 빈 future를 캐시에 원자적으로 먼저 넣고, 넣은 호출만 실제로 채널을 엽니다.
+     * 채널 열기(속도 대기 포함)는 캐시 잠금 밖에서 수행합니다.
+     */
+    private CompletableFuture<PrivateChannel> channelFor(String userId) {
+        CompletableFuture<PrivateChannel> placeholder = new CompletableFuture<>();
+        CompletableFuture<PrivateChannel> channel = channels.computeIfAbsent(userId, id -> placeholder);
+        if (channel == placeholder) {
+            openChannel(userId).whenComplete((opened, error) -> {
+                if (error != null) {
+                    placeholder.completeExceptionally(error);
+                } else {
+                    placeholder.complete(opened);
+                }
+            });
+        }
+        return channel;
+    }
+
+    private CompletableFuture<PrivateChannel> openChannel(String userId) {
+        try {
+            pace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        // 실패한 열기는 캐시에 남기지 않음 (다음 전송에서 다시 시도)
+        return jda.openPrivateChannelById(userId).submit()
+                .whenComplete((channel, error) -> {
+                    if (error != null) {
+                        channels.invalidate(userId);
+                    }
+                });
+    }
+
+    private void pace() throws InterruptedException {
+        rateLimiter.acquire();
+    }
+
+    private DeliveryOutcome complete(String userId, Throwable error, long startedAt) {
+        DeliveryOutcome outcome = classify(userId, error);
+        outcomeCounters.get(outcome).increment();
+        latencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return outcome;
+    }
+
+    private DeliveryOutcome classify(String userId, Throwable error) {
+        if (error == null) {
+            log.debug("디스코드 DM 전송 성공: 사용자 ID={}", userId);
+            return DeliveryOutcome.SENT;
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ErrorResponseException response) {
+            ErrorResponse errorResponse = response.getErrorResponse();
+            if (errorResponse == ErrorResponse.UNKNOWN_USER) {
+                log.warn("디스코드 사용자를 찾을 수 없습니다. ID: {}", userId);
+                return DeliveryOutcome.UNKNOWN_USER;
+            }
+            if (errorResponse == ErrorResponse.CANNOT_SEND_TO_USER) {
+                log.warn("DM을 받을 수 없는 사용자입니다. ID: {}", userId);
+                return DeliveryOutcome.DM_BLOCKED;
+            }
+            if (errorResponse == ErrorResponse.UNKNOWN_CHANNEL) {
+                channels.invalidate(userId);
+            }
+        }
+        log.error("디스코드 DM 전송 실패: 사용자 ID={}", userId, cause);
+        return DeliveryOutcome.FAILED;
+    }
+}
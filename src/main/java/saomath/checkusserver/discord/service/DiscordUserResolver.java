@@ -0,0 +1,106 @@
+package saomath.checkusserver.discord.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.common.cache.BoundedCache;
+import saomath.checkusserver.notification.event.UserDiscordIdChangeEvent;
+import saomath.checkusserver.notification.event.UserRegisteredEvent;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 디스코드 ID로 시스템 사용자를 찾는 캐시
+ *
+ * 음성채널 이벤트마다 사용자 조회 쿼리가 나가지 않도록 결과를 캐싱합니다.
+ * 연동되지 않은 디스코드 ID(알 수 없는 사용자)도 빈 결과로 캐싱합니다.
+ * 가입, 디스코드 ID 변경, 학생 삭제/복구 이벤트가 커밋되면 관련 디스코드 ID 항목을 무효화하고,
+ * 이벤트를 발행하지 않는 경로(교사 정보 수정 등)는 만료 시간으로 정리됩니다.
+ */
+@Slf4j
+@Component
+public class DiscordUserResolver {
+
+    private final UserRepository userRepository;
+    private final BoundedCache<String, Optional<User>> cache;
+
+    public DiscordUserResolver(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${discord.user-cache.maximum-size:10000}") int maximumSize,
+                               @Value("${discord.user-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedCache<String, Optional<User>>("discord.user", maximumSize, Duration.ofMinutes(ttlMinutes))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * 디스코드 ID에 연동된 사용자 조회 (논리삭제된 사용자 제외)
+     */
+    public Optional<User> resolve(String discordId) {
+        if (discordId == null || discordId.isBlank()) {
+            return Optional.empty();
+        }
+        return cache.get(discordId, userRepository::findByDiscordId);
+    }
+
+    /**
+     * 특정 디스코드 ID 항목 무효화
+     */
+    public void invalidate(String discordId) {
+        cache.invalidate(discordId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 디스코드 ID 변경은 같은 트랜잭션의 후속 조회가 새 ID를 봐야 하므로 바로 무효화하고,
+     * 커밋 전 다른 조회가 이전 값을 다시 캐싱했을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 무효화합니다.
+     */
+    @EventListener
+    public void onDiscordIdChanged(UserDiscordIdChangeEvent event) {
+        String oldDiscordId = event.getOldDiscordId();
+        String newDiscordId = event.getNewDiscordId();
+        invalidatePair(oldDiscordId, newDiscordId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidatePair(oldDiscordId, newDiscordId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 가입 시에는 알 수 없는 사용자로 캐싱된 항목을, 디스코드 ID 변경 시에는 이전/새 ID 항목을 정리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        invalidatePair(event.getOldDiscordId(), event.getUser().getDiscordId());
+    }
+
+    /**
+     * 학생 정보 수정, 삭제, 복구 시 해당 학생의 디스코드 ID 항목을 정리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        invalidatePair(event.getOldDiscordId(), event.getNewDiscordId());
+    }
+
+    private void invalidatePair(String oldDiscordId, String newDiscordId) {
+        cache.invalidate(oldDiscordId);
+        cache.invalidate(newDiscordId);
+        log.debug("디스코드 사용자 캐시 무효화: 기존 ID={}, 새 ID={}", oldDiscordId, newDiscordId);
+    }
+}
@@ -1,7 +1,10 @@
 package saomath.checkusserver.discord.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import saomath.checkusserver.discord.entity.VoiceChannelEvent;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
@@ -11,18 +14,19 @@ import saomath.checkusserver.notification.event.StudyAttendanceEvent;
 import saomath.checkusserver.notification.event.StudyRoomEnterEvent;
 import saomath.checkusserver.notification.event.UnknownUserJoinEvent;
 import saomath.checkusserver.notification.event.UserDiscordIdChangeEvent;
-import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.common.concurrent.RingBuffer;
+import saomath.checkusserver.studyTime.service.AssignmentIntervalIndex;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 음성채널 이벤트를 관리하는 서비스
@@ -33,26 +37,35 @@ import java.util.concurrent.ConcurrentHashMap;
 public class VoiceChannelEventService {
     
     private final UserRepository userRepository;
-    private final AssignedStudyTimeRepository assignedStudyTimeRepository;
+    private final DiscordUserResolver discordUserResolver;
+    private final AssignmentIntervalIndex assignmentIntervalIndex;
     private final StudyTimeService studyTimeService;
     private final ApplicationEventPublisher eventPublisher;
     
-    // 현재 음성채널에 있는 사용자들을 추적 (channelId -> Set<userId>)
-    private final Map<String, List<String>> currentVoiceChannelMembers = new ConcurrentHashMap<>();
+    // 현재 음성채널에 있는 사용자들을 추적 (channelId -> 사용자 집합, 사용자 -> channelId)
+    // 이벤트가 여러 워커 스레드에서 처리되므로 동시성 자료구조로 관리
+    private final VoicePresenceRegistry presence = new VoicePresenceRegistry();
     
     // 최근 이벤트들을 메모리에 저장 (추후 데이터베이스 연동 시 제거 예정)
-    private final List<VoiceChannelEvent> recentEvents = new ArrayList<>();
     private static final int MAX_RECENT_EVENTS = 100;
+    private final RingBuffer<VoiceChannelEvent> recentEvents = new RingBuffer<>(MAX_RECENT_EVENTS);
+
+    // 짧은 퇴장/재입장을 같은 세션으로 묶기 위한 퇴장 보류
+    private final VoiceLeaveDebouncer leaveDebouncer;
 
     public VoiceChannelEventService(
             UserRepository userRepository,
-            AssignedStudyTimeRepository assignedStudyTimeRepository,
+            DiscordUserResolver discordUserResolver,
+            AssignmentIntervalIndex assignmentIntervalIndex,
             StudyTimeService studyTimeService,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            @Value("${discord.voice.leave-grace-seconds:30}") long leaveGraceSeconds) {
         this.userRepository = userRepository;
-        this.assignedStudyTimeRepository = assignedStudyTimeRepository;
+        this.discordUserResolver = discordUserResolver;
+        this.assignmentIntervalIndex = assignmentIntervalIndex;
         this.studyTimeService = studyTimeService;
         this.eventPublisher = eventPublisher;
+        this.leaveDebouncer = new VoiceLeaveDebouncer(leaveGraceSeconds, Instant.now());
     }
 
     /**
@@ -67,8 +80,8 @@ public class VoiceChannelEventService {
         // 이벤트 저장 (현재는 메모리에만, 추후 DB 저장)
         saveEvent(event);
         
-        // 디스코드 사용자를 시스템 사용자로 연동
-        Optional<User> userOpt = userRepository.findByDiscordId(event.getUserId());
+        // 디스코드 사용자를 시스템 사용자로 연동 (캐시 사용)
+        Optional<User> userOpt = discordUserResolver.resolve(event.getUserId());
         if (userOpt.isEmpty()) {
             log.warn("디스코드 ID {}에 해당하는 시스템 사용자를 찾을 수 없습니다.", event.getUserId());
             
@@ -82,17 +95,108 @@ public class VoiceChannelEventService {
         
         User user = userOpt.get();
         
-        // 실제 공부 시간 기록
-        recordActualStudyTime(user.getId(), event);
-        
-        // 출석 규정 준수 여부 확인
-        checkAttendanceCompliance(user, event);
+        // 같은 사용자의 이벤트 처리와 보류된 퇴장 처리가 섞이지 않도록 사용자 단위로 직렬화
+        ReentrantLock lock = leaveDebouncer.lockFor(event.getUserId());
+        lock.lock();
+        try {
+            if (coalesce(user, event)) {
+                return;
+            }
+            
+            // 실제 공부 시간 기록
+            recordActualStudyTime(user, event);
+            
+            // 출석 규정 준수 여부 확인
+            checkAttendanceCompliance(user, event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 짧은 퇴장/재입장과 채널 이동을 기존 세션의 연장으로 처리합니다.
+     * - 퇴장: 보류 시간 동안 처리하지 않고 보류
+     * - 보류 중 재입장/이동: 보류를 취소하고 세션 유지 (새 세션, 입장 알림 없음)
+     * - 진행 중 세션이 있는 상태의 이동: 세션 유지
+     * @return 이벤트를 여기서 마무리했으면 true
+     */
+    private boolean coalesce(User user, VoiceChannelEvent event) {
+        switch (event.getEventType()) {
+            case LEAVE:
+                if (leaveDebouncer.isEnabled()) {
+                    leaveDebouncer.hold(event, Instant.now());
+                    log.debug("퇴장 보류: 사용자={}, 퇴장 시간={}", user.getUsername(), event.getTimestamp());
+                    return true;
+                }
+                return false;
+                
+            case JOIN:
+            case MOVE:
+                VoiceChannelEvent cancelledLeave = leaveDebouncer.cancel(event.getUserId());
+                if ((cancelledLeave != null || event.getEventType() == VoiceChannelEvent.EventType.MOVE)
+                        && studyTimeService.hasOngoingSession(user.getId())) {
+                    log.info("기존 공부 세션 유지: 사용자={}, 이벤트={}, 재입장={}", 
+                            user.getUsername(), event.getEventType(), cancelledLeave != null);
+                    return true;
+                }
+                return false;
+                
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 보류 시간이 지난 퇴장을 처리합니다. 퇴장 시각은 원래 이벤트 시각을 사용합니다.
+     */
+    @Scheduled(fixedDelayString = "${discord.voice.leave-flush-interval-ms:1000}")
+    public void flushExpiredLeaves() {
+        for (VoiceLeaveDebouncer.PendingLeave pending : leaveDebouncer.expire(Instant.now())) {
+            ReentrantLock lock = leaveDebouncer.lockFor(pending.userId());
+            lock.lock();
+            try {
+                VoiceChannelEvent leave = leaveDebouncer.claim(pending);
+                if (leave != null) {
+                    completeLeave(leave);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 종료 시 보류 중인 퇴장을 모두 처리해 세션이 열린 채로 남지 않도록 합니다.
+     */
+    @PreDestroy
+    public void flushPendingLeaves() {
+        List<VoiceChannelEvent> pending = leaveDebouncer.drainAll();
+        if (!pending.isEmpty()) {
+            log.info("종료 전 보류 중인 퇴장 {}건 처리", pending.size());
+        }
+        pending.forEach(this::completeLeave);
+    }
+
+    public int getPendingLeaveCount() {
+        return leaveDebouncer.getPendingCount();
+    }
+
+    private void completeLeave(VoiceChannelEvent leave) {
+        try {
+            discordUserResolver.resolve(leave.getUserId()).ifPresent(user -> {
+                recordActualStudyTime(user, leave);
+                checkAttendanceCompliance(user, leave);
+            });
+        } catch (Exception e) {
+            log.error("보류된 퇴장 처리 실패: {}", leave, e);
+        }
     }
 
     /**
      * 실제 공부 시간 기록
      */
-    private void recordActualStudyTime(Long studentId, VoiceChannelEvent event) {
+    private void recordActualStudyTime(User user, VoiceChannelEvent event) {
+        Long studentId = user.getId();
         try {
             switch (event.getEventType()) {
                 case JOIN:
@@ -104,7 +208,6 @@ public class VoiceChannelEventService {
                             studentId, event.getTimestamp());
                     
                     // 스터디룸 입장 이벤트 발행
-                    User user = userRepository.findById(studentId).orElseThrow();
                     publishStudyRoomEnterEvent(user, event);
                     break;
                     
@@ -130,13 +233,13 @@ public class VoiceChannelEventService {
             LocalDateTime eventTime = event.getTimestamp();
             Long studentId = user.getId();
             
-            // 현재 시간에 할당된 공부 시간 조회
-            List<AssignedStudyTime> currentAssignments = assignedStudyTimeRepository
-                    .findCurrentStudyTimes(studentId, eventTime);
+            // 현재 시간에 할당된 공부 시간 조회 (구간 인덱스, DB 조회 없음)
+            List<AssignedStudyTime> currentAssignments = assignmentIntervalIndex
+                    .findContaining(studentId, eventTime);
             
             // 입장 30분 전부터 입장 30분 후까지의 할당된 공부 시간도 확인
-            List<AssignedStudyTime> nearbyAssignments = assignedStudyTimeRepository
-                    .findOverlappingStudyTimes(studentId, 
+            List<AssignedStudyTime> nearbyAssignments = assignmentIntervalIndex
+                    .findOverlapping(studentId, 
                             eventTime.minusMinutes(30), eventTime.plusMinutes(30));
             
             switch (event.getEventType()) {
@@ -248,71 +351,63 @@ public class VoiceChannelEventService {
         
         switch (event.getEventType()) {
             case JOIN:
-                currentVoiceChannelMembers.computeIfAbsent(channelId, k -> new ArrayList<>()).add(userId);
+            case MOVE:
+                // 이전 채널에서 빠지고 새 채널에 추가 (사용자 -> 채널 역색인 기준)
+                presence.join(userId, channelId);
                 break;
-                
+            
             case LEAVE:
-                List<String> members = currentVoiceChannelMembers.get(channelId);
-                if (members != null) {
-                    members.remove(userId);
-                    if (members.isEmpty()) {
-                        currentVoiceChannelMembers.remove(channelId);
-                    }
-                }
-                break;
-                
-            case MOVE:
-                // 이전 채널에서 제거
-                if (event.getPreviousChannelId() != null) {
-                    List<String> prevMembers = currentVoiceChannelMembers.get(event.getPreviousChannelId());
-                    if (prevMembers != null) {
-                        prevMembers.remove(userId);
-                        if (prevMembers.isEmpty()) {
-                            currentVoiceChannelMembers.remove(event.getPreviousChannelId());
-                        }
-                    }
-                }
-                // 새 채널에 추가
-                currentVoiceChannelMembers.computeIfAbsent(channelId, k -> new ArrayList<>()).add(userId);
+                presence.leave(userId, channelId);
                 break;
         }
         
         log.debug("채널 {} 현재 멤버 수: {}", 
                 event.getChannelName(), 
-                currentVoiceChannelMembers.getOrDefault(channelId, new ArrayList<>()).size());
+                getCurrentChannelMembers(channelId).size());
+    }
+
+    /**
+     * 현재 음성채널 멤버 상태를 통째로 교체 (시작 시 디스코드 실제 상태로 다시 구성)
+     * @param membersByChannel channelId -> 디스코드 사용자 ID 목록
+     */
+    public void replaceChannelMembers(Map<String, List<String>> membersByChannel) {
+        presence.replaceAll(membersByChannel);
     }
 
     /**
      * 이벤트를 저장
      */
     private void saveEvent(VoiceChannelEvent event) {
+        // 최대 개수 초과 시 가장 오래된 이벤트를 덮어씀
         recentEvents.add(event);
-        
-        // 최대 개수 초과 시 오래된 이벤트 제거
-        if (recentEvents.size() > MAX_RECENT_EVENTS) {
-            recentEvents.remove(0);
-        }
     }
 
     /**
      * 특정 채널의 현재 멤버 목록 조회
      */
     public List<String> getCurrentChannelMembers(String channelId) {
-        return new ArrayList<>(currentVoiceChannelMembers.getOrDefault(channelId, new ArrayList<>()));
+        return presence.members(channelId);
+    }
+
+    /**
+     * 사용자가 현재 있는 음성채널 ID 조회
+     */
+    public Optional<String> findChannelOf(String discordUserId) {
+        return presence.channelOf(discordUserId);
     }
 
     /**
      * 최근 이벤트 목록 조회
      */
     public List<VoiceChannelEvent> getRecentEvents() {
-        return new ArrayList<>(recentEvents);
+        return recentEvents.snapshot();
     }
 
     /**
      * 현재 모든 음성채널의 상태 조회
      */
     public Map<String, List<String>> getAllChannelMembers() {
-        return new ConcurrentHashMap<>(currentVoiceChannelMembers);
+        return presence.snapshot();
     }
 
     /**
@@ -352,28 +447,25 @@ public class VoiceChannelEventService {
         }
 
         try {
-            // 현재 음성채널 멤버 맵에서 해당 사용자가 있는지 확인
-            for (Map.Entry<String, List<String>> entry : currentVoiceChannelMembers.entrySet()) {
-                String channelId = entry.getKey();
-                List<String> members = entry.getValue();
+            // 사용자 -> 채널 역색인에서 해당 사용자가 있는지 확인
+            Optional<String> currentChannel = presence.channelOf(user.getDiscordId());
+            if (currentChannel.isPresent()) {
+                String channelId = currentChannel.get();
+                log.info("새로 등록된 사용자 {}가 현재 음성채널 {}에 있음을 발견. 공부 시간 기록 시작", 
+                        user.getUsername(), channelId);
                 
-                if (members.contains(user.getDiscordId())) {
-                    log.info("새로 등록된 사용자 {}가 현재 음성채널 {}에 있음을 발견. 공부 시간 기록 시작", 
-                            user.getUsername(), channelId);
-                    
-                    // 현재 시간으로 공부 시작 기록
-                    LocalDateTime now = LocalDateTime.now();
-                    ActualStudyTime studyStart = studyTimeService.recordStudyStart(
-                            user.getId(), now, "discord");
-                    
-                    log.info("기존 음성채널 사용자 공부 시작 기록됨: 학생 ID={}, 시작 시간={}", 
-                            user.getId(), now);
-                    
-                    // 스터디룸 입장 이벤트 발행 (채널 정보는 임시로 ID만 사용)
-                    publishStudyRoomEnterEventForExistingUser(user, channelId, now);
-                    
-                    return; // 하나의 채널에만 있을 수 있으므로 찾으면 종료
-                }
+                // 현재 시간으로 공부 시작 기록
+                LocalDateTime now = LocalDateTime.now();
+                ActualStudyTime studyStart = studyTimeService.recordStudyStart(
+                        user.getId(), now, "discord");
+                
+                log.info("기존 음성채널 사용자 공부 시작 기록됨: 학생 ID={}, 시작 시간={}", 
+                        user.getId(), now);
+                
+                // 스터디룸 입장 이벤트 발행 (채널 정보는 임시로 ID만 사용)
+                publishStudyRoomEnterEventForExistingUser(user, channelId, now);
+                
+                return;
             }
             
             log.debug("새로 등록된 사용자 {}는 현재 음성채널에 없습니다.", user.getUsername());
@@ -434,6 +526,8 @@ public class VoiceChannelEventService {
             
             // 1. 기존 Discord ID가 있던 채널에서 제거 및 가상 LEAVE 이벤트 발행
             if (oldDiscordId != null && !oldDiscordId.trim().isEmpty()) {
+                // 기존 ID로 보류 중인 퇴장은 아래에서 바로 종료하므로 취소
+                leaveDebouncer.cancel(oldDiscordId);
                 publishVirtualLeaveEventForDiscordIdChange(userId, oldDiscordId);
                 
                 // 기존 진행 중인 세션이 있다면 종료 (이미 UserRegistrationListener에서 처리되지만 안전장치)
@@ -472,19 +566,8 @@ public class VoiceChannelEventService {
     private void publishVirtualLeaveEventForDiscordIdChange(Long userId, String oldDiscordId) {
         try {
             // 기존 Discord ID가 있던 채널 찾기
-            String foundChannelId = null;
-            String foundChannelName = null;
-            
-            for (Map.Entry<String, List<String>> entry : currentVoiceChannelMembers.entrySet()) {
-                String channelId = entry.getKey();
-                List<String> members = entry.getValue();
-                
-                if (members.contains(oldDiscordId)) {
-                    foundChannelId = channelId;
-                    foundChannelName = "음성채널-" + channelId; // 임시 채널명
-                    break;
-                }
-            }
+            String foundChannelId = presence.channelOf(oldDiscordId).orElse(null);
+            String foundChannelName = foundChannelId != null ? "음성채널-" + foundChannelId : null; // 임시 채널명
             
             if (foundChannelId != null) {
                 // 사용자 정보 조회
@@ -506,7 +589,7 @@ public class VoiceChannelEventService {
                             user.getUsername(), foundChannelName);
                     
                     // 실제 이벤트 처리 (알림 발송 등)
-                    recordActualStudyTime(userId, virtualLeaveEvent);
+                    recordActualStudyTime(user, virtualLeaveEvent);
                     
                     // StudyRoom 퇴장 이벤트도 발행할 수 있음 (필요시)
                     // publishStudyRoomLeaveEvent(user, virtualLeaveEvent);
@@ -533,31 +616,11 @@ public class VoiceChannelEventService {
      * Discord ID 변경 시 기존 ID의 채널 상태 정리용
      */
     private void removeUserFromAllChannels(String discordUserId) {
-        try {
-            boolean removed = false;
-            
-            for (Map.Entry<String, List<String>> entry : currentVoiceChannelMembers.entrySet()) {
-                String channelId = entry.getKey();
-                List<String> members = entry.getValue();
-                
-                if (members.remove(discordUserId)) {
-                    removed = true;
-                    log.info("Discord ID {} 사용자를 채널 {}에서 제거했습니다.", discordUserId, channelId);
-                    
-                    // 채널이 비어있으면 채널 자체를 제거
-                    if (members.isEmpty()) {
-                        currentVoiceChannelMembers.remove(channelId);
-                        log.debug("빈 채널 {} 제거됨", channelId);
-                    }
-                }
-            }
-            
-            if (!removed) {
-                log.debug("Discord ID {}는 어떤 음성채널에도 없었습니다.", discordUserId);
-            }
-            
-        } catch (Exception e) {
-            log.error("Discord ID {}를 채널에서 제거하는 중 오류 발생", discordUserId, e);
+        Optional<String> removedFrom = presence.remove(discordUserId);
+        if (removedFrom.isPresent()) {
+            log.info("Discord ID {} 사용자를 채널 {}에서 제거했습니다.", discordUserId, removedFrom.get());
+        } else {
+            log.debug("Discord ID {}는 어떤 음성채널에도 없었습니다.", discordUserId);
         }
     }
 
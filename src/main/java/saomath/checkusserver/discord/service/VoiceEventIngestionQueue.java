@@ -0,0 +1,206 @@
+package saomath.checkusserver.discord.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.discord.config.VoiceIngestProperties;
+import saomath.checkusserver.discord.entity.VoiceChannelEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 음성채널 이벤트 비동기 처리 큐
+ *
+ * JDA 이벤트 스레드에서 DB 작업을 하지 않도록 이벤트를 큐에 넣고 가상 스레드 워커가 처리합니다.
+ * 디스코드 사용자 ID로 레인을 나누어 같은 사용자의 이벤트는 순서대로, 다른 사용자의 이벤트는 병렬로 처리합니다.
+ * 큐가 가득 차면 이벤트를 버리지 않고 호출 스레드를 대기시켜 유입 속도를 늦춥니다(backpressure).
+ * 시작 시 상태 맞추기처럼 전체 상태를 다시 읽는 작업은 pauseWhile로 처리를 멈춘 채 수행하고,
+ * 그 사이 들어온 이벤트는 큐에 쌓였다가 작업이 끝난 뒤 순서대로 처리됩니다.
+ */
+@Slf4j
+@Component
+public class VoiceEventIngestionQueue {
+
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final VoiceChannelEventService voiceChannelEventService;
+    private final VoiceIngestProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<BlockingQueue<QueuedEvent>> lanes = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    // 워커는 이벤트마다 읽기 잠금, pauseWhile은 쓰기 잠금 (처리 중인 이벤트가 끝날 때까지 기다린 뒤 멈춤)
+    private final ReadWriteLock processingGate = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    private Counter submittedCounter;
+    private Counter processedCounter;
+    private Counter failedCounter;
+    private Counter backpressureCounter;
+    private Timer lagTimer;
+    private Timer processingTimer;
+
+    public VoiceEventIngestionQueue(VoiceChannelEventService voiceChannelEventService,
+                                    VoiceIngestProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.voiceChannelEventService = voiceChannelEventService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        submittedCounter = meterRegistry.counter("discord.voice.ingest.submitted");
+        processedCounter = meterRegistry.counter("discord.voice.ingest.processed");
+        failedCounter = meterRegistry.counter("discord.voice.ingest.failed");
+        backpressureCounter = meterRegistry.counter("discord.voice.ingest.backpressure");
+        lagTimer = Timer.builder("discord.voice.ingest.lag")
+                .description("이벤트 수신부터 처리 시작까지 대기 시간")
+                .register(meterRegistry);
+        processingTimer = Timer.builder("discord.voice.ingest.processing")
+                .description("이벤트 한 건 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("discord.voice.ingest.queue.depth", this, VoiceEventIngestionQueue::getQueueDepth)
+                .description("전체 레인 대기 이벤트 수")
+                .register(meterRegistry);
+
+        running = true;
+        for (int i = 0; i < properties.getLanes(); i++) {
+            BlockingQueue<QueuedEvent> lane = new ArrayBlockingQueue<>(properties.getLaneCapacity());
+            lanes.add(lane);
+            workers.add(Thread.ofVirtual()
+                    .name("voice-ingest-" + i)
+                    .start(() -> drainLane(lane)));
+        }
+        log.info("음성채널 이벤트 처리 큐 시작: 레인 {}개, 레인당 최대 {}건",
+                properties.getLanes(), properties.getLaneCapacity());
+    }
+
+    /**
+     * 이벤트를 사용자별 레인에 넣습니다.
+     * 레인이 가득 차면 offerTimeoutMs만큼 기다린 뒤, 그래도 자리가 없으면 자리가 날 때까지 대기합니다.
+     * 같은 사용자의 순서를 지키기 위해 호출 스레드에서 직접 처리하지 않습니다.
+     */
+    public void submit(VoiceChannelEvent event) {
+        if (!running) {
+            log.warn("종료 중인 처리 큐로 이벤트가 들어와 직접 처리합니다: {}", event);
+            process(new QueuedEvent(event, System.nanoTime()));
+            return;
+        }
+
+        BlockingQueue<QueuedEvent> lane = lanes.get(laneOf(event.getUserId()));
+        QueuedEvent queued = new QueuedEvent(event, System.nanoTime());
+        try {
+            if (!lane.offer(queued, properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                backpressureCounter.increment();
+                log.warn("음성채널 이벤트 큐 포화, 자리가 날 때까지 대기: 사용자={}, 레인 대기={}건",
+                        event.getUserId(), lane.size());
+                lane.put(queued);
+            }
+            submittedCounter.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("음성채널 이벤트 큐 입력 중 인터럽트 발생: {}", event, e);
+        }
+    }
+
+    /**
+     * 처리 중인 이벤트가 끝나길 기다린 뒤, action이 끝날 때까지 모든 레인의 처리를 멈춥니다.
+     * 멈춘 동안 제출된 이벤트는 버려지지 않고 action 이후에 처리됩니다.
+     */
+    public <T> T pauseWhile(Supplier<T> action) {
+        processingGate.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            processingGate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 레인의 대기 이벤트 수
+     */
+    public int getQueueDepth() {
+        return lanes.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    /**
+     * 종료 시 대기 중인 이벤트를 최대 shutdownDrainTimeoutMs 동안 처리한 뒤 워커를 정리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + properties.getShutdownDrainTimeoutMs();
+        for (Thread worker : workers) {
+            long remaining = deadline - System.currentTimeMillis();
+            try {
+                if (remaining > 0) {
+                    worker.join(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int dropped = getQueueDepth();
+        workers.forEach(Thread::interrupt);
+        if (dropped > 0) {
+            log.warn("음성채널 이벤트 처리 큐 종료: 처리하지 못한 이벤트 {}건", dropped);
+        } else {
+            log.info("음성채널 이벤트 처리 큐 종료: 대기 이벤트 모두 처리 완료");
+        }
+    }
+
+    int laneOf(String discordUserId) {
+        int hash = discordUserId != null ? discordUserId.hashCode() : 0;
+        return Math.floorMod(hash, lanes.size());
+    }
+
+    private void drainLane(BlockingQueue<QueuedEvent> lane) {
+        while (running || !lane.isEmpty()) {
+            try {
+                QueuedEvent queued = lane.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (queued != null) {
+                    processingGate.readLock().lockInterruptibly();
+                    try {
+                        process(queued);
+                    } finally {
+                        processingGate.readLock().unlock();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void process(QueuedEvent queued) {
+        lagTimer.record(System.nanoTime() - queued.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        long startedAt = System.nanoTime();
+        try {
+            voiceChannelEventService.processVoiceChannelEvent(queued.event());
+            processedCounter.increment();
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("음성채널 이벤트 처리 실패: {}", queued.event(), e);
+        } finally {
+            processingTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record QueuedEvent(VoiceChannelEvent event, long enqueuedAtNanos) {
+    }
+}
@@ -0,0 +1,123 @@
+package saomath.checkusserver.discord.service;
+
+import saomath.checkusserver.common.scheduling.HashedTimingWheel;
+import saomath.checkusserver.discord.entity.VoiceChannelEvent;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 음성채널 퇴장 보류 (사용자별)
+ *
+ * 연결이 불안정하면 퇴장/입장이 짧은 간격으로 반복되어 짧은 세션과 입장 알림이 여러 번 생깁니다.
+ * 퇴장은 바로 처리하지 않고 graceSeconds 동안 보류하고, 그 안에 다시 들어오면 보류를 취소해 같은 세션으로 이어 갑니다.
+ * 보류 시간이 지나면 원래 퇴장 이벤트(퇴장 시각 그대로)를 꺼내 처리하도록 반환합니다.
+ * 만기는 1초 틱 타이밍 휠로 관리하고, 취소는 휠에서 지우지 않고 보류 목록에서만 빼서 만기 시 무시합니다.
+ * 같은 사용자의 이벤트 처리와 만기 처리가 섞이지 않도록 사용자별 잠금(스트라이프)을 제공합니다.
+ */
+public class VoiceLeaveDebouncer {
+
+    private static final int WHEEL_SIZE = 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    record PendingLeave(String userId, long token) {
+    }
+
+    private final long graceSeconds;
+    private final HashedTimingWheel<PendingLeave> wheel;
+    // 디스코드 사용자 ID -> 보류 중인 퇴장
+    private final Map<String, PendingLeave> pendingByUser = new ConcurrentHashMap<>();
+    private final Map<PendingLeave, VoiceChannelEvent> events = new ConcurrentHashMap<>();
+    private final AtomicLong tokens = new AtomicLong();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public VoiceLeaveDebouncer(long graceSeconds, Instant now) {
+        this.graceSeconds = graceSeconds;
+        this.wheel = new HashedTimingWheel<>(WHEEL_SIZE, now.getEpochSecond());
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return graceSeconds > 0;
+    }
+
+    /**
+     * 같은 사용자의 처리를 직렬화하는 잠금
+     */
+    public ReentrantLock lockFor(String userId) {
+        int hash = userId != null ? userId.hashCode() : 0;
+        return locks[Math.floorMod(hash, LOCK_STRIPES)];
+    }
+
+    /**
+     * 퇴장을 보류합니다. 이미 보류 중인 퇴장이 있으면 새 퇴장으로 바꿉니다(퇴장 시각은 처음 것을 유지).
+     */
+    public void hold(VoiceChannelEvent leave, Instant now) {
+        PendingLeave pending = new PendingLeave(leave.getUserId(), tokens.incrementAndGet());
+        PendingLeave previous = pendingByUser.put(leave.getUserId(), pending);
+        VoiceChannelEvent held = leave;
+        if (previous != null) {
+            VoiceChannelEvent earlier = events.remove(previous);
+            if (earlier != null && earlier.getTimestamp() != null && leave.getTimestamp() != null
+                    && earlier.getTimestamp().isBefore(leave.getTimestamp())) {
+                held = earlier;
+            }
+        }
+        events.put(pending, held);
+        long deadline = Math.max(now.getEpochSecond() + graceSeconds, wheel.getCurrentTick() + 1);
+        wheel.schedule(deadline, pending);
+    }
+
+    /**
+     * 보류 중인 퇴장을 취소합니다(보류 시간 안에 다시 입장/이동).
+     * @return 취소한 퇴장 이벤트 (없으면 null)
+     */
+    public VoiceChannelEvent cancel(String userId) {
+        PendingLeave pending = pendingByUser.remove(userId);
+        return pending == null ? null : events.remove(pending);
+    }
+
+    /**
+     * now까지 만기된 보류 항목을 꺼냅니다. 실제 처리 여부는 사용자 잠금을 잡은 뒤 claim으로 확인합니다.
+     */
+    public List<PendingLeave> expire(Instant now) {
+        return wheel.advance(now.getEpochSecond());
+    }
+
+    /**
+     * 만기된 항목이 아직 유효하면(취소되거나 새 퇴장으로 바뀌지 않았으면) 보류를 끝내고 퇴장 이벤트를 반환합니다.
+     * 같은 사용자의 입장 처리와 섞이지 않도록 lockFor(userId)를 잡은 상태에서 호출합니다.
+     * @return 처리할 퇴장 이벤트 (없으면 null)
+     */
+    public VoiceChannelEvent claim(PendingLeave pending) {
+        if (!pendingByUser.remove(pending.userId(), pending)) {
+            return null;
+        }
+        return events.remove(pending);
+    }
+
+    /**
+     * 만기와 관계없이 보류 중인 퇴장을 모두 꺼냅니다(종료 시 처리용).
+     */
+    public List<VoiceChannelEvent> drainAll() {
+        List<VoiceChannelEvent> drained = new ArrayList<>();
+        for (String userId : new ArrayList<>(pendingByUser.keySet())) {
+            VoiceChannelEvent event = cancel(userId);
+            if (event != null) {
+                drained.add(event);
+            }
+        }
+        return drained;
+    }
+
+    public int getPendingCount() {
+        return pendingByUser.size();
+    }
+}
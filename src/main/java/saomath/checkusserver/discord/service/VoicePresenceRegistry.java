@@ -0,0 +1,170 @@
+package saomath.checkusserver.discord.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 음성채널 접속 상태 (채널 -> 사용자 집합, 사용자 -> 채널 역색인)
+ *
+ * 한 사용자는 동시에 한 채널에만 있을 수 있으므로 사용자 -> 채널 역색인으로 "이 사용자가 어디 있는지"를 O(1)에 답합니다.
+ * 사용자 단위 변경은 역색인의 compute 안에서 처리해 같은 사용자에 대한 입장/이동/퇴장이 섞이지 않고,
+ * 채널 집합 변경은 채널 키의 compute 안에서 처리해 빈 채널 정리와 새 입장이 경합하지 않습니다.
+ * 잠금 순서는 항상 사용자 -> 채널입니다.
+ * 모든 연산은 읽기 잠금 안에서, 전체 교체(replaceAll)는 쓰기 잠금 안에서 미리 만든 두 맵으로 한 번에 바꿔
+ * 교체 도중의 입장/퇴장이 중간 상태를 보거나 교체에 덮이지 않습니다.
+ * 불변식: userChannel[u] == c 이면 channelMembers[c]에 u가 있고, 그 역도 성립하며, 빈 채널 집합은 남기지 않습니다.
+ */
+public class VoicePresenceRegistry {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // channelId -> 디스코드 사용자 ID 집합
+    private Map<String, Set<String>> channelMembers = new ConcurrentHashMap<>();
+    // 디스코드 사용자 ID -> channelId
+    private Map<String, String> userChannel = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자를 채널에 둡니다. 다른 채널에 있었다면 그 채널에서 빠집니다(입장/이동 공통).
+     * @return 이전 채널 ID (없으면 null)
+     */
+    public String join(String userId, String channelId) {
+        return read(() -> joinLocked(userId, channelId));
+    }
+
+    private String joinLocked(String userId, String channelId) {
+        String[] previous = new String[1];
+        userChannel.compute(userId, (user, current) -> {
+            previous[0] = current;
+            if (current != null && !current.equals(channelId)) {
+                removeFromChannel(current, user);
+            }
+            addToChannel(channelId, user);
+            return channelId;
+        });
+        return previous[0];
+    }
+
+    /**
+     * 사용자가 채널에서 나갑니다. 이미 다른 채널로 옮겨 간 경우(늦게 도착한 퇴장)는 무시합니다.
+     * @param channelId 나간 채널 ID (null이면 현재 채널에서 나감)
+     * @return 실제로 빠졌으면 true
+     */
+    public boolean leave(String userId, String channelId) {
+        return read(() -> leaveLocked(userId, channelId));
+    }
+
+    private boolean leaveLocked(String userId, String channelId) {
+        boolean[] removed = new boolean[1];
+        userChannel.computeIfPresent(userId, (user, current) -> {
+            if (channelId != null && !channelId.equals(current)) {
+                return current;
+            }
+            removeFromChannel(current, user);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 사용자가 있는 채널에서 뺍니다.
+     * @return 있던 채널 ID
+     */
+    public Optional<String> remove(String userId) {
+        return read(() -> removeLocked(userId));
+    }
+
+    private Optional<String> removeLocked(String userId) {
+        String[] previous = new String[1];
+        userChannel.computeIfPresent(userId, (user, current) -> {
+            removeFromChannel(current, user);
+            previous[0] = current;
+            return null;
+        });
+        return Optional.ofNullable(previous[0]);
+    }
+
+    public Optional<String> channelOf(String userId) {
+        return read(() -> Optional.ofNullable(userChannel.get(userId)));
+    }
+
+    public List<String> members(String channelId) {
+        return read(() -> {
+            Set<String> members = channelMembers.get(channelId);
+            return members == null ? new ArrayList<>() : new ArrayList<>(members);
+        });
+    }
+
+    public Map<String, List<String>> snapshot() {
+        return read(() -> {
+            Map<String, List<String>> snapshot = new HashMap<>();
+            channelMembers.forEach((channelId, members) -> {
+                if (!members.isEmpty()) {
+                    snapshot.put(channelId, new ArrayList<>(members));
+                }
+            });
+            return snapshot;
+        });
+    }
+
+    /**
+     * 전체 상태를 교체합니다. 같은 사용자가 여러 채널에 있으면 마지막 채널만 남습니다.
+     */
+    public void replaceAll(Map<String, List<String>> membersByChannel) {
+        Map<String, String> nextUserChannel = new ConcurrentHashMap<>();
+        membersByChannel.forEach((channelId, members) -> members.forEach(userId -> nextUserChannel.put(userId, channelId)));
+        Map<String, Set<String>> nextChannelMembers = new ConcurrentHashMap<>();
+        nextUserChannel.forEach((userId, channelId) ->
+                nextChannelMembers.computeIfAbsent(channelId, channel -> ConcurrentHashMap.newKeySet()).add(userId));
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            userChannel = nextUserChannel;
+            channelMembers = nextChannelMembers;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int userCount() {
+        return read(userChannel::size);
+    }
+
+    public int channelCount() {
+        return read(channelMembers::size);
+    }
+
+    private <T> T read(Supplier<T> action) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return action.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void addToChannel(String channelId, String userId) {
+        channelMembers.compute(channelId, (channel, members) -> {
+            Set<String> next = members == null ? ConcurrentHashMap.newKeySet() : members;
+            next.add(userId);
+            return next;
+        });
+    }
+
+    private void removeFromChannel(String channelId, String userId) {
+        channelMembers.computeIfPresent(channelId, (channel, members) -> {
+            members.remove(userId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package saomath.checkusserver.discord.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.channel.middleman.AudioChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.discord.config.DiscordProperties;
+import saomath.checkusserver.studyTime.service.StudySessionReconciliationService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 음성채널 상태 맞추기
+ *
+ * 음성채널 멤버 상태는 메모리에만 있어 재시작/배포 후 비어 있고, 그 사이 입장/퇴장 이벤트도 받지 못합니다.
+ * JDA 준비(awaitReady) 후 애플리케이션이 뜨면 길드의 음성채널을 훑어
+ * - 채널 멤버 상태를 다시 구성하고
+ * - 등록된 사용자를 한 번에 조회한 뒤 진행 중 세션을 실제 접속 상태에 맞춥니다(일괄 종료/일괄 시작).
+ * 입장 알림은 다시 보내지 않습니다.
+ * 훑는 동안 들어온 입장/퇴장이 맞추기 결과에 덮이지 않도록, 맞추기가 끝날 때까지 이벤트 처리 큐를 멈춥니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discord.bot.enabled", havingValue = "true")
+public class VoiceStateReconciler {
+
+    private final JDA jda;
+    private final DiscordProperties discordProperties;
+    private final VoiceChannelEventService voiceChannelEventService;
+    private final UserRepository userRepository;
+    private final StudySessionReconciliationService studySessionReconciliationService;
+    private final VoiceEventIngestionQueue voiceEventIngestionQueue;
+
+    public record Result(int channels, int members, int registered,
+                         int closed, int opened, int kept, long elapsedMs) {
+    }
+
+    public VoiceStateReconciler(JDA jda,
+                                DiscordProperties discordProperties,
+                                VoiceChannelEventService voiceChannelEventService,
+                                UserRepository userRepository,
+                                StudySessionReconciliationService studySessionReconciliationService,
+                                VoiceEventIngestionQueue voiceEventIngestionQueue) {
+        this.jda = jda;
+        this.discordProperties = discordProperties;
+        this.voiceChannelEventService = voiceChannelEventService;
+        this.userRepository = userRepository;
+        this.studySessionReconciliationService = studySessionReconciliationService;
+        this.voiceEventIngestionQueue = voiceEventIngestionQueue;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("음성채널 상태 맞추기 실패", e);
+        }
+    }
+
+    /**
+     * 음성채널 실제 상태로 멤버 상태와 진행 중 세션을 맞춥니다.
+     * 그동안 이벤트 처리 큐는 멈추고, 쌓인 이벤트는 맞춘 상태 위에 이어서 처리됩니다.
+     */
+    public Result reconcile() {
+        return voiceEventIngestionQueue.pauseWhile(this::reconcilePaused);
+    }
+
+    private Result reconcilePaused() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, List<String>> membersByChannel = new LinkedHashMap<>();
+        Set<String> presentDiscordIds = new HashSet<>();
+        for (Guild guild : targetGuilds()) {
+            Stream.<AudioChannel>concat(guild.getVoiceChannels().stream(), guild.getStageChannels().stream())
+                    .forEach(channel -> collectMembers(channel, membersByChannel, presentDiscordIds));
+        }
+        voiceChannelEventService.replaceChannelMembers(membersByChannel);
+
+        Set<Long> presentStudentIds = new HashSet<>();
+        if (!presentDiscordIds.isEmpty()) {
+            for (User user : userRepository.findAllByDiscordIdIn(presentDiscordIds)) {
+                presentStudentIds.add(user.getId());
+            }
+        }
+
+        StudySessionReconciliationService.Result sessions =
+                studySessionReconciliationService.reconcile(presentStudentIds, now);
+
+        Result result = new Result(membersByChannel.size(), presentDiscordIds.size(), presentStudentIds.size(),
+                sessions.closed(), sessions.opened(), sessions.kept(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("음성채널 상태 맞추기 완료 - 채널: {}, 접속자: {}, 등록 사용자: {}, 세션 종료: {}, 세션 시작: {}, 유지: {}, 소요: {}ms",
+                result.channels(), result.members(), result.registered(),
+                result.closed(), result.opened(), result.kept(), result.elapsedMs());
+        return result;
+    }
+
+    private List<Guild> targetGuilds() {
+        String guildId = discordProperties.getGuildId();
+        if (guildId == null || guildId.isBlank()) {
+            return jda.getGuilds();
+        }
+        Guild guild = jda.getGuildById(guildId);
+        return guild == null ? List.of() : List.of(guild);
+    }
+
+    private static void collectMembers(AudioChannel channel,
+                                       Map<String, List<String>> membersByChannel,
+                                       Set<String> presentDiscordIds) {
+        List<String> members = new ArrayList<>();
+        for (Member member : channel.getMembers()) {
+            if (member.getUser().isBot()) {
+                continue;
+            }
+            members.add(member.getId());
+            presentDiscordIds.add(member.getId());
+        }
+        if (!members.isEmpty()) {
+            membersByChannel.put(channel.getId(), members);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 public class BizgoProperties {
     
     private Api api = new Api();
+    private Http http = new Http();
     private String senderKey;
     
     @Getter
@@ -21,4 +22,17 @@ public class BizgoProperties {
         private String clientId;
         private String clientPassword;
     }
+    
+    /**
+     * 직접 HTTP 발송 클라이언트 설정
+     */
+    @Getter
+    @Setter
+    public static class Http {
+        private long connectTimeoutMs = 3000;
+        private long requestTimeoutMs = 10000;
+        // 초당 발송 수 (토큰 버킷)
+        private double ratePerSecond = 20;
+        private int burst = 20;
+    }
 }
@@ -1,6 +1,7 @@
 package saomath.checkusserver.notification.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -17,6 +19,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import saomath.checkusserver.auth.domain.CustomUserPrincipal;
 import saomath.checkusserver.auth.dto.ResponseBase;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.util.ETagUtils;
 import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.notification.dto.*;
 import saomath.checkusserver.notification.domain.AlimtalkTemplate;
@@ -38,6 +42,7 @@ public class NotificationController {
     private final DirectAlimtalkService directAlimtalkService;
     private final NotificationPreferenceService notificationPreferenceService;
     private final NotificationSendService notificationSendService;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
         summary = "직접 알림 발송",
@@ -116,13 +121,24 @@ public class NotificationController {
     )
     @GetMapping("/settings/grouped")
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<ResponseBase<List<NotificationSettingGroupDto>>> getGroupedNotificationSettings() {
+    public ResponseEntity<ResponseBase<List<NotificationSettingGroupDto>>> getGroupedNotificationSettings(
+            @Parameter(description = "이전 응답의 ETag (변경이 없으면 304)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Long userId = getCurrentUserId();
             
+            // 조회 전에 버전부터 확인 (변경이 없으면 DB를 읽지 않음)
+            String etag = resourceVersions.etag(ResourceVersions.Resource.NOTIFICATION_SETTINGS, userId);
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return ETagUtils.notModified(etag);
+            }
+            
             List<NotificationSettingGroupDto> groupedSettings = notificationPreferenceService.getGroupedNotificationSettings(userId);
             
-            return ResponseEntity.ok(ResponseBase.success("그룹화된 알림 설정 조회 성공", groupedSettings));
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(ETagUtils.REVALIDATE)
+                .body(ResponseBase.success("그룹화된 알림 설정 조회 성공", groupedSettings));
         } catch (Exception e) {
             log.error("그룹화된 알림 설정 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
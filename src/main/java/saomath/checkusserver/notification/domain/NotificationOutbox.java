@@ -0,0 +1,118 @@
+package saomath.checkusserver.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import saomath.checkusserver.notification.service.NotificationService;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열(outbox) Entity
+ *
+ * 알림을 발생시킨 변경과 같은 트랜잭션에서 기록하고, 발송 워커가 묶음 단위로 가져가 전송합니다.
+ * - 채널별 수신자 1건 = 1행
+ * - dedupe_key(채널 + 수신자 + 템플릿 + 업무 키)로 같은 알림의 중복 발송 방지
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수를 넘기면 FAILED
+ */
+@Entity
+@Table(name = "notification_outbox",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_outbox_dedupe", columnNames = {"dedupe_key"})
+    },
+    indexes = {
+        @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 중복 방지 키 (채널|수신자|템플릿|업무 키)
+     */
+    @Column(name = "dedupe_key", nullable = false, length = 255)
+    private String dedupeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationService.NotificationChannel channel;
+
+    /**
+     * 수신자 (전화번호, 디스코드 ID 등)
+     */
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(name = "template_id", nullable = false, length = 100)
+    private String templateId;
+
+    /**
+     * 템플릿 변수 (JSON)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String variables;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /**
+     * 전송 시도 횟수
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /**
+     * 다음 전송 가능 시각 (재시도 백오프)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 워커 점유 만료 시각. 워커가 중단되면 이 시각 이후 다른 워커가 다시 가져갑니다.
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 마지막 전송 시도 소요 시간 (밀리초)
+     */
+    @Column(name = "latency_ms")
+    private Long latencyMs;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    public enum Status {
+        PENDING,     // 전송 대기 (재시도 대기 포함)
+        PROCESSING,  // 워커가 전송 중
+        SENT,        // 전송 완료
+        FAILED       // 최대 재시도 초과
+    }
+}
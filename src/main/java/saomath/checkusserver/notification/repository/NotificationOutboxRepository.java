@@ -0,0 +1,64 @@
+package saomath.checkusserver.notification.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import saomath.checkusserver.notification.domain.NotificationOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    boolean existsByDedupeKey(String dedupeKey);
+
+    /**
+     * 대기열에 알림 추가. 같은 dedupe_key 행이 이미 있으면 아무것도 하지 않습니다.
+     * 중복 키 충돌만 ON DUPLICATE KEY UPDATE로 건너뛰고, 그 밖의 제약 위반(NOT NULL, 길이 초과 등)은 그대로 예외가 납니다.
+     * 중복을 예외 없이 건너뛰므로 호출한 쪽 트랜잭션이 rollback-only로 바뀌지 않습니다.
+     * 반환값은 중복 여부 판단에 쓰지 않습니다. (MySQL 드라이버는 기본 설정에서 중복으로 건너뛴 경우에도 1을 반환)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_outbox " +
+                   "(dedupe_key, channel, recipient, template_id, variables, status, attempts, next_attempt_at, created_at) " +
+                   "VALUES (:dedupeKey, :channel, :recipient, :templateId, :variables, 'PENDING', 0, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE id = id",
+           nativeQuery = true)
+    int insertIfAbsent(
+            @Param("dedupeKey") String dedupeKey,
+            @Param("channel") String channel,
+            @Param("recipient") String recipient,
+            @Param("templateId") String templateId,
+            @Param("variables") String variables,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 전송할 수 있는 행을 잠그며 조회 (다른 워커가 잠근 행은 건너뜀)
+     * - 전송 시각이 된 대기 행
+     * - 점유 시간이 지난 전송 중 행 (워커 중단)
+     * lock.timeout -2 = SKIP LOCKED
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o " +
+           "WHERE (o.status = :pending AND o.nextAttemptAt <= :now) " +
+           "OR (o.status = :processing AND o.lockedUntil < :now) " +
+           "ORDER BY o.nextAttemptAt")
+    List<NotificationOutbox> findClaimable(
+            @Param("pending") NotificationOutbox.Status pending,
+            @Param("processing") NotificationOutbox.Status processing,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    long countByStatus(NotificationOutbox.Status status);
+}
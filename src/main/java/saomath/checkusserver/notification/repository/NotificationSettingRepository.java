@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import saomath.checkusserver.notification.domain.NotificationSetting;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,11 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
      */
     List<NotificationSetting> findByUserId(Long userId);
     
+    /**
+     * 여러 사용자의 모든 알림 설정 조회
+     */
+    List<NotificationSetting> findByUserIdIn(Collection<Long> userIds);
+    
     /**
      * 특정 사용자의 활성화된 알림 설정만 조회
      */
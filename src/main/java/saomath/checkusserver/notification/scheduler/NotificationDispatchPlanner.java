@@ -0,0 +1,175 @@
+package saomath.checkusserver.notification.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saomath.checkusserver.common.scheduling.HashedTimingWheel;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 알림 발송 계획
+ *
+ * 다가오는 구간(horizon)의 배정 시작 시각을 한 번에 읽어 타이밍 휠에 발송 작업으로 올려두고,
+ * 매 분 틱에서는 DB 조회 없이 만기된 작업만 실행합니다. 발송할 일이 없는 분에는 쿼리가 나가지 않습니다.
+ * - 시작 10분 전: 10분 전 알림
+ * - 시작 시각: 시작 알림 + 세션 연결
+ * - 시작 15분 후: 미접속 확인
+ * 배정 생성/수정 이벤트가 커밋되면 새 시작 시각을 바로 계획에 추가합니다.
+ * 삭제되거나 시간이 바뀐 배정의 기존 작업은 남겨두며, 실행 시점에 대상 조회 결과가 없으면 아무것도 발송하지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatchPlanner {
+
+    private static final int WHEEL_SIZE = 512;
+
+    enum DispatchType {
+        STUDY_REMINDER_10MIN(-UnifiedNotificationScheduler.REMINDER_LEAD_MINUTES),
+        STUDY_START(0),
+        NO_SHOW(UnifiedNotificationScheduler.NO_SHOW_DELAY_MINUTES);
+
+        private final int offsetMinutes;
+
+        DispatchType(int offsetMinutes) {
+            this.offsetMinutes = offsetMinutes;
+        }
+    }
+
+    record DispatchTask(DispatchType type, LocalDateTime studyStartTime) {
+    }
+
+    private final UnifiedNotificationScheduler notificationScheduler;
+    private final AssignedStudyTimeRepository assignedStudyTimeRepository;
+    private final int horizonMinutes;
+    private final HashedTimingWheel<DispatchTask> wheel;
+
+    // 마지막으로 읽어온 구간의 끝 (배정 시작 시각 기준)
+    private volatile LocalDateTime plannedUntil;
+
+    public NotificationDispatchPlanner(UnifiedNotificationScheduler notificationScheduler,
+                                       AssignedStudyTimeRepository assignedStudyTimeRepository,
+                                       @Value("${notification.dispatch.horizon-minutes:120}") int horizonMinutes) {
+        this.notificationScheduler = notificationScheduler;
+        this.assignedStudyTimeRepository = assignedStudyTimeRepository;
+        this.horizonMinutes = horizonMinutes;
+        LocalDateTime now = truncateToMinute(LocalDateTime.now());
+        this.wheel = new HashedTimingWheel<>(WHEEL_SIZE, tickOf(now) - 1);
+        this.plannedUntil = now;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        int planned = loadWindow(LocalDateTime.now());
+        log.info("알림 발송 계획 구성 완료 - {}분 구간, 작업 {}건", horizonMinutes, planned);
+    }
+
+    /**
+     * 주기적으로 다음 구간을 읽어 계획을 이어 붙입니다. 이미 계획된 작업은 중복 등록되지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.reload-interval-ms:1800000}",
+               initialDelayString = "${notification.dispatch.reload-interval-ms:1800000}")
+    public void reloadWindow() {
+        int planned = loadWindow(LocalDateTime.now());
+        log.debug("알림 발송 계획 갱신 - 신규 작업 {}건, 대기 작업 {}건", planned, wheel.size());
+    }
+
+    /**
+     * 매 분 0초: 만기된 발송 작업 실행
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public void tick() {
+        tick(LocalDateTime.now());
+    }
+
+    void tick(LocalDateTime now) {
+        List<DispatchTask> tasks = wheel.advance(tickOf(truncateToMinute(now)));
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        tasks.sort(Comparator.comparing(DispatchTask::studyStartTime).thenComparing(DispatchTask::type));
+        for (DispatchTask task : tasks) {
+            try {
+                dispatch(task);
+            } catch (Exception e) {
+                log.error("알림 발송 작업 실패 - 유형: {}, 시작시간: {}", task.type(), task.studyStartTime(), e);
+            }
+        }
+    }
+
+    /**
+     * 배정이 생성되거나 시간이 바뀌면 새 시작 시각을 계획에 추가합니다.
+     * 아직 읽지 않은 구간의 배정은 다음 구간을 읽을 때 함께 계획됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent event) {
+        if (event.getChangeType() == AssignedStudyTimeChangedEvent.ChangeType.DELETED || event.getStartTime() == null) {
+            return;
+        }
+        LocalDateTime startTime = truncateToMinute(event.getStartTime());
+        if (startTime.isAfter(plannedUntil)) {
+            return;
+        }
+        plan(startTime);
+    }
+
+    /**
+     * now 기준 구간에 시작하는 배정을 읽어 계획에 추가합니다.
+     * 미접속 확인이 남아 있을 수 있도록 15분 전에 시작한 배정까지 포함합니다.
+     * @return 새로 등록된 작업 수
+     */
+    int loadWindow(LocalDateTime now) {
+        LocalDateTime from = truncateToMinute(now).minusMinutes(DispatchType.NO_SHOW.offsetMinutes);
+        LocalDateTime to = truncateToMinute(now).plusMinutes(horizonMinutes);
+
+        int planned = 0;
+        for (LocalDateTime startTime : assignedStudyTimeRepository.findDistinctStartTimesBetween(from, to)) {
+            planned += plan(truncateToMinute(startTime));
+        }
+        if (to.isAfter(plannedUntil)) {
+            plannedUntil = to;
+        }
+        return planned;
+    }
+
+    int pendingTaskCount() {
+        return wheel.size();
+    }
+
+    private int plan(LocalDateTime startTime) {
+        int planned = 0;
+        for (DispatchType type : DispatchType.values()) {
+            if (wheel.schedule(tickOf(startTime.plusMinutes(type.offsetMinutes)), new DispatchTask(type, startTime))) {
+                planned++;
+            }
+        }
+        return planned;
+    }
+
+    private void dispatch(DispatchTask task) {
+        switch (task.type()) {
+            case STUDY_REMINDER_10MIN -> notificationScheduler.sendStudyReminder10Min(task.studyStartTime());
+            case STUDY_START -> notificationScheduler.sendStudyStartNotificationAndConnectSessions(task.studyStartTime());
+            case NO_SHOW -> notificationScheduler.checkNoShow(task.studyStartTime());
+        }
+    }
+
+    private static LocalDateTime truncateToMinute(LocalDateTime time) {
+        return time.withSecond(0).withNano(0);
+    }
+
+    // 로컬 시각을 분 단위 틱으로 변환 (서버 시간대 고정, 일광절약시간 없음)
+    private static long tickOf(LocalDateTime minute) {
+        return minute.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
@@ -0,0 +1,115 @@
+package saomath.checkusserver.notification.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.notification.domain.NotificationOutbox;
+import saomath.checkusserver.notification.service.NotificationOutboxService;
+import saomath.checkusserver.notification.service.NotificationService;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 발송 대기열 워커
+ *
+ * 대기열에서 전송할 행을 묶음으로 점유하고(SKIP LOCKED), 묶음 안의 알림을 채널별 NotificationService로 동시에 보냅니다.
+ * 모든 전송이 끝나거나 제한 시간이 지나면 결과를 기록한 뒤 다음 묶음을 가져갑니다.
+ * 여러 인스턴스가 떠 있어도 같은 행을 두 번 가져가지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxWorker {
+
+    // 한 번의 폴링에서 처리할 최대 묶음 수 (다른 스케줄 작업이 밀리지 않도록 제한)
+    private static final int MAX_BATCHES_PER_POLL = 10;
+
+    private final NotificationOutboxService outboxService;
+    private final Map<NotificationService.NotificationChannel, NotificationService> channelServices =
+            new EnumMap<>(NotificationService.NotificationChannel.class);
+    private final int batchSize;
+    private final long sendTimeoutSeconds;
+
+    public NotificationOutboxWorker(NotificationOutboxService outboxService,
+                                    List<NotificationService> notificationServices,
+                                    @Value("${notification.outbox.batch-size:50}") int batchSize,
+                                    @Value("${notification.outbox.send-timeout-seconds:30}") long sendTimeoutSeconds) {
+        this.outboxService = outboxService;
+        notificationServices.forEach(service -> channelServices.putIfAbsent(service.getChannel(), service));
+        this.batchSize = batchSize;
+        this.sendTimeoutSeconds = sendTimeoutSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+            List<NotificationOutbox> batch = outboxService.claimBatch(batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            deliver(batch);
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 묶음 전송 후 결과 기록
+     */
+    void deliver(List<NotificationOutbox> batch) {
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(batch.size());
+        for (NotificationOutbox outbox : batch) {
+            deliveries.add(deliverOne(outbox));
+        }
+        CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0])).join();
+        log.debug("알림 대기열 묶음 처리 완료 - {}건", batch.size());
+    }
+
+    private CompletableFuture<Void> deliverOne(NotificationOutbox outbox) {
+        long startedAt = System.nanoTime();
+        NotificationService service = channelServices.get(outbox.getChannel());
+        if (service == null) {
+            outboxService.markFailed(outbox.getId(), 0L, "알림 채널 서비스를 찾을 수 없습니다: " + outbox.getChannel());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Boolean> sending;
+        try {
+            sending = service.sendNotification(outbox.getRecipient(), outbox.getTemplateId(), outboxService.readVariables(outbox));
+        } catch (Exception e) {
+            sending = CompletableFuture.failedFuture(e);
+        }
+
+        return sending
+                .orTimeout(sendTimeoutSeconds, TimeUnit.SECONDS)
+                .handle((success, ex) -> {
+                    long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    try {
+                        if (ex == null && Boolean.TRUE.equals(success)) {
+                            outboxService.markSent(outbox.getId(), latencyMs);
+                        } else {
+                            outboxService.markFailed(outbox.getId(), latencyMs, describe(ex));
+                        }
+                    } catch (Exception e) {
+                        // 기록 실패 시 점유 시간이 지나면 다시 전송 대상이 됨
+                        log.error("알림 전송 결과 기록 실패 - ID: {}", outbox.getId(), e);
+                    }
+                    return null;
+                });
+    }
+
+    private static String describe(Throwable ex) {
+        if (ex == null) {
+            return "전송 실패 응답";
+        }
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+}
@@ -3,7 +3,6 @@ package saomath.checkusserver.notification.scheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.studyTime.domain.ActualStudyTime;
@@ -23,6 +22,7 @@ import java.util.concurrent.CompletableFuture;
 /**
  * 통합 알림 스케줄러
  * 알림톡, 디스코드 등 모든 채널을 통합하여 관리
+ * 발송 시점은 {@link NotificationDispatchPlanner}가 배정 시작 시각 기준으로 정해 호출합니다.
  */
 @Slf4j
 @Component
@@ -36,16 +36,28 @@ public class UnifiedNotificationScheduler {
     
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     
+    // 공부 시작 전 알림 시점 (분)
+    static final int REMINDER_LEAD_MINUTES = 10;
+    // 공부 시작 후 미접속 확인 시점 (분)
+    static final int NO_SHOW_DELAY_MINUTES = 15;
+    
     /**
-     * 매 분마다 실행: 공부 시작 10분 전 알림
+     * 공부 시작 10분 전 알림 (현재 시각 기준)
      */
-    @Scheduled(cron = "0 * * * * *")
     public void sendStudyReminder10Min() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime targetTime = now.plusMinutes(10).withSecond(0).withNano(0);
+        sendStudyReminder10Min(LocalDateTime.now().plusMinutes(REMINDER_LEAD_MINUTES));
+    }
+    
+    /**
+     * 공부 시작 10분 전 알림
+     * {@link NotificationDispatchPlanner}가 해당 시작 시각 10분 전에 호출합니다.
+     * @param studyStartTime 알림 대상 공부 시작 시각 (분 단위로 정규화)
+     */
+    public void sendStudyReminder10Min(LocalDateTime studyStartTime) {
+        LocalDateTime targetTime = studyStartTime.withSecond(0).withNano(0);
         
         log.info("공부 시작 10분 전 알림 체크 시작 - 현재: {}, 대상시간: {}", 
-                now.format(TIME_FORMATTER), targetTime.format(TIME_FORMATTER));
+                LocalDateTime.now().format(TIME_FORMATTER), targetTime.format(TIME_FORMATTER));
         
         List<NotificationTargetService.StudyTarget> targets = 
             targetService.getStudyTargetsForTime(targetTime);
@@ -55,6 +67,8 @@ public class UnifiedNotificationScheduler {
             return;
         }
         
+        notificationService.preloadPreferences(studentIdsOf(targets), AlimtalkTemplate.STUDY_REMINDER_10MIN.name());
+        
         for (NotificationTargetService.StudyTarget target : targets) {
             Map<String, String> variables = Map.of(
                 "이름", target.getStudentName()
@@ -67,19 +81,20 @@ public class UnifiedNotificationScheduler {
             notificationService.sendNotification(
                 target.getStudentId(), 
                 AlimtalkTemplate.STUDY_REMINDER_10MIN.name(), 
-                variables
+                variables,
+                businessKey(targetTime)
             ).thenAccept(success -> {
                 if (success) {
-                    log.info("10분 전 알림 전송 성공 - 학생: {} (ID: {})", target.getStudentName(), target.getStudentId());
+                    log.info("10분 전 알림 발송 등록 - 학생: {} (ID: {})", target.getStudentName(), target.getStudentId());
                 } else {
-                    log.warn("10분 전 알림 전송 실패 - 학생: {} (ID: {})", target.getStudentName(), target.getStudentId());
+                    log.debug("10분 전 알림 발송 등록 생략 (설정 없음 또는 이미 등록됨) - 학생: {} (ID: {})", target.getStudentName(), target.getStudentId());
                 }
             });
             
             // 학부모에게도 알림 (설정된 경우)
             if (target.isParentNotificationEnabled() && target.getParentPhone() != null) {
                 log.info("10분 전 알림 학부모 발송 - 학생: {}", target.getStudentName());
-                sendDirectAlimtalkToParent(target.getParentPhone(), AlimtalkTemplate.STUDY_REMINDER_10MIN, variables);
+                sendDirectAlimtalkToParent(target.getParentPhone(), AlimtalkTemplate.STUDY_REMINDER_10MIN, variables, businessKey(targetTime));
             }
         }
         
@@ -87,19 +102,34 @@ public class UnifiedNotificationScheduler {
     }
     
     /**
-     * 매 분마다 실행: 공부 시작 시간 알림 + 세션 연결 처리
+     * 공부 시작 시간 알림 + 세션 연결 처리 (현재 시각 기준, 앞뒤 1분 범위의 세션 연결)
      */
-    @Scheduled(cron = "0 * * * * *")
     public void sendStudyStartNotificationAndConnectSessions() {
         LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
         
         log.info("공부 시작 시간 알림 및 세션 연결 체크 시작 - 현재: {}", now.format(TIME_FORMATTER));
         
-        // 1. 현재 시작하는 공부시간 조회 및 세션 연결 처리
-        List<AssignedStudyTime> currentAssignedStudyTimes = studyTimeService.getAssignedStudyTimesByDateRange(
-                now.minusMinutes(1), 
-                now.plusMinutes(1)
-        );
+        connectSessionsOnStart(now.minusMinutes(1), now.plusMinutes(1));
+        sendStudyStartNotification(now);
+    }
+    
+    /**
+     * 공부 시작 시간 알림 + 세션 연결 처리
+     * {@link NotificationDispatchPlanner}가 해당 시작 시각에 호출하므로 정확히 그 분에 시작하는 배정만 처리합니다.
+     * @param studyStartTime 공부 시작 시각 (분 단위로 정규화)
+     */
+    public void sendStudyStartNotificationAndConnectSessions(LocalDateTime studyStartTime) {
+        LocalDateTime startMinute = studyStartTime.withSecond(0).withNano(0);
+        
+        log.info("공부 시작 시간 알림 및 세션 연결 처리 시작 - 시작시간: {}", startMinute.format(TIME_FORMATTER));
+        
+        connectSessionsOnStart(startMinute, startMinute.plusSeconds(59));
+        sendStudyStartNotification(startMinute);
+    }
+    
+    private void connectSessionsOnStart(LocalDateTime from, LocalDateTime to) {
+        // 1. 시작하는 공부시간 조회 및 세션 연결 처리
+        List<AssignedStudyTime> currentAssignedStudyTimes = studyTimeService.getAssignedStudyTimesByDateRange(from, to);
         
         int connectedSessions = 0;
         for (AssignedStudyTime assignedStudyTime : currentAssignedStudyTimes) {
@@ -123,12 +153,16 @@ public class UnifiedNotificationScheduler {
         if (connectedSessions > 0) {
             log.info("공부시간 시작 시점 세션 연결 완료: {}건", connectedSessions);
         }
-        
+    }
+    
+    private void sendStudyStartNotification(LocalDateTime now) {
         // 2. 공부 시작 시간 알림 발송
         List<NotificationTargetService.StudyTarget> targets = 
             targetService.getStudyTargetsForTime(now);
         
         if (!targets.isEmpty()) {
+            notificationService.preloadPreferences(studentIdsOf(targets), AlimtalkTemplate.STUDY_START.name());
+            
             for (NotificationTargetService.StudyTarget target : targets) {
                 Map<String, String> variables = Map.of(
                     "이름", target.getStudentName()
@@ -141,17 +175,18 @@ public class UnifiedNotificationScheduler {
                 notificationService.sendNotification(
                     target.getStudentId(),
                     AlimtalkTemplate.STUDY_START.name(),
-                    variables
+                    variables,
+                    businessKey(now)
                 ).thenAccept(success -> {
                     if (success) {
-                        log.info("공부 시작 알림 전송 성공 - 학생: {} (ID: {})", target.getStudentName(), target.getStudentId());
+                        log.info("공부 시작 알림 발송 등록 - 학생: {} (ID: {})", target.getStudentName(), target.getStudentId());
                     }
                 });
                 
                 // 학부모에게도 알림 (설정된 경우)
                 if (target.isParentNotificationEnabled() && target.getParentPhone() != null) {
                     log.info("공부 시작 알림 학부모 발송 - 학생: {}", target.getStudentName());
-                    sendDirectAlimtalkToParent(target.getParentPhone(), AlimtalkTemplate.STUDY_START, variables);
+                    sendDirectAlimtalkToParent(target.getParentPhone(), AlimtalkTemplate.STUDY_START, variables, businessKey(now));
                 }
             }
             
@@ -276,15 +311,27 @@ public class UnifiedNotificationScheduler {
 //    }
 
     /**
-     * 매 5분마다 실행: 미접속 체크 (공부 시작 후 15분)
+     * 미접속 체크 (현재 시각 기준 15분 전에 시작한 공부)
      */
-    @Scheduled(cron = "0 */5 * * * *")
     public void checkNoShow() {
-        log.debug("미접속 체크 시작");
+        checkNoShow(LocalDateTime.now().minusMinutes(NO_SHOW_DELAY_MINUTES));
+    }
+    
+    /**
+     * 미접속 체크 (공부 시작 후 15분)
+     * {@link NotificationDispatchPlanner}가 해당 시작 시각 15분 뒤에 호출합니다.
+     * @param studyStartTime 확인할 공부 시작 시각
+     */
+    public void checkNoShow(LocalDateTime studyStartTime) {
+        log.debug("미접속 체크 시작 - 시작시간: {}", studyStartTime.format(TIME_FORMATTER));
         
-        LocalDateTime checkTime = LocalDateTime.now().minusMinutes(15);
         List<NotificationTargetService.NoShowTarget> targets = 
-            targetService.getNoShowTargets(checkTime);
+            targetService.getNoShowTargets(studyStartTime);
+        
+        notificationService.preloadPreferences(targets.stream()
+            .filter(NotificationTargetService.NoShowTarget::isStudentNotificationEnabled)
+            .map(NotificationTargetService.NoShowTarget::getStudentId)
+            .toList(), AlimtalkTemplate.NO_SHOW.name());
         
         for (NotificationTargetService.NoShowTarget target : targets) {
             Map<String, String> variables = Map.of(
@@ -296,27 +343,44 @@ public class UnifiedNotificationScheduler {
                 notificationService.sendNotification(
                     target.getStudentId(),
                     AlimtalkTemplate.NO_SHOW.name(),
-                    variables
+                    variables,
+                    businessKey(studyStartTime)
                 ).thenAccept(success -> {
                     if (success) {
-                        log.debug("미접속 알림 전송 성공 - 학생 ID: {}", target.getStudentId());
+                        log.debug("미접속 알림 발송 등록 - 학생 ID: {}", target.getStudentId());
                     }
                 });
             }
             
             // 미접속 알림은 주로 학부모에게 발송
             if (target.isParentNotificationEnabled() && target.getParentPhone() != null) {
-                sendDirectAlimtalkToParent(target.getParentPhone(), AlimtalkTemplate.NO_SHOW, variables);
+                sendDirectAlimtalkToParent(target.getParentPhone(), AlimtalkTemplate.NO_SHOW, variables, businessKey(studyStartTime));
             }
         }
         
         log.debug("미접속 체크 완료 - {}건", targets.size());
     }
     
+    private List<Long> studentIdsOf(List<NotificationTargetService.StudyTarget> targets) {
+        return targets.stream()
+            .map(NotificationTargetService.StudyTarget::getStudentId)
+            .distinct()
+            .toList();
+    }
+    
+    /**
+     * 알림 중복 방지용 업무 키: 공부 시작 시각(분 단위)
+     * 같은 학생/템플릿/시작 시각의 알림은 스케줄러가 여러 번 실행되어도 한 번만 발송됩니다.
+     */
+    private String businessKey(LocalDateTime studyStartTime) {
+        return studyStartTime.withSecond(0).withNano(0).toString();
+    }
+    
     /**
      * 학부모에게 직접 알림톡 전송 헬퍼 메서드
      */
-    private void sendDirectAlimtalkToParent(String parentPhone, AlimtalkTemplate template, Map<String, String> variables) {
+    private void sendDirectAlimtalkToParent(String parentPhone, AlimtalkTemplate template,
+                                            Map<String, String> variables, String businessKey) {
         if (parentPhone == null || parentPhone.isEmpty()) {
             return;
         }
@@ -331,21 +395,22 @@ public class UnifiedNotificationScheduler {
             parentPhone,
             template.name(),
             variables,
-            NotificationService.NotificationChannel.ALIMTALK
+            NotificationService.NotificationChannel.ALIMTALK,
+            businessKey
         );
         
         if (future != null) {
             future.thenAccept(success -> {
                 if (success) {
-                    log.debug("학부모 알림톡 전송 성공 - 전화번호: {}, 템플릿: {}", 
+                    log.debug("학부모 알림톡 발송 등록 - 전화번호: {}, 템플릿: {}", 
                         maskedPhone, template.name());
                 } else {
-                    log.warn("학부모 알림톡 전송 실패 - 전화번호: {}, 템플릿: {}", 
+                    log.debug("학부모 알림톡 발송 등록 생략 (이미 등록됨) - 전화번호: {}, 템플릿: {}", 
                         maskedPhone, template.name());
                 }
             });
         } else {
-            log.error("학부모 알림톡 전송 실패 - sendNotificationToChannel이 null 반환 - 전화번호: {}, 템플릿: {}", 
+            log.error("학부모 알림톡 발송 등록 실패 - sendNotificationToChannel이 null 반환 - 전화번호: {}, 템플릿: {}", 
                 maskedPhone, template.name());
         }
     }
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import saomath.checkusserver.notification.domain.AlimtalkTemplate;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -20,34 +22,42 @@ public class AlimtalkNotificationService implements NotificationService {
     
     @Override
     public CompletableFuture<Boolean> sendNotification(String recipient, String templateId, Map<String, String> variables) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                AlimtalkTemplate template = AlimtalkTemplate.valueOf(templateId);
-                return alimtalkService.sendAlimtalk(recipient, template, variables);
-            } catch (IllegalArgumentException e) {
-                log.error("잘못된 템플릿 ID: {}", templateId);
-                return false;
-            } catch (Exception e) {
-                log.error("알림톡 전송 중 오류 발생", e);
-                return false;
-            }
-        });
+        AlimtalkTemplate template;
+        try {
+            template = AlimtalkTemplate.valueOf(templateId);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 템플릿 ID: {}", templateId);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return alimtalkService.sendAlimtalkAsync(recipient, template, variables)
+                .exceptionally(e -> {
+                    log.error("알림톡 전송 중 오류 발생", e);
+                    return false;
+                });
     }
     
     @Override
     public CompletableFuture<Integer> sendBulkNotification(String[] recipients, String templateId, Map<String, String> variables) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                AlimtalkTemplate template = AlimtalkTemplate.valueOf(templateId);
-                return alimtalkService.sendBulkAlimtalk(recipients, template, variables);
-            } catch (IllegalArgumentException e) {
-                log.error("잘못된 템플릿 ID: {}", templateId);
-                return 0;
-            } catch (Exception e) {
-                log.error("알림톡 대량 전송 중 오류 발생", e);
-                return 0;
-            }
-        });
+        AlimtalkTemplate template;
+        try {
+            template = AlimtalkTemplate.valueOf(templateId);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 템플릿 ID: {}", templateId);
+            return CompletableFuture.completedFuture(0);
+        }
+
+        // 건별 비동기 발송 결과를 모음 (기다리는 스레드 없이 완료 시 합산)
+        List<CompletableFuture<Boolean>> futures = Arrays.stream(recipients)
+                .map(recipient -> sendNotification(recipient, templateId, variables))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    int successCount = (int) futures.stream().filter(CompletableFuture::join).count();
+                    log.info("알림톡 대량 발송 완료 - 템플릿: {}, 전체: {}건, 성공: {}건",
+                            template.name(), recipients.length, successCount);
+                    return successCount;
+                });
     }
     
     @Override
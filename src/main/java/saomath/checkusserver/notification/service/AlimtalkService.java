@@ -2,6 +2,7 @@ package saomath.checkusserver.notification.service;
 
 import saomath.checkusserver.notification.domain.AlimtalkTemplate;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface AlimtalkService {
     
@@ -13,6 +14,14 @@ public interface AlimtalkService {
      * @return 발송 성공 여부
      */
     boolean sendAlimtalk(String phoneNumber, AlimtalkTemplate template, Map<String, String> variables);
+
+    /**
+     * 알림톡 비동기 발송
+     * @return 발송 성공 여부 (실패 시 false로 완료)
+     */
+    default CompletableFuture<Boolean> sendAlimtalkAsync(String phoneNumber, AlimtalkTemplate template, Map<String, String> variables) {
+        return CompletableFuture.supplyAsync(() -> sendAlimtalk(phoneNumber, template, variables));
+    }
     
     /**
      * 여러 사용자에게 알림톡 발송
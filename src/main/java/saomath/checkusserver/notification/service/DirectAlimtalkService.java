@@ -2,206 +2,267 @@ package saomath.checkusserver.notification.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.*;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import saomath.checkusserver.common.concurrent.BoundedExecutor;
+import saomath.checkusserver.common.ratelimit.TokenBucket;
 import saomath.checkusserver.notification.config.BizgoProperties;
 import saomath.checkusserver.notification.domain.AlimtalkTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.time.LocalDateTime;
 
+/**
+ * Bizgo HTTP API 직접 호출 알림톡 발송
+ *
+ * 하나의 JDK HttpClient를 재사용해 연결을 유지(keep-alive)하고, 연결/요청 제한 시간을 둡니다.
+ * 발송은 알림톡 전용 실행기(가상 스레드)에서 수행하며, 동시 요청 수는 실행기 설정(executors.alimtalk)으로,
+ * 초당 발송 수는 토큰 버킷으로 제한합니다. 제한에 걸리면 실행기 안의 작업이 대기하고 호출 스레드는 막히지 않습니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DirectAlimtalkService implements AlimtalkService {
-    
+
     private final BizgoProperties bizgoProperties;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final RestTemplate restTemplate = new RestTemplate();
-    
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final TokenBucket rateLimiter;
+    // 동시 발송 수는 알림톡 전용 실행기의 동시 실행 수로 제한
+    private final BoundedExecutor alimtalkExecutor;
+
     // 토큰 캐시
     private volatile String cachedToken;
     private volatile LocalDateTime tokenExpireTime;
     private final Object tokenLock = new Object();
-    
+
+    public DirectAlimtalkService(BizgoProperties bizgoProperties,
+                                 @Qualifier("alimtalkExecutor") BoundedExecutor alimtalkExecutor) {
+        this.bizgoProperties = bizgoProperties;
+        BizgoProperties.Http http = bizgoProperties.getHttp();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(http.getConnectTimeoutMs()))
+                .build();
+        this.requestTimeout = Duration.ofMillis(http.getRequestTimeoutMs());
+        this.rateLimiter = new TokenBucket(http.getRatePerSecond(), http.getBurst());
+        this.alimtalkExecutor = alimtalkExecutor;
+    }
+
     public boolean sendAlimtalk(String phoneNumber, AlimtalkTemplate template, Map<String, String> variables) {
-        try {
-            // 전화번호 유효성 검사 및 하이픈 제거
-            if (phoneNumber == null || phoneNumber.isEmpty()) {
-                log.warn("알림톡 발송 실패 - 전화번호가 비어있음");
-                return false;
-            }
-            String cleanPhoneNumber = phoneNumber.replaceAll("[-\\s]", "");  // 하이픈과 공백 제거
-            
-            // 템플릿 메시지에 변수 치환
-            String message = replaceVariables(template.getTemplateMessage(), variables);
-            
-            log.info("직접 HTTP 알림톡 발송 시작 - 수신자: {} -> {}, 템플릿: {}", phoneNumber, cleanPhoneNumber, template.name());
-            log.info("SenderKey: {}", bizgoProperties.getSenderKey());
-            log.info("TemplateCode: {}", template.getTemplateCode());
-            log.info("Message: {}", message);
-            
-            // 요청 바디 생성
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("senderKey", bizgoProperties.getSenderKey());
-            requestBody.put("msgType", "AT");
-            requestBody.put("to", cleanPhoneNumber);  // 정제된 전화번호 사용
-            requestBody.put("templateCode", template.getTemplateCode());
-            requestBody.put("text", message);
-            
-            // 버튼 정보 추가 (템플릿에 등록된 링크 버튼)
-            if (template == AlimtalkTemplate.STUDY_REMINDER_10MIN || 
-                template == AlimtalkTemplate.STUDY_START || 
-                template == AlimtalkTemplate.NO_SHOW) {
-                
-                List<Map<String, Object>> buttons = new ArrayList<>();
-                Map<String, Object> button = new HashMap<>();
-                button.put("type", "WL");  // 웹 링크
-                button.put("name", "스터디룸 입장");
-                button.put("urlMobile", "https://discord.gg/dNzx8YB4re");
-                button.put("urlPc", "");  // 빈 문자열로 설정
-                buttons.add(button);
-                
-                requestBody.put("button", buttons);  // buttons가 아니라 button
-            }
-            
-            // JSON으로 직렬화
-            String requestJson = objectMapper.writeValueAsString(requestBody);
-            log.info("Request JSON: {}", requestJson);
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Accept", "application/json");
-            headers.set("Authorization", "Bearer " + getAccessToken());
-            
-            // HTTP 요청 생성
-            HttpEntity<String> entity = new HttpEntity<>(requestJson, headers);
-            
-            // API 호출
-            String url = bizgoProperties.getApi().getBaseUrl() + "/v1/send/alimtalk";
-            log.info("API URL: {}", url);
-            
-            ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
-            
-            log.info("응답 상태: {}", response.getStatusCode());
-            log.info("응답 바디: {}", response.getBody());
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                // JSON 응답 파싱
-                JsonNode responseJson = objectMapper.readTree(response.getBody());
-                String code = responseJson.path("code").asText();
-                log.info("알림톡 API 코드: {}", code);
-                
-                // 성공 코드 체크 (A000 또는 0000)
-                if ("A000".equals(code) || "0000".equals(code)) {
-                    log.info("직접 HTTP 알림톡 발송 성공 - 수신자: {} -> {}, 템플릿: {}", phoneNumber, cleanPhoneNumber, template.name());
-                    return true;
-                } else {
-                    log.error("알림톡 발송 실패 - 코드: {}, 메시지: {}", code, responseJson.path("result").asText());
+        return sendAlimtalkAsync(phoneNumber, template, variables).join();
+    }
+
+    /**
+     * 알림톡 비동기 발송. 실패는 예외 대신 false로 완료됩니다.
+     * 알림톡 전용 실행기에서 보내므로 Bizgo 응답이 느려져도 호출 스레드나 다른 채널 발송을 막지 않습니다.
+     */
+    @Override
+    public CompletableFuture<Boolean> sendAlimtalkAsync(String phoneNumber, AlimtalkTemplate template, Map<String, String> variables) {
+        // 전화번호 유효성 검사 및 하이픈 제거
+        if (phoneNumber == null || phoneNumber.isEmpty()) {
+            log.warn("알림톡 발송 실패 - 전화번호가 비어있음");
+            return CompletableFuture.completedFuture(false);
+        }
+        String cleanPhoneNumber = phoneNumber.replaceAll("[-\\s]", "");  // 하이픈과 공백 제거
+        String maskedPhone = maskPhone(cleanPhoneNumber);
+
+        return alimtalkExecutor.supply(() -> send(cleanPhoneNumber, maskedPhone, template, variables))
+                .exceptionally(e -> {
+                    // 실행기 포화 등으로 시작하지 못한 경우
+                    log.error("알림톡 발송 요청 실패 - 수신자: {}, 템플릿: {}", maskedPhone, template.name(), e);
                     return false;
-                }
-            } else {
-                log.error("직접 HTTP 알림톡 발송 실패 - 상태코드: {}, 응답: {}", 
-                    response.getStatusCode(), response.getBody());
-                return false;
-            }
-            
+                });
+    }
+
+    private boolean send(String cleanPhoneNumber, String maskedPhone, AlimtalkTemplate template,
+                         Map<String, String> variables) {
+        HttpRequest request;
+        try {
+            request = buildSendRequest(cleanPhoneNumber, template, variables);
         } catch (Exception e) {
-            log.error("직접 HTTP 알림톡 발송 중 오류 발생 - 수신자: {}, 템플릿: {}", phoneNumber, template.name(), e);
+            log.error("알림톡 요청 생성 중 오류 발생 - 수신자: {}, 템플릿: {}", maskedPhone, template.name(), e);
+            return false;
+        }
+
+        try {
+            rateLimiter.acquire();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return handleSendResponse(response, maskedPhone, template);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("알림톡 발송 중 중단됨 - 수신자: {}, 템플릿: {}", maskedPhone, template.name());
+            return false;
+        } catch (Exception e) {
+            log.error("직접 HTTP 알림톡 발송 중 오류 발생 - 수신자: {}, 템플릿: {}", maskedPhone, template.name(), e);
             return false;
         }
     }
-    
+
     @Override
     public int sendBulkAlimtalk(String[] phoneNumbers, AlimtalkTemplate template, Map<String, String> variables) {
-        int successCount = 0;
-        
+        // 속도/동시성 제한 안에서 모두 비동기로 보내고 결과를 모음
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(phoneNumbers.length);
         for (String phoneNumber : phoneNumbers) {
-            if (sendAlimtalk(phoneNumber, template, variables)) {
-                successCount++;
-            }
-            
-            // Rate limit 방지를 위한 짧은 지연
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
+            futures.add(sendAlimtalkAsync(phoneNumber, template, variables));
         }
-        
-        log.info("알림톡 대량 발송 완료 - 템플릿: {}, 전체: {}건, 성공: {}건", 
+
+        int successCount = (int) futures.stream()
+            .map(CompletableFuture::join)
+            .filter(Boolean::booleanValue)
+            .count();
+
+        log.info("알림톡 대량 발송 완료 - 템플릿: {}, 전체: {}건, 성공: {}건",
             template.name(), phoneNumbers.length, successCount);
-        
+
         return successCount;
     }
-    
+
+    private HttpRequest buildSendRequest(String cleanPhoneNumber, AlimtalkTemplate template,
+                                         Map<String, String> variables) throws Exception {
+        // 템플릿 메시지에 변수 치환
+        String message = replaceVariables(template.getTemplateMessage(), variables);
+
+        // 요청 바디 생성
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("senderKey", bizgoProperties.getSenderKey());
+        requestBody.put("msgType", "AT");
+        requestBody.put("to", cleanPhoneNumber);  // 정제된 전화번호 사용
+        requestBody.put("templateCode", template.getTemplateCode());
+        requestBody.put("text", message);
+
+        // 버튼 정보 추가 (템플릿에 등록된 링크 버튼)
+        if (template == AlimtalkTemplate.STUDY_REMINDER_10MIN ||
+            template == AlimtalkTemplate.STUDY_START ||
+            template == AlimtalkTemplate.NO_SHOW) {
+
+            List<Map<String, Object>> buttons = new ArrayList<>();
+            Map<String, Object> button = new HashMap<>();
+            button.put("type", "WL");  // 웹 링크
+            button.put("name", "스터디룸 입장");
+            button.put("urlMobile", "https://discord.gg/dNzx8YB4re");
+            button.put("urlPc", "");  // 빈 문자열로 설정
+            buttons.add(button);
+
+            requestBody.put("button", buttons);  // buttons가 아니라 button
+        }
+
+        // JSON으로 직렬화
+        String requestJson = objectMapper.writeValueAsString(requestBody);
+        log.debug("알림톡 요청 - 템플릿: {}, 템플릿 코드: {}, 본문: {}", template.name(), template.getTemplateCode(), requestJson);
+
+        return HttpRequest.newBuilder(URI.create(bizgoProperties.getApi().getBaseUrl() + "/v1/send/alimtalk"))
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .header("Authorization", "Bearer " + getAccessToken())
+            .POST(HttpRequest.BodyPublishers.ofString(requestJson))
+            .build();
+    }
+
+    private boolean handleSendResponse(HttpResponse<String> response, String maskedPhone, AlimtalkTemplate template) {
+        log.debug("알림톡 응답 - 상태: {}, 바디: {}", response.statusCode(), response.body());
+
+        if (response.statusCode() == 401) {
+            // 토큰이 만료되었으면 다음 발송 때 다시 발급
+            cachedToken = null;
+        }
+        if (response.statusCode() != 200) {
+            log.error("직접 HTTP 알림톡 발송 실패 - 수신자: {}, 템플릿: {}, 상태코드: {}, 응답: {}",
+                maskedPhone, template.name(), response.statusCode(), response.body());
+            return false;
+        }
+
+        try {
+            // JSON 응답 파싱
+            JsonNode responseJson = objectMapper.readTree(response.body());
+            String code = responseJson.path("code").asText();
+
+            // 성공 코드 체크 (A000 또는 0000)
+            if ("A000".equals(code) || "0000".equals(code)) {
+                log.info("직접 HTTP 알림톡 발송 성공 - 수신자: {}, 템플릿: {}", maskedPhone, template.name());
+                return true;
+            }
+            log.error("알림톡 발송 실패 - 수신자: {}, 템플릿: {}, 코드: {}, 메시지: {}",
+                maskedPhone, template.name(), code, responseJson.path("result").asText());
+            return false;
+        } catch (Exception e) {
+            log.error("알림톡 응답 파싱 실패 - 수신자: {}, 템플릿: {}", maskedPhone, template.name(), e);
+            return false;
+        }
+    }
+
     /**
      * 템플릿 메시지의 변수를 실제 값으로 치환
      */
     private String replaceVariables(String template, Map<String, String> variables) {
         String result = template;
-        
+
         for (Map.Entry<String, String> entry : variables.entrySet()) {
             String placeholder = "#{" + entry.getKey() + "}";
             result = result.replace(placeholder, entry.getValue());
         }
-        
+
         return result;
     }
-    
+
+    private static String maskPhone(String phoneNumber) {
+        return phoneNumber.length() > 7
+            ? phoneNumber.substring(0, 3) + "****" + phoneNumber.substring(7)
+            : "****";
+    }
+
     /**
      * 액세스 토큰 조회 (캐시 사용)
      */
     private String getAccessToken() throws Exception {
         // 토큰이 유효한지 확인
-        if (cachedToken != null && tokenExpireTime != null && 
+        if (cachedToken != null && tokenExpireTime != null &&
             LocalDateTime.now().isBefore(tokenExpireTime.minusMinutes(5))) {
             return cachedToken;
         }
-        
+
         synchronized (tokenLock) {
             // 다시 한 번 확인 (다른 스레드에서 갱신했을 수 있음)
-            if (cachedToken != null && tokenExpireTime != null && 
+            if (cachedToken != null && tokenExpireTime != null &&
                 LocalDateTime.now().isBefore(tokenExpireTime.minusMinutes(5))) {
                 return cachedToken;
             }
-            
+
             log.info("새로운 액세스 토큰 발급 요청");
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-IB-Client-Id", bizgoProperties.getApi().getClientId());
-            headers.set("X-IB-Client-Passwd", bizgoProperties.getApi().getClientPassword());
-            headers.set("Accept", "application/json");
-            
+
             // HTTP 요청 생성
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-            
+            HttpRequest request = HttpRequest.newBuilder(URI.create(bizgoProperties.getApi().getBaseUrl() + "/v1/auth/token"))
+                .timeout(requestTimeout)
+                .header("X-IB-Client-Id", bizgoProperties.getApi().getClientId())
+                .header("X-IB-Client-Passwd", bizgoProperties.getApi().getClientPassword())
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
             // API 호출
-            String url = bizgoProperties.getApi().getBaseUrl() + "/v1/auth/token";
-            ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode responseJson = objectMapper.readTree(response.getBody());
-                log.info("인증 API 응답: {}", response.getBody());
-                
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() == 200) {
+                JsonNode responseJson = objectMapper.readTree(response.body());
+
                 String code = responseJson.path("code").asText();
-                log.info("인증 API 코드: {}", code);
-                
+                log.debug("인증 API 코드: {}", code);
+
                 if ("A000".equals(code)) {  // 성공 코드가 A000임
                     // data 객체에서 token 필드 추출
                     JsonNode dataNode = responseJson.path("data");
                     String token = dataNode.path("token").asText();
-                    
+
                     // 다른 가능한 필드명들도 확인
                     if (token.isEmpty()) {
                         token = dataNode.path("accessToken").asText();
@@ -209,23 +270,21 @@ public class DirectAlimtalkService implements AlimtalkService {
                     if (token.isEmpty()) {
                         token = dataNode.path("access_token").asText();
                     }
-                    
-                    log.info("추출된 토큰: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
-                    
+
                     if (!token.isEmpty()) {
                         cachedToken = token;
                         tokenExpireTime = LocalDateTime.now().plusHours(23);
-                        
+
                         log.info("액세스 토큰 발급 성공");
                         return token;
                     } else {
-                        throw new RuntimeException("토큰 발급 성공이지만 토큰 값을 찾을 수 없음. 응답: " + response.getBody());
+                        throw new RuntimeException("토큰 발급 성공이지만 토큰 값을 찾을 수 없음. 응답 코드: " + code);
                     }
                 } else {
                     throw new RuntimeException("토큰 발급 실패 - 코드: " + code + ", 메시지: " + responseJson.path("result").asText());
                 }
             } else {
-                throw new RuntimeException("토큰 발급 API 호출 실패: " + response.getStatusCode());
+                throw new RuntimeException("토큰 발급 API 호출 실패: " + response.statusCode());
             }
         }
     }
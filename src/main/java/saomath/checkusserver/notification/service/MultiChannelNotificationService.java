@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -20,6 +21,7 @@ public class MultiChannelNotificationService {
     
     private final List<NotificationService> notificationServices;
     private final NotificationPreferenceService preferenceService;
+    private final NotificationOutboxService outboxService;
     
     /**
      * 사용자의 알림 설정에 따라 적절한 채널로 알림 전송
@@ -45,6 +47,51 @@ public class MultiChannelNotificationService {
                 .anyMatch(success -> success));
     }
     
+    /**
+     * 사용자의 알림 설정에 따라 채널별 알림을 발송 대기열에 등록합니다.
+     * 실제 전송은 대기열 워커가 수행하며, 같은 업무 키로 이미 등록된 알림은 다시 등록하지 않습니다.
+     * @param businessKey 같은 알림을 구분하는 업무 키 (예: 공부 시작 시각)
+     * @return 하나 이상의 채널에 새로 등록되었으면 true
+     */
+    public CompletableFuture<Boolean> sendNotification(Long userId, String templateId,
+                                                       Map<String, String> variables, String businessKey) {
+        List<NotificationPreference> preferences = preferenceService.getUserPreferences(userId, templateId);
+        
+        if (preferences.isEmpty()) {
+            log.debug("사용자 {}의 알림 설정이 없습니다.", userId);
+            return CompletableFuture.completedFuture(false);
+        }
+        
+        boolean enqueued = false;
+        for (NotificationPreference preference : preferences) {
+            enqueued |= outboxService.enqueue(preference.getChannel(), preference.getRecipient(), templateId, variables, businessKey);
+        }
+        return CompletableFuture.completedFuture(enqueued);
+    }
+    
+    /**
+     * 특정 채널 알림을 발송 대기열에 등록합니다.
+     * @return 새로 등록되었으면 true
+     */
+    public CompletableFuture<Boolean> sendNotificationToChannel(String recipient,
+                                                               String templateId,
+                                                               Map<String, String> variables,
+                                                               NotificationService.NotificationChannel channel,
+                                                               String businessKey) {
+        return CompletableFuture.completedFuture(outboxService.enqueue(channel, recipient, templateId, variables, businessKey));
+    }
+    
+    /**
+     * 여러 사용자의 알림 설정을 한 번에 읽어 캐시에 올려둡니다.
+     * 스케줄러가 대상자 목록을 순회하며 sendNotification을 호출하기 전에 사용합니다.
+     */
+    public void preloadPreferences(Collection<Long> userIds, String templateId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        preferenceService.getUserPreferences(userIds, templateId);
+    }
+    
     /**
      * 특정 채널로 알림 전송
      */
@@ -0,0 +1,175 @@
+package saomath.checkusserver.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.notification.domain.NotificationOutbox;
+import saomath.checkusserver.notification.repository.NotificationOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 발송 대기열(outbox) 관리
+ *
+ * enqueue는 호출한 쪽 트랜잭션에 참여하므로, 알림을 발생시킨 변경이 롤백되면 알림도 기록되지 않습니다.
+ * 중복 알림은 먼저 dedupe_key로 확인해 건너뛰고, 다른 인스턴스와 동시에 등록하는 경우에는
+ * INSERT ... ON DUPLICATE KEY UPDATE로 중복 키 충돌만 건너뛰어 호출한 쪽 트랜잭션을 깨뜨리지 않습니다.
+ * 실제 전송은 NotificationOutboxWorker가 claimBatch로 가져가 채널별 NotificationService로 수행하고,
+ * 결과(상태, 소요 시간, 오류)를 markSent/markFailed로 기록합니다.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public NotificationOutboxService(NotificationOutboxRepository outboxRepository,
+                                     @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                                     @Value("${notification.outbox.base-backoff-seconds:30}") long baseBackoffSeconds,
+                                     @Value("${notification.outbox.max-backoff-minutes:30}") long maxBackoffMinutes,
+                                     @Value("${notification.outbox.lease-seconds:120}") long leaseSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofMinutes(maxBackoffMinutes);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 알림 발송 대기열에 추가
+     * @param businessKey 같은 알림을 구분하는 업무 키 (예: 공부 시작 시각)
+     * @return 새로 추가되었으면 true, 수신자가 없거나 이미 같은 알림이 있으면 false
+     */
+    @Transactional
+    public boolean enqueue(NotificationService.NotificationChannel channel,
+                           String recipient,
+                           String templateId,
+                           Map<String, String> variables,
+                           String businessKey) {
+        if (recipient == null || recipient.isBlank()) {
+            return false;
+        }
+
+        String dedupeKey = dedupeKey(channel, recipient, templateId, businessKey);
+        if (outboxRepository.existsByDedupeKey(dedupeKey)) {
+            log.debug("이미 등록된 알림 - 키: {}", dedupeKey);
+            return false;
+        }
+        // 확인 후 다른 인스턴스가 먼저 등록했으면 INSERT는 아무것도 하지 않음
+        outboxRepository.insertIfAbsent(
+                dedupeKey, channel.name(), recipient, templateId, writeVariables(variables), LocalDateTime.now());
+        return true;
+    }
+
+    /**
+     * 전송할 행을 묶음으로 점유합니다. 다른 워커가 잠근 행은 건너뜁니다.
+     */
+    @Transactional
+    public List<NotificationOutbox> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> batch = outboxRepository.findClaimable(
+                NotificationOutbox.Status.PENDING,
+                NotificationOutbox.Status.PROCESSING,
+                now,
+                PageRequest.of(0, batchSize));
+
+        for (NotificationOutbox outbox : batch) {
+            outbox.setStatus(NotificationOutbox.Status.PROCESSING);
+            outbox.setLockedUntil(now.plus(lease));
+            outbox.setAttempts(outbox.getAttempts() + 1);
+        }
+        return batch;
+    }
+
+    @Transactional
+    public void markSent(Long outboxId, long latencyMs) {
+        outboxRepository.findById(outboxId).ifPresent(outbox -> {
+            outbox.setStatus(NotificationOutbox.Status.SENT);
+            outbox.setSentAt(LocalDateTime.now());
+            outbox.setLatencyMs(latencyMs);
+            outbox.setLockedUntil(null);
+            outbox.setLastError(null);
+        });
+    }
+
+    /**
+     * 전송 실패 기록. 최대 시도 횟수 전이면 백오프 후 다시 대기 상태로 돌립니다.
+     */
+    @Transactional
+    public void markFailed(Long outboxId, long latencyMs, String error) {
+        outboxRepository.findById(outboxId).ifPresent(outbox -> {
+            outbox.setLatencyMs(latencyMs);
+            outbox.setLockedUntil(null);
+            outbox.setLastError(truncate(error));
+
+            if (outbox.getAttempts() >= maxAttempts) {
+                outbox.setStatus(NotificationOutbox.Status.FAILED);
+                log.warn("알림 전송 최종 실패 - ID: {}, 채널: {}, 템플릿: {}, 시도: {}회, 오류: {}",
+                        outbox.getId(), outbox.getChannel(), outbox.getTemplateId(), outbox.getAttempts(), error);
+                return;
+            }
+
+            outbox.setStatus(NotificationOutbox.Status.PENDING);
+            outbox.setNextAttemptAt(LocalDateTime.now().plus(backoff(outbox.getAttempts())));
+            log.info("알림 전송 실패, 재시도 예정 - ID: {}, 시도: {}회, 다음 시도: {}",
+                    outbox.getId(), outbox.getAttempts(), outbox.getNextAttemptAt());
+        });
+    }
+
+    public Map<String, String> readVariables(NotificationOutbox outbox) {
+        if (outbox.getVariables() == null || outbox.getVariables().isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(outbox.getVariables(), new TypeReference<Map<String, String>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 변수 형식이 올바르지 않습니다: " + outbox.getId(), e);
+        }
+    }
+
+    /**
+     * n번째 실패 후 대기 시간: base * 2^(n-1), 최대 maxBackoff
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = baseBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    static String dedupeKey(NotificationService.NotificationChannel channel,
+                            String recipient,
+                            String templateId,
+                            String businessKey) {
+        return channel.name() + "|" + recipient + "|" + templateId + "|" + businessKey;
+    }
+
+    private String writeVariables(Map<String, String> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables == null ? Map.of() : variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 변수를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
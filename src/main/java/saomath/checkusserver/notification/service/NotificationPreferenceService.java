@@ -3,7 +3,9 @@ package saomath.checkusserver.notification.service;
 import saomath.checkusserver.notification.dto.NotificationSettingGroupDto;
 import saomath.checkusserver.notification.dto.NotificationSettingUpdateDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 사용자 알림 설정 조회 및 관리 서비스
@@ -18,6 +20,15 @@ public interface NotificationPreferenceService {
      */
     List<NotificationPreference> getUserPreferences(Long userId, String templateId);
     
+    /**
+     * 여러 사용자의 특정 알림에 대한 채널 설정 일괄 조회 (스케줄러용)
+     * 캐시에 없는 사용자만 모아 한 번에 조회합니다.
+     * @param userIds 사용자 ID 목록
+     * @param templateId 알림 템플릿 ID
+     * @return 사용자 ID별 활성화된 알림 채널 목록 (없는 사용자는 빈 목록)
+     */
+    Map<Long, List<NotificationPreference>> getUserPreferences(Collection<Long> userIds, String templateId);
+    
     /**
      * 사용자의 모든 알림 설정 조회
      * @param userId 사용자 ID
@@ -50,4 +61,10 @@ public interface NotificationPreferenceService {
      * @return 설정 존재 여부
      */
     boolean hasNotificationSetting(Long userId, String templateId, String deliveryMethod);
+    
+    /**
+     * 사용자의 캐싱된 최종 알림 설정 제거
+     * @param userId 사용자 ID
+     */
+    void evictUserPreferences(Long userId);
 }
@@ -1,8 +1,16 @@
 package saomath.checkusserver.notification.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import saomath.checkusserver.common.cache.BoundedCache;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.notification.domain.NotificationSetting;
 import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.auth.domain.UserRole;
@@ -13,11 +21,17 @@ import saomath.checkusserver.notification.dto.NotificationSettingDto;
 import saomath.checkusserver.notification.dto.NotificationSettingGroupDto;
 import saomath.checkusserver.notification.dto.NotificationSettingUpdateDto;
 import saomath.checkusserver.notification.dto.NotificationTypeDto;
+import saomath.checkusserver.notification.event.UserDiscordIdChangeEvent;
+import saomath.checkusserver.notification.event.UserRegisteredEvent;
 import saomath.checkusserver.notification.repository.NotificationSettingRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.auth.repository.UserRoleRepository;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+import saomath.checkusserver.user.event.UserRoleChangedEvent;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,34 +51,47 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
     private final UserRepository userRepository;
     private final UserRoleRepository userRoleRepository;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final ResourceVersions resourceVersions;
+    
+    private static final int PROFILE_CACHE_MAXIMUM_SIZE = 10000;
+    private static final Duration PROFILE_CACHE_TTL = Duration.ofMinutes(30);
+    
+    // 사용자별 최종 알림 설정 캐시 (없는 사용자도 빈 값으로 캐싱)
+    private final BoundedCache<Long, Optional<UserNotificationProfile>> profileCache =
+            new BoundedCache<>("notification.preference", PROFILE_CACHE_MAXIMUM_SIZE, PROFILE_CACHE_TTL);
+    
+    @Autowired(required = false)
+    public void bindCacheMetrics(MeterRegistry meterRegistry) {
+        profileCache.bindTo(meterRegistry);
+    }
     
     @Override
     public List<NotificationPreference> getUserPreferences(Long userId, String templateId) {
-        List<NotificationPreference> preferences = new ArrayList<>();
-        
-        // 사용자 조회
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
+        Optional<UserNotificationProfile> profile = profileCache.get(userId, this::loadProfile);
+        if (profile.isEmpty()) {
             log.warn("사용자를 찾을 수 없습니다. userId: {}", userId);
-            return preferences;
+            return new ArrayList<>();
         }
         
-        // 사용자 역할 확인
-        String userRole = getUserPrimaryRole(userId);
-        DefaultNotificationSetting defaultSetting = DefaultNotificationSetting.getByRole(userRole);
+        return collectPreferences(profile.get(), getTemplatesToProcess(templateId));
+    }
+    
+    @Override
+    public Map<Long, List<NotificationPreference>> getUserPreferences(Collection<Long> userIds, String templateId) {
+        Map<Long, List<NotificationPreference>> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
         
-        // 처리할 템플릿 목록 결정
         List<AlimtalkTemplate> templatesToProcess = getTemplatesToProcess(templateId);
-        
-        // 예외 설정 조회 (DB에서)
-        Map<String, NotificationSetting> exceptionSettings = getExceptionSettings(userId, templateId);
-        
-        // 각 템플릿에 대해 최종 설정 생성
-        for (AlimtalkTemplate template : templatesToProcess) {
-            preferences.addAll(buildPreferencesForTemplate(user, template, defaultSetting, exceptionSettings));
+        Map<Long, Optional<UserNotificationProfile>> profiles = profileCache.getAll(userIds, this::loadProfiles);
+        for (Long userId : userIds) {
+            List<NotificationPreference> preferences = profiles.getOrDefault(userId, Optional.empty())
+                .map(profile -> collectPreferences(profile, templatesToProcess))
+                .orElseGet(ArrayList::new);
+            result.put(userId, preferences);
         }
-        
-        return preferences;
+        return result;
     }
     
     @Override
@@ -148,6 +175,56 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
             log.info("새 알림 설정 생성 완료 - userId: {}, template: {}, method: {}, enabled: {}",
                     userId, templateId, standardizedMethod, updateDto.isEnabled());
         }
+        
+        evictUserPreferences(userId);
+        resourceVersions.bumpAfterCommit(ResourceVersions.Resource.NOTIFICATION_SETTINGS, userId);
+    }
+    
+    @Override
+    public void evictUserPreferences(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        profileCache.invalidate(userId);
+        
+        // 트랜잭션 안에서 호출된 경우 커밋 전에 다시 캐싱된 값도 정리
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    profileCache.invalidate(userId);
+                }
+            });
+        }
+    }
+    
+    /**
+     * 역할 변경 시 기본값 기준이 바뀌므로 캐시 정리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        profileCache.invalidate(event.getUserId());
+    }
+    
+    /**
+     * 가입 및 디스코드 ID 변경 시 수신자 정보가 바뀌므로 캐시 정리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        profileCache.invalidate(event.getUser().getId());
+    }
+    
+    @EventListener
+    public void onDiscordIdChanged(UserDiscordIdChangeEvent event) {
+        profileCache.invalidate(event.getUser().getId());
+    }
+    
+    /**
+     * 학생 정보(전화번호 포함) 수정, 삭제, 복구 시 캐시 정리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        profileCache.invalidate(event.getStudentId());
     }
     
     @Override
@@ -162,8 +239,13 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
      * 사용자의 주 역할 조회
      */
     private String getUserPrimaryRole(Long userId) {
-        List<UserRole> userRoles = userRoleRepository.findByUserIdAndStatus(userId, UserRole.RoleStatus.ACTIVE);
-        
+        return resolvePrimaryRole(userId, userRoleRepository.findByUserIdAndStatus(userId, UserRole.RoleStatus.ACTIVE));
+    }
+    
+    /**
+     * 활성 역할 목록에서 주 역할 결정
+     */
+    private String resolvePrimaryRole(Long userId, List<UserRole> userRoles) {
         // 우선순위: STUDENT > GUARDIAN > TEACHER
         for (UserRole userRole : userRoles) {
             String roleName = userRole.getRole().getName();
@@ -277,8 +359,13 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
         } else {
             settings = notificationSettingRepository.findByUserId(userId);
         }
-        
-        // templateName + deliveryMethod 를 key로 하는 Map 생성
+        return toExceptionSettingMap(settings);
+    }
+    
+    /**
+     * templateName + deliveryMethod 를 key로 하는 Map 생성
+     */
+    private Map<String, NotificationSetting> toExceptionSettingMap(List<NotificationSetting> settings) {
         return settings.stream()
             .collect(Collectors.toMap(
                 setting -> setting.getTemplateName() + ":" + setting.getDeliveryMethod(),
@@ -288,46 +375,72 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
     }
     
     /**
-     * 특정 템플릿에 대한 최종 설정 생성
+     * 단일 사용자 최종 설정 로드
      */
-    private List<NotificationPreference> buildPreferencesForTemplate(
-            User user, 
-            AlimtalkTemplate template, 
-            DefaultNotificationSetting defaultSetting,
-            Map<String, NotificationSetting> exceptionSettings) {
-        
-        List<NotificationPreference> preferences = new ArrayList<>();
-        
-        // 가능한 모든 채널 확인
-        Set<String> allChannels = Set.of("alimtalk", "discord", "email", "sms");
+    private Optional<UserNotificationProfile> loadProfile(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return Optional.empty();
+        }
+        return Optional.of(compileProfile(user, getUserPrimaryRole(userId),
+            notificationSettingRepository.findByUserId(userId)));
+    }
+    
+    /**
+     * 여러 사용자 최종 설정 일괄 로드 (사용자, 역할, 예외 설정을 각각 한 번의 쿼리로 조회)
+     */
+    private Map<Long, Optional<UserNotificationProfile>> loadProfiles(Set<Long> userIds) {
+        Map<Long, List<UserRole>> rolesByUser = userRoleRepository
+            .findByUserIdInAndStatus(userIds, UserRole.RoleStatus.ACTIVE).stream()
+            .collect(Collectors.groupingBy(userRole -> userRole.getId().getUserId()));
+        Map<Long, List<NotificationSetting>> settingsByUser = notificationSettingRepository
+            .findByUserIdIn(userIds).stream()
+            .collect(Collectors.groupingBy(NotificationSetting::getUserId));
+        
+        Map<Long, Optional<UserNotificationProfile>> profiles = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            String role = resolvePrimaryRole(user.getId(), rolesByUser.getOrDefault(user.getId(), List.of()));
+            profiles.put(user.getId(), Optional.of(compileProfile(user, role,
+                settingsByUser.getOrDefault(user.getId(), List.of()))));
+        }
+        userIds.forEach(userId -> profiles.putIfAbsent(userId, Optional.empty()));
+        return profiles;
+    }
+    
+    /**
+     * 역할 기본값과 예외 설정을 병합해 템플릿 x 채널 비트마스크로 컴파일
+     * 활성화되어 있고 사용자가 해당 채널을 사용할 수 있는 경우만 비트를 켬
+     */
+    private UserNotificationProfile compileProfile(User user, String role, List<NotificationSetting> settings) {
+        DefaultNotificationSetting defaultSetting = DefaultNotificationSetting.getByRole(role);
+        Map<String, NotificationSetting> exceptionSettings = toExceptionSettingMap(settings);
         
-        for (String channel : allChannels) {
-            String key = template.name() + ":" + channel;
-            NotificationSetting exceptionSetting = exceptionSettings.get(key);
-            
-            boolean isEnabled;
-            if (exceptionSetting != null) {
-                // DB에 예외 설정이 있으면 그것을 사용
-                isEnabled = exceptionSetting.getIsEnabled();
-            } else {
-                // 예외 설정이 없으면 기본값 사용
-                isEnabled = defaultSetting.isDefaultEnabled(template, channel);
-            }
-            
-            // 활성화되어 있고, 사용자가 해당 채널을 사용할 수 있는 경우만 추가
-            if (isEnabled && canUseChannel(user, channel)) {
-                String recipient = getRecipientForChannel(user, channel);
-                if (recipient != null) {
-                    preferences.add(NotificationPreference.builder()
-                        .userId(user.getId())
-                        .channel(mapDeliveryMethodToChannel(channel))
-                        .recipient(recipient)
-                        .enabled(true)
-                        .build());
+        long mask = 0L;
+        for (AlimtalkTemplate template : AlimtalkTemplate.values()) {
+            for (int i = 0; i < UserNotificationProfile.CHANNELS.size(); i++) {
+                String channel = UserNotificationProfile.CHANNELS.get(i);
+                NotificationSetting exceptionSetting = exceptionSettings.get(template.name() + ":" + channel);
+                
+                // DB에 예외 설정이 있으면 그것을 사용, 없으면 기본값 사용
+                boolean isEnabled = exceptionSetting != null
+                    ? exceptionSetting.getIsEnabled()
+                    : defaultSetting.isDefaultEnabled(template, channel);
+                
+                if (isEnabled && canUseChannel(user, channel)) {
+                    mask |= UserNotificationProfile.bit(template, i);
                 }
             }
         }
         
+        return new UserNotificationProfile(user.getId(), role, user.getPhoneNumber(), user.getDiscordId(), mask);
+    }
+    
+    private List<NotificationPreference> collectPreferences(UserNotificationProfile profile,
+                                                            List<AlimtalkTemplate> templates) {
+        List<NotificationPreference> preferences = new ArrayList<>();
+        for (AlimtalkTemplate template : templates) {
+            preferences.addAll(profile.preferencesFor(template));
+        }
         return preferences;
     }
     
@@ -349,47 +462,6 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
         }
     }
     
-    /**
-     * 채널에 따른 수신자 정보 조회
-     */
-    private String getRecipientForChannel(User user, String deliveryMethod) {
-        switch (deliveryMethod.toLowerCase()) {
-            case "alimtalk":
-            case "kakao":
-                return user.getPhoneNumber();
-            case "discord":
-                return user.getDiscordId();
-            case "email":
-                // 이메일 필드가 있다면 추가
-                return null;
-            case "sms":
-                return user.getPhoneNumber();
-            default:
-                log.warn("알 수 없는 delivery method: {}", deliveryMethod);
-                return null;
-        }
-    }
-    
-    /**
-     * deliveryMethod를 NotificationChannel enum으로 매핑
-     */
-    private NotificationService.NotificationChannel mapDeliveryMethodToChannel(String deliveryMethod) {
-        switch (deliveryMethod.toLowerCase()) {
-            case "alimtalk":
-            case "kakao":
-                return NotificationService.NotificationChannel.ALIMTALK;
-            case "discord":
-                return NotificationService.NotificationChannel.DISCORD;
-            case "email":
-                return NotificationService.NotificationChannel.EMAIL;
-            case "sms":
-                return NotificationService.NotificationChannel.SMS;
-            default:
-                log.warn("알 수 없는 delivery method: {}, ALIMTALK으로 기본 설정", deliveryMethod);
-                return NotificationService.NotificationChannel.ALIMTALK;
-        }
-    }
-    
     /**
      * 채널명 표준화 (kakao -> alimtalk)
      */
@@ -7,13 +7,14 @@ import org.springframework.transaction.annotation.Transactional;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.user.domain.StudentGuardian;
 import saomath.checkusserver.auth.domain.User;
-import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.user.repository.StudentGuardianRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,7 +24,6 @@ import java.util.stream.Collectors;
 public class NotificationTargetServiceImpl implements NotificationTargetService {
     
     private final AssignedStudyTimeRepository assignedStudyTimeRepository;
-    private final ActualStudyTimeRepository actualStudyTimeRepository;
     private final StudentGuardianRepository studentGuardianRepository;
     
     @Override
@@ -35,8 +35,9 @@ public class NotificationTargetServiceImpl implements NotificationTargetService
         
         log.debug("공부 일정 대상자 조회 - 대상시간: {}, 조회결과: {}건", exactMinute, studyTimes.size());
         
+        Map<Long, String> parentPhones = getParentPhones(studyTimes);
         return studyTimes.stream()
-            .map(this::convertToStudyTarget)
+            .map(studyTime -> convertToStudyTarget(studyTime, parentPhones))
             .collect(Collectors.toList());
     }
     
@@ -56,29 +57,22 @@ public class NotificationTargetServiceImpl implements NotificationTargetService
     
     @Override
     public List<NoShowTarget> getNoShowTargets(LocalDateTime startTime) {
-        // 시작 시간 기준으로 공부 일정 조회 (정확한 시간 매칭)
+        // 시작 시간 기준으로 출석 기록이 없는 공부 일정만 조회 (정확한 시간 매칭)
         LocalDateTime exactMinute = startTime.withSecond(0).withNano(0);
         List<AssignedStudyTime> studyTimes = assignedStudyTimeRepository
-            .findByStartTimeWithDetails(exactMinute);
+            .findStartedWithoutAttendanceWithDetails(exactMinute);
         
-        List<NoShowTarget> noShowTargets = new ArrayList<>();
+        log.debug("미접속 대상자 조회 - 대상시간: {}, 조회결과: {}건", exactMinute, studyTimes.size());
         
-        for (AssignedStudyTime studyTime : studyTimes) {
-            // 실제 공부 시간 기록이 있는지 확인
-            boolean hasAttended = actualStudyTimeRepository
-                .existsByAssignedStudyTimeId(studyTime.getId());
-            
-            if (!hasAttended) {
-                noShowTargets.add(convertToNoShowTarget(studyTime));
-            }
-        }
-        
-        return noShowTargets;
+        Map<Long, String> parentPhones = getParentPhones(studyTimes);
+        return studyTimes.stream()
+            .map(studyTime -> convertToNoShowTarget(studyTime, parentPhones))
+            .collect(Collectors.toList());
     }
     
-    private StudyTarget convertToStudyTarget(AssignedStudyTime assignedStudyTime) {
+    private StudyTarget convertToStudyTarget(AssignedStudyTime assignedStudyTime, Map<Long, String> parentPhones) {
         User student = assignedStudyTime.getStudent();
-        String parentPhone = getParentPhone(student.getId());
+        String parentPhone = parentPhones.get(student.getId());
         
         return StudyTarget.builder()
             .studentId(student.getId())
@@ -94,9 +88,9 @@ public class NotificationTargetServiceImpl implements NotificationTargetService
             .build();
     }
     
-    private NoShowTarget convertToNoShowTarget(AssignedStudyTime assignedStudyTime) {
+    private NoShowTarget convertToNoShowTarget(AssignedStudyTime assignedStudyTime, Map<Long, String> parentPhones) {
         User student = assignedStudyTime.getStudent();
-        String parentPhone = getParentPhone(student.getId());
+        String parentPhone = parentPhones.get(student.getId());
         
         return NoShowTarget.builder()
             .studentId(student.getId())
@@ -110,17 +104,26 @@ public class NotificationTargetServiceImpl implements NotificationTargetService
             .build();
     }
     
-    private String getParentPhone(Long studentId) {
-        // 학부모 정보 조회 (첫 번째 보호자의 전화번호 반환)
-        List<StudentGuardian> guardians = studentGuardianRepository
-            .findByStudentId(studentId);
-        
-        if (!guardians.isEmpty()) {
-            User guardian = guardians.get(0).getGuardian();
-            return guardian.getPhoneNumber();
+    /**
+     * 대상 학생들의 학부모 전화번호를 한 번에 조회 (학생별 첫 번째 보호자 기준)
+     */
+    private Map<Long, String> getParentPhones(List<AssignedStudyTime> studyTimes) {
+        Map<Long, String> parentPhones = new HashMap<>();
+        List<Long> studentIds = studyTimes.stream()
+            .map(AssignedStudyTime::getStudentId)
+            .distinct()
+            .collect(Collectors.toList());
+        if (studentIds.isEmpty()) {
+            return parentPhones;
         }
         
-        return null;
+        for (StudentGuardian studentGuardian : studentGuardianRepository.findByStudentIds(studentIds)) {
+            Long studentId = studentGuardian.getId().getStudentId();
+            if (!parentPhones.containsKey(studentId)) {
+                parentPhones.put(studentId, studentGuardian.getGuardian().getPhoneNumber());
+            }
+        }
+        return parentPhones;
     }
     
     private boolean isNotificationEnabled(Long userId, String recipientType) {
@@ -0,0 +1,81 @@
+package saomath.checkusserver.notification.service;
+
+import lombok.Getter;
+import saomath.checkusserver.notification.domain.AlimtalkTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 최종 알림 설정 (역할 기본값 + 예외 설정 병합 결과)
+ *
+ * 템플릿 x 채널 활성화 여부를 비트마스크 하나로 저장하고, 수신자 정보와 함께 불변 객체로 캐싱합니다.
+ * 비트 위치: template.ordinal() * 채널 수 + 채널 인덱스
+ * 사용할 수 없는 채널(전화번호/디스코드 ID 없음)은 컴파일 시점에 비트를 끕니다.
+ */
+@Getter
+public final class UserNotificationProfile {
+
+    // 비트마스크 채널 순서 (notification_setting.delivery_method 값)
+    static final List<String> CHANNELS = List.of("alimtalk", "discord", "email", "sms");
+
+    private final Long userId;
+    private final String role;
+    private final String phoneNumber;
+    private final String discordId;
+    private final long enabledMask;
+
+    UserNotificationProfile(Long userId, String role, String phoneNumber, String discordId, long enabledMask) {
+        this.userId = userId;
+        this.role = role;
+        this.phoneNumber = phoneNumber;
+        this.discordId = discordId;
+        this.enabledMask = enabledMask;
+    }
+
+    static long bit(AlimtalkTemplate template, int channelIndex) {
+        return 1L << (template.ordinal() * CHANNELS.size() + channelIndex);
+    }
+
+    public boolean isEnabled(AlimtalkTemplate template, String deliveryMethod) {
+        int channelIndex = CHANNELS.indexOf(deliveryMethod);
+        return channelIndex >= 0 && (enabledMask & bit(template, channelIndex)) != 0;
+    }
+
+    /**
+     * 특정 템플릿에 대해 활성화된 채널별 알림 설정 목록
+     */
+    public List<NotificationPreference> preferencesFor(AlimtalkTemplate template) {
+        List<NotificationPreference> preferences = new ArrayList<>();
+        for (int i = 0; i < CHANNELS.size(); i++) {
+            if ((enabledMask & bit(template, i)) == 0) {
+                continue;
+            }
+            String channel = CHANNELS.get(i);
+            preferences.add(NotificationPreference.builder()
+                    .userId(userId)
+                    .channel(toNotificationChannel(channel))
+                    .recipient(recipientFor(channel))
+                    .enabled(true)
+                    .build());
+        }
+        return preferences;
+    }
+
+    private String recipientFor(String channel) {
+        return switch (channel) {
+            case "alimtalk", "sms" -> phoneNumber;
+            case "discord" -> discordId;
+            default -> null;
+        };
+    }
+
+    private static NotificationService.NotificationChannel toNotificationChannel(String channel) {
+        return switch (channel) {
+            case "discord" -> NotificationService.NotificationChannel.DISCORD;
+            case "email" -> NotificationService.NotificationChannel.EMAIL;
+            case "sms" -> NotificationService.NotificationChannel.SMS;
+            default -> NotificationService.NotificationChannel.ALIMTALK;
+        };
+    }
+}
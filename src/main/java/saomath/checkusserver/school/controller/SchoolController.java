@@ -10,10 +10,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import saomath.checkusserver.auth.dto.ResponseBase;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.util.ETagUtils;
 import saomath.checkusserver.school.dto.SchoolRequest;
 import saomath.checkusserver.school.dto.SchoolResponse;
 import saomath.checkusserver.common.exception.DuplicateResourceException;
@@ -31,6 +34,7 @@ import java.util.List;
 public class SchoolController {
 
     private final SchoolService schoolService;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
             summary = "학교 목록 조회",
@@ -83,15 +87,26 @@ public class SchoolController {
             }
     )
     @GetMapping
-    public ResponseEntity<ResponseBase<List<SchoolResponse>>> getSchools() {
+    public ResponseEntity<ResponseBase<List<SchoolResponse>>> getSchools(
+            @Parameter(description = "이전 응답의 ETag (변경이 없으면 304)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            // 조회 전에 버전부터 확인 (변경이 없으면 DB를 읽지 않음)
+            String etag = resourceVersions.etag(ResourceVersions.Resource.SCHOOLS);
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return ETagUtils.notModified(etag);
+            }
+
             log.info("학교 목록 조회 요청");
 
             List<SchoolResponse> schools = schoolService.getAllSchools();
 
             log.info("학교 목록 조회 성공 - 조회된 학교 수: {}", schools.size());
             
-            return ResponseEntity.ok(ResponseBase.success("학교 목록 조회 성공", schools));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(ETagUtils.REVALIDATE)
+                    .body(ResponseBase.success("학교 목록 조회 성공", schools));
 
         } catch (Exception e) {
             log.error("학교 목록 조회 실패", e);
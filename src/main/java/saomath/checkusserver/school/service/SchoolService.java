@@ -11,6 +11,8 @@ import saomath.checkusserver.common.exception.DuplicateResourceException;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
 import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.school.repository.SchoolRepository;
+import saomath.checkusserver.common.cache.ReferenceDataChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +24,7 @@ import java.util.stream.Collectors;
 public class SchoolService {
 
     private final SchoolRepository schoolRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * 전체 학교 목록을 학생 수와 함께 조회합니다.
@@ -67,6 +70,7 @@ public class SchoolService {
                 .build();
 
         School savedSchool = schoolRepository.save(school);
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.SCHOOL));
         
         log.info("새 학교 생성 완료: {} (ID: {})", savedSchool.getName(), savedSchool.getId());
 
@@ -100,6 +104,7 @@ public class SchoolService {
 
         // 학교 삭제
         schoolRepository.deleteById(schoolId);
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.SCHOOL));
         
         log.info("학교 삭제 완료: schoolId={}", schoolId);
     }
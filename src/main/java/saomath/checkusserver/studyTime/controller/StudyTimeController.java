@@ -11,28 +11,44 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import saomath.checkusserver.auth.domain.CustomUserPrincipal;
 import saomath.checkusserver.auth.dto.ResponseBase;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.exception.BusinessException;
+import saomath.checkusserver.common.util.ETagUtils;
 import saomath.checkusserver.studyTime.dto.ActualStudyTimeResponse;
 import saomath.checkusserver.studyTime.dto.ActivityResponse;
 import saomath.checkusserver.studyTime.dto.AssignedStudyTimeResponse;
 import saomath.checkusserver.studyTime.dto.AssignStudyTimeRequest;
+import saomath.checkusserver.studyTime.dto.BulkAssignStudyTimeRequest;
+import saomath.checkusserver.studyTime.dto.ClassAssignStudyTimeRequest;
+import saomath.checkusserver.studyTime.dto.StudyDailyAggregateRebuildResponse;
 import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.dto.StudyTimeSummaryResponse;
 import saomath.checkusserver.studyTime.dto.UpdateStudyTimeRequest;
 import saomath.checkusserver.studyTime.domain.Activity;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.service.LiveStudyMonitorView;
+import saomath.checkusserver.studyTime.service.MonitorSnapshotCache;
+import saomath.checkusserver.studyTime.service.StudyDailyAggregateService;
+import saomath.checkusserver.studyTime.service.StudyMonitorStreamService;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,6 +59,11 @@ import java.util.stream.Collectors;
 public class StudyTimeController {
 
     private final StudyTimeService studyTimeService;
+    private final LiveStudyMonitorView liveStudyMonitorView;
+    private final StudyMonitorStreamService studyMonitorStreamService;
+    private final StudyDailyAggregateService studyDailyAggregateService;
+    private final MonitorSnapshotCache monitorSnapshotCache;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
         summary = "공부 시간 배정",
@@ -133,6 +154,76 @@ public class StudyTimeController {
         }
     }
 
+    @Operation(
+        summary = "공부 시간 대량 배정",
+        description = "여러 학생/시간의 공부 시간을 한 번에 배정합니다. 하나라도 검증에 실패하면 전체가 배정되지 않습니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/assign/bulk")
+    public ResponseEntity<ResponseBase<List<AssignedStudyTimeResponse>>> assignStudyTimes(
+            @Valid @RequestBody BulkAssignStudyTimeRequest request) {
+
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ResponseBase.error("인증이 필요합니다."));
+            }
+
+            Long teacherId = ((CustomUserPrincipal) authentication.getPrincipal()).getId();
+            List<AssignedStudyTimeResponse> response = studyTimeService.assignStudyTimes(request.getItems(), teacherId)
+                    .stream()
+                    .map(this::convertToAssignedResponse)
+                    .collect(Collectors.toList());
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ResponseBase.success("공부 시간이 성공적으로 배정되었습니다.", response));
+
+        } catch (Exception e) {
+            log.error("공부 시간 대량 배정 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ResponseBase.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+        summary = "반 전체 공부 시간 배정",
+        description = "반에 소속된 모든 학생에게 같은 공부 시간을 배정합니다. 한 학생이라도 시간이 겹치면 전체가 배정되지 않습니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/assign/class")
+    public ResponseEntity<ResponseBase<List<AssignedStudyTimeResponse>>> assignStudyTimeToClass(
+            @Valid @RequestBody ClassAssignStudyTimeRequest request) {
+
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ResponseBase.error("인증이 필요합니다."));
+            }
+
+            Long teacherId = ((CustomUserPrincipal) authentication.getPrincipal()).getId();
+            List<AssignedStudyTimeResponse> response = studyTimeService.assignStudyTimeToClass(
+                            request.getClassId(),
+                            request.getTitle(),
+                            request.getActivityId(),
+                            request.getStartTime(),
+                            request.getEndTime(),
+                            teacherId)
+                    .stream()
+                    .map(this::convertToAssignedResponse)
+                    .collect(Collectors.toList());
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ResponseBase.success("공부 시간이 성공적으로 배정되었습니다.", response));
+
+        } catch (Exception e) {
+            log.error("반 전체 공부 시간 배정 실패: classId={}", request.getClassId(), e);
+            return ResponseEntity.badRequest()
+                    .body(ResponseBase.error(e.getMessage()));
+        }
+    }
+
     @Operation(
         summary = "배정된 공부 시간 수정",
         description = "기존에 배정된 공부 시간을 수정합니다.",
@@ -282,17 +373,27 @@ public class StudyTimeController {
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @GetMapping("/activities")
-    public ResponseEntity<ResponseBase<List<ActivityResponse>>> getStudyAssignableActivities() {
+    public ResponseEntity<ResponseBase<List<ActivityResponse>>> getStudyAssignableActivities(
+            @Parameter(description = "이전 응답의 ETag (변경이 없으면 304)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         try {
+            // 조회 전에 버전부터 확인 (변경이 없으면 DB를 읽지 않음)
+            String etag = resourceVersions.etag(ResourceVersions.Resource.ACTIVITIES);
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return ETagUtils.notModified(etag);
+            }
+            
             List<Activity> activities = studyTimeService.getStudyAssignableActivities();
             
             List<ActivityResponse> responses = activities.stream()
                     .map(this::convertToActivityResponse)
                     .collect(Collectors.toList());
             
-            return ResponseEntity.ok(
-                    ResponseBase.success("활동 목록을 성공적으로 조회했습니다.", responses));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(ETagUtils.REVALIDATE)
+                    .body(ResponseBase.success("활동 목록을 성공적으로 조회했습니다.", responses));
                     
         } catch (Exception e) {
             log.error("활동 목록 조회 실패", e);
@@ -401,7 +502,9 @@ public class StudyTimeController {
                         .body(ResponseBase.error("조회 범위가 너무 큽니다. 최대 7일까지 조회 가능합니다."));
             }
             
-            StudyTimeMonitorResponse result = studyTimeService.getStudyTimeMonitorByTimeRange(startTime, endTime);
+            // 오늘 범위는 메모리 뷰에서 응답하고, 그 외 범위는 DB에서 조회
+            StudyTimeMonitorResponse result = liveStudyMonitorView.getMonitor(startTime, endTime)
+                    .orElseGet(() -> studyTimeService.getStudyTimeMonitorByTimeRange(startTime, endTime));
             
             return ResponseEntity.ok(
                     ResponseBase.success("학생 모니터링 정보를 성공적으로 조회했습니다.", result));
@@ -416,7 +519,9 @@ public class StudyTimeController {
     // 기존 날짜 기반 API 유지 (하위 호환성)
     @Operation(
         summary = "날짜별 학생 공부시간 모니터링 조회 (Deprecated)",
-        description = "특정 날짜의 모든 학생 공부시간 모니터링 정보를 조회합니다. 시간 범위 기반 API 사용을 권장합니다.",
+        description = "특정 날짜의 모든 학생 공부시간 모니터링 정보를 조회합니다. 시간 범위 기반 API 사용을 권장합니다. " +
+                "조회 구간(다음날 6시)이 끝난 날짜는 스냅샷으로 응답하며 ETag를 함께 보내고, " +
+                "If-None-Match가 현재 ETag와 같으면 304 Not Modified를 반환합니다.",
         security = @SecurityRequirement(name = "bearerAuth"),
         deprecated = true
     )
@@ -424,7 +529,9 @@ public class StudyTimeController {
     @Deprecated
     public ResponseEntity<ResponseBase<StudyTimeMonitorResponse>> getStudyTimeMonitor(
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd)", example = "2025-06-18") 
-            @PathVariable("date") String dateStr
+            @PathVariable("date") String dateStr,
+            @Parameter(description = "이전 응답의 ETag (지난 날짜 재검증용)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         
         try {
@@ -437,8 +544,23 @@ public class StudyTimeController {
                         .body(ResponseBase.error("날짜 형식이 올바르지 않습니다. yyyy-MM-dd 형식으로 입력해주세요."));
             }
             
-            // 날짜 기반 서비스 메서드 호출 (date 필드가 설정됨)
-            StudyTimeMonitorResponse result = studyTimeService.getStudyTimeMonitorByDate(date);
+            // 끝난 날짜는 스냅샷으로 응답 (ETag가 같으면 본문 없이 304)
+            Optional<MonitorSnapshotCache.Snapshot> snapshot = monitorSnapshotCache.get(date);
+            if (snapshot.isPresent()) {
+                String etag = snapshot.get().etag();
+                if (ETagUtils.matches(ifNoneMatch, etag)) {
+                    return ETagUtils.notModified(etag);
+                }
+                return ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(ETagUtils.REVALIDATE)
+                        .body(ResponseBase.success("학생 모니터링 정보를 성공적으로 조회했습니다.", snapshot.get().response()));
+            }
+            
+            // 오늘 날짜는 메모리 뷰에서, 그 외 날짜는 DB에서 조회 (date 필드가 설정됨)
+            final LocalDate targetDate = date;
+            StudyTimeMonitorResponse result = liveStudyMonitorView.getMonitorByDate(targetDate)
+                    .orElseGet(() -> studyTimeService.getStudyTimeMonitorByDate(targetDate));
             
             return ResponseEntity.ok(
                     ResponseBase.success("학생 모니터링 정보를 성공적으로 조회했습니다.", result));
@@ -450,6 +572,152 @@ public class StudyTimeController {
         }
     }
 
+    @Operation(
+        summary = "실시간 학생 공부시간 모니터링 스트림 (SSE)",
+        description = "구독 즉시 오늘 모니터링 스냅샷(event: snapshot)을 보내고, 이후에는 변경된 학생 정보만 " +
+                "학생 단위 변경 이벤트(event: delta)로 전송합니다. " +
+                "변경 종류: STATUS_CHANGED, SESSION_STARTED, SESSION_ENDED, ASSIGNMENT_CHANGED, STUDENT_CHANGED, STUDENT_REMOVED. " +
+                "뷰가 재구성되면 snapshot이 다시 전송됩니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping(value = "/monitor/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStudyTimeMonitor() {
+        return studyMonitorStreamService.subscribe();
+    }
+
+    @Operation(
+        summary = "실시간 모니터링 뷰 재구성",
+        description = "메모리에 유지 중인 오늘 모니터링 뷰를 DB 기준으로 다시 구성합니다. 데이터 불일치가 의심될 때 사용합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/monitor/rebuild")
+    public ResponseEntity<ResponseBase<Integer>> rebuildMonitorView() {
+        
+        try {
+            int studentCount = liveStudyMonitorView.rebuild();
+            
+            return ResponseEntity.ok(
+                    ResponseBase.success("모니터링 뷰를 성공적으로 재구성했습니다.", studentCount));
+                    
+        } catch (Exception e) {
+            log.error("모니터링 뷰 재구성 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ResponseBase.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+        summary = "학생 주간 공부 요약",
+        description = "지정한 날짜가 속한 주(월요일 ~ 일요일)의 배정/실제 공부 시간, 지각/조기 퇴장/미접속 횟수를 일일 집계에서 조회합니다. " +
+                "학생은 본인, 학부모는 연결된 학생만 조회할 수 있습니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/summary/student/{studentId}/weekly")
+    public ResponseEntity<ResponseBase<StudyTimeSummaryResponse>> getWeeklySummary(
+            @Parameter(description = "학생 ID") @PathVariable("studentId") Long studentId,
+            @Parameter(description = "주에 포함된 날짜 (yyyy-MM-dd)")
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        
+        try {
+            if (!canViewStudentSummary(studentId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ResponseBase.error("해당 학생의 공부 요약을 조회할 권한이 없습니다."));
+            }
+            StudyTimeSummaryResponse summary = studyDailyAggregateService.getWeeklySummary(studentId, date);
+            
+            return ResponseEntity.ok(
+                    ResponseBase.success("주간 공부 요약을 성공적으로 조회했습니다.", summary));
+                    
+        } catch (Exception e) {
+            log.error("주간 공부 요약 조회 실패: studentId={}, date={}", studentId, date, e);
+            return ResponseEntity.badRequest()
+                    .body(ResponseBase.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+        summary = "학생 월간 공부 요약",
+        description = "지정한 월의 배정/실제 공부 시간, 지각/조기 퇴장/미접속 횟수를 일일 집계에서 조회합니다. " +
+                "학생은 본인, 학부모는 연결된 학생만 조회할 수 있습니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/summary/student/{studentId}/monthly")
+    public ResponseEntity<ResponseBase<StudyTimeSummaryResponse>> getMonthlySummary(
+            @Parameter(description = "학생 ID") @PathVariable("studentId") Long studentId,
+            @Parameter(description = "월 (yyyy-MM)")
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        
+        try {
+            if (!canViewStudentSummary(studentId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ResponseBase.error("해당 학생의 공부 요약을 조회할 권한이 없습니다."));
+            }
+            StudyTimeSummaryResponse summary = studyDailyAggregateService.getMonthlySummary(studentId, month);
+            
+            return ResponseEntity.ok(
+                    ResponseBase.success("월간 공부 요약을 성공적으로 조회했습니다.", summary));
+                    
+        } catch (Exception e) {
+            log.error("월간 공부 요약 조회 실패: studentId={}, month={}", studentId, month, e);
+            return ResponseEntity.badRequest()
+                    .body(ResponseBase.error(e.getMessage()));
+        }
+    }
+
+    @Operation(
+        summary = "일일 공부 집계 재생성",
+        description = "기간 안의 학생별 일일 공부 집계를 배정/실제 공부 시간 원본에서 다시 계산합니다. 과거 데이터 백필이나 불일치 복구에 사용합니다. (최대 92일, 오늘까지)",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<ResponseBase<StudyDailyAggregateRebuildResponse>> rebuildDailyAggregates(
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)")
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd, 포함)")
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        
+        try {
+            StudyDailyAggregateRebuildResponse result = studyDailyAggregateService.rebuild(startDate, endDate);
+            
+            return ResponseEntity.ok(
+                    ResponseBase.success("일일 공부 집계를 성공적으로 재생성했습니다.", result));
+                    
+        } catch (BusinessException e) {
+            log.warn("일일 공부 집계 재생성 실패 - 이유: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ResponseBase.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("일일 공부 집계 재생성 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseBase.error("일일 공부 집계 재생성에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 학생 요약 조회 권한: 교사/관리자는 전체, 학생은 본인, 학부모는 연결된 학생만
+     */
+    private boolean canViewStudentSummary(Long studentId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return false;
+        }
+        boolean staff = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_TEACHER".equals(authority.getAuthority())
+                        || "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (staff) {
+            return true;
+        }
+        if (!(authentication.getPrincipal() instanceof CustomUserPrincipal principal)) {
+            return false;
+        }
+        if (principal.getId().equals(studentId)) {
+            return true;
+        }
+        boolean guardian = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_GUARDIAN".equals(authority.getAuthority()));
+        return guardian && studyTimeService.isGuardianOf(principal.getId(), studentId);
+    }
+
     // Helper methods for converting entities to responses
     // TODO: Controller에 Entity → DTO 변환 로직이 있는 것은 안티패턴
     // TODO: Service에서 DTO를 반환하거나 별도 Mapper 클래스로 분리 필요
@@ -7,7 +7,10 @@ import saomath.checkusserver.auth.domain.User;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "actual_study_time")
+@Table(name = "actual_study_time", indexes = {
+    // 진행 중인 세션(end_time IS NULL) 조회용
+    @Index(name = "idx_actual_study_time_student_end", columnList = "student_id, end_time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -7,7 +7,9 @@ import saomath.checkusserver.auth.domain.User;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "assigned_study_time")
+@Table(name = "assigned_study_time", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_assigned_study_time_weekly_slot", columnNames = {"weekly_schedule_id", "start_time"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,6 +37,10 @@ public class AssignedStudyTime {
     @Column(name = "assigned_by", nullable = false)
     private Long assignedBy;
 
+    // 주간 시간표에서 생성된 배정이면 원본 시간표 ID (직접 배정은 null)
+    @Column(name = "weekly_schedule_id")
+    private Long weeklyScheduleId;
+
     // 연관 관계 매핑
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", insertable = false, updatable = false)
@@ -0,0 +1,54 @@
+package saomath.checkusserver.studyTime.domain;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 학생별 일일 공부 시간 집계
+ * 배정/실제 공부 시간 원본에서 계산한 값으로, 주간/월간 요약 조회는 이 테이블만 읽습니다.
+ */
+@Entity
+@Table(name = "study_daily_aggregate", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_study_daily_aggregate_student_date", columnNames = {"student_id", "study_date"})
+}, indexes = {
+    // 날짜 단위 재계산 시 기존 집계 조회용
+    @Index(name = "idx_study_daily_aggregate_date", columnList = "study_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyDailyAggregate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "study_date", nullable = false)
+    private LocalDate studyDate;
+
+    // 그날 시작하는 배정 시간 합계 (분)
+    @Column(name = "assigned_minutes", nullable = false)
+    private int assignedMinutes;
+
+    // 그날 종료된 접속 세션의 합집합 시간 (분, 겹치는 세션은 한 번만 계산)
+    @Column(name = "attended_minutes", nullable = false)
+    private int attendedMinutes;
+
+    @Column(name = "late_count", nullable = false)
+    private int lateCount;
+
+    @Column(name = "early_leave_count", nullable = false)
+    private int earlyLeaveCount;
+
+    @Column(name = "no_show_count", nullable = false)
+    private int noShowCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
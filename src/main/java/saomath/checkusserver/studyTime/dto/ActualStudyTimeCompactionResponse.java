@@ -0,0 +1,30 @@
+package saomath.checkusserver.studyTime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "실제 공부 시간 세션 정리(compaction) 결과")
+public class ActualStudyTimeCompactionResponse {
+
+    @Schema(description = "정리 시작 날짜", example = "2025-06-01")
+    private LocalDate startDate;
+
+    @Schema(description = "정리 종료 날짜 (포함)", example = "2025-06-07")
+    private LocalDate endDate;
+
+    @Schema(description = "정리 전 대상 세션 수", example = "1200")
+    private int rowsBefore;
+
+    @Schema(description = "정리 후 세션 수", example = "310")
+    private int rowsAfter;
+
+    @Schema(description = "정리에 걸린 시간(ms)", example = "850")
+    private long elapsedMs;
+}
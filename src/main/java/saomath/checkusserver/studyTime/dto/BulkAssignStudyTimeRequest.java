@@ -0,0 +1,20 @@
+package saomath.checkusserver.studyTime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "공부 시간 대량 배정 요청")
+public class BulkAssignStudyTimeRequest {
+
+    @NotEmpty(message = "배정할 공부 시간 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 배정할 수 있습니다")
+    @Valid
+    @Schema(description = "배정할 공부 시간 목록 (하나라도 실패하면 전체가 배정되지 않습니다)")
+    private List<AssignStudyTimeRequest> items;
+}
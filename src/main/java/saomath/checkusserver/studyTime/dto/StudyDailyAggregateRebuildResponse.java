@@ -0,0 +1,27 @@
+package saomath.checkusserver.studyTime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일일 공부 집계 재생성 결과")
+public class StudyDailyAggregateRebuildResponse {
+
+    @Schema(description = "재생성 시작 날짜", example = "2025-06-01")
+    private LocalDate startDate;
+
+    @Schema(description = "재생성 종료 날짜 (포함)", example = "2025-06-30")
+    private LocalDate endDate;
+
+    @Schema(description = "다시 계산한 학생-날짜 수", example = "1240")
+    private int recomputed;
+
+    @Schema(description = "재생성에 걸린 시간(ms)", example = "950")
+    private long elapsedMs;
+}
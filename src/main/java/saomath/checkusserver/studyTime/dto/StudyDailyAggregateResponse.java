@@ -0,0 +1,44 @@
+package saomath.checkusserver.studyTime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import saomath.checkusserver.studyTime.domain.StudyDailyAggregate;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "학생별 일일 공부 시간 집계")
+public class StudyDailyAggregateResponse {
+
+    @Schema(description = "날짜", example = "2025-06-02")
+    private LocalDate date;
+
+    @Schema(description = "배정된 공부 시간(분)", example = "180")
+    private int assignedMinutes;
+
+    @Schema(description = "실제 공부 시간(분)", example = "165")
+    private int attendedMinutes;
+
+    @Schema(description = "지각 횟수 (배정 시작 5분 이후 첫 입장)", example = "1")
+    private int lateCount;
+
+    @Schema(description = "조기 퇴장 횟수 (배정 종료 5분 이전 마지막 퇴장)", example = "0")
+    private int earlyLeaveCount;
+
+    @Schema(description = "미접속 횟수 (끝난 배정 중 접속 기록이 없는 배정)", example = "0")
+    private int noShowCount;
+
+    public static StudyDailyAggregateResponse fromEntity(StudyDailyAggregate aggregate) {
+        return new StudyDailyAggregateResponse(
+                aggregate.getStudyDate(),
+                aggregate.getAssignedMinutes(),
+                aggregate.getAttendedMinutes(),
+                aggregate.getLateCount(),
+                aggregate.getEarlyLeaveCount(),
+                aggregate.getNoShowCount());
+    }
+}
@@ -0,0 +1,37 @@
+package saomath.checkusserver.studyTime.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "실시간 모니터링 학생별 변경 이벤트")
+public class StudyMonitorDeltaResponse {
+
+    @Schema(description = "변경 종류", example = "SESSION_STARTED")
+    private DeltaType type;
+
+    @Schema(description = "학생 ID", example = "1")
+    private Long studentId;
+
+    @Schema(description = "변경 후 학생 공부시간 정보 (STUDENT_REMOVED인 경우 null)")
+    private StudyTimeMonitorResponse.StudentStudyInfo student;
+
+    @Schema(description = "변경 감지 시간", example = "2025-06-18T10:00:00")
+    private LocalDateTime occurredAt;
+
+    @Schema(description = "변경 종류")
+    public enum DeltaType {
+        STATUS_CHANGED,      // 현재 상태 변경 (출석/결석/없음)
+        SESSION_STARTED,     // 접속 세션 시작
+        SESSION_ENDED,       // 접속 세션 종료
+        ASSIGNMENT_CHANGED,  // 배정 시간 추가/수정/삭제
+        STUDENT_CHANGED,     // 학생 정보 변경
+        STUDENT_REMOVED      // 모니터링 대상에서 제외 (삭제, 퇴원 등)
+    }
+}
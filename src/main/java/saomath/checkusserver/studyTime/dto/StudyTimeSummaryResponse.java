@@ -0,0 +1,43 @@
+package saomath.checkusserver.studyTime.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "학생별 기간(주간/월간) 공부 시간 요약")
+public class StudyTimeSummaryResponse {
+
+    @Schema(description = "학생 ID", example = "1")
+    private Long studentId;
+
+    @Schema(description = "시작 날짜", example = "2025-06-02")
+    private LocalDate startDate;
+
+    @Schema(description = "종료 날짜 (포함)", example = "2025-06-08")
+    private LocalDate endDate;
+
+    @Schema(description = "배정된 공부 시간 합계(분)", example = "900")
+    private int assignedMinutes;
+
+    @Schema(description = "실제 공부 시간 합계(분)", example = "840")
+    private int attendedMinutes;
+
+    @Schema(description = "지각 횟수", example = "2")
+    private int lateCount;
+
+    @Schema(description = "조기 퇴장 횟수", example = "1")
+    private int earlyLeaveCount;
+
+    @Schema(description = "미접속 횟수", example = "0")
+    private int noShowCount;
+
+    @Schema(description = "일별 집계 (집계가 있는 날짜만)")
+    private List<StudyDailyAggregateResponse> days;
+}
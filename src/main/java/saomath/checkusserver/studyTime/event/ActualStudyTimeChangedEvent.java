@@ -0,0 +1,28 @@
+package saomath.checkusserver.studyTime.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실제 공부 시간(접속 세션) 변경 이벤트
+ * 세션이 시작되거나 종료되거나 배정 시간에 연결될 때 발행
+ */
+@Getter
+@Builder
+public class ActualStudyTimeChangedEvent {
+    private final ChangeType changeType;
+    private final Long actualStudyTimeId;
+    private final Long studentId;
+    private final Long assignedStudyTimeId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final String source;
+
+    public enum ChangeType {
+        STARTED,  // 세션 시작
+        ENDED,    // 세션 종료
+        LINKED    // 미할당 세션을 배정 시간에 연결
+    }
+}
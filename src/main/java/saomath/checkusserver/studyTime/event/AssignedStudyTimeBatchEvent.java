@@ -0,0 +1,21 @@
+package saomath.checkusserver.studyTime.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 배정된 공부 시간 대량 변경 이벤트
+ * 대량/반 배정처럼 여러 건을 한 번에 저장할 때 건별 AssignedStudyTimeChangedEvent(batched=true)와 함께 한 번 발행합니다.
+ * 학생 단위로 DB를 다시 읽는 리스너는 건별 이벤트 대신 이 이벤트로 한 번에 처리합니다.
+ */
+@Getter
+@Builder
+public class AssignedStudyTimeBatchEvent {
+    private final Set<Long> studentIds;
+    // 변경된 배정 시작 시각 범위
+    private final LocalDateTime earliestStartTime;
+    private final LocalDateTime latestStartTime;
+}
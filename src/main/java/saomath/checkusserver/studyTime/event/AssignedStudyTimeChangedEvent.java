@@ -0,0 +1,33 @@
+package saomath.checkusserver.studyTime.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배정된 공부 시간 변경 이벤트
+ * 공부 시간이 배정, 수정, 삭제될 때 발행
+ */
+@Getter
+@Builder
+public class AssignedStudyTimeChangedEvent {
+    private final ChangeType changeType;
+    private final Long assignedStudyTimeId;
+    private final Long studentId;
+    private final String title;
+    private final Long activityId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    // 수정 전 시간 (UPDATED인 경우에만 설정)
+    private final LocalDateTime previousStartTime;
+    private final LocalDateTime previousEndTime;
+    // 대량 변경의 일부 (학생별 재조회는 AssignedStudyTimeBatchEvent에서 한 번에 처리)
+    private final boolean batched;
+
+    public enum ChangeType {
+        CREATED,  // 신규 배정
+        UPDATED,  // 배정 수정
+        DELETED   // 배정 삭제
+    }
+}
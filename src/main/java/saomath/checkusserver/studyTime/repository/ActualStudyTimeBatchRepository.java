@@ -0,0 +1,123 @@
+package saomath.checkusserver.studyTime.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실제 공부 시간 대량 저장 (JDBC 배치)
+ *
+ * 시작 시 음성채널 상태 맞추기처럼 여러 학생의 세션을 한 번에 여는 경우에 사용합니다.
+ * IDENTITY 키라 Hibernate 배치가 꺼지므로 AssignedStudyTimeBatchRepository와 같은 방식으로 저장합니다.
+ * 세션 정리(compaction)의 종료 시각 갱신과 비정상 종료로 남은 세션 닫기도 여기서 배치로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActualStudyTimeBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL =
+            "INSERT INTO actual_study_time (student_id, assigned_study_time_id, start_time, end_time, source) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_END_TIME_SQL = "UPDATE actual_study_time SET end_time = ? WHERE id = ?";
+    private static final String CLOSE_OPEN_SQL =
+            "UPDATE actual_study_time SET end_time = ? WHERE id = ? AND end_time IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 세션 목록을 배치로 저장하고 생성된 ID를 각 엔티티에 설정합니다.
+     */
+    public List<ActualStudyTime> insertAll(List<ActualStudyTime> sessions) {
+        if (sessions.isEmpty()) {
+            return sessions;
+        }
+
+        entityManager.flush();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < sessions.size(); from += BATCH_SIZE) {
+                    List<ActualStudyTime> chunk = sessions.subList(from, Math.min(from + BATCH_SIZE, sessions.size()));
+                    for (ActualStudyTime session : chunk) {
+                        statement.setLong(1, session.getStudentId());
+                        statement.setObject(2, session.getAssignedStudyTimeId(), Types.BIGINT);
+                        statement.setTimestamp(3, Timestamp.valueOf(session.getStartTime()));
+                        statement.setTimestamp(4, session.getEndTime() == null ? null : Timestamp.valueOf(session.getEndTime()));
+                        statement.setString(5, session.getSource());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        int index = 0;
+                        while (keys.next() && index < chunk.size()) {
+                            chunk.get(index++).setId(keys.getLong(1));
+                        }
+                        if (index != chunk.size()) {
+                            throw new IllegalStateException("생성된 세션 ID 수가 저장한 행 수와 다릅니다: " + index + "/" + chunk.size());
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+        return sessions;
+    }
+
+    /**
+     * 세션별 종료 시각을 배치로 갱신합니다.
+     * @param endTimes 세션 ID -> 새 종료 시각
+     */
+    public void updateEndTimes(Map<Long, LocalDateTime> endTimes) {
+        if (endTimes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(endTimes.size());
+        endTimes.forEach((id, endTime) -> args.add(new Object[]{Timestamp.valueOf(endTime), id}));
+        jdbcTemplate.batchUpdate(UPDATE_END_TIME_SQL, args);
+    }
+
+    /**
+     * 아직 열려 있는 세션만 세션별 종료 시각으로 닫습니다. (그 사이 종료된 세션은 건드리지 않음)
+     * 영속성 컨텍스트의 세션 엔티티가 DB와 달라지므로 반영 후 비웁니다.
+     * @param endTimes 세션 ID -> 종료 시각
+     * @return 닫은 세션 수
+     */
+    public int closeOpenSessions(Map<Long, LocalDateTime> endTimes) {
+        if (endTimes.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+        List<Object[]> args = new ArrayList<>(endTimes.size());
+        endTimes.forEach((id, endTime) -> args.add(new Object[]{Timestamp.valueOf(endTime), id}));
+        int closed = 0;
+        for (int[] counts : jdbcTemplate.batchUpdate(CLOSE_OPEN_SQL, args, BATCH_SIZE,
+                (statement, row) -> {
+                    statement.setTimestamp(1, (Timestamp) row[0]);
+                    statement.setLong(2, (Long) row[1]);
+                })) {
+            for (int count : counts) {
+                // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 닫은 것으로 셈
+                closed += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        entityManager.clear();
+        return closed;
+    }
+}
@@ -29,6 +29,25 @@ public interface ActualStudyTimeRepository extends JpaRepository<ActualStudyTime
     
     // 진행 중인 공부 시간 조회 (종료 시간이 null인 것)
     List<ActualStudyTime> findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(Long studentId);
+
+    // 전체 진행 중인 공부 시간 조회 (진행 중 세션 레지스트리 재구성용)
+    List<ActualStudyTime> findByEndTimeIsNull();
+
+    // 세션 정리(compaction)용: 하루 구간에 시작해 종료된 세션이 있는 학생 ID
+    @Query("SELECT DISTINCT ast.studentId FROM ActualStudyTime ast " +
+           "WHERE ast.startTime >= :from AND ast.startTime < :to AND ast.endTime IS NOT NULL " +
+           "ORDER BY ast.studentId")
+    List<Long> findStudentIdsWithClosedSessions(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 세션 정리(compaction)용: 학생 묶음의 하루 구간 종료된 세션 (학생, 배정, 시작 시각 순)
+    @Query("SELECT ast FROM ActualStudyTime ast WHERE ast.studentId IN :studentIds " +
+           "AND ast.startTime >= :from AND ast.startTime < :to AND ast.endTime IS NOT NULL " +
+           "ORDER BY ast.studentId, ast.assignedStudyTimeId, ast.startTime, ast.id")
+    List<ActualStudyTime> findClosedByStudentIdsAndRange(
+            @Param("studentIds") List<Long> studentIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
     
 
     
@@ -68,4 +87,19 @@ public interface ActualStudyTimeRepository extends JpaRepository<ActualStudyTime
     @Query("SELECT ast FROM ActualStudyTime ast WHERE ast.assignedStudyTimeId IN :assignedStudyTimeIds " +
            "ORDER BY ast.assignedStudyTimeId, ast.startTime")
     List<ActualStudyTime> findByAssignedStudyTimeIds(@Param("assignedStudyTimeIds") List<Long> assignedStudyTimeIds);
+    
+    // 일일 집계: 구간과 겹치는 여러 학생의 세션 (진행 중 세션 포함)
+    @Query("SELECT ast FROM ActualStudyTime ast WHERE ast.studentId IN :studentIds " +
+           "AND ast.startTime < :to AND (ast.endTime IS NULL OR ast.endTime > :from) " +
+           "ORDER BY ast.studentId, ast.startTime")
+    List<ActualStudyTime> findOverlappingByStudentIds(
+            @Param("studentIds") List<Long> studentIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 일일 집계: 구간과 겹치는 세션이 있는 학생
+    @Query("SELECT DISTINCT ast.studentId FROM ActualStudyTime ast " +
+           "WHERE ast.startTime < :to AND (ast.endTime IS NULL OR ast.endTime > :from)")
+    List<Long> findStudentIdsWithOverlappingSessions(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
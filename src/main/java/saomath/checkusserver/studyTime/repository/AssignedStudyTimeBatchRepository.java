@@ -0,0 +1,79 @@
+package saomath.checkusserver.studyTime.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 배정 공부 시간 대량 저장 (JDBC 배치)
+ *
+ * AssignedStudyTime은 IDENTITY 키를 사용해 Hibernate 배치 insert가 꺼지므로, 대량 배정은 JDBC 배치로 직접 저장합니다.
+ * 생성된 키는 getGeneratedKeys로 받아 엔티티에 채웁니다. MySQL은 rewriteBatchedStatements=true일 때 한 번의 다중 행 INSERT로 전송됩니다.
+ * 호출한 쪽 트랜잭션의 커넥션을 그대로 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssignedStudyTimeBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL =
+            "INSERT INTO assigned_study_time (title, student_id, activity_id, start_time, end_time, assigned_by, weekly_schedule_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 배정 목록을 배치로 저장하고 생성된 ID를 각 엔티티에 설정합니다.
+     */
+    public List<AssignedStudyTime> insertAll(List<AssignedStudyTime> assignedStudyTimes) {
+        if (assignedStudyTimes.isEmpty()) {
+            return assignedStudyTimes;
+        }
+
+        // 같은 트랜잭션에서 아직 반영되지 않은 JPA 변경(학생, 활동 등)을 먼저 내보냄
+        entityManager.flush();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < assignedStudyTimes.size(); from += BATCH_SIZE) {
+                    List<AssignedStudyTime> chunk =
+                            assignedStudyTimes.subList(from, Math.min(from + BATCH_SIZE, assignedStudyTimes.size()));
+                    for (AssignedStudyTime assigned : chunk) {
+                        statement.setString(1, assigned.getTitle());
+                        statement.setLong(2, assigned.getStudentId());
+                        statement.setLong(3, assigned.getActivityId());
+                        statement.setTimestamp(4, Timestamp.valueOf(assigned.getStartTime()));
+                        statement.setTimestamp(5, Timestamp.valueOf(assigned.getEndTime()));
+                        statement.setLong(6, assigned.getAssignedBy());
+                        statement.setObject(7, assigned.getWeeklyScheduleId(), Types.BIGINT);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        int index = 0;
+                        while (keys.next() && index < chunk.size()) {
+                            chunk.get(index++).setId(keys.getLong(1));
+                        }
+                        if (index != chunk.size()) {
+                            throw new IllegalStateException("생성된 배정 ID 수가 저장한 행 수와 다릅니다: " + index + "/" + chunk.size());
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+        return assignedStudyTimes;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,6 +33,32 @@ public interface AssignedStudyTimeRepository extends JpaRepository<AssignedStudy
             @Param("endDate") LocalDateTime endDate
     );
     
+    // 기간과 겹치는 전체 배정 조회 (주간 시간표 일괄 생성 시 중복/겹침 검사용)
+    @Query("SELECT ast FROM AssignedStudyTime ast " +
+           "WHERE ast.startTime <= :endTime AND ast.endTime >= :startTime")
+    List<AssignedStudyTime> findAllOverlapping(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+
+    // 아직 시작하지 않고 출석 기록도 없는 시간표 생성 배정 (시간표 수정/삭제 시 정리용)
+    @Query("SELECT ast FROM AssignedStudyTime ast WHERE ast.weeklyScheduleId = :weeklyScheduleId " +
+           "AND ast.startTime > :now " +
+           "AND NOT EXISTS (SELECT 1 FROM ActualStudyTime actual WHERE actual.assignedStudyTimeId = ast.id)")
+    List<AssignedStudyTime> findUpcomingByWeeklyScheduleId(
+            @Param("weeklyScheduleId") Long weeklyScheduleId,
+            @Param("now") LocalDateTime now
+    );
+
+    // 여러 학생의 기간 내 배정을 한 번에 조회 (대량 배정 겹침 검사용)
+    @Query("SELECT ast FROM AssignedStudyTime ast WHERE ast.studentId IN :studentIds " +
+           "AND ast.startTime <= :endTime AND ast.endTime >= :startTime")
+    List<AssignedStudyTime> findOverlappingStudyTimesForStudents(
+            @Param("studentIds") Collection<Long> studentIds,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+    
     @Query("SELECT ast FROM AssignedStudyTime ast WHERE ast.studentId = :studentId " +
            "AND ast.startTime <= :endTime AND ast.endTime >= :startTime")
     List<AssignedStudyTime> findOverlappingStudyTimes(
@@ -87,6 +114,16 @@ public interface AssignedStudyTimeRepository extends JpaRepository<AssignedStudy
             @Param("end") LocalDateTime end
     );
     
+    // 정확한 시간에 시작했으나 출석 기록이 없는 공부 시간 - 연관 엔티티와 함께 조회 (미접속 알림용)
+    @Query("SELECT ast FROM AssignedStudyTime ast " +
+           "LEFT JOIN FETCH ast.student " +
+           "LEFT JOIN FETCH ast.activity " +
+           "WHERE ast.startTime = :startTime " +
+           "AND NOT EXISTS (SELECT 1 FROM ActualStudyTime actual " +
+           "WHERE actual.assignedStudyTimeId = ast.id) " +
+           "ORDER BY ast.startTime")
+    List<AssignedStudyTime> findStartedWithoutAttendanceWithDetails(@Param("startTime") LocalDateTime startTime);
+    
     // 현재 시간에 진행 중인 공부 시간 조회 (출석 확인용)
     @Query("SELECT ast FROM AssignedStudyTime ast WHERE ast.studentId = :studentId " +
            "AND :currentTime BETWEEN ast.startTime AND ast.endTime")
@@ -104,6 +141,14 @@ public interface AssignedStudyTimeRepository extends JpaRepository<AssignedStudy
             @Param("toTime") LocalDateTime toTime
     );
     
+    // 특정 시간대에 시작하는 공부 시간의 시작 시각 목록 (알림 발송 계획용)
+    @Query("SELECT DISTINCT ast.startTime FROM AssignedStudyTime ast WHERE " +
+           "ast.startTime BETWEEN :fromTime AND :toTime")
+    List<LocalDateTime> findDistinctStartTimesBetween(
+            @Param("fromTime") LocalDateTime fromTime,
+            @Param("toTime") LocalDateTime toTime
+    );
+    
     // 시작했으나 출석하지 않은 공부 시간 조회 (미접속 알림용)
     @Query("SELECT ast FROM AssignedStudyTime ast WHERE " +
            "ast.startTime BETWEEN :fromTime AND :toTime " +
@@ -144,4 +189,29 @@ public interface AssignedStudyTimeRepository extends JpaRepository<AssignedStudy
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
+    
+    // 배치 조회: 여러 학생의 할당된 공부시간 ID만 조회 (모니터링 정합성 검사용)
+    @Query("SELECT ast.id FROM AssignedStudyTime ast " +
+           "WHERE ast.studentId IN :studentIds " +
+           "AND ast.startTime BETWEEN :startDate AND :endDate")
+    List<Long> findIdsByStudentIdsAndDateRange(
+            @Param("studentIds") List<Long> studentIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+    
+    // 일일 집계: 구간 안에 시작하는 여러 학생의 배정 (연관 엔티티 없이)
+    @Query("SELECT ast FROM AssignedStudyTime ast WHERE ast.studentId IN :studentIds " +
+           "AND ast.startTime >= :from AND ast.startTime < :to " +
+           "ORDER BY ast.studentId, ast.startTime")
+    List<AssignedStudyTime> findStartingInRangeByStudentIds(
+            @Param("studentIds") List<Long> studentIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 일일 집계: 구간 안에 시작하는 배정이 있는 학생
+    @Query("SELECT DISTINCT ast.studentId FROM AssignedStudyTime ast " +
+           "WHERE ast.startTime >= :from AND ast.startTime < :to")
+    List<Long> findStudentIdsStartingInRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
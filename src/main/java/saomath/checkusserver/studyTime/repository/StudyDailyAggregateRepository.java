@@ -0,0 +1,26 @@
+package saomath.checkusserver.studyTime.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import saomath.checkusserver.studyTime.domain.StudyDailyAggregate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StudyDailyAggregateRepository extends JpaRepository<StudyDailyAggregate, Long> {
+
+    // 주간/월간 요약 조회
+    List<StudyDailyAggregate> findByStudentIdAndStudyDateBetweenOrderByStudyDate(
+            Long studentId, LocalDate startDate, LocalDate endDate);
+
+    // 재계산 대상 학생들의 기존 집계
+    List<StudyDailyAggregate> findByStudyDateAndStudentIdIn(LocalDate studyDate, Collection<Long> studentIds);
+
+    // 날짜 전체 재계산 시 기존 집계가 있는 학생 (원본이 모두 삭제된 경우 집계도 지우기 위해)
+    @Query("SELECT sda.studentId FROM StudyDailyAggregate sda WHERE sda.studyDate = :studyDate")
+    List<Long> findStudentIdsByStudyDate(@Param("studyDate") LocalDate studyDate);
+}
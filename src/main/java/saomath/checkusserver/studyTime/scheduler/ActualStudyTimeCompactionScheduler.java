@@ -0,0 +1,43 @@
+package saomath.checkusserver.studyTime.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.studyTime.service.ActualStudyTimeCompactionService;
+
+import java.time.LocalDate;
+
+/**
+ * 매일 새벽 지난 며칠(lookback)의 실제 공부 시간 세션을 정리합니다.
+ * 이미 정리된 날짜는 바뀌지 않으므로, 전날 실패했더라도 다음 실행에서 함께 처리됩니다.
+ */
+@Slf4j
+@Component
+public class ActualStudyTimeCompactionScheduler {
+
+    private final ActualStudyTimeCompactionService compactionService;
+    private final boolean enabled;
+    private final int lookbackDays;
+
+    public ActualStudyTimeCompactionScheduler(ActualStudyTimeCompactionService compactionService,
+                                              @Value("${study-time.compaction.enabled:true}") boolean enabled,
+                                              @Value("${study-time.compaction.lookback-days:3}") int lookbackDays) {
+        this.compactionService = compactionService;
+        this.enabled = enabled;
+        this.lookbackDays = lookbackDays;
+    }
+
+    @Scheduled(cron = "${study-time.compaction.cron:0 0 4 * * *}")
+    public void compactRecentDays() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            compactionService.compact(yesterday.minusDays(lookbackDays - 1L), yesterday);
+        } catch (Exception e) {
+            log.error("실제 공부 시간 정리 작업 실패", e);
+        }
+    }
+}
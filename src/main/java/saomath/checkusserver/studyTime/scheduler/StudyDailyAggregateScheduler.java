@@ -0,0 +1,43 @@
+package saomath.checkusserver.studyTime.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.studyTime.service.StudyDailyAggregateService;
+
+import java.time.LocalDate;
+
+/**
+ * 매일 새벽 세션 정리(compaction) 이후 지난 며칠(lookback)의 일일 공부 집계를 다시 계산합니다.
+ * 이벤트로 반영되지 않는 값(끝난 배정의 미접속)과 세션 병합 결과가 여기서 확정됩니다.
+ */
+@Slf4j
+@Component
+public class StudyDailyAggregateScheduler {
+
+    private final StudyDailyAggregateService studyDailyAggregateService;
+    private final boolean enabled;
+    private final int lookbackDays;
+
+    public StudyDailyAggregateScheduler(StudyDailyAggregateService studyDailyAggregateService,
+                                        @Value("${study-time.daily-aggregate.enabled:true}") boolean enabled,
+                                        @Value("${study-time.daily-aggregate.lookback-days:3}") int lookbackDays) {
+        this.studyDailyAggregateService = studyDailyAggregateService;
+        this.enabled = enabled;
+        this.lookbackDays = lookbackDays;
+    }
+
+    @Scheduled(cron = "${study-time.daily-aggregate.cron:0 30 4 * * *}")
+    public void rebuildRecentDays() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            studyDailyAggregateService.rebuild(yesterday.minusDays(lookbackDays - 1L), yesterday);
+        } catch (Exception e) {
+            log.error("일일 공부 집계 재계산 작업 실패", e);
+        }
+    }
+}
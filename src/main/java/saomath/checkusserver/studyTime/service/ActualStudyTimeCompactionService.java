@@ -0,0 +1,154 @@
+package saomath.checkusserver.studyTime.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import saomath.checkusserver.common.exception.BusinessException;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.dto.ActualStudyTimeCompactionResponse;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeBatchRepository;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 공부 시간 세션 정리(compaction)
+ *
+ * 재접속/채널 이동으로 같은 학생, 같은 배정의 세션이 잘게 쪼개지거나 겹쳐 쌓이면 조회/모니터링이 그만큼 많은 행을 읽게 됩니다.
+ * 지난 날짜의 종료된 세션 중 같은 학생, 같은 배정(미배정끼리 포함)이고 간격이 gap 이하인 세션을 하나로 합칩니다.
+ * 합친 세션은 사이의 간격까지 공부 시간으로 인정하게 되므로 gap 기본값은 0(맞닿거나 겹치는 세션만 병합)입니다.
+ * 짧은 재접속 공백을 인정하는 운영 정책이 있을 때만 gap-seconds를 늘립니다.
+ * - 날짜(시작 시각 기준) 단위로 나누고, 하루 안에서도 학생 batchSize명씩 별도 트랜잭션으로 처리
+ * - 남는 세션(가장 이른 것)의 종료 시각은 배치 UPDATE, 합쳐진 세션은 한 번의 DELETE
+ * - 이미 정리된 구간은 다시 실행해도 바뀌지 않으므로, 중간에 실패해도 같은 구간으로 다시 실행하면 됩니다.
+ * 진행 중인 세션과 오늘 이후 날짜는 건드리지 않습니다.
+ * 병합은 이벤트를 발행하지 않으므로, 바뀐 날짜의 지난 날짜 모니터링 스냅샷은 직접 무효화합니다.
+ */
+@Slf4j
+@Service
+public class ActualStudyTimeCompactionService {
+
+    static final int MAX_DAYS = 92;
+
+    private final ActualStudyTimeRepository actualStudyTimeRepository;
+    private final ActualStudyTimeBatchRepository actualStudyTimeBatchRepository;
+    private final MonitorSnapshotCache monitorSnapshotCache;
+    private final TransactionTemplate batchTransaction;
+    private final Duration gap;
+    private final int batchSize;
+
+    public ActualStudyTimeCompactionService(ActualStudyTimeRepository actualStudyTimeRepository,
+                                            ActualStudyTimeBatchRepository actualStudyTimeBatchRepository,
+                                            MonitorSnapshotCache monitorSnapshotCache,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${study-time.compaction.gap-seconds:0}") long gapSeconds,
+                                            @Value("${study-time.compaction.batch-size:200}") int batchSize) {
+        this.actualStudyTimeRepository = actualStudyTimeRepository;
+        this.actualStudyTimeBatchRepository = actualStudyTimeBatchRepository;
+        this.monitorSnapshotCache = monitorSnapshotCache;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.gap = Duration.ofSeconds(gapSeconds);
+        this.batchSize = batchSize;
+    }
+
+    private record BatchResult(int before, int after) {
+    }
+
+    /**
+     * 기간 안의 날짜별로 세션을 정리합니다.
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜 (포함, 어제까지만 허용)
+     * @return 정리 전/후 행 수
+     */
+    public ActualStudyTimeCompactionResponse compact(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException("종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+        if (!endDate.isBefore(LocalDate.now())) {
+            throw new BusinessException("오늘 이후 날짜는 정리할 수 없습니다.");
+        }
+        if (startDate.plusDays(MAX_DAYS).isBefore(endDate)) {
+            throw new BusinessException("정리 기간은 " + MAX_DAYS + "일 이하여야 합니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        int before = 0;
+        int after = 0;
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            BatchResult result = compactDay(day);
+            before += result.before();
+            after += result.after();
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("실제 공부 시간 정리 완료 - 기간: {} ~ {}, 정리 전: {}건, 정리 후: {}건, 소요: {}ms",
+                startDate, endDate, before, after, elapsedMs);
+        return new ActualStudyTimeCompactionResponse(startDate, endDate, before, after, elapsedMs);
+    }
+
+    private BatchResult compactDay(LocalDate day) {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+        List<Long> studentIds = actualStudyTimeRepository.findStudentIdsWithClosedSessions(from, to);
+
+        int before = 0;
+        int after = 0;
+        for (int index = 0; index < studentIds.size(); index += batchSize) {
+            List<Long> batch = studentIds.subList(index, Math.min(index + batchSize, studentIds.size()));
+            BatchResult result = batchTransaction.execute(status -> compactBatch(batch, from, to));
+            before += result.before();
+            after += result.after();
+        }
+        if (before != after) {
+            monitorSnapshotCache.invalidateRange(from, to);
+            log.debug("실제 공부 시간 정리 - 날짜: {}, 학생: {}명, {}건 -> {}건", day, studentIds.size(), before, after);
+        }
+        return new BatchResult(before, after);
+    }
+
+    private BatchResult compactBatch(List<Long> studentIds, LocalDateTime from, LocalDateTime to) {
+        List<ActualStudyTime> sessions = actualStudyTimeRepository.findClosedByStudentIdsAndRange(studentIds, from, to);
+
+        Map<Long, LocalDateTime> extended = new HashMap<>();
+        List<Long> merged = new ArrayList<>();
+        ActualStudyTime current = null;
+        LocalDateTime currentEnd = null;
+        for (ActualStudyTime session : sessions) {
+            if (current != null && sameGroup(current, session)
+                    && !session.getStartTime().isAfter(currentEnd.plus(gap))) {
+                // 이어지거나 겹치는 세션: 앞 세션에 합침
+                merged.add(session.getId());
+                if (session.getEndTime().isAfter(currentEnd)) {
+                    currentEnd = session.getEndTime();
+                    extended.put(current.getId(), currentEnd);
+                }
+                continue;
+            }
+            current = session;
+            currentEnd = session.getEndTime();
+        }
+
+        actualStudyTimeBatchRepository.updateEndTimes(extended);
+        if (!merged.isEmpty()) {
+            actualStudyTimeRepository.deleteAllByIdInBatch(merged);
+        }
+        return new BatchResult(sessions.size(), sessions.size() - merged.size());
+    }
+
+    private static boolean sameGroup(ActualStudyTime a, ActualStudyTime b) {
+        return a.getStudentId().equals(b.getStudentId())
+                && Objects.equals(a.getAssignedStudyTimeId(), b.getAssignedStudyTimeId());
+    }
+}
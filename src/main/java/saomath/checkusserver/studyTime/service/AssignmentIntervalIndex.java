@@ -0,0 +1,265 @@
+package saomath.checkusserver.studyTime.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학생별 배정 공부 시간 구간 인덱스
+ *
+ * 현재 시각 전후 구간(window)에 걸친 배정을 학생별로 시작 시각 순 배열에 담아 두고,
+ * 음성채널 입장/이동마다 나가던 "지금 진행 중", "±30분과 겹침", "특정 시각을 포함" 조회를 DB 없이 처리합니다.
+ * - 시작 시 한 번, 이후 주기적으로 구간을 다시 읽어 앞으로 밀어냄
+ * - 배정 생성/수정/삭제 이벤트는 커밋 전에 바로 반영하고, 롤백되면 해당 학생을 DB 조회 대상으로 돌림
+ * - 구간을 벗어난 조회, 아직 구성되지 않은 경우, 불확실한 학생은 DB로 조회
+ */
+@Slf4j
+@Component
+public class AssignmentIntervalIndex {
+
+    private static final Comparator<Interval> BY_START =
+            Comparator.comparing(Interval::startTime).thenComparing(Interval::id);
+
+    private final AssignedStudyTimeRepository assignedStudyTimeRepository;
+    private final Duration lookBehind;
+    private final Duration lookAhead;
+
+    record Interval(Long id, Long studentId, String title, Long activityId,
+                    LocalDateTime startTime, LocalDateTime endTime, Long assignedBy) {
+
+        static Interval of(AssignedStudyTime assigned) {
+            return new Interval(assigned.getId(), assigned.getStudentId(), assigned.getTitle(), assigned.getActivityId(),
+                    assigned.getStartTime(), assigned.getEndTime(), assigned.getAssignedBy());
+        }
+
+        boolean overlaps(LocalDateTime from, LocalDateTime to) {
+            return !startTime.isAfter(to) && !endTime.isBefore(from);
+        }
+
+        AssignedStudyTime toEntity() {
+            return AssignedStudyTime.builder()
+                    .id(id)
+                    .studentId(studentId)
+                    .title(title)
+                    .activityId(activityId)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .assignedBy(assignedBy)
+                    .build();
+        }
+    }
+
+    /**
+     * 한 번 읽어온 구간. from~to와 겹치는 배정은 모두 byStudent에 있습니다(stale 학생 제외).
+     */
+    private record Window(LocalDateTime from, LocalDateTime to,
+                          Map<Long, Interval[]> byStudent, Set<Long> stale) {
+
+        boolean covers(Long studentId, LocalDateTime queryFrom, LocalDateTime queryTo) {
+            return !queryFrom.isBefore(from) && !queryTo.isAfter(to) && !stale.contains(studentId);
+        }
+    }
+
+    private volatile Window window;
+
+    // 아래 필드는 writeLock으로 보호. 구간을 읽는 도중 바뀐 학생을 찾기 위해 사용
+    private final Object writeLock = new Object();
+    private long version;
+    private final Map<Long, Long> touchedAt = new HashMap<>();
+
+    public AssignmentIntervalIndex(AssignedStudyTimeRepository assignedStudyTimeRepository,
+                                   @Value("${study-time.assignment-index.look-behind-hours:12}") long lookBehindHours,
+                                   @Value("${study-time.assignment-index.look-ahead-hours:36}") long lookAheadHours) {
+        this.assignedStudyTimeRepository = assignedStudyTimeRepository;
+        this.lookBehind = Duration.ofHours(lookBehindHours);
+        this.lookAhead = Duration.ofHours(lookAheadHours);
+    }
+
+    /**
+     * instant를 포함하는(시작 <= instant <= 종료) 배정, 시작 시각 순
+     */
+    public List<AssignedStudyTime> findContaining(Long studentId, LocalDateTime instant) {
+        Window current = window;
+        if (current == null || !current.covers(studentId, instant, instant)) {
+            return assignedStudyTimeRepository.findByStudentIdAndTimeRange(studentId, instant);
+        }
+        return collect(current.byStudent().get(studentId), instant, instant);
+    }
+
+    /**
+     * from~to와 겹치는(경계 포함) 배정, 시작 시각 순
+     */
+    public List<AssignedStudyTime> findOverlapping(Long studentId, LocalDateTime from, LocalDateTime to) {
+        Window current = window;
+        if (current == null || !current.covers(studentId, from, to)) {
+            return assignedStudyTimeRepository.findOverlappingStudyTimes(studentId, from, to);
+        }
+        return collect(current.byStudent().get(studentId), from, to);
+    }
+
+    public int size() {
+        Window current = window;
+        return current == null ? 0 : current.byStudent().values().stream().mapToInt(intervals -> intervals.length).sum();
+    }
+
+    private static List<AssignedStudyTime> collect(Interval[] intervals, LocalDateTime from, LocalDateTime to) {
+        List<AssignedStudyTime> result = new ArrayList<>();
+        if (intervals == null) {
+            return result;
+        }
+        // 시작 시각이 to 이후인 구간부터는 겹칠 수 없음
+        int end = upperBound(intervals, to);
+        for (int i = 0; i < end; i++) {
+            if (!intervals[i].endTime().isBefore(from)) {
+                result.add(intervals[i].toEntity());
+            }
+        }
+        return result;
+    }
+
+    // startTime <= instant 인 마지막 원소 다음 위치
+    private static int upperBound(Interval[] intervals, LocalDateTime instant) {
+        int low = 0;
+        int high = intervals.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[mid].startTime().isAfter(instant)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 배정 변경은 커밋 전에 바로 반영합니다. 같은 트랜잭션 안의 후속 조회가 최신 상태를 봐야 하기 때문입니다.
+     */
+    @EventListener
+    public void onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent event) {
+        Long studentId = event.getStudentId();
+        Long assignedId = event.getAssignedStudyTimeId();
+        if (studentId == null || assignedId == null) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            touchedAt.put(studentId, ++version);
+            Window current = window;
+            if (current == null) {
+                return;
+            }
+            Interval updated = event.getChangeType() == AssignedStudyTimeChangedEvent.ChangeType.DELETED
+                    || event.getStartTime() == null || event.getEndTime() == null
+                    ? null
+                    : new Interval(assignedId, studentId, event.getTitle(), event.getActivityId(),
+                            event.getStartTime(), event.getEndTime(), null);
+            current.byStudent().compute(studentId, (id, intervals) -> replace(intervals, assignedId,
+                    updated != null && updated.overlaps(current.from(), current.to()) ? updated : null));
+        }
+        markStaleOnRollback(studentId);
+    }
+
+    // 같은 ID를 빼고 새 구간을 정렬 위치에 넣은 새 배열 (읽는 쪽은 배열을 잠금 없이 그대로 사용)
+    private static Interval[] replace(Interval[] intervals, Long removeId, Interval insert) {
+        List<Interval> next = new ArrayList<>(intervals == null ? 1 : intervals.length + 1);
+        if (intervals != null) {
+            for (Interval interval : intervals) {
+                if (!interval.id().equals(removeId)) {
+                    next.add(interval);
+                }
+            }
+        }
+        if (insert != null) {
+            next.add(insert);
+            next.sort(BY_START);
+        }
+        return next.isEmpty() ? null : next.toArray(new Interval[0]);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+        log.info("배정 구간 인덱스 구성 완료 - 배정 {}건", size());
+    }
+
+    /**
+     * 현재 시각 기준 구간을 다시 읽어 교체합니다.
+     * 읽는 도중 이벤트로 바뀐 학생은 다음 교체 전까지 DB로 조회합니다.
+     */
+    @Scheduled(fixedDelayString = "${study-time.assignment-index.reload-interval-ms:1800000}",
+               initialDelayString = "${study-time.assignment-index.reload-interval-ms:1800000}")
+    public void reload() {
+        reload(LocalDateTime.now());
+    }
+
+    void reload(LocalDateTime now) {
+        long snapshotVersion;
+        synchronized (writeLock) {
+            snapshotVersion = version;
+        }
+
+        LocalDateTime from = now.minus(lookBehind);
+        LocalDateTime to = now.plus(lookAhead);
+        Map<Long, List<Interval>> grouped = new HashMap<>();
+        for (AssignedStudyTime assigned : assignedStudyTimeRepository.findAllOverlapping(from, to)) {
+            grouped.computeIfAbsent(assigned.getStudentId(), id -> new ArrayList<>()).add(Interval.of(assigned));
+        }
+        Map<Long, Interval[]> byStudent = new ConcurrentHashMap<>();
+        grouped.forEach((studentId, intervals) -> {
+            Interval[] sorted = intervals.toArray(new Interval[0]);
+            Arrays.sort(sorted, BY_START);
+            byStudent.put(studentId, sorted);
+        });
+
+        synchronized (writeLock) {
+            Set<Long> stale = ConcurrentHashMap.newKeySet();
+            touchedAt.forEach((studentId, touched) -> {
+                if (touched > snapshotVersion) {
+                    stale.add(studentId);
+                }
+            });
+            touchedAt.values().removeIf(touched -> touched <= snapshotVersion);
+            window = new Window(from, to, byStudent, stale);
+        }
+    }
+
+    private void markStaleOnRollback(Long studentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    synchronized (writeLock) {
+                        touchedAt.put(studentId, ++version);
+                        Window current = window;
+                        if (current != null) {
+                            current.stale().add(studentId);
+                        }
+                    }
+                }
+            }
+        });
+    }
+}
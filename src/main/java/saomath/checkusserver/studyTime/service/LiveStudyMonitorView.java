@@ -0,0 +1,684 @@
+package saomath.checkusserver.studyTime.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeBatchEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 오늘(0시 ~ 다음날 6시) 학생 공부시간 모니터링 데이터를 메모리에 유지하는 뷰
+ *
+ * 최초 조회 시 한 번 DB에서 구성한 뒤, 배정/접속 세션/학생 정보 변경 이벤트로 증분 갱신합니다.
+ * 오늘 범위 안의 모니터링 조회는 DB 접근 없이 메모리에서 응답하고,
+ * 전체 재구성은 수동 요청이나 정합성 검사에서 불일치가 발견된 경우에만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveStudyMonitorView {
+
+    // 모니터링 하루 범위: 당일 0시 ~ 다음날 6시 (getStudyTimeMonitorByDate와 동일)
+    private static final int WINDOW_END_HOUR_OF_NEXT_DAY = 6;
+    private static final int BATCH_SIZE = 1000;
+    // 재조회 도중 같은 학생이 바뀌었을 때 다시 읽는 최대 횟수
+    private static final int MAX_RELOAD_ATTEMPTS = 3;
+
+    private final StudyTimeService studyTimeService;
+    private final UserRepository userRepository;
+    private final AssignedStudyTimeRepository assignedStudyTimeRepository;
+    private final ActualStudyTimeRepository actualStudyTimeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 lock으로 보호됨
+    private LocalDate windowDate;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private final Map<Long, StudyTimeMonitorResponse.StudentStudyInfo> students = new LinkedHashMap<>();
+    // 변경 순번: 학생별 마지막 변경 순번과 마지막 전체 재구성 순번. 재조회 결과가 그 사이의 변경을 덮어쓰지 않도록 비교
+    private long modCount;
+    private long rebuiltModCount;
+    private final Map<Long, Long> studentModCounts = new HashMap<>();
+
+    private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 뷰 변경 알림 종류
+     */
+    public enum ChangeKind {
+        SESSION_STARTED,     // 접속 세션 시작
+        SESSION_ENDED,       // 접속 세션 종료
+        ASSIGNMENT_CHANGED,  // 배정 시간 추가/수정/삭제 또는 세션 연결
+        STUDENT_CHANGED,     // 학생 정보 변경 (재원 상태 변경으로 뷰에서 빠진 경우 포함)
+        REBUILT              // 전체 재구성 (studentId는 null)
+    }
+
+    /**
+     * 뷰 변경 리스너. 뷰 갱신이 끝난 뒤 잠금 밖에서 호출됩니다.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        void onChange(ChangeKind kind, Long studentId);
+    }
+
+    public void addChangeListener(ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * 요청 범위가 오늘 뷰 범위 안에 있으면 메모리에서 모니터링 응답을 만듭니다.
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @return 모니터링 응답 (뷰 범위 밖이면 empty - DB 조회로 대체해야 함)
+     */
+    public Optional<StudyTimeMonitorResponse> getMonitor(LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime todayStart = today.atStartOfDay();
+        LocalDateTime todayEnd = today.plusDays(1).atTime(WINDOW_END_HOUR_OF_NEXT_DAY, 0);
+        if (startTime.isBefore(todayStart) || endTime.isAfter(todayEnd) || startTime.isAfter(endTime)) {
+            return Optional.empty();
+        }
+
+        ensureBuiltFor(today);
+
+        LocalDateTime now = LocalDateTime.now();
+        lock.readLock().lock();
+        try {
+            List<StudyTimeMonitorResponse.StudentStudyInfo> infos = students.values().stream()
+                    .map(info -> project(info, startTime, endTime, now))
+                    .collect(Collectors.toList());
+
+            StudyTimeMonitorResponse response = new StudyTimeMonitorResponse();
+            response.setStartTime(startTime);
+            response.setEndTime(endTime);
+            response.setStudents(infos);
+            return Optional.of(response);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 날짜별 모니터링 응답을 메모리에서 만듭니다. 오늘 날짜만 지원합니다.
+     * @param date 조회할 날짜
+     * @return 모니터링 응답 (오늘이 아니면 empty)
+     */
+    public Optional<StudyTimeMonitorResponse> getMonitorByDate(LocalDate date) {
+        if (!date.equals(LocalDate.now())) {
+            return Optional.empty();
+        }
+        return getMonitor(date.atStartOfDay(), date.plusDays(1).atTime(WINDOW_END_HOUR_OF_NEXT_DAY, 0))
+                .map(response -> {
+                    response.setDate(date);
+                    return response;
+                });
+    }
+
+    /**
+     * 오늘 전체 범위 기준의 학생 한 명 정보를 메모리에서 조회합니다.
+     * @param studentId 학생 ID
+     * @return 학생 정보 (뷰가 없거나 재원생이 아니면 empty)
+     */
+    public Optional<StudyTimeMonitorResponse.StudentStudyInfo> getStudent(Long studentId) {
+        LocalDateTime now = LocalDateTime.now();
+        lock.readLock().lock();
+        try {
+            StudyTimeMonitorResponse.StudentStudyInfo info = students.get(studentId);
+            if (windowDate == null || info == null) {
+                return Optional.empty();
+            }
+            return Optional.of(project(info, windowStart, windowEnd, now));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 시각 기준 학생별 상태를 계산합니다. (DB 접근 없음)
+     * @return 학생 ID별 현재 상태 (뷰가 없으면 빈 맵)
+     */
+    public Map<Long, StudyTimeMonitorResponse.StudentCurrentStatus> getCurrentStatuses() {
+        LocalDateTime now = LocalDateTime.now();
+        lock.readLock().lock();
+        try {
+            Map<Long, StudyTimeMonitorResponse.StudentCurrentStatus> statuses = new LinkedHashMap<>();
+            if (windowDate == null) {
+                return statuses;
+            }
+            students.forEach((studentId, info) -> statuses.put(studentId, determineStatus(
+                    info.getAssignedStudyTimes().stream()
+                            .filter(assigned -> isBetween(assigned.getStartTime(), windowStart, windowEnd))
+                            .collect(Collectors.toList()),
+                    now)));
+            return statuses;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 오늘 뷰를 DB에서 다시 구성합니다.
+     * DB 조회는 잠금 밖에서 하므로, 조회하는 동안 이벤트로 뷰가 바뀌었으면 읽은 결과를 버리고 다시 읽습니다.
+     * 마지막 시도에서는 조회 중 바뀐 학생만 현재 뷰 값을 유지하고 나머지를 읽은 결과로 교체합니다.
+     * @return 재구성된 학생 수
+     */
+    public synchronized int rebuild() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime start = today.atStartOfDay();
+        LocalDateTime end = today.plusDays(1).atTime(WINDOW_END_HOUR_OF_NEXT_DAY, 0);
+
+        long startedAt = System.currentTimeMillis();
+        int rebuiltCount = 0;
+        List<Long> kept = new ArrayList<>();
+        for (int attempt = 1; attempt <= MAX_RELOAD_ATTEMPTS; attempt++) {
+            long readModCount;
+            lock.readLock().lock();
+            try {
+                readModCount = modCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            StudyTimeMonitorResponse fresh = studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(start, end);
+
+            lock.writeLock().lock();
+            try {
+                if (modCount != readModCount && attempt < MAX_RELOAD_ATTEMPTS) {
+                    continue;
+                }
+                Map<Long, StudyTimeMonitorResponse.StudentStudyInfo> rebuilt = new LinkedHashMap<>();
+                fresh.getStudents().forEach(info -> rebuilt.put(info.getStudentId(), info));
+                if (modCount != readModCount && start.equals(windowStart)) {
+                    // 조회 중 세션 이벤트/재조회로 바뀐 학생은 읽은 결과가 그 변경을 덮어쓰지 않도록 현재 값 유지
+                    studentModCounts.forEach((studentId, studentModCount) -> {
+                        if (studentModCount <= readModCount) {
+                            return;
+                        }
+                        StudyTimeMonitorResponse.StudentStudyInfo current = students.get(studentId);
+                        if (current != null) {
+                            rebuilt.put(studentId, current);
+                        } else {
+                            rebuilt.remove(studentId);
+                        }
+                        kept.add(studentId);
+                    });
+                }
+                windowDate = today;
+                windowStart = start;
+                windowEnd = end;
+                students.clear();
+                students.putAll(rebuilt);
+                studentModCounts.clear();
+                rebuiltModCount = ++modCount;
+                rebuiltCount = students.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            break;
+        }
+
+        if (!kept.isEmpty()) {
+            log.warn("실시간 모니터링 뷰 재구성 중 계속 변경됨, 변경된 학생 {}명은 현재 값 유지 (정합성 검사에서 반영)", kept.size());
+        }
+        log.info("실시간 모니터링 뷰 재구성 완료: 날짜={}, 학생 {}명, 소요 {}ms",
+                today, rebuiltCount, System.currentTimeMillis() - startedAt);
+        notifyChange(ChangeKind.REBUILT, null);
+        return rebuiltCount;
+    }
+
+    /**
+     * 배정된 공부 시간 변경 시 해당 학생 정보만 다시 읽어 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent event) {
+        if (event.isBatched()) {
+            // 대량 배정은 onAssignedStudyTimeBatch에서 한 번에 다시 읽음
+            return;
+        }
+        if (!isInWindow(event.getStartTime()) && !isInWindow(event.getPreviousStartTime())) {
+            return;
+        }
+        reloadStudent(event.getStudentId(), ChangeKind.ASSIGNMENT_CHANGED);
+    }
+
+    /**
+     * 대량 배정 시 변경된 학생들을 한 번의 배치 조회로 다시 읽어 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignedStudyTimeBatch(AssignedStudyTimeBatchEvent event) {
+        if (event.getStudentIds().isEmpty() || !overlapsWindow(event.getEarliestStartTime(), event.getLatestStartTime())) {
+            return;
+        }
+        reloadStudents(event.getStudentIds(), ChangeKind.ASSIGNMENT_CHANGED);
+    }
+
+    /**
+     * 접속 세션 시작/종료 시 메모리 뷰를 직접 수정합니다. (DB 접근 없음)
+     * 배정 시간 연결은 배정 목록 구성이 바뀌므로 학생 정보를 다시 읽습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActualStudyTimeChanged(ActualStudyTimeChangedEvent event) {
+        if (event.getChangeType() == ActualStudyTimeChangedEvent.ChangeType.LINKED) {
+            if (containsStudent(event.getStudentId())) {
+                reloadStudent(event.getStudentId(), ChangeKind.ASSIGNMENT_CHANGED);
+            }
+            return;
+        }
+
+        boolean started = event.getChangeType() == ActualStudyTimeChangedEvent.ChangeType.STARTED;
+        boolean applied;
+        lock.writeLock().lock();
+        try {
+            StudyTimeMonitorResponse.StudentStudyInfo info = students.get(event.getStudentId());
+            if (windowDate == null || info == null) {
+                return;
+            }
+            applied = started ? applySessionStarted(info, event) : applySessionEnded(info, event);
+            if (applied) {
+                markModified(event.getStudentId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (applied) {
+            notifyChange(started ? ChangeKind.SESSION_STARTED : ChangeKind.SESSION_ENDED, event.getStudentId());
+        }
+    }
+
+    /**
+     * 학생 정보(보호자, 재원 상태 포함) 변경 및 삭제/복구 시 해당 학생 정보만 다시 읽어 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        reloadStudent(event.getStudentId(), ChangeKind.STUDENT_CHANGED);
+    }
+
+    /**
+     * 메모리 뷰와 DB의 학생/배정/접속 기록 ID 집합을 비교하고, 다르면 전체 재구성합니다.
+     * 뷰가 아직 구성되지 않았으면 아무것도 하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${study-time.monitor.consistency-check-interval-ms:300000}")
+    public void checkConsistency() {
+        LocalDate builtDate = currentWindowDate();
+        if (builtDate == null) {
+            return;
+        }
+        if (!builtDate.equals(LocalDate.now())) {
+            // 날짜가 바뀌면 다음 조회 시 재구성되도록 비워둠
+            invalidate();
+            return;
+        }
+
+        LocalDateTime start;
+        LocalDateTime end;
+        Set<Long> viewStudentIds;
+        Set<Long> viewAssignedIds = new HashSet<>();
+        Map<Long, Boolean> viewActualOpen = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (windowDate == null) {
+                return;
+            }
+            start = windowStart;
+            end = windowEnd;
+            viewStudentIds = new HashSet<>(students.keySet());
+            for (StudyTimeMonitorResponse.StudentStudyInfo info : students.values()) {
+                for (StudyTimeMonitorResponse.AssignedStudyInfo assigned : info.getAssignedStudyTimes()) {
+                    viewAssignedIds.add(assigned.getAssignedStudyTimeId());
+                    assigned.getConnectedActualStudyTimes().stream()
+                            .filter(actual -> isBetween(actual.getStartTime(), start, end))
+                            .forEach(actual -> viewActualOpen.put(actual.getActualStudyTimeId(), actual.getEndTime() == null));
+                }
+                info.getUnassignedActualStudyTimes()
+                        .forEach(actual -> viewActualOpen.put(actual.getActualStudyTimeId(), actual.getEndTime() == null));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Set<Long> dbStudentIds = new HashSet<>(userRepository.findAllEnrolledStudentIds());
+        if (!dbStudentIds.equals(viewStudentIds)) {
+            log.warn("실시간 모니터링 뷰 불일치(재원생): 뷰 {}명, DB {}명", viewStudentIds.size(), dbStudentIds.size());
+            rebuild();
+            return;
+        }
+
+        List<Long> studentIds = new ArrayList<>(dbStudentIds);
+        Set<Long> dbAssignedIds = new HashSet<>();
+        Map<Long, Boolean> dbActualOpen = new HashMap<>();
+        for (int i = 0; i < studentIds.size(); i += BATCH_SIZE) {
+            List<Long> batch = studentIds.subList(i, Math.min(i + BATCH_SIZE, studentIds.size()));
+            dbAssignedIds.addAll(assignedStudyTimeRepository.findIdsByStudentIdsAndDateRange(batch, start, end));
+            for (ActualStudyTime actual : actualStudyTimeRepository.findByStudentIdsAndDateRange(batch, start, end)) {
+                // 뷰 범위 밖 배정에 연결된 접속 기록은 뷰에 포함되지 않으므로 비교에서 제외
+                if (actual.getAssignedStudyTimeId() == null
+                        || dbAssignedIds.contains(actual.getAssignedStudyTimeId())) {
+                    dbActualOpen.put(actual.getId(), actual.getEndTime() == null);
+                }
+            }
+        }
+
+        if (!dbAssignedIds.equals(viewAssignedIds) || !dbActualOpen.equals(viewActualOpen)) {
+            log.warn("실시간 모니터링 뷰 불일치(배정/접속 기록): 배정 뷰 {}건/DB {}건, 접속 뷰 {}건/DB {}건",
+                    viewAssignedIds.size(), dbAssignedIds.size(), viewActualOpen.size(), dbActualOpen.size());
+            rebuild();
+        }
+    }
+
+    /**
+     * 뷰를 비웁니다. 다음 조회 시 다시 구성됩니다.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            windowDate = null;
+            windowStart = null;
+            windowEnd = null;
+            students.clear();
+            studentModCounts.clear();
+            rebuiltModCount = ++modCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureBuiltFor(LocalDate today) {
+        if (today.equals(currentWindowDate())) {
+            return;
+        }
+        synchronized (this) {
+            // 동시에 들어온 요청이 이미 재구성했으면 생략
+            if (!today.equals(currentWindowDate())) {
+                rebuild();
+            }
+        }
+    }
+
+    /**
+     * 학생 정보를 DB에서 다시 읽어 반영합니다.
+     * DB 조회는 잠금 밖에서 하므로, 조회하는 동안 세션 이벤트 등으로 같은 학생이 바뀌었으면
+     * 읽은 결과가 그 변경을 덮어쓰지 않도록 버리고 다시 읽습니다.
+     */
+    private void reloadStudent(Long studentId, ChangeKind kind) {
+        for (int attempt = 1; attempt <= MAX_RELOAD_ATTEMPTS; attempt++) {
+            LocalDateTime start;
+            LocalDateTime end;
+            long readModCount;
+            lock.readLock().lock();
+            try {
+                if (windowDate == null) {
+                    return;
+                }
+                start = windowStart;
+                end = windowEnd;
+                readModCount = modCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            Optional<StudyTimeMonitorResponse.StudentStudyInfo> reloaded =
+                    studyTimeService.getStudentStudyInfo(studentId, start, end);
+
+            lock.writeLock().lock();
+            try {
+                if (!start.equals(windowStart)) {
+                    return;
+                }
+                if (modifiedSince(studentId, readModCount)) {
+                    continue;
+                }
+                if (reloaded.isPresent()) {
+                    students.put(studentId, reloaded.get());
+                } else {
+                    students.remove(studentId);
+                }
+                markModified(studentId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("실시간 모니터링 뷰 학생 갱신: 학생 ID={}, 재원={}", studentId, reloaded.isPresent());
+            notifyChange(kind, studentId);
+            return;
+        }
+        log.warn("실시간 모니터링 뷰 학생 갱신 포기 (조회 중 계속 변경됨, 정합성 검사에서 반영): 학생 ID={}", studentId);
+    }
+
+    /**
+     * 여러 학생을 한 번의 배치 조회로 다시 읽어 반영합니다.
+     * 조회하는 동안 바뀐 학생은 결과를 버리고 reloadStudent로 따로 다시 읽습니다.
+     */
+    private void reloadStudents(Collection<Long> studentIds, ChangeKind kind) {
+        LocalDateTime start;
+        LocalDateTime end;
+        long readModCount;
+        lock.readLock().lock();
+        try {
+            if (windowDate == null) {
+                return;
+            }
+            start = windowStart;
+            end = windowEnd;
+            readModCount = modCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, StudyTimeMonitorResponse.StudentStudyInfo> reloaded =
+                studyTimeService.getStudentStudyInfos(studentIds, start, end);
+
+        List<Long> applied = new ArrayList<>();
+        List<Long> conflicted = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if (!start.equals(windowStart)) {
+                return;
+            }
+            for (Long studentId : studentIds) {
+                if (modifiedSince(studentId, readModCount)) {
+                    conflicted.add(studentId);
+                    continue;
+                }
+                StudyTimeMonitorResponse.StudentStudyInfo info = reloaded.get(studentId);
+                if (info != null) {
+                    students.put(studentId, info);
+                } else {
+                    students.remove(studentId);
+                }
+                markModified(studentId);
+                applied.add(studentId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("실시간 모니터링 뷰 학생 일괄 갱신: {}명 (재원 {}명, 다시 조회 {}명)",
+                applied.size(), reloaded.size(), conflicted.size());
+        applied.forEach(studentId -> notifyChange(kind, studentId));
+        conflicted.forEach(studentId -> reloadStudent(studentId, kind));
+    }
+
+    // lock(쓰기)을 잡은 상태에서 호출
+    private void markModified(Long studentId) {
+        studentModCounts.put(studentId, ++modCount);
+    }
+
+    // lock을 잡은 상태에서 호출
+    private boolean modifiedSince(Long studentId, long readModCount) {
+        return Math.max(rebuiltModCount, studentModCounts.getOrDefault(studentId, 0L)) > readModCount;
+    }
+
+    private void notifyChange(ChangeKind kind, Long studentId) {
+        for (ChangeListener listener : changeListeners) {
+            try {
+                listener.onChange(kind, studentId);
+            } catch (Exception e) {
+                log.warn("모니터링 뷰 변경 알림 처리 실패: kind={}, 학생 ID={}", kind, studentId, e);
+            }
+        }
+    }
+
+    private boolean applySessionStarted(StudyTimeMonitorResponse.StudentStudyInfo info, ActualStudyTimeChangedEvent event) {
+        if (event.getAssignedStudyTimeId() == null) {
+            if (!isBetween(event.getStartTime(), windowStart, windowEnd)) {
+                return false;
+            }
+            info.getUnassignedActualStudyTimes().add(new StudyTimeMonitorResponse.UnassignedActualStudyInfo(
+                    event.getActualStudyTimeId(), event.getStartTime(), event.getEndTime()));
+            return true;
+        }
+        for (StudyTimeMonitorResponse.AssignedStudyInfo assigned : info.getAssignedStudyTimes()) {
+            if (assigned.getAssignedStudyTimeId().equals(event.getAssignedStudyTimeId())) {
+                assigned.getConnectedActualStudyTimes().add(new StudyTimeMonitorResponse.ConnectedActualStudyInfo(
+                        event.getActualStudyTimeId(), event.getStartTime(), event.getEndTime()));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean applySessionEnded(StudyTimeMonitorResponse.StudentStudyInfo info, ActualStudyTimeChangedEvent event) {
+        for (StudyTimeMonitorResponse.AssignedStudyInfo assigned : info.getAssignedStudyTimes()) {
+            for (StudyTimeMonitorResponse.ConnectedActualStudyInfo actual : assigned.getConnectedActualStudyTimes()) {
+                if (actual.getActualStudyTimeId().equals(event.getActualStudyTimeId())) {
+                    actual.setEndTime(event.getEndTime());
+                    return true;
+                }
+            }
+        }
+        for (StudyTimeMonitorResponse.UnassignedActualStudyInfo actual : info.getUnassignedActualStudyTimes()) {
+            if (actual.getActualStudyTimeId().equals(event.getActualStudyTimeId())) {
+                actual.setEndTime(event.getEndTime());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장된 학생 정보를 요청 범위로 잘라 복사하고 현재 상태를 다시 계산합니다.
+     * 필터 조건은 StudyTimeService의 배치 조회 쿼리와 동일합니다.
+     */
+    private StudyTimeMonitorResponse.StudentStudyInfo project(StudyTimeMonitorResponse.StudentStudyInfo source,
+                                                              LocalDateTime startTime, LocalDateTime endTime,
+                                                              LocalDateTime now) {
+        List<StudyTimeMonitorResponse.AssignedStudyInfo> assignedInfos = source.getAssignedStudyTimes().stream()
+                .filter(assigned -> isBetween(assigned.getStartTime(), startTime, endTime))
+                .map(assigned -> new StudyTimeMonitorResponse.AssignedStudyInfo(
+                        assigned.getAssignedStudyTimeId(),
+                        assigned.getTitle(),
+                        assigned.getStartTime(),
+                        assigned.getEndTime(),
+                        assigned.getConnectedActualStudyTimes().stream()
+                                .map(actual -> new StudyTimeMonitorResponse.ConnectedActualStudyInfo(
+                                        actual.getActualStudyTimeId(), actual.getStartTime(), actual.getEndTime()))
+                                .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+
+        List<StudyTimeMonitorResponse.UnassignedActualStudyInfo> unassignedInfos = source.getUnassignedActualStudyTimes().stream()
+                .filter(actual -> isBetween(actual.getStartTime(), startTime, endTime))
+                .map(actual -> new StudyTimeMonitorResponse.UnassignedActualStudyInfo(
+                        actual.getActualStudyTimeId(), actual.getStartTime(), actual.getEndTime()))
+                .collect(Collectors.toList());
+
+        StudyTimeMonitorResponse.StudentStudyInfo info = new StudyTimeMonitorResponse.StudentStudyInfo();
+        info.setStudentId(source.getStudentId());
+        info.setStudentName(source.getStudentName());
+        info.setStudentPhone(source.getStudentPhone());
+        info.setGuardians(new ArrayList<>(source.getGuardians()));
+        info.setAssignedStudyTimes(assignedInfos);
+        info.setUnassignedActualStudyTimes(unassignedInfos);
+        info.setStatus(determineStatus(assignedInfos, now));
+        return info;
+    }
+
+    /**
+     * StudyTimeService.determineStudentStatus와 같은 규칙으로 현재 상태를 결정합니다.
+     */
+    private StudyTimeMonitorResponse.StudentCurrentStatus determineStatus(
+            List<StudyTimeMonitorResponse.AssignedStudyInfo> assignedInfos, LocalDateTime now) {
+        StudyTimeMonitorResponse.AssignedStudyInfo currentAssigned = assignedInfos.stream()
+                .filter(assigned -> !now.isBefore(assigned.getStartTime()) && !now.isAfter(assigned.getEndTime()))
+                .findFirst()
+                .orElse(null);
+
+        if (currentAssigned == null) {
+            return StudyTimeMonitorResponse.StudentCurrentStatus.NO_ASSIGNED_TIME;
+        }
+
+        boolean isCurrentlyAttending = currentAssigned.getConnectedActualStudyTimes().stream()
+                .anyMatch(actual -> actual.getEndTime() == null ||
+                        (!now.isBefore(actual.getStartTime()) && !now.isAfter(actual.getEndTime())));
+
+        return isCurrentlyAttending ?
+                StudyTimeMonitorResponse.StudentCurrentStatus.ATTENDING :
+                StudyTimeMonitorResponse.StudentCurrentStatus.ABSENT;
+    }
+
+    private LocalDate currentWindowDate() {
+        lock.readLock().lock();
+        try {
+            return windowDate;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsStudent(Long studentId) {
+        lock.readLock().lock();
+        try {
+            return students.containsKey(studentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean overlapsWindow(LocalDateTime earliest, LocalDateTime latest) {
+        lock.readLock().lock();
+        try {
+            return windowDate != null && !latest.isBefore(windowStart) && earliest.isBefore(windowEnd);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isInWindow(LocalDateTime time) {
+        if (time == null) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return windowDate != null && isBetween(time, windowStart, windowEnd);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean isBetween(LocalDateTime time, LocalDateTime start, LocalDateTime end) {
+        return !time.isBefore(start) && !time.isAfter(end);
+    }
+}
@@ -0,0 +1,129 @@
+package saomath.checkusserver.studyTime.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import saomath.checkusserver.common.cache.BoundedCache;
+import saomath.checkusserver.common.util.ETagUtils;
+import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+/**
+ * 지난 날짜 모니터링 스냅샷 캐시
+ *
+ * 날짜별 모니터링(0시 ~ 다음날 6시)은 구간이 끝나면 수동 수정 외에는 바뀌지 않으므로,
+ * 끝난 날짜의 응답을 한 번만 계산해 날짜 키로 보관하고 직렬화 내용으로 만든 강한 ETag를 함께 둡니다.
+ * - 배정/실제 공부 시간 변경 이벤트가 커밋되면 그 시각이 포함된 날짜만 무효화
+ * - 학생 정보(재원 상태, 보호자, 이름) 변경은 모든 날짜 응답에 들어가므로 전체 무효화
+ * - 세션 정리(compaction)처럼 이벤트 없이 원본을 바꾸는 작업은 invalidateRange를 직접 호출
+ * 아직 끝나지 않은 날짜(오늘, 새벽 6시 전의 어제)는 캐싱하지 않습니다.
+ * 무효화는 이 인스턴스의 커밋 후 이벤트로만 일어나므로 서버가 한 대로 동작할 때만 올바릅니다. (ResourceVersions와 같은 전제)
+ * 이벤트 없이 DB를 직접 고친 경우는 TTL(기본 24시간)이 지나야 반영되므로, 필요하면 invalidateAll로 비웁니다.
+ */
+@Slf4j
+@Component
+public class MonitorSnapshotCache {
+
+    // StudyTimeService.getStudyTimeMonitorByDate의 조회 구간 끝 (다음날 6시)
+    static final LocalTime MONITOR_DAY_END = LocalTime.of(6, 0);
+
+    private final StudyTimeService studyTimeService;
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<LocalDate, Snapshot> cache;
+
+    public record Snapshot(StudyTimeMonitorResponse response, String etag) {
+    }
+
+    public MonitorSnapshotCache(StudyTimeService studyTimeService,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${study-time.monitor-snapshot.maximum-size:400}") int maximumSize,
+                                @Value("${study-time.monitor-snapshot.ttl-hours:24}") long ttlHours) {
+        this.studyTimeService = studyTimeService;
+        this.objectMapper = objectMapper;
+        this.cache = new BoundedCache<LocalDate, Snapshot>("study-time.monitor-snapshot", maximumSize, Duration.ofHours(ttlHours))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * 끝난 날짜의 스냅샷 (없으면 계산해 저장). 아직 끝나지 않은 날짜는 empty.
+     */
+    public Optional<Snapshot> get(LocalDate date) {
+        if (!isCompleted(date, LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(cache.get(date, this::load));
+    }
+
+    static boolean isCompleted(LocalDate date, LocalDateTime now) {
+        return !now.isBefore(date.plusDays(1).atTime(MONITOR_DAY_END));
+    }
+
+    private Snapshot load(LocalDate date) {
+        StudyTimeMonitorResponse response = studyTimeService.getStudyTimeMonitorByDate(date);
+        try {
+            return new Snapshot(response, ETagUtils.strongETag(objectMapper.writeValueAsBytes(response)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("모니터링 스냅샷 직렬화 실패: " + date, e);
+        }
+    }
+
+    /**
+     * 시간 구간이 포함된 모든 날짜의 스냅샷을 무효화합니다.
+     * 새벽 6시까지는 전날 모니터링에도 포함되므로 시작 날짜의 전날부터 무효화합니다.
+     */
+    public void invalidateRange(LocalDateTime from, LocalDateTime to) {
+        LocalDate last = to.toLocalDate();
+        for (LocalDate date = from.toLocalDate().minusDays(1); !date.isAfter(last); date = date.plusDays(1)) {
+            cache.invalidate(date);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent event) {
+        invalidateAt(event.getStartTime());
+        invalidateAt(event.getPreviousStartTime());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActualStudyTimeChanged(ActualStudyTimeChangedEvent event) {
+        invalidateAt(event.getStartTime());
+        invalidateAt(event.getEndTime());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        invalidateAll();
+        log.debug("학생 정보 변경으로 모니터링 스냅샷 전체 무효화: studentId={}", event.getStudentId());
+    }
+
+    private void invalidateAt(LocalDateTime time) {
+        if (time == null) {
+            return;
+        }
+        cache.invalidate(time.toLocalDate());
+        if (!time.toLocalTime().isAfter(MONITOR_DAY_END)) {
+            cache.invalidate(time.toLocalDate().minusDays(1));
+        }
+    }
+}
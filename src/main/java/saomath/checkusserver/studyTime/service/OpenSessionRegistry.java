@@ -0,0 +1,186 @@
+package saomath.checkusserver.studyTime.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학생별 진행 중인(종료 시간이 없는) 실제 공부 세션 ID 레지스트리
+ *
+ * 시작 시 DB에서 한 번 구성하고, 세션 시작/종료 이벤트로 트랜잭션 안에서 바로 갱신합니다.
+ * 구성이 끝난 뒤에는 레지스트리에 없는 학생을 "진행 중 세션 없음"으로 취급합니다.
+ * 트랜잭션이 롤백되었거나 구성 도중 바뀌어 상태를 확신할 수 없는 학생은 unknown 집합에 두고,
+ * 이 학생들과 구성 전 조회는 Optional.empty()로 알려 호출 측이 DB로 확인하게 합니다.
+ * 주기적으로 테이블과 비교해 어긋난 항목을 바로잡고 unknown 집합을 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenSessionRegistry {
+
+    private final ActualStudyTimeRepository actualStudyTimeRepository;
+
+    // studentId -> 진행 중인 세션 ID 집합
+    private final Map<Long, Set<Long>> openSessions = new ConcurrentHashMap<>();
+    // 학생별 마지막 변경 시점. 정합성 검사 도중 바뀐 학생은 덮어쓰지 않기 위해 사용
+    private final Map<Long, Long> lastTouched = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    // 상태를 확신할 수 없어 DB로 확인해야 하는 학생
+    private final Set<Long> unknown = ConcurrentHashMap.newKeySet();
+    private volatile boolean initialized;
+
+    /**
+     * 학생의 진행 중인 세션 ID 목록.
+     * @return 진행 중 세션 ID 목록 (없으면 빈 목록), 구성 전이거나 상태를 모르는 학생이면 Optional.empty()
+     */
+    public Optional<List<Long>> getOpenSessionIds(Long studentId) {
+        if (!initialized || unknown.contains(studentId)) {
+            return Optional.empty();
+        }
+        Set<Long> ids = openSessions.get(studentId);
+        return Optional.of(ids == null ? new ArrayList<>() : new ArrayList<>(ids));
+    }
+
+    /**
+     * DB에서 조회한 진행 중 세션으로 학생 항목을 교체합니다.
+     */
+    public void replace(Long studentId, List<ActualStudyTime> sessions) {
+        touch(studentId);
+        if (sessions.isEmpty()) {
+            openSessions.remove(studentId);
+        } else {
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            sessions.forEach(session -> ids.add(session.getId()));
+            openSessions.put(studentId, ids);
+        }
+        unknown.remove(studentId);
+        evictOnRollback(studentId);
+    }
+
+    /**
+     * 학생 항목을 "모름"으로 표시합니다. 다음 조회는 DB로 갑니다.
+     */
+    public void evict(Long studentId) {
+        touch(studentId);
+        openSessions.remove(studentId);
+        unknown.add(studentId);
+    }
+
+    public int size() {
+        return openSessions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 세션 시작/종료는 커밋 전에 바로 반영합니다. 같은 트랜잭션 안의 후속 조회와 다음 이벤트가 최신 상태를 봐야 하기 때문입니다.
+     */
+    @EventListener
+    public void onActualStudyTimeChanged(ActualStudyTimeChangedEvent event) {
+        Long studentId = event.getStudentId();
+        Long sessionId = event.getActualStudyTimeId();
+        if (studentId == null || sessionId == null) {
+            return;
+        }
+
+        touch(studentId);
+        switch (event.getChangeType()) {
+            case STARTED -> openSessions.computeIfAbsent(studentId, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            case ENDED -> openSessions.computeIfPresent(studentId, (k, ids) -> {
+                ids.remove(sessionId);
+                return ids.isEmpty() ? null : ids;
+            });
+            case LINKED -> {
+                // 연결 대상만 바뀌고 진행 여부는 그대로
+            }
+        }
+        evictOnRollback(studentId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        int count = reconcile();
+        initialized = true;
+        log.info("진행 중 세션 레지스트리 구성 완료: {}건, 확인 필요 {}명", count, unknown.size());
+    }
+
+    /**
+     * 테이블의 진행 중 세션과 비교해 레지스트리를 바로잡습니다.
+     * 조회 도중 이벤트로 바뀐 학생은 이벤트 쪽 상태가 더 최신이므로 건너뜁니다.
+     * 다만 최초 구성 중에 바뀐 학생은 이벤트 이전 세션이 빠져 있을 수 있으므로 "모름"으로 둡니다.
+     * @return 바로잡은 뒤 진행 중 세션 수
+     */
+    @Scheduled(fixedDelayString = "${study-time.open-sessions.reconcile-interval-ms:600000}",
+               initialDelayString = "${study-time.open-sessions.reconcile-interval-ms:600000}")
+    public int reconcile() {
+        long snapshotAt = clock.get();
+
+        Map<Long, Set<Long>> actual = new HashMap<>();
+        for (ActualStudyTime session : actualStudyTimeRepository.findByEndTimeIsNull()) {
+            actual.computeIfAbsent(session.getStudentId(), k -> ConcurrentHashMap.newKeySet()).add(session.getId());
+        }
+
+        Set<Long> studentIds = new HashSet<>(actual.keySet());
+        studentIds.addAll(openSessions.keySet());
+        studentIds.addAll(unknown);
+
+        int[] corrected = {0};
+        for (Long studentId : studentIds) {
+            Set<Long> expected = actual.get(studentId);
+            // 이벤트 반영과 같은 키 단위로 직렬화되도록 compute 안에서 변경 시점을 확인
+            openSessions.compute(studentId, (k, current) -> {
+                if (lastTouched.getOrDefault(k, 0L) > snapshotAt) {
+                    if (!initialized) {
+                        unknown.add(k);
+                    }
+                    return current;
+                }
+                if (expected == null ? current != null : !expected.equals(current)) {
+                    corrected[0]++;
+                }
+                unknown.remove(k);
+                return expected;
+            });
+        }
+
+        if (corrected[0] > 0) {
+            log.warn("진행 중 세션 레지스트리 불일치 {}건을 바로잡았습니다.", corrected[0]);
+        }
+        lastTouched.entrySet().removeIf(entry -> entry.getValue() <= snapshotAt);
+        return size();
+    }
+
+    private void touch(Long studentId) {
+        lastTouched.put(studentId, clock.incrementAndGet());
+    }
+
+    private void evictOnRollback(Long studentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(studentId);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,388 @@
+package saomath.checkusserver.studyTime.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import saomath.checkusserver.common.exception.BusinessException;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.domain.StudyDailyAggregate;
+import saomath.checkusserver.studyTime.dto.StudyDailyAggregateRebuildResponse;
+import saomath.checkusserver.studyTime.dto.StudyDailyAggregateResponse;
+import saomath.checkusserver.studyTime.dto.StudyTimeSummaryResponse;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.StudyDailyAggregateRepository;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 학생별 일일 공부 시간 집계(study_daily_aggregate)
+ *
+ * 주간/월간 요약을 원본 배정/세션 행에서 매번 계산하지 않도록 학생, 날짜별 한 행으로 미리 집계합니다.
+ * - 세션 종료/연결, 배정 생성/수정/삭제 이벤트가 오면 해당 (학생, 날짜)를 dirty로 표시하고
+ *   주기적으로 dirty 키만 원본에서 다시 계산합니다. (집계는 항상 원본 기준 재계산이라 여러 번 실행해도 같은 결과)
+ * - 시간이 지나며 바뀌는 값(배정이 끝났는데 접속하지 않은 미접속 등)과 세션 정리(compaction) 결과는
+ *   매일 새벽 지난 며칠을 다시 계산해 반영합니다.
+ * - rebuild(기간)으로 과거 데이터를 한 번에 채우거나 다시 만들 수 있습니다.
+ *
+ * 지각/조기 퇴장은 입장/퇴장 알림과 같은 5분 기준을 사용합니다.
+ */
+@Slf4j
+@Service
+public class StudyDailyAggregateService {
+
+    static final int MAX_DAYS = 92;
+    static final Duration TOLERANCE = Duration.ofMinutes(5);
+
+    private final AssignedStudyTimeRepository assignedStudyTimeRepository;
+    private final ActualStudyTimeRepository actualStudyTimeRepository;
+    private final StudyDailyAggregateRepository studyDailyAggregateRepository;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+
+    // 다시 계산할 (학생, 날짜)
+    private final Set<DayKey> dirtyKeys = ConcurrentHashMap.newKeySet();
+    // 주기 반영과 rebuild가 같은 행을 동시에 INSERT하지 않도록 쓰기를 직렬화
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public StudyDailyAggregateService(AssignedStudyTimeRepository assignedStudyTimeRepository,
+                                      ActualStudyTimeRepository actualStudyTimeRepository,
+                                      StudyDailyAggregateRepository studyDailyAggregateRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${study-time.daily-aggregate.batch-size:200}") int batchSize) {
+        this.assignedStudyTimeRepository = assignedStudyTimeRepository;
+        this.actualStudyTimeRepository = actualStudyTimeRepository;
+        this.studyDailyAggregateRepository = studyDailyAggregateRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    record DayKey(Long studentId, LocalDate date) {
+    }
+
+    /**
+     * 주간 요약 (date가 속한 주의 월요일 ~ 일요일)
+     */
+    public StudyTimeSummaryResponse getWeeklySummary(Long studentId, LocalDate date) {
+        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return getSummary(studentId, monday, monday.plusDays(6));
+    }
+
+    /**
+     * 월간 요약 (해당 월 1일 ~ 말일)
+     */
+    public StudyTimeSummaryResponse getMonthlySummary(Long studentId, YearMonth month) {
+        return getSummary(studentId, month.atDay(1), month.atEndOfMonth());
+    }
+
+    /**
+     * 기간 요약 - 집계 테이블만 읽습니다.
+     */
+    public StudyTimeSummaryResponse getSummary(Long studentId, LocalDate startDate, LocalDate endDate) {
+        List<StudyDailyAggregateResponse> days = studyDailyAggregateRepository
+                .findByStudentIdAndStudyDateBetweenOrderByStudyDate(studentId, startDate, endDate).stream()
+                .map(StudyDailyAggregateResponse::fromEntity)
+                .toList();
+
+        StudyTimeSummaryResponse summary = new StudyTimeSummaryResponse();
+        summary.setStudentId(studentId);
+        summary.setStartDate(startDate);
+        summary.setEndDate(endDate);
+        for (StudyDailyAggregateResponse day : days) {
+            summary.setAssignedMinutes(summary.getAssignedMinutes() + day.getAssignedMinutes());
+            summary.setAttendedMinutes(summary.getAttendedMinutes() + day.getAttendedMinutes());
+            summary.setLateCount(summary.getLateCount() + day.getLateCount());
+            summary.setEarlyLeaveCount(summary.getEarlyLeaveCount() + day.getEarlyLeaveCount());
+            summary.setNoShowCount(summary.getNoShowCount() + day.getNoShowCount());
+        }
+        summary.setDays(days);
+        return summary;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActualStudyTimeChanged(ActualStudyTimeChangedEvent event) {
+        if (event.getStudentId() == null || event.getStartTime() == null) {
+            return;
+        }
+        // 시작만으로는 지각 여부만 바뀌고, 접속 시간은 종료될 때 반영
+        LocalDateTime endTime = event.getEndTime() != null ? event.getEndTime() : event.getStartTime();
+        markDirty(event.getStudentId(), event.getStartTime(), endTime);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent event) {
+        if (event.getStudentId() == null) {
+            return;
+        }
+        if (event.getStartTime() != null) {
+            markDirty(event.getStudentId(), event.getStartTime(), event.getStartTime());
+        }
+        if (event.getPreviousStartTime() != null) {
+            markDirty(event.getStudentId(), event.getPreviousStartTime(), event.getPreviousStartTime());
+        }
+    }
+
+    private void markDirty(Long studentId, LocalDateTime from, LocalDateTime to) {
+        LocalDate last = to.toLocalDate();
+        // 비정상적으로 긴 세션이 수많은 날짜를 표시하지 않도록 제한 (나머지는 새벽 재계산에 맡김)
+        LocalDate limit = from.toLocalDate().plusDays(MAX_DAYS);
+        for (LocalDate day = from.toLocalDate(); !day.isAfter(last) && day.isBefore(limit); day = day.plusDays(1)) {
+            dirtyKeys.add(new DayKey(studentId, day));
+        }
+    }
+
+    /**
+     * dirty로 표시된 (학생, 날짜)를 다시 계산합니다.
+     * 실패한 키는 다시 dirty로 돌려 다음 주기에 처리합니다.
+     * @return 다시 계산한 (학생, 날짜) 수
+     */
+    @Scheduled(fixedDelayString = "${study-time.daily-aggregate.flush-interval-ms:30000}")
+    public int flushDirty() {
+        if (dirtyKeys.isEmpty()) {
+            return 0;
+        }
+        Map<LocalDate, Set<Long>> byDate = new TreeMap<>();
+        Iterator<DayKey> iterator = dirtyKeys.iterator();
+        while (iterator.hasNext()) {
+            DayKey key = iterator.next();
+            iterator.remove();
+            byDate.computeIfAbsent(key.date(), d -> new LinkedHashSet<>()).add(key.studentId());
+        }
+
+        int recomputed = 0;
+        for (Map.Entry<LocalDate, Set<Long>> entry : byDate.entrySet()) {
+            try {
+                recomputed += recomputeDay(entry.getKey(), new ArrayList<>(entry.getValue()));
+            } catch (Exception e) {
+                log.error("일일 공부 집계 반영 실패 - 날짜: {}, 학생: {}명", entry.getKey(), entry.getValue().size(), e);
+                entry.getValue().forEach(studentId -> dirtyKeys.add(new DayKey(studentId, entry.getKey())));
+            }
+        }
+        log.debug("일일 공부 집계 반영 - {}건", recomputed);
+        return recomputed;
+    }
+
+    int getDirtyCount() {
+        return dirtyKeys.size();
+    }
+
+    /**
+     * 기간 안의 날짜별로 집계를 원본에서 다시 만듭니다. (백필/복구용)
+     * 원본이 없어진 (학생, 날짜)의 집계는 삭제합니다.
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜 (포함, 오늘까지 허용)
+     * @return 기간과 다시 계산한 (학생, 날짜) 수
+     */
+    public StudyDailyAggregateRebuildResponse rebuild(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException("종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+        if (endDate.isAfter(LocalDate.now())) {
+            throw new BusinessException("미래 날짜는 집계할 수 없습니다.");
+        }
+        if (startDate.plusDays(MAX_DAYS).isBefore(endDate)) {
+            throw new BusinessException("집계 기간은 " + MAX_DAYS + "일 이하여야 합니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        int recomputed = 0;
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            LocalDateTime from = day.atStartOfDay();
+            LocalDateTime to = day.plusDays(1).atStartOfDay();
+            Set<Long> studentIds = new LinkedHashSet<>(assignedStudyTimeRepository.findStudentIdsStartingInRange(from, to));
+            studentIds.addAll(actualStudyTimeRepository.findStudentIdsWithOverlappingSessions(from, to));
+            studentIds.addAll(studyDailyAggregateRepository.findStudentIdsByStudyDate(day));
+            recomputed += recomputeDay(day, new ArrayList<>(studentIds));
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("일일 공부 집계 재생성 완료 - 기간: {} ~ {}, 학생-일: {}건, 소요: {}ms",
+                startDate, endDate, recomputed, elapsedMs);
+        return new StudyDailyAggregateRebuildResponse(startDate, endDate, recomputed, elapsedMs);
+    }
+
+    private int recomputeDay(LocalDate day, List<Long> studentIds) {
+        int recomputed = 0;
+        for (int index = 0; index < studentIds.size(); index += batchSize) {
+            List<Long> batch = studentIds.subList(index, Math.min(index + batchSize, studentIds.size()));
+            writeLock.lock();
+            try {
+                batchTransaction.executeWithoutResult(status -> recomputeBatch(day, batch));
+            } finally {
+                writeLock.unlock();
+            }
+            recomputed += batch.size();
+        }
+        return recomputed;
+    }
+
+    private void recomputeBatch(LocalDate day, List<Long> studentIds) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+
+        Map<Long, List<AssignedStudyTime>> assignmentsByStudent = new HashMap<>();
+        LocalDateTime sessionsTo = dayEnd;
+        for (AssignedStudyTime assigned : assignedStudyTimeRepository.findStartingInRangeByStudentIds(studentIds, dayStart, dayEnd)) {
+            assignmentsByStudent.computeIfAbsent(assigned.getStudentId(), id -> new ArrayList<>()).add(assigned);
+            // 자정을 넘기는 배정의 출석 판단을 위해 배정 종료까지의 세션도 읽음
+            if (assigned.getEndTime().isAfter(sessionsTo)) {
+                sessionsTo = assigned.getEndTime();
+            }
+        }
+        Map<Long, List<ActualStudyTime>> sessionsByStudent = new HashMap<>();
+        for (ActualStudyTime session : actualStudyTimeRepository.findOverlappingByStudentIds(studentIds, dayStart, sessionsTo)) {
+            sessionsByStudent.computeIfAbsent(session.getStudentId(), id -> new ArrayList<>()).add(session);
+        }
+
+        Map<Long, StudyDailyAggregate> existing = new HashMap<>();
+        for (StudyDailyAggregate aggregate : studyDailyAggregateRepository.findByStudyDateAndStudentIdIn(day, studentIds)) {
+            existing.put(aggregate.getStudentId(), aggregate);
+        }
+
+        List<StudyDailyAggregate> toSave = new ArrayList<>();
+        List<StudyDailyAggregate> toDelete = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            StudyDailyAggregate computed = compute(studentId, day,
+                    assignmentsByStudent.getOrDefault(studentId, List.of()),
+                    sessionsByStudent.getOrDefault(studentId, List.of()), now);
+            StudyDailyAggregate current = existing.get(studentId);
+            if (computed == null) {
+                if (current != null) {
+                    toDelete.add(current);
+                }
+                continue;
+            }
+            if (current != null) {
+                computed.setId(current.getId());
+            }
+            toSave.add(computed);
+        }
+
+        studyDailyAggregateRepository.saveAll(toSave);
+        if (!toDelete.isEmpty()) {
+            studyDailyAggregateRepository.deleteAllInBatch(toDelete);
+        }
+    }
+
+    /**
+     * 한 학생의 하루 집계를 계산합니다. 배정도 접속도 없으면 null.
+     * @param assignments 그날 시작하는 배정
+     * @param sessions 그날 또는 배정 구간과 겹치는 세션 (시작 시각 순)
+     */
+    static StudyDailyAggregate compute(Long studentId, LocalDate day,
+                                       List<AssignedStudyTime> assignments,
+                                       List<ActualStudyTime> sessions,
+                                       LocalDateTime now) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+
+        long assignedSeconds = 0;
+        int lateCount = 0;
+        int earlyLeaveCount = 0;
+        int noShowCount = 0;
+        for (AssignedStudyTime assigned : assignments) {
+            assignedSeconds += Duration.between(assigned.getStartTime(), assigned.getEndTime()).getSeconds();
+
+            LocalDateTime firstStart = null;
+            LocalDateTime lastEnd = null;
+            boolean ongoing = false;
+            for (ActualStudyTime session : sessions) {
+                if (!overlaps(session, assigned.getStartTime(), assigned.getEndTime())) {
+                    continue;
+                }
+                if (firstStart == null || session.getStartTime().isBefore(firstStart)) {
+                    firstStart = session.getStartTime();
+                }
+                if (session.getEndTime() == null) {
+                    ongoing = true;
+                } else if (lastEnd == null || session.getEndTime().isAfter(lastEnd)) {
+                    lastEnd = session.getEndTime();
+                }
+            }
+
+            if (firstStart == null) {
+                // 배정이 끝났는데 한 번도 접속하지 않음
+                if (!assigned.getEndTime().isAfter(now)) {
+                    noShowCount++;
+                }
+                continue;
+            }
+            if (firstStart.isAfter(assigned.getStartTime().plus(TOLERANCE))) {
+                lateCount++;
+            }
+            if (!ongoing && lastEnd != null && lastEnd.isBefore(assigned.getEndTime().minus(TOLERANCE))) {
+                earlyLeaveCount++;
+            }
+        }
+
+        long attendedSeconds = unionSeconds(sessions, dayStart, dayEnd);
+        if (assignments.isEmpty() && attendedSeconds == 0) {
+            return null;
+        }
+        return StudyDailyAggregate.builder()
+                .studentId(studentId)
+                .studyDate(day)
+                .assignedMinutes((int) (assignedSeconds / 60))
+                .attendedMinutes((int) (attendedSeconds / 60))
+                .lateCount(lateCount)
+                .earlyLeaveCount(earlyLeaveCount)
+                .noShowCount(noShowCount)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static boolean overlaps(ActualStudyTime session, LocalDateTime from, LocalDateTime to) {
+        return session.getStartTime().isBefore(to)
+                && (session.getEndTime() == null || session.getEndTime().isAfter(from));
+    }
+
+    /**
+     * 종료된 세션들을 [from, to)로 자른 뒤 겹치는 부분은 한 번만 센 합계(초)
+     */
+    private static long unionSeconds(Collection<ActualStudyTime> sessions, LocalDateTime from, LocalDateTime to) {
+        List<ActualStudyTime> closed = sessions.stream()
+                .filter(session -> session.getEndTime() != null)
+                .sorted(Comparator.comparing(ActualStudyTime::getStartTime))
+                .toList();
+
+        long total = 0;
+        LocalDateTime cursor = from;
+        for (ActualStudyTime session : closed) {
+            LocalDateTime start = session.getStartTime().isAfter(cursor) ? session.getStartTime() : cursor;
+            LocalDateTime end = session.getEndTime().isBefore(to) ? session.getEndTime() : to;
+            if (end.isAfter(start)) {
+                total += Duration.between(start, end).getSeconds();
+                cursor = end;
+            }
+        }
+        return total;
+    }
+}
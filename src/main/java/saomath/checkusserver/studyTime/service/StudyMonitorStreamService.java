@@ -0,0 +1,195 @@
+package saomath.checkusserver.studyTime.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import saomath.checkusserver.studyTime.dto.StudyMonitorDeltaResponse;
+import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실시간 모니터링 SSE 스트림 서비스
+ *
+ * 구독 시 오늘 모니터링 스냅샷을 보내고, 이후에는 LiveStudyMonitorView 변경과
+ * 주기적인 상태 재계산 결과를 학생 단위 변경 이벤트로 전송합니다.
+ * 변경이 없으면 heartbeat 주석만 전송하므로 DB 부하와 트래픽이 변경량에만 비례합니다.
+ * 구독은 스냅샷을 만들기 전에 등록하고, 스냅샷을 보내기 전까지의 변경 이벤트는 모아 두었다가 스냅샷 뒤에 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyMonitorStreamService {
+
+    static final String EVENT_SNAPSHOT = "snapshot";
+    static final String EVENT_DELTA = "delta";
+
+    private final LiveStudyMonitorView liveStudyMonitorView;
+    private final StudyTimeService studyTimeService;
+
+    @Value("${study-time.monitor.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // 마지막으로 전송한 학생별 상태 (상태 변경 감지용)
+    private final Map<Long, StudyTimeMonitorResponse.StudentCurrentStatus> lastStatuses = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerViewListener() {
+        liveStudyMonitorView.addChangeListener(this::onViewChanged);
+    }
+
+    /**
+     * 새 구독을 등록하고 오늘 스냅샷을 전송합니다.
+     * @return SSE emitter
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 스냅샷을 읽는 동안의 변경을 놓치지 않도록 먼저 등록 (스냅샷 전송 전까지는 보류)
+        subscribers.add(subscriber);
+
+        try {
+            LocalDate today = LocalDate.now();
+            StudyTimeMonitorResponse snapshot = liveStudyMonitorView.getMonitorByDate(today)
+                    .orElseGet(() -> studyTimeService.getStudyTimeMonitorByDate(today));
+            snapshot.getStudents().forEach(info -> lastStatuses.putIfAbsent(info.getStudentId(), info.getStatus()));
+
+            subscriber.start(SseEmitter.event().name(EVENT_SNAPSHOT).data(snapshot));
+            log.debug("모니터링 스트림 구독: 현재 구독자 {}명", subscribers.size());
+        } catch (IOException | RuntimeException e) {
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 현재 시각 기준으로 상태가 바뀐 학생만 STATUS_CHANGED로 전송합니다.
+     * 배정 시간 시작/종료처럼 이벤트 없이 시간 경과로 바뀌는 상태를 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${study-time.monitor.stream.status-tick-ms:10000}")
+    public void broadcastStatusChanges() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<Long, StudyTimeMonitorResponse.StudentCurrentStatus> statuses = liveStudyMonitorView.getCurrentStatuses();
+        statuses.forEach((studentId, status) -> {
+            StudyTimeMonitorResponse.StudentCurrentStatus previous = lastStatuses.put(studentId, status);
+            if (previous != null && previous != status) {
+                sendStudentDelta(StudyMonitorDeltaResponse.DeltaType.STATUS_CHANGED, studentId);
+            }
+        });
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 구독을 정리하기 위한 heartbeat
+     */
+    @Scheduled(fixedDelayString = "${study-time.monitor.stream.heartbeat-ms:25000}")
+    public void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void onViewChanged(LiveStudyMonitorView.ChangeKind kind, Long studentId) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        switch (kind) {
+            case REBUILT -> resendSnapshot();
+            case SESSION_STARTED -> sendStudentDelta(StudyMonitorDeltaResponse.DeltaType.SESSION_STARTED, studentId);
+            case SESSION_ENDED -> sendStudentDelta(StudyMonitorDeltaResponse.DeltaType.SESSION_ENDED, studentId);
+            case ASSIGNMENT_CHANGED -> sendStudentDelta(StudyMonitorDeltaResponse.DeltaType.ASSIGNMENT_CHANGED, studentId);
+            case STUDENT_CHANGED -> sendStudentDelta(StudyMonitorDeltaResponse.DeltaType.STUDENT_CHANGED, studentId);
+        }
+    }
+
+    private void sendStudentDelta(StudyMonitorDeltaResponse.DeltaType type, Long studentId) {
+        Optional<StudyTimeMonitorResponse.StudentStudyInfo> student = liveStudyMonitorView.getStudent(studentId);
+        StudyMonitorDeltaResponse delta;
+        if (student.isPresent()) {
+            lastStatuses.put(studentId, student.get().getStatus());
+            delta = new StudyMonitorDeltaResponse(type, studentId, student.get(), LocalDateTime.now());
+        } else {
+            lastStatuses.remove(studentId);
+            delta = new StudyMonitorDeltaResponse(
+                    StudyMonitorDeltaResponse.DeltaType.STUDENT_REMOVED, studentId, null, LocalDateTime.now());
+        }
+        broadcast(EVENT_DELTA, delta);
+    }
+
+    private void resendSnapshot() {
+        liveStudyMonitorView.getMonitorByDate(LocalDate.now()).ifPresent(snapshot -> {
+            lastStatuses.clear();
+            snapshot.getStudents().forEach(info -> lastStatuses.put(info.getStudentId(), info.getStatus()));
+            broadcast(EVENT_SNAPSHOT, snapshot);
+        });
+    }
+
+    private void broadcast(String eventName, Object data) {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.send(SseEmitter.event().name(eventName).data(data));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("모니터링 스트림 전송 실패, 구독 해제: {}", e.getMessage());
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 구독자별 전송 순서 보장: 스냅샷을 보내기 전에 들어온 이벤트는 모아 두었다가 스냅샷 뒤에 보냅니다.
+     * 변경 이벤트는 전송 시점의 학생 정보를 담으므로, 스냅샷 뒤에 다시 적용해도 최신 상태로 수렴합니다.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private List<SseEmitter.SseEventBuilder> pending = new ArrayList<>();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void start(SseEmitter.SseEventBuilder snapshot) throws IOException {
+            emitter.send(snapshot);
+            for (SseEmitter.SseEventBuilder event : pending) {
+                emitter.send(event);
+            }
+            pending = null;
+        }
+
+        synchronized void send(SseEmitter.SseEventBuilder event) throws IOException {
+            if (pending != null) {
+                pending.add(event);
+                return;
+            }
+            emitter.send(event);
+        }
+    }
+}
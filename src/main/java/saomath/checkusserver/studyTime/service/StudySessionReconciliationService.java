@@ -0,0 +1,148 @@
+package saomath.checkusserver.studyTime.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeBatchRepository;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 실제 접속 상태와 진행 중 세션 맞추기
+ *
+ * 서버가 내려가 있는 동안의 입장/퇴장은 이벤트로 들어오지 않으므로, 시작 시 음성채널에 실제로 있는 학생 목록을 기준으로
+ * - 채널에 없는데 열려 있는 세션(비정상 종료로 남은 세션)은 JDBC 배치 UPDATE로 종료하고
+ * - 채널에 있는데 열린 세션이 없는 학생은 JDBC 배치 INSERT로 세션을 엽니다.
+ * 채널에 있고 세션도 열려 있는 학생은 그대로 둡니다. 변경된 세션마다 ActualStudyTimeChangedEvent를 발행합니다.
+ * 기준 시각 이후에 열린 세션은 채널을 훑은 뒤 들어온 입장이므로 닫지 않습니다.
+ *
+ * 남은 세션의 실제 퇴장 시각은 알 수 없으므로 서버가 내려가 있던 시간을 공부 시간으로 치지 않도록
+ * 연결된 배정의 종료 시각(이미 지났을 때)까지만, 배정이 없으면 시작 시각으로 닫습니다. (길이 0)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudySessionReconciliationService {
+
+    static final String SOURCE = "discord";
+    private final ActualStudyTimeRepository actualStudyTimeRepository;
+    private final AssignedStudyTimeRepository assignedStudyTimeRepository;
+    private final ActualStudyTimeBatchRepository actualStudyTimeBatchRepository;
+    private final AssignmentIntervalIndex assignmentIntervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public record Result(int closed, int opened, int kept) {
+    }
+
+    /**
+     * 진행 중 세션을 현재 접속 중인 학생 목록에 맞춥니다.
+     * 종료 시각을 알 수 없는 세션은 closeTimeOf 기준으로 종료합니다. (now를 넘지 않음)
+     * @param presentStudentIds 현재 음성채널에 있는 학생 ID
+     * @param now 기준 시각 (새 세션 시작 시각, 종료 시각 상한)
+     * @return 종료/시작/유지한 세션 수
+     */
+    @Transactional
+    public Result reconcile(Set<Long> presentStudentIds, LocalDateTime now) {
+        List<ActualStudyTime> stale = new ArrayList<>();
+        Set<Long> withOpenSession = new HashSet<>();
+        int kept = 0;
+        for (ActualStudyTime session : actualStudyTimeRepository.findByEndTimeIsNull()) {
+            if (presentStudentIds.contains(session.getStudentId())) {
+                withOpenSession.add(session.getStudentId());
+                kept++;
+            } else if (!session.getStartTime().isBefore(now)) {
+                // 훑은 뒤에 처리된 입장
+                kept++;
+            } else {
+                stale.add(session);
+            }
+        }
+
+        Map<Long, LocalDateTime> assignmentEnds = findAssignmentEnds(stale);
+        Map<Long, LocalDateTime> closeTimes = new HashMap<>();
+        for (ActualStudyTime session : stale) {
+            Long assignedId = session.getAssignedStudyTimeId();
+            LocalDateTime assignmentEnd = assignedId == null ? null : assignmentEnds.get(assignedId);
+            closeTimes.put(session.getId(), closeTimeOf(session, assignmentEnd, now));
+        }
+        int closed = actualStudyTimeBatchRepository.closeOpenSessions(closeTimes);
+
+        List<ActualStudyTime> toOpen = new ArrayList<>();
+        for (Long studentId : presentStudentIds) {
+            if (withOpenSession.contains(studentId)) {
+                continue;
+            }
+            List<AssignedStudyTime> assigned = assignmentIntervalIndex.findContaining(studentId, now);
+            toOpen.add(ActualStudyTime.builder()
+                    .studentId(studentId)
+                    .assignedStudyTimeId(assigned.isEmpty() ? null : assigned.get(0).getId())
+                    .startTime(now)
+                    .source(SOURCE)
+                    .build());
+        }
+        actualStudyTimeBatchRepository.insertAll(toOpen);
+
+        for (ActualStudyTime session : stale) {
+            session.setEndTime(closeTimes.get(session.getId()));
+            publish(ActualStudyTimeChangedEvent.ChangeType.ENDED, session);
+        }
+        for (ActualStudyTime session : toOpen) {
+            publish(ActualStudyTimeChangedEvent.ChangeType.STARTED, session);
+        }
+        return new Result(closed, toOpen.size(), kept);
+    }
+
+    /**
+     * 비정상 종료로 남은 세션의 종료 시각
+     * - 연결된 배정이 있으면 배정 종료 시각 (아직 진행 중이면 now)
+     * - 배정이 없으면 시작 시각 (접속 구간을 알 수 없으므로 시간을 인정하지 않음)
+     * 어느 경우든 시작 시각보다 앞서지 않습니다.
+     */
+    static LocalDateTime closeTimeOf(ActualStudyTime session, LocalDateTime assignmentEnd, LocalDateTime now) {
+        LocalDateTime start = session.getStartTime();
+        if (assignmentEnd == null) {
+            return start;
+        }
+        LocalDateTime end = assignmentEnd.isAfter(now) ? now : assignmentEnd;
+        return end.isBefore(start) ? start : end;
+    }
+
+    private Map<Long, LocalDateTime> findAssignmentEnds(List<ActualStudyTime> sessions) {
+        Set<Long> assignmentIds = sessions.stream()
+                .map(ActualStudyTime::getAssignedStudyTimeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (assignmentIds.isEmpty()) {
+            return Map.of();
+        }
+        return assignedStudyTimeRepository.findAllById(assignmentIds).stream()
+                .collect(Collectors.toMap(AssignedStudyTime::getId, AssignedStudyTime::getEndTime));
+    }
+
+    private void publish(ActualStudyTimeChangedEvent.ChangeType changeType, ActualStudyTime session) {
+        eventPublisher.publishEvent(ActualStudyTimeChangedEvent.builder()
+                .changeType(changeType)
+                .actualStudyTimeId(session.getId())
+                .studentId(session.getStudentId())
+                .assignedStudyTimeId(session.getAssignedStudyTimeId())
+                .startTime(session.getStartTime())
+                .endTime(session.getEndTime())
+                .source(session.getSource())
+                .build());
+    }
+}
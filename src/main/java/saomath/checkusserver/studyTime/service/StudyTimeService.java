@@ -1,8 +1,11 @@
 package saomath.checkusserver.studyTime.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
+import saomath.checkusserver.common.cache.ReferenceDataChangedEvent;
 import saomath.checkusserver.studyTime.domain.Activity;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.studyTime.domain.ActualStudyTime;
@@ -11,20 +14,33 @@ import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.studyTime.repository.ActivityRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeBatchRepository;
+import saomath.checkusserver.classroom.repository.StudentClassRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.user.repository.StudentGuardianRepository;
 import saomath.checkusserver.user.repository.StudentProfileRepository;
 import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.dto.AssignStudyTimeRequest;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeBatchEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
 import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.user.domain.StudentGuardian;
+import saomath.checkusserver.weeklySchedule.domain.WeeklyScheduleSkippedSlot;
+import saomath.checkusserver.weeklySchedule.repository.WeeklyScheduleSkippedSlotRepository;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +55,13 @@ public class StudyTimeService {
     private final UserRepository userRepository;
     private final StudentGuardianRepository studentGuardianRepository;
     private final StudentProfileRepository studentProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OpenSessionRegistry openSessionRegistry;
+    private final ReferenceDataCache referenceDataCache;
+    private final AssignedStudyTimeBatchRepository assignedStudyTimeBatchRepository;
+    private final StudentClassRepository studentClassRepository;
+    private final AssignmentIntervalIndex assignmentIntervalIndex;
+    private final WeeklyScheduleSkippedSlotRepository weeklyScheduleSkippedSlotRepository;
     private static final Logger log = LoggerFactory.getLogger(StudyTimeService.class);
 
     @Autowired
@@ -48,7 +71,14 @@ public class StudyTimeService {
             ActivityRepository activityRepository,
             UserRepository userRepository,
             StudentGuardianRepository studentGuardianRepository,
-            StudentProfileRepository studentProfileRepository
+            StudentProfileRepository studentProfileRepository,
+            ApplicationEventPublisher eventPublisher,
+            OpenSessionRegistry openSessionRegistry,
+            ReferenceDataCache referenceDataCache,
+            AssignedStudyTimeBatchRepository assignedStudyTimeBatchRepository,
+            StudentClassRepository studentClassRepository,
+            AssignmentIntervalIndex assignmentIntervalIndex,
+            WeeklyScheduleSkippedSlotRepository weeklyScheduleSkippedSlotRepository
     ) {
         this.assignedStudyTimeRepository = assignedStudyTimeRepository;
         this.actualStudyTimeRepository = actualStudyTimeRepository;
@@ -56,6 +86,13 @@ public class StudyTimeService {
         this.userRepository = userRepository;
         this.studentGuardianRepository = studentGuardianRepository;
         this.studentProfileRepository = studentProfileRepository;
+        this.eventPublisher = eventPublisher;
+        this.openSessionRegistry = openSessionRegistry;
+        this.referenceDataCache = referenceDataCache;
+        this.assignedStudyTimeBatchRepository = assignedStudyTimeBatchRepository;
+        this.studentClassRepository = studentClassRepository;
+        this.assignmentIntervalIndex = assignmentIntervalIndex;
+        this.weeklyScheduleSkippedSlotRepository = weeklyScheduleSkippedSlotRepository;
     }
 
     /**
@@ -103,11 +140,136 @@ public class StudyTimeService {
                 .assignedBy(assignedBy)
                 .build();
 
-        return assignedStudyTimeRepository.save(assignedStudyTime);
+        AssignedStudyTime saved = assignedStudyTimeRepository.save(assignedStudyTime);
+        publishAssignedChanged(AssignedStudyTimeChangedEvent.ChangeType.CREATED, saved, null, null);
+        return saved;
+    }
+
+    /**
+     * 여러 공부 시간을 한 번에 배정합니다.
+     * 사용자, 활동, 시간 겹침을 건수와 관계없이 일정한 수의 쿼리로 검증하고 JDBC 배치로 저장합니다.
+     * 하나라도 검증에 실패하면 아무것도 배정하지 않습니다.
+     * @param items 배정 목록 (학생, 제목, 활동, 시작/종료 시간)
+     * @param assignedBy 배정한 선생님 ID
+     * @return 배정된 공부 시간 목록 (학생, 활동, 배정자 정보 포함)
+     */
+    public List<AssignedStudyTime> assignStudyTimes(List<AssignStudyTimeRequest> items, Long assignedBy) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException("배정할 공부 시간이 없습니다.");
+        }
+
+        // 입력값 검증 (메모리)
+        for (AssignStudyTimeRequest item : items) {
+            validateTitle(item.getTitle());
+            validateTimeRangeForAssignment(item.getStartTime(), item.getEndTime());
+        }
+        Map<Long, Activity> activities = new HashMap<>();
+        for (AssignStudyTimeRequest item : items) {
+            activities.computeIfAbsent(item.getActivityId(), activityId -> {
+                validateActivity(activityId);
+                return referenceDataCache.findActivity(activityId).orElseThrow();
+            });
+        }
+
+        // 사용자 검증 (1회 조회)
+        Set<Long> userIds = items.stream().map(AssignStudyTimeRequest::getStudentId).collect(Collectors.toSet());
+        userIds.add(assignedBy);
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Long userId : userIds) {
+            if (!users.containsKey(userId)) {
+                throw new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
+            }
+        }
+
+        // 시간 겹침 검증 (기존 배정 1회 조회 + 요청 내부)
+        validateNoOverlap(items);
+
+        List<AssignedStudyTime> toInsert = items.stream()
+                .map(item -> AssignedStudyTime.builder()
+                        .studentId(item.getStudentId())
+                        .title(item.getTitle())
+                        .activityId(item.getActivityId())
+                        .startTime(item.getStartTime())
+                        .endTime(item.getEndTime())
+                        .assignedBy(assignedBy)
+                        .build())
+                .collect(Collectors.toList());
+
+        List<AssignedStudyTime> saved = assignedStudyTimeBatchRepository.insertAll(toInsert);
+        for (AssignedStudyTime assigned : saved) {
+            // 응답 변환용 연관 정보 (이미 조회한 값 재사용)
+            assigned.setStudent(users.get(assigned.getStudentId()));
+            assigned.setActivity(activities.get(assigned.getActivityId()));
+            assigned.setAssignedByUser(users.get(assignedBy));
+            publishAssignedChanged(AssignedStudyTimeChangedEvent.ChangeType.CREATED, assigned, null, null, true);
+        }
+        // 학생별 재조회가 필요한 리스너(실시간 모니터링 뷰)는 한 번에 처리
+        publishAssignedBatch(saved);
+
+        log.info("공부 시간 대량 배정 완료 - 배정자: {}, {}건", assignedBy, saved.size());
+        return saved;
+    }
+
+    /**
+     * 반 전체 학생에게 같은 공부 시간을 배정합니다.
+     * @param classId 반 ID
+     * @return 배정된 공부 시간 목록
+     */
+    public List<AssignedStudyTime> assignStudyTimeToClass(Long classId, String title, Long activityId,
+                                                          LocalDateTime startTime, LocalDateTime endTime,
+                                                          Long assignedBy) {
+        referenceDataCache.findClass(classId)
+                .orElseThrow(() -> new ResourceNotFoundException("반을 찾을 수 없습니다. ID: " + classId));
+
+        List<AssignStudyTimeRequest> items = studentClassRepository.findByClassId(classId).stream()
+                .map(studentClass -> {
+                    AssignStudyTimeRequest item = new AssignStudyTimeRequest();
+                    item.setStudentId(studentClass.getId().getStudentId());
+                    item.setTitle(title);
+                    item.setActivityId(activityId);
+                    item.setStartTime(startTime);
+                    item.setEndTime(endTime);
+                    return item;
+                })
+                .collect(Collectors.toList());
+
+        if (items.isEmpty()) {
+            throw new BusinessException("반에 소속된 학생이 없습니다. ID: " + classId);
+        }
+        return assignStudyTimes(items, assignedBy);
+    }
+
+    private void validateNoOverlap(List<AssignStudyTimeRequest> items) {
+        Set<Long> studentIds = items.stream().map(AssignStudyTimeRequest::getStudentId).collect(Collectors.toSet());
+        LocalDateTime from = items.stream().map(AssignStudyTimeRequest::getStartTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = items.stream().map(AssignStudyTimeRequest::getEndTime).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<Long, List<AssignedStudyTime>> existingByStudent = assignedStudyTimeRepository
+                .findOverlappingStudyTimesForStudents(studentIds, from, to)
+                .stream()
+                .collect(Collectors.groupingBy(AssignedStudyTime::getStudentId));
+
+        Map<Long, List<AssignStudyTimeRequest>> requestedByStudent = new HashMap<>();
+        for (AssignStudyTimeRequest item : items) {
+            // 기존 배정, 같은 요청 안의 앞선 배정과 겹치는지 확인 (경계가 맞닿는 경우도 겹침으로 처리)
+            boolean overlapsExisting = existingByStudent.getOrDefault(item.getStudentId(), List.of()).stream()
+                    .anyMatch(existing -> !existing.getStartTime().isAfter(item.getEndTime())
+                            && !existing.getEndTime().isBefore(item.getStartTime()));
+            List<AssignStudyTimeRequest> requested = requestedByStudent.computeIfAbsent(item.getStudentId(), id -> new ArrayList<>());
+            boolean overlapsRequested = requested.stream()
+                    .anyMatch(other -> !other.getStartTime().isAfter(item.getEndTime())
+                            && !other.getEndTime().isBefore(item.getStartTime()));
+            if (overlapsExisting || overlapsRequested) {
+                throw new BusinessException("해당 시간대에 이미 배정된 공부 시간이 있습니다. 학생 ID: " + item.getStudentId());
+            }
+            requested.add(item);
+        }
     }
 
     /**
      * 배정된 공부 시간을 수정합니다.
+     * 주간 시간표에서 생성된 배정이면 직접 배정으로 바꾸고, 원래 칸은 다시 생성하지 않도록 기록합니다.
      * @param id 배정 ID
      * @param activityId 활동 ID
      * @param startTime 시작 시간
@@ -118,6 +280,8 @@ public class StudyTimeService {
                                                    LocalDateTime startTime, LocalDateTime endTime) {
         AssignedStudyTime existing = assignedStudyTimeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("배정된 공부 시간을 찾을 수 없습니다."));
+        LocalDateTime previousStartTime = existing.getStartTime();
+        LocalDateTime previousEndTime = existing.getEndTime();
 
         // 제목 업데이트
         if (title != null && !title.trim().isEmpty()) {
@@ -147,18 +311,30 @@ public class StudyTimeService {
             existing.setEndTime(endTime);
         }
 
-        return assignedStudyTimeRepository.save(existing);
+        if (existing.getWeeklyScheduleId() != null) {
+            skipWeeklySlot(existing.getWeeklyScheduleId(), previousStartTime);
+            existing.setWeeklyScheduleId(null);
+        }
+
+        AssignedStudyTime saved = assignedStudyTimeRepository.save(existing);
+        publishAssignedChanged(AssignedStudyTimeChangedEvent.ChangeType.UPDATED, saved,
+                previousStartTime, previousEndTime);
+        return saved;
     }
 
     /**
      * 배정된 공부 시간을 삭제합니다.
+     * 주간 시간표에서 생성된 배정이면 같은 칸을 다시 생성하지 않도록 기록합니다.
      * @param id 배정 ID
      */
     public void deleteAssignedStudyTime(Long id) {
-        if (!assignedStudyTimeRepository.existsById(id)) {
-            throw new ResourceNotFoundException("배정된 공부 시간을 찾을 수 없습니다.");
+        AssignedStudyTime existing = assignedStudyTimeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("배정된 공부 시간을 찾을 수 없습니다."));
+        if (existing.getWeeklyScheduleId() != null) {
+            skipWeeklySlot(existing.getWeeklyScheduleId(), existing.getStartTime());
         }
         assignedStudyTimeRepository.deleteById(id);
+        publishAssignedChanged(AssignedStudyTimeChangedEvent.ChangeType.DELETED, existing, null, null);
     }
 
     /**
@@ -226,8 +402,7 @@ public class StudyTimeService {
         validateUser(studentId);
         
         // 정확히 할당된 시간 범위 내에서만 연결 (startTime <= 접속시간 <= endTime)
-        List<AssignedStudyTime> assignedList = assignedStudyTimeRepository
-                .findByStudentIdAndTimeRange(studentId, startTime);
+        List<AssignedStudyTime> assignedList = assignmentIntervalIndex.findContaining(studentId, startTime);
         
         Long assignedStudyTimeId = null;
         if (!assignedList.isEmpty()) {
@@ -246,7 +421,9 @@ public class StudyTimeService {
                 .source(source)
                 .build();
         
-        return actualStudyTimeRepository.save(actualStudyTime);
+        ActualStudyTime saved = actualStudyTimeRepository.save(actualStudyTime);
+        publishActualChanged(ActualStudyTimeChangedEvent.ChangeType.STARTED, saved);
+        return saved;
     }
 
     /**
@@ -260,7 +437,9 @@ public class StudyTimeService {
                 .orElseThrow(() -> new ResourceNotFoundException("실제 공부 시간 기록을 찾을 수 없습니다."));
         
         actualStudyTime.setEndTime(endTime);
-        return actualStudyTimeRepository.save(actualStudyTime);
+        ActualStudyTime saved = actualStudyTimeRepository.save(actualStudyTime);
+        publishActualChanged(ActualStudyTimeChangedEvent.ChangeType.ENDED, saved);
+        return saved;
     }
 
     /**
@@ -273,8 +452,7 @@ public class StudyTimeService {
         validateUser(studentId);
         
         // 진행 중인 공부 세션들 조회 (endTime이 null인 것들)
-        List<ActualStudyTime> ongoingSessions = actualStudyTimeRepository
-                .findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(studentId);
+        List<ActualStudyTime> ongoingSessions = findOngoingSessions(studentId);
         
         if (ongoingSessions.isEmpty()) {
             log.warn("종료할 진행 중인 공부 세션이 없습니다. 학생 ID: {}", studentId);
@@ -282,18 +460,31 @@ public class StudyTimeService {
         }
         
         // 모든 진행 중인 세션을 종료
-        List<ActualStudyTime> endedSessions = new ArrayList<>();
+        // 보류됐던 퇴장은 원래 시각으로 늦게 적용되므로, 그 사이 배정 시작으로 새로 열린 세션보다 이를 수 있음
+        // -> 종료 시각이 시작 시각보다 앞서지 않도록 맞춤
         for (ActualStudyTime session : ongoingSessions) {
-            session.setEndTime(endTime);
-            ActualStudyTime saved = actualStudyTimeRepository.save(session);
-            endedSessions.add(saved);
+            LocalDateTime sessionEnd = endTime.isBefore(session.getStartTime()) ? session.getStartTime() : endTime;
+            session.setEndTime(sessionEnd);
+        }
+        List<ActualStudyTime> endedSessions = actualStudyTimeRepository.saveAll(ongoingSessions);
+        for (ActualStudyTime saved : endedSessions) {
+            publishActualChanged(ActualStudyTimeChangedEvent.ChangeType.ENDED, saved);
             log.info("공부 세션 종료: 학생 ID={}, 시작={}, 종료={}", 
-                    studentId, session.getStartTime(), endTime);
+                    studentId, saved.getStartTime(), saved.getEndTime());
         }
         
         return endedSessions;
     }
 
+    /**
+     * 디스코드 봇용: 학생에게 진행 중인 공부 세션이 있는지 확인합니다.
+     * @param studentId 학생 ID
+     * @return 진행 중인 세션 존재 여부
+     */
+    public boolean hasOngoingSession(Long studentId) {
+        return !findOngoingSessions(studentId).isEmpty();
+    }
+
     /**
      * 알림용: 곧 시작할 공부 시간을 조회합니다.
      * @return 10분 후 또는 지금 시작하는 공부 시간 목록
@@ -321,8 +512,7 @@ public class StudyTimeService {
         LocalDateTime assignedStartTime = assignedStudyTime.getStartTime();
         
         // 현재 진행중인 ActualStudyTime 조회 (endTime이 null인 것들)
-        List<ActualStudyTime> ongoingSessions = actualStudyTimeRepository
-                .findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(studentId);
+        List<ActualStudyTime> ongoingSessions = findOngoingSessions(studentId);
         
         if (ongoingSessions.isEmpty()) {
             log.debug("진행중인 세션이 없음: 할당 ID={}, 학생 ID={}", assignedStudyTimeId, studentId);
@@ -337,6 +527,7 @@ public class StudyTimeService {
             // 기존 세션 종료 후 새로운 세션 생성
             currentSession.setEndTime(assignedStartTime);
             actualStudyTimeRepository.save(currentSession);
+            publishActualChanged(ActualStudyTimeChangedEvent.ChangeType.ENDED, currentSession);
             
             log.info("기존 세션 종료 후 새 세션 생성: 기존 세션 ID={}, 종료시간={}, 할당 ID={}", 
                     currentSession.getId(), assignedStartTime, assignedStudyTimeId);
@@ -350,6 +541,7 @@ public class StudyTimeService {
                     .build();
             
             ActualStudyTime saved = actualStudyTimeRepository.save(newSession);
+            publishActualChanged(ActualStudyTimeChangedEvent.ChangeType.STARTED, saved);
             log.info("새 세션 생성 완료: 세션 ID={}, 할당 ID={}, 시작시간={}", 
                     saved.getId(), assignedStudyTimeId, assignedStartTime);
             
@@ -360,6 +552,7 @@ public class StudyTimeService {
             // 해당 세션을 새 할당에 연결
             currentSession.setAssignedStudyTimeId(assignedStudyTimeId);
             ActualStudyTime saved = actualStudyTimeRepository.save(currentSession);
+            publishActualChanged(ActualStudyTimeChangedEvent.ChangeType.LINKED, saved);
             
             log.info("미할당 세션을 새 할당에 연결: 세션 ID={}, 할당 ID={}, 세션 시작시간={}, 할당 시작시간={}", 
                     saved.getId(), assignedStudyTimeId, currentSession.getStartTime(), assignedStartTime);
@@ -412,7 +605,9 @@ public class StudyTimeService {
                 .isStudyAssignable(isStudyAssignable != null ? isStudyAssignable : false)
                 .build();
 
-        return activityRepository.save(activity);
+        Activity savedActivity = activityRepository.save(activity);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.ACTIVITY));
+        return savedActivity;
     }
 
     /**
@@ -465,8 +660,81 @@ public class StudyTimeService {
             return createEmptyResponse(startTime, endTime);
         }
         
+        // 2~4. 배치 조회 후 메모리에서 데이터 조합
+        List<StudyTimeMonitorResponse.StudentStudyInfo> studentInfos =
+                buildStudentStudyInfos(allStudents, startTime, endTime, now);
+        
+        StudyTimeMonitorResponse response = new StudyTimeMonitorResponse();
+        response.setStartTime(startTime);
+        response.setEndTime(endTime);
+        response.setStudents(studentInfos);
+        
+        log.info("재원 중인 학생 모니터링 데이터 조회 완료: 재원생 {}명", allStudents.size());
+        
+        return response;
+    }
+
+    /**
+     * 한 학생의 시간 범위별 모니터링 정보를 조회합니다.
+     * 실시간 모니터링 뷰에서 변경된 학생만 다시 읽을 때 사용합니다.
+     * @param studentId 학생 ID
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @return 학생 모니터링 정보 (재원 중인 학생이 아니면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<StudyTimeMonitorResponse.StudentStudyInfo> getStudentStudyInfo(
+            Long studentId, LocalDateTime startTime, LocalDateTime endTime) {
+        return userRepository.findEnrolledStudentById(studentId)
+                .map(student -> buildStudentStudyInfos(
+                        List.of(student), startTime, endTime, LocalDateTime.now()).get(0));
+    }
+
+    /**
+     * 보호자-학생 연결 여부를 확인합니다.
+     * @param guardianId 보호자 ID
+     * @param studentId 학생 ID
+     * @return 연결되어 있으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean isGuardianOf(Long guardianId, Long studentId) {
+        return studentGuardianRepository.existsByStudentIdAndGuardianId(studentId, guardianId);
+    }
+
+    /**
+     * 여러 학생의 시간 범위별 모니터링 정보를 배치 쿼리로 조회합니다.
+     * 실시간 모니터링 뷰에서 대량 배정 후 변경된 학생들을 한 번에 다시 읽을 때 사용합니다.
+     * @param studentIds 학생 ID 목록
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @return 학생 ID별 모니터링 정보 (재원 중인 학생이 아니면 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, StudyTimeMonitorResponse.StudentStudyInfo> getStudentStudyInfos(
+            Collection<Long> studentIds, LocalDateTime startTime, LocalDateTime endTime) {
+        List<User> students = new ArrayList<>();
+        for (List<Long> batch : partitionList(new ArrayList<>(studentIds), 1000)) {
+            students.addAll(userRepository.findEnrolledStudentsByIds(batch));
+        }
+        if (students.isEmpty()) {
+            return Map.of();
+        }
+        return buildStudentStudyInfos(students, startTime, endTime, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(StudyTimeMonitorResponse.StudentStudyInfo::getStudentId, Function.identity()));
+    }
+
+    /**
+     * 학생 목록의 모니터링 정보를 배치 쿼리로 구성합니다.
+     * @param students 학생 목록
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @param now 현재 시간
+     * @return 학생별 공부 정보 (학생 목록과 같은 순서)
+     */
+    private List<StudyTimeMonitorResponse.StudentStudyInfo> buildStudentStudyInfos(
+            List<User> students, LocalDateTime startTime, LocalDateTime endTime, LocalDateTime now) {
         // 학생 ID 리스트 추출
-        List<Long> studentIds = allStudents.stream()
+        List<Long> studentIds = students.stream()
                 .map(User::getId)
                 .collect(Collectors.toList());
         
@@ -474,7 +742,7 @@ public class StudyTimeService {
         final int BATCH_SIZE = 1000;
         List<List<Long>> studentIdBatches = partitionList(studentIds, BATCH_SIZE);
         
-        // 2. 배치로 모든 관련 데이터 조회 (배치당 4개 쿼리)
+        // 배치로 모든 관련 데이터 조회 (배치당 3개 쿼리)
         Map<Long, List<StudentGuardian>> guardianMap = new HashMap<>();
         Map<Long, List<AssignedStudyTime>> assignedStudyTimeMap = new HashMap<>();
         Map<Long, List<ActualStudyTime>> unassignedActualMap = new HashMap<>();
@@ -503,7 +771,7 @@ public class StudyTimeService {
             );
         }
         
-        // 3. 할당된 공부시간에 연결된 실제 접속 기록 배치 조회
+        // 할당된 공부시간에 연결된 실제 접속 기록 배치 조회
         Map<Long, List<ActualStudyTime>> connectedActualMap = new HashMap<>();
         if (!allAssignedStudyTimes.isEmpty()) {
             List<Long> assignedStudyTimeIds = allAssignedStudyTimes.stream()
@@ -520,8 +788,8 @@ public class StudyTimeService {
             }
         }
         
-        // 4. 메모리에서 데이터 조합
-        List<StudyTimeMonitorResponse.StudentStudyInfo> studentInfos = allStudents.stream()
+        // 메모리에서 데이터 조합
+        return students.stream()
                 .map(student -> buildStudentStudyInfo(
                         student,
                         guardianMap.getOrDefault(student.getId(), Collections.emptyList()),
@@ -531,16 +799,6 @@ public class StudyTimeService {
                         now
                 ))
                 .collect(Collectors.toList());
-        
-        StudyTimeMonitorResponse response = new StudyTimeMonitorResponse();
-        response.setStartTime(startTime);
-        response.setEndTime(endTime);
-        response.setStudents(studentInfos);
-        
-        log.info("재원 중인 학생 모니터링 데이터 조회 완료: 재원생 {}명, 배치 {}개", 
-                allStudents.size(), studentIdBatches.size());
-        
-        return response;
     }
 
     /**
@@ -708,6 +966,97 @@ public class StudyTimeService {
         return studentInfo;
     }
 
+    /**
+     * 학생의 진행 중인 세션을 최근 시작 순으로 조회합니다.
+     * 레지스트리가 진행 중 세션이 없다고 알면 DB 조회 없이 빈 목록을, 세션 ID가 있으면 ID로 바로 읽습니다.
+     * 레지스트리가 모르는 학생이거나 레지스트리와 DB가 다르면 진행 중 세션 쿼리로 다시 조회해 레지스트리를 바로잡습니다.
+     */
+    private List<ActualStudyTime> findOngoingSessions(Long studentId) {
+        Optional<List<Long>> known = openSessionRegistry.getOpenSessionIds(studentId);
+        if (known.isPresent() && known.get().isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (known.isPresent()) {
+            List<Long> openIds = known.get();
+            List<ActualStudyTime> sessions = actualStudyTimeRepository.findAllById(openIds).stream()
+                    .filter(session -> session.getEndTime() == null)
+                    .sorted(Comparator.comparing(ActualStudyTime::getStartTime).reversed())
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (sessions.size() == openIds.size()) {
+                return sessions;
+            }
+            log.warn("진행 중 세션 레지스트리와 DB 불일치, DB 기준으로 다시 조회: 학생 ID={}", studentId);
+        }
+
+        List<ActualStudyTime> sessions = actualStudyTimeRepository
+                .findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(studentId);
+        openSessionRegistry.replace(studentId, sessions);
+        return sessions;
+    }
+
+    private void skipWeeklySlot(Long weeklyScheduleId, LocalDateTime startTime) {
+        if (!weeklyScheduleSkippedSlotRepository.existsByWeeklyScheduleIdAndStartTime(weeklyScheduleId, startTime)) {
+            weeklyScheduleSkippedSlotRepository.save(WeeklyScheduleSkippedSlot.builder()
+                    .weeklyScheduleId(weeklyScheduleId)
+                    .startTime(startTime)
+                    .build());
+        }
+    }
+
+    // 이벤트 발행 헬퍼 메서드들
+
+    private void publishAssignedChanged(AssignedStudyTimeChangedEvent.ChangeType changeType,
+                                        AssignedStudyTime assignedStudyTime,
+                                        LocalDateTime previousStartTime,
+                                        LocalDateTime previousEndTime) {
+        publishAssignedChanged(changeType, assignedStudyTime, previousStartTime, previousEndTime, false);
+    }
+
+    private void publishAssignedChanged(AssignedStudyTimeChangedEvent.ChangeType changeType,
+                                        AssignedStudyTime assignedStudyTime,
+                                        LocalDateTime previousStartTime,
+                                        LocalDateTime previousEndTime,
+                                        boolean batched) {
+        eventPublisher.publishEvent(AssignedStudyTimeChangedEvent.builder()
+                .changeType(changeType)
+                .assignedStudyTimeId(assignedStudyTime.getId())
+                .studentId(assignedStudyTime.getStudentId())
+                .title(assignedStudyTime.getTitle())
+                .activityId(assignedStudyTime.getActivityId())
+                .startTime(assignedStudyTime.getStartTime())
+                .endTime(assignedStudyTime.getEndTime())
+                .previousStartTime(previousStartTime)
+                .previousEndTime(previousEndTime)
+                .batched(batched)
+                .build());
+    }
+
+    private void publishAssignedBatch(List<AssignedStudyTime> assignedStudyTimes) {
+        if (assignedStudyTimes.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(AssignedStudyTimeBatchEvent.builder()
+                .studentIds(assignedStudyTimes.stream().map(AssignedStudyTime::getStudentId).collect(Collectors.toSet()))
+                .earliestStartTime(assignedStudyTimes.stream().map(AssignedStudyTime::getStartTime)
+                        .min(Comparator.naturalOrder()).orElseThrow())
+                .latestStartTime(assignedStudyTimes.stream().map(AssignedStudyTime::getStartTime)
+                        .max(Comparator.naturalOrder()).orElseThrow())
+                .build());
+    }
+
+    private void publishActualChanged(ActualStudyTimeChangedEvent.ChangeType changeType,
+                                      ActualStudyTime actualStudyTime) {
+        eventPublisher.publishEvent(ActualStudyTimeChangedEvent.builder()
+                .changeType(changeType)
+                .actualStudyTimeId(actualStudyTime.getId())
+                .studentId(actualStudyTime.getStudentId())
+                .assignedStudyTimeId(actualStudyTime.getAssignedStudyTimeId())
+                .startTime(actualStudyTime.getStartTime())
+                .endTime(actualStudyTime.getEndTime())
+                .source(actualStudyTime.getSource())
+                .build());
+    }
+
     // 검증 메서드들
     private void validateStudyTimeInput(Long studentId, String title, Long activityId, 
                                       LocalDateTime startTime, LocalDateTime endTime, 
@@ -735,7 +1084,7 @@ public class StudyTimeService {
     }
 
     private void validateActivity(Long activityId) {
-        Activity activity = activityRepository.findById(activityId)
+        Activity activity = referenceDataCache.findActivity(activityId)
                 .orElseThrow(() -> new ResourceNotFoundException("활동을 찾을 수 없습니다. ID: " + activityId));
         
         if (!activity.getIsStudyAssignable()) {
@@ -10,12 +10,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import saomath.checkusserver.auth.dto.ResponseBase;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.util.ETagUtils;
 import saomath.checkusserver.user.dto.StudentDetailResponse;
 import saomath.checkusserver.user.dto.StudentListResponse;
+import saomath.checkusserver.user.dto.StudentPageResponse;
 import saomath.checkusserver.user.dto.StudentUpdateRequest;
 import saomath.checkusserver.user.domain.StudentProfile;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
@@ -31,6 +35,7 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
             summary = "학생 목록 조회",
@@ -100,9 +105,17 @@ public class StudentController {
             @RequestParam(name = "status", required = false) 
             @Parameter(name = "status", description = "학생 상태로 필터링") StudentProfile.StudentStatus status,
             @RequestParam(name = "schoolId", required = false) 
-            @Parameter(name = "schoolId", description = "학교 ID로 필터링") Long schoolId) {
+            @Parameter(name = "schoolId", description = "학교 ID로 필터링") Long schoolId,
+            @Parameter(description = "이전 응답의 ETag (변경이 없으면 304)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         try {
+            // 조회 전에 버전부터 확인 (변경이 없으면 DB를 읽지 않음)
+            String etag = resourceVersions.etag(ResourceVersions.Resource.STUDENTS);
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return ETagUtils.notModified(etag);
+            }
+
             log.info("학생 목록 조회 요청 - classId: {}, grade: {}, status: {}, schoolId: {}", 
                     classId, grade, status, schoolId);
 
@@ -110,7 +123,10 @@ public class StudentController {
 
             log.info("학생 목록 조회 성공 - 조회된 학생 수: {}", students.size());
             
-            return ResponseEntity.ok(ResponseBase.success("학생 목록 조회 성공", students));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(ETagUtils.REVALIDATE)
+                    .body(ResponseBase.success("학생 목록 조회 성공", students));
 
         } catch (Exception e) {
             log.error("학생 목록 조회 실패", e);
@@ -119,6 +135,33 @@ public class StudentController {
         }
     }
 
+    @Operation(
+            summary = "학생 목록 페이지 조회",
+            description = "학생 목록을 커서(키셋) 방식으로 나누어 조회합니다. 첫 페이지는 cursor 없이 요청하고, " +
+                    "이후에는 응답의 nextCursor를 그대로 전달합니다. 필터는 학생 목록 조회와 같습니다."
+    )
+    @GetMapping("/page")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<ResponseBase<StudentPageResponse>> getStudentPage(
+            @RequestParam(name = "classId", required = false)
+            @Parameter(name = "classId", description = "반 ID로 필터링") Long classId,
+            @RequestParam(name = "grade", required = false)
+            @Parameter(name = "grade", description = "학년으로 필터링 (1-6)") Integer grade,
+            @RequestParam(name = "status", required = false)
+            @Parameter(name = "status", description = "학생 상태로 필터링") StudentProfile.StudentStatus status,
+            @RequestParam(name = "schoolId", required = false)
+            @Parameter(name = "schoolId", description = "학교 ID로 필터링") Long schoolId,
+            @RequestParam(name = "sort", required = false)
+            @Parameter(name = "sort", description = "정렬 기준 (NAME: 이름순, ID: 등록순, 기본 NAME)") StudentPageResponse.Sort sort,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(name = "cursor", description = "직전 응답의 nextCursor") String cursor,
+            @RequestParam(name = "size", required = false)
+            @Parameter(name = "size", description = "페이지 크기 (기본 50, 최대 200)") Integer size) {
+
+        StudentPageResponse page = studentService.getStudentPage(classId, grade, status, schoolId, sort, cursor, size);
+        return ResponseEntity.ok(ResponseBase.success("학생 목록 조회 성공", page));
+    }
+
     @Operation(
             summary = "학생 상세 정보 조회",
             description = "특정 학생의 상세 정보를 조회합니다. 학생 프로필, 소속 반, 학부모 정보를 포함합니다.",
@@ -10,10 +10,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import saomath.checkusserver.auth.dto.ResponseBase;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.util.ETagUtils;
 import saomath.checkusserver.user.dto.TeacherListResponse;
 import saomath.checkusserver.user.dto.TeacherDetailResponse;
 import saomath.checkusserver.user.dto.TeacherUpdateRequest;
@@ -31,6 +34,7 @@ import java.util.List;
 public class TeacherController {
 
     private final TeacherService teacherService;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
             summary = "교사 목록 조회",
@@ -110,16 +114,27 @@ public class TeacherController {
     @GetMapping
     public ResponseEntity<ResponseBase<List<TeacherListResponse>>> getTeachers(
             @RequestParam(name = "status", required = false, defaultValue = "ACTIVE") 
-            @Parameter(name = "status", description = "교사 상태로 필터링 (ACTIVE, SUSPENDED)") String status) {
+            @Parameter(name = "status", description = "교사 상태로 필터링 (ACTIVE, SUSPENDED)") String status,
+            @Parameter(description = "이전 응답의 ETag (변경이 없으면 304)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         try {
+            // 조회 전에 버전부터 확인 (변경이 없으면 DB를 읽지 않음)
+            String etag = resourceVersions.etag(ResourceVersions.Resource.TEACHERS);
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return ETagUtils.notModified(etag);
+            }
+
             log.info("교사 목록 조회 요청 - status: {}", status);
 
             List<TeacherListResponse> teachers = teacherService.getActiveTeachers(status);
 
             log.info("교사 목록 조회 성공 - 조회된 교사 수: {}", teachers.size());
             
-            return ResponseEntity.ok(ResponseBase.success("교사 목록 조회 성공", teachers));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(ETagUtils.REVALIDATE)
+                    .body(ResponseBase.success("교사 목록 조회 성공", teachers));
 
         } catch (Exception e) {
             log.error("교사 목록 조회 실패", e);
@@ -0,0 +1,27 @@
+package saomath.checkusserver.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 학생 목록 키셋 페이지 응답
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentPageResponse {
+    private List<StudentListResponse> content;
+    private String nextCursor; // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    /**
+     * 학생 목록 정렬 기준
+     */
+    public enum Sort {
+        NAME, // 이름순 (동명이인은 ID순)
+        ID    // 등록순
+    }
+}
@@ -0,0 +1,23 @@
+package saomath.checkusserver.user.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 학생 정보 변경 이벤트
+ * 학생 정보(보호자, 반, 재원 상태 포함)가 수정되거나 삭제/복구될 때 발행
+ */
+@Getter
+@Builder
+public class StudentChangedEvent {
+    private final Long studentId;
+    private final ChangeType changeType;
+    private final String oldDiscordId;
+    private final String newDiscordId;
+
+    public enum ChangeType {
+        UPDATED,   // 정보 수정
+        DELETED,   // 논리 삭제
+        RESTORED   // 복구
+    }
+}
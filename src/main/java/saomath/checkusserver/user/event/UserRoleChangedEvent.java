@@ -0,0 +1,17 @@
+package saomath.checkusserver.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import saomath.checkusserver.auth.domain.UserRole;
+
+/**
+ * 사용자 역할 변경 이벤트
+ * 역할이 할당되거나 상태(승인/일시정지 등)가 바뀔 때 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserRoleChangedEvent {
+    private final Long userId;
+    private final String roleName;
+    private final UserRole.RoleStatus status;
+}
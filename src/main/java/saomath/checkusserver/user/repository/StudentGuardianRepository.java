@@ -17,6 +17,9 @@ public interface StudentGuardianRepository extends JpaRepository<StudentGuardian
     @Query("SELECT sg FROM StudentGuardian sg WHERE sg.guardian.id = :guardianId")
     List<StudentGuardian> findByGuardianId(@Param("guardianId") Long guardianId);
     
+    @Query("SELECT COUNT(sg) > 0 FROM StudentGuardian sg WHERE sg.student.id = :studentId AND sg.guardian.id = :guardianId")
+    boolean existsByStudentIdAndGuardianId(@Param("studentId") Long studentId, @Param("guardianId") Long guardianId);
+    
     // 배치 조회: 여러 학생의 보호자 정보를 한 번에 조회
     @Query("SELECT sg FROM StudentGuardian sg " +
            "LEFT JOIN FETCH sg.student " +
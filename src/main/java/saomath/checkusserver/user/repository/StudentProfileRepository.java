@@ -1,13 +1,21 @@
 package saomath.checkusserver.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import saomath.checkusserver.user.domain.StudentProfile;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentProfileRepository extends JpaRepository<StudentProfile, Long> {
     Optional<StudentProfile> findByUserId(Long userId);
     boolean existsByUserId(Long userId);
+
+    // 배치 조회: 여러 학생의 프로필을 학교와 함께 한 번에 조회
+    @Query("SELECT sp FROM StudentProfile sp LEFT JOIN FETCH sp.school WHERE sp.userId IN :userIds")
+    List<StudentProfile> findByUserIdsWithSchool(@Param("userIds") Collection<Long> userIds);
 }
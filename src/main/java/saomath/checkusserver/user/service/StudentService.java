@@ -8,7 +8,6 @@ import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.classroom.domain.ClassEntity;
 import saomath.checkusserver.classroom.domain.StudentClass;
-import saomath.checkusserver.classroom.repository.ClassRepository;
 import saomath.checkusserver.classroom.repository.StudentClassRepository;
 import saomath.checkusserver.discord.service.VoiceChannelEventService;
 import saomath.checkusserver.user.domain.RoleConstants;
@@ -20,13 +19,22 @@ import saomath.checkusserver.user.dto.StudentDetailResponse;
 import saomath.checkusserver.user.dto.StudentListResponse;
 import saomath.checkusserver.user.dto.StudentUpdateRequest;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
-import saomath.checkusserver.school.repository.SchoolRepository;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
 import saomath.checkusserver.user.repository.StudentGuardianRepository;
 import saomath.checkusserver.user.repository.StudentProfileRepository;
 import saomath.checkusserver.notification.event.UserRegisteredEvent;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+import saomath.checkusserver.user.dto.StudentPageResponse;
+import saomath.checkusserver.common.exception.BusinessException;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,12 +43,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StudentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
     private final StudentProfileRepository studentProfileRepository;
     private final StudentClassRepository studentClassRepository;
     private final StudentGuardianRepository studentGuardianRepository;
-    private final SchoolRepository schoolRepository;
-    private final ClassRepository classRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final UserRoleService userRoleService;
     private final VoiceChannelEventService voiceChannelEventService;
     private final ApplicationEventPublisher applicationEventPublisher;
@@ -70,9 +80,45 @@ public class StudentService {
 
         log.info("조회된 학생 수: {}", students.size());
 
-        return students.stream()
-                .map(this::convertToStudentListResponse)
-                .collect(Collectors.toList());
+        return convertToStudentListResponses(students);
+    }
+
+    /**
+     * 필터링된 학생 목록을 키셋 방식으로 페이지 조회합니다.
+     * 페이지 위치와 관계없이 조회 비용이 일정하도록 OFFSET 대신 직전 페이지 마지막 학생 다음부터 조회합니다.
+     *
+     * @param sort 정렬 기준 (기본 이름순)
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 200)
+     * @return 학생 목록 페이지
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public StudentPageResponse getStudentPage(Long classId, Integer grade, StudentProfile.StudentStatus status,
+                                              Long schoolId, StudentPageResponse.Sort sort, String cursor, Integer size) {
+        StudentPageResponse.Sort order = sort != null ? sort : StudentPageResponse.Sort.NAME;
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<User> students;
+        if (order == StudentPageResponse.Sort.ID) {
+            Long afterId = cursor != null ? decodeIdCursor(cursor) : null;
+            students = userRepository.findStudentPageOrderById(classId, grade, status, schoolId, afterId, limit);
+        } else {
+            String[] after = cursor != null ? decodeNameCursor(cursor) : null;
+            students = userRepository.findStudentPageOrderByName(classId, grade, status, schoolId,
+                    after != null ? after[0] : null,
+                    after != null ? Long.valueOf(after[1]) : null,
+                    limit);
+        }
+
+        boolean hasNext = students.size() > pageSize;
+        List<User> page = hasNext ? students.subList(0, pageSize) : students;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1), order) : null;
+
+        log.debug("학생 목록 페이지 조회 - sort: {}, size: {}, 조회: {}, hasNext: {}", order, pageSize, page.size(), hasNext);
+
+        return new StudentPageResponse(convertToStudentListResponses(page), nextCursor, hasNext);
     }
 
     /**
@@ -197,6 +243,13 @@ public class StudentService {
             applicationEventPublisher.publishEvent(new UserRegisteredEvent(student, "DISCORD_ID_UPDATE", oldDiscordId));
         }
 
+        applicationEventPublisher.publishEvent(StudentChangedEvent.builder()
+                .studentId(studentId)
+                .changeType(StudentChangedEvent.ChangeType.UPDATED)
+                .oldDiscordId(oldDiscordId)
+                .newDiscordId(student.getDiscordId())
+                .build());
+
         // 수정된 정보 반환
         return getStudentDetail(studentId);
     }
@@ -231,6 +284,13 @@ public class StudentService {
         userRepository.save(student);
 
         log.info("학생 삭제 성공 - studentId: {}, name: {}", studentId, student.getName());
+
+        applicationEventPublisher.publishEvent(StudentChangedEvent.builder()
+                .studentId(studentId)
+                .changeType(StudentChangedEvent.ChangeType.DELETED)
+                .oldDiscordId(student.getDiscordId())
+                .newDiscordId(student.getDiscordId())
+                .build());
     }
 
     /**
@@ -257,6 +317,13 @@ public class StudentService {
         userRepository.save(student);
 
         log.info("학생 복구 성공 - studentId: {}, name: {}", studentId, student.getName());
+
+        applicationEventPublisher.publishEvent(StudentChangedEvent.builder()
+                .studentId(studentId)
+                .changeType(StudentChangedEvent.ChangeType.RESTORED)
+                .oldDiscordId(student.getDiscordId())
+                .newDiscordId(student.getDiscordId())
+                .build());
     }
 
     /**
@@ -286,7 +353,7 @@ public class StudentService {
             studentProfile.setStatus(profileRequest.getStatus());
         }
         if (profileRequest.getSchoolId() != null) {
-            School school = schoolRepository.findById(profileRequest.getSchoolId())
+            School school = referenceDataCache.findSchool(profileRequest.getSchoolId())
                     .orElseThrow(() -> new ResourceNotFoundException("학교를 찾을 수 없습니다. ID: " + profileRequest.getSchoolId()));
             studentProfile.setSchool(school);
         }
@@ -312,7 +379,7 @@ public class StudentService {
 
         // 새로운 반 정보 추가
         for (Long classId : classIds) {
-            ClassEntity classEntity = classRepository.findById(classId)
+            ClassEntity classEntity = referenceDataCache.findClass(classId)
                     .orElseThrow(() -> new ResourceNotFoundException("반을 찾을 수 없습니다. ID: " + classId));
             
             StudentClass.StudentClassId id = new StudentClass.StudentClassId(studentId, classId);
@@ -378,55 +445,95 @@ public class StudentService {
     }
 
     /**
-     * User 엔티티를 StudentListResponse로 변환합니다.
+     * User 목록을 StudentListResponse 목록으로 변환합니다.
+     * 프로필, 소속 반, 학부모 정보를 학생 수와 관계없이 각각 한 번의 IN 쿼리로 조회합니다.
+     */
+    private List<StudentListResponse> convertToStudentListResponses(List<User> students) {
+        if (students.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> studentIds = students.stream().map(User::getId).collect(Collectors.toList());
+
+        // 학생 프로필 조회
+        Map<Long, StudentProfile> profiles = studentProfileRepository.findByUserIdsWithSchool(studentIds)
+                .stream()
+                .collect(Collectors.toMap(StudentProfile::getUserId, Function.identity()));
+
+        // 소속 반 정보 조회
+        Map<Long, List<String>> classesByStudent = studentClassRepository.findByStudentIdsWithClass(studentIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        sc -> sc.getId().getStudentId(),
+                        Collectors.mapping(sc -> sc.getClassEntity().getName(), Collectors.toList())));
+
+        // 학부모 정보 조회
+        Map<Long, List<GuardianResponse>> guardiansByStudent = studentGuardianRepository.findByStudentIds(studentIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        sg -> sg.getId().getStudentId(),
+                        Collectors.mapping(sg -> new GuardianResponse(
+                                sg.getGuardian().getId(),
+                                sg.getGuardian().getName(),
+                                sg.getGuardian().getPhoneNumber(),
+                                sg.getRelationship()
+                        ), Collectors.toList())));
+
+        return students.stream()
+                .map(student -> convertToStudentListResponse(student,
+                        profiles.get(student.getId()),
+                        classesByStudent.getOrDefault(student.getId(), Collections.emptyList()),
+                        guardiansByStudent.getOrDefault(student.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    private StudentListResponse convertToStudentListResponse(User student, StudentProfile studentProfile,
+                                                             List<String> classes, List<GuardianResponse> guardians) {
+        return new StudentListResponse(
+                student.getId(),
+                student.getName(),
+                guardians.isEmpty() ? null : guardians.get(0).getPhoneNumber(), // 첫 번째 학부모 전화번호
+                student.getPhoneNumber(),
+                studentProfile != null && studentProfile.getSchool() != null ? studentProfile.getSchool().getName() : null,
+                studentProfile != null ? studentProfile.getGrade() : null,
+                classes,
+                studentProfile != null ? studentProfile.getStatus() : null,
+                guardians
+        );
+    }
+
+    /**
+     * 페이지 마지막 학생으로 다음 페이지 커서 생성 (이름순: "이름:ID", ID순: "ID")
      */
-    private StudentListResponse convertToStudentListResponse(User student) {
+    private static String encodeCursor(User last, StudentPageResponse.Sort sort) {
+        String raw = sort == StudentPageResponse.Sort.ID
+                ? String.valueOf(last.getId())
+                : (last.getName() != null ? last.getName() : "") + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeIdCursor(String cursor) {
         try {
-            // 학생 프로필 조회
-            StudentProfile studentProfile = studentProfileRepository.findByUserId(student.getId()).orElse(null);
-            
-            // 소속 반 정보 조회
-            List<String> classes = studentClassRepository.findByStudentId(student.getId())
-                    .stream()
-                    .map(sc -> sc.getClassEntity().getName())
-                    .collect(Collectors.toList());
-
-            // 학부모 정보 조회
-            List<GuardianResponse> guardians = studentGuardianRepository.findByStudentId(student.getId())
-                    .stream()
-                    .map(sg -> new GuardianResponse(
-                            sg.getGuardian().getId(),
-                            sg.getGuardian().getName(),
-                            sg.getGuardian().getPhoneNumber(),
-                            sg.getRelationship()
-                    ))
-                    .collect(Collectors.toList());
-
-            return new StudentListResponse(
-                    student.getId(),
-                    student.getName(),
-                    guardians.isEmpty() ? null : guardians.get(0).getPhoneNumber(), // 첫 번째 학부모 전화번호
-                    student.getPhoneNumber(),
-                    studentProfile != null ? studentProfile.getSchool().getName() : null,
-                    studentProfile != null ? studentProfile.getGrade() : null,
-                    classes,
-                    studentProfile != null ? studentProfile.getStatus() : null,
-                    guardians
-            );
-        } catch (Exception e) {
-            log.error("학생 정보 변환 실패 - studentId: {}", student.getId(), e);
-            // 기본 정보만으로 응답 생성
-            return new StudentListResponse(
-                    student.getId(),
-                    student.getName(),
-                    null,
-                    student.getPhoneNumber(),
-                    null,
-                    null,
-                    List.of(),
-                    null,
-                    List.of()
-            );
+            return Long.valueOf(decodeCursor(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("잘못된 페이지 커서입니다.");
         }
     }
+
+    private static String[] decodeNameCursor(String cursor) {
+        try {
+            String raw = decodeCursor(cursor);
+            int separator = raw.lastIndexOf(':');
+            String name = raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            Long.parseLong(id);
+            return new String[]{name, id};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    private static String decodeCursor(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
 }
@@ -8,6 +8,7 @@ import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.auth.domain.UserRole;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.classroom.domain.TeacherClass;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.classroom.repository.TeacherClassRepository;
 import saomath.checkusserver.classroom.repository.ClassRepository;
 import saomath.checkusserver.user.domain.RoleConstants;
@@ -30,6 +31,7 @@ public class TeacherService {
     private final TeacherClassRepository teacherClassRepository;
     private final ClassRepository classRepository;
     private final UserRoleService userRoleService;
+    private final ResourceVersions resourceVersions;
 
     /**
      * 활성화된 교사 목록을 조회합니다.
@@ -146,6 +148,10 @@ public class TeacherService {
         // 저장
         userRepository.save(teacher);
 
+        // 커밋 후 교사 목록과 본인 알림 설정(수신자 정보) 조회 버전 갱신
+        resourceVersions.bumpAfterCommit(ResourceVersions.Resource.TEACHERS);
+        resourceVersions.bumpAfterCommit(ResourceVersions.Resource.NOTIFICATION_SETTINGS, teacherId);
+
         log.info("교사 정보 수정 성공 - teacherId: {}, name: {}", teacherId, teacher.getName());
 
         // 수정된 정보 반환
@@ -179,6 +185,8 @@ public class TeacherService {
         List<TeacherClass> teacherClasses = teacherClassRepository.findByTeacherId(teacherId);
         teacherClassRepository.deleteAll(teacherClasses);
 
+        resourceVersions.bumpAfterCommit(ResourceVersions.Resource.TEACHERS);
+
         log.info("교사 삭제(비활성화) 성공 - teacherId: {}, name: {}", teacherId, teacher.getName());
     }
 
@@ -2,16 +2,18 @@ package saomath.checkusserver.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
 import saomath.checkusserver.auth.domain.Role;
 import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.auth.domain.UserRole;
 import saomath.checkusserver.common.exception.BusinessException;
-import saomath.checkusserver.auth.repository.RoleRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.auth.repository.UserRoleRepository;
 import saomath.checkusserver.user.dto.UserRoleResponse;
+import saomath.checkusserver.user.event.UserRoleChangedEvent;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,15 +24,16 @@ import java.util.stream.Collectors;
 public class UserRoleService {
 
     private final UserRoleRepository userRoleRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * 사용자에게 역할 할당
      */
     @Transactional
     public UserRole assignRole(User user, String roleName, UserRole.RoleStatus status) {
-        Role role = roleRepository.findByName(roleName)
+        Role role = referenceDataCache.findRoleByName(roleName)
                 .orElseThrow(() -> new BusinessException("존재하지 않는 역할입니다: " + roleName));
 
         // 이미 할당된 역할인지 확인
@@ -51,6 +54,7 @@ public class UserRoleService {
 
         UserRole savedUserRole = userRoleRepository.save(userRole);
         log.info("사용자 {}에게 역할 {} 할당 완료 (상태: {})", user.getUsername(), roleName, status);
+        applicationEventPublisher.publishEvent(new UserRoleChangedEvent(user.getId(), roleName, status));
         
         return savedUserRole;
     }
@@ -86,6 +90,7 @@ public class UserRoleService {
         userRoleRepository.save(userRole);
         
         log.info("사용자 ID {}의 역할 {} 상태를 {}로 변경", userId, roleName, newStatus);
+        applicationEventPublisher.publishEvent(new UserRoleChangedEvent(userId, roleName, newStatus));
     }
 
     /**
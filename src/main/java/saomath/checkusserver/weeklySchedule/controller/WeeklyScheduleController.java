@@ -11,10 +11,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import saomath.checkusserver.auth.dto.ResponseBase;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.util.ETagUtils;
 import saomath.checkusserver.studyTime.dto.ActivityResponse;
 import saomath.checkusserver.weeklySchedule.dto.WeeklySchedulePeriodResponse;
 import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleRequest;
@@ -23,6 +26,11 @@ import saomath.checkusserver.studyTime.domain.Activity;
 import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
 import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleService;
+import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleMaterializationService;
+import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleMaterializeResponse;
+import saomath.checkusserver.auth.domain.CustomUserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -36,6 +44,8 @@ import java.util.stream.Collectors;
 public class WeeklyScheduleController {
 
     private final WeeklyScheduleService weeklyScheduleService;
+    private final WeeklyScheduleMaterializationService materializationService;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
             summary = "학생 주간 시간표 조회",
@@ -93,16 +103,27 @@ public class WeeklyScheduleController {
     @GetMapping("/student/{studentId}")
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<ResponseBase<List<WeeklyScheduleResponse>>> getWeeklySchedule(
-            @Parameter(description = "학생 ID") @PathVariable("studentId") Long studentId) {
+            @Parameter(description = "학생 ID") @PathVariable("studentId") Long studentId,
+            @Parameter(description = "이전 응답의 ETag (변경이 없으면 304)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         try {
+            // 조회 전에 버전부터 확인 (변경이 없으면 DB를 읽지 않음)
+            String etag = resourceVersions.etag(ResourceVersions.Resource.WEEKLY_SCHEDULE, studentId);
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return ETagUtils.notModified(etag);
+            }
+
             log.info("주간 시간표 조회 요청 - studentId: {}", studentId);
 
             List<WeeklyScheduleResponse> schedules = weeklyScheduleService.getWeeklyScheduleByStudent(studentId);
 
             log.info("주간 시간표 조회 성공 - studentId: {}, 시간표 개수: {}", studentId, schedules.size());
 
-            return ResponseEntity.ok(ResponseBase.success("주간 시간표 조회 성공", schedules));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(ETagUtils.REVALIDATE)
+                    .body(ResponseBase.success("주간 시간표 조회 성공", schedules));
 
         } catch (ResourceNotFoundException e) {
             log.warn("주간 시간표 조회 실패 - studentId: {}, 이유: {}", studentId, e.getMessage());
@@ -406,4 +427,66 @@ public class WeeklyScheduleController {
                     .body(ResponseBase.error("활동 목록 조회에 실패했습니다: " + e.getMessage()));
         }
     }
+
+    @Operation(
+            summary = "주간 시간표 배정 일괄 생성",
+            description = "공부 배정 가능한 모든 학생의 주간 시간표를 기간 안의 배정 공부 시간으로 생성합니다. " +
+                    "이미 생성된 칸과 직접 배정과 겹치는 칸은 건너뛰므로 여러 번 실행해도 중복되지 않습니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "배정 생성 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            value = """
+                                            {
+                                              "success": true,
+                                              "message": "주간 시간표 배정 생성 성공",
+                                              "data": {
+                                                "startDate": "2025-06-02",
+                                                "endDate": "2025-06-15",
+                                                "created": 120,
+                                                "skippedExisting": 40,
+                                                "skippedConflicts": 2
+                                              }
+                                            }
+                                            """
+                                    )
+                            )
+                    )
+            }
+    )
+    @PostMapping("/materialize")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<ResponseBase<WeeklyScheduleMaterializeResponse>> materialize(
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)")
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "생성할 일수 (기본값: 14일)")
+            @RequestParam(value = "days", defaultValue = "14") int days) {
+
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ResponseBase.error("인증이 필요합니다."));
+            }
+            Long teacherId = ((CustomUserPrincipal) authentication.getPrincipal()).getId();
+
+            log.info("주간 시간표 배정 생성 요청 - startDate: {}, days: {}, 요청자: {}", startDate, days, teacherId);
+
+            WeeklyScheduleMaterializeResponse result = materializationService.materialize(startDate, days, teacherId);
+
+            return ResponseEntity.ok(ResponseBase.success("주간 시간표 배정 생성 성공", result));
+
+        } catch (BusinessException e) {
+            log.warn("주간 시간표 배정 생성 실패 - 이유: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ResponseBase.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("주간 시간표 배정 생성 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseBase.error("주간 시간표 배정 생성에 실패했습니다: " + e.getMessage()));
+        }
+    }
 }
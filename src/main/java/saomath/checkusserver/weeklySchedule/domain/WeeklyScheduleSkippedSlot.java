@@ -0,0 +1,39 @@
+package saomath.checkusserver.weeklySchedule.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다시 생성하지 않을 주간 시간표 칸
+ *
+ * 시간표에서 생성된 배정을 선생님이 삭제하거나 수정하면 원래 칸(시간표 ID + 시작 시각)을 기록해 두고,
+ * 일괄 생성 시 이 칸은 건너뜁니다.
+ */
+@Entity
+@Table(name = "weekly_schedule_skipped_slot", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_weekly_schedule_skipped_slot", columnNames = {"weekly_schedule_id", "start_time"})
+}, indexes = {
+    // 일괄 생성 시 기간 내 건너뛸 칸 조회용
+    @Index(name = "idx_weekly_schedule_skipped_slot_start", columnList = "start_time")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyScheduleSkippedSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "weekly_schedule_id", nullable = false)
+    private Long weeklyScheduleId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+}
@@ -0,0 +1,30 @@
+package saomath.checkusserver.weeklySchedule.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주간 시간표 배정 일괄 생성 결과")
+public class WeeklyScheduleMaterializeResponse {
+
+    @Schema(description = "생성 시작 날짜", example = "2025-06-02")
+    private LocalDate startDate;
+
+    @Schema(description = "생성 종료 날짜 (포함)", example = "2025-06-15")
+    private LocalDate endDate;
+
+    @Schema(description = "새로 생성된 배정 수", example = "120")
+    private int created;
+
+    @Schema(description = "이미 생성되어 건너뛴 배정 수", example = "40")
+    private int skippedExisting;
+
+    @Schema(description = "직접 배정된 공부 시간과 겹쳐 건너뛴 배정 수", example = "2")
+    private int skippedConflicts;
+}
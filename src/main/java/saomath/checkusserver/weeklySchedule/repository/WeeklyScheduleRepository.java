@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import saomath.checkusserver.weeklySchedule.domain.WeeklySchedule;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WeeklyScheduleRepository extends JpaRepository<WeeklySchedule, Long> {
@@ -47,6 +48,24 @@ public interface WeeklyScheduleRepository extends JpaRepository<WeeklySchedule,
                                    @Param("endTime") java.time.LocalTime endTime,
                                    @Param("excludeId") Long excludeId);
 
+    /**
+     * 공부 배정 가능한 활동의 전체 시간표 조회 (배정 일괄 생성용, 탈퇴한 학생 제외)
+     */
+    @Query("SELECT ws FROM WeeklySchedule ws " +
+           "JOIN ws.activity a " +
+           "JOIN ws.student s " +
+           "WHERE a.isStudyAssignable = true AND s.deletedAt IS NULL")
+    List<WeeklySchedule> findAllStudyAssignable();
+
+    /**
+     * 공부 배정 가능한 시간표 단건 조회 (시간표 수정 후 배정 재생성용, 탈퇴한 학생 제외)
+     */
+    @Query("SELECT ws FROM WeeklySchedule ws " +
+           "JOIN ws.activity a " +
+           "JOIN ws.student s " +
+           "WHERE ws.id = :id AND a.isStudyAssignable = true AND s.deletedAt IS NULL")
+    Optional<WeeklySchedule> findStudyAssignableById(@Param("id") Long id);
+
     /**
      * 학생별 시간표 전체 삭제
      */
@@ -0,0 +1,24 @@
+package saomath.checkusserver.weeklySchedule.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import saomath.checkusserver.weeklySchedule.domain.WeeklyScheduleSkippedSlot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WeeklyScheduleSkippedSlotRepository extends JpaRepository<WeeklyScheduleSkippedSlot, Long> {
+
+    /**
+     * 기간 안의 건너뛸 칸 조회 (배정 일괄 생성용)
+     */
+    List<WeeklyScheduleSkippedSlot> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
+
+    boolean existsByWeeklyScheduleIdAndStartTime(Long weeklyScheduleId, LocalDateTime startTime);
+
+    /**
+     * 시간표 삭제 시 함께 정리
+     */
+    void deleteByWeeklyScheduleId(Long weeklyScheduleId);
+}
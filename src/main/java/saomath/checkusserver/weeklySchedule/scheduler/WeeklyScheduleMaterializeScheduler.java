@@ -0,0 +1,57 @@
+package saomath.checkusserver.weeklySchedule.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.common.config.AdminProperties;
+import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleMaterializationService;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 매일 새벽 앞으로의 기간(horizon)만큼 주간 시간표를 배정 공부 시간으로 생성합니다.
+ * 이미 생성된 칸은 건너뛰므로 매일 실행하면 기간의 마지막 날만 새로 채워집니다. 배정자는 관리자 계정으로 기록합니다.
+ */
+@Slf4j
+@Component
+public class WeeklyScheduleMaterializeScheduler {
+
+    private final WeeklyScheduleMaterializationService materializationService;
+    private final UserRepository userRepository;
+    private final AdminProperties adminProperties;
+    private final boolean enabled;
+    private final int horizonDays;
+
+    public WeeklyScheduleMaterializeScheduler(WeeklyScheduleMaterializationService materializationService,
+                                              UserRepository userRepository,
+                                              AdminProperties adminProperties,
+                                              @Value("${weekly-schedule.materialize.enabled:true}") boolean enabled,
+                                              @Value("${weekly-schedule.materialize.horizon-days:14}") int horizonDays) {
+        this.materializationService = materializationService;
+        this.userRepository = userRepository;
+        this.adminProperties = adminProperties;
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+    }
+
+    @Scheduled(cron = "${weekly-schedule.materialize.cron:0 30 3 * * *}")
+    public void materializeUpcoming() {
+        if (!enabled) {
+            return;
+        }
+        Optional<User> admin = userRepository.findByUsername(adminProperties.getUsername());
+        if (admin.isEmpty()) {
+            log.warn("주간 시간표 배정 생성 건너뜀 - 관리자 계정을 찾을 수 없음: {}", adminProperties.getUsername());
+            return;
+        }
+        try {
+            materializationService.materialize(LocalDate.now(), horizonDays, admin.get().getId());
+        } catch (Exception e) {
+            log.error("주간 시간표 배정 생성 작업 실패", e);
+        }
+    }
+}
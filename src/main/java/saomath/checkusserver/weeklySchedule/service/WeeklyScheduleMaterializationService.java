@@ -0,0 +1,219 @@
+package saomath.checkusserver.weeklySchedule.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.common.exception.BusinessException;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeBatchEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeBatchRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.weeklySchedule.domain.WeeklySchedule;
+import saomath.checkusserver.weeklySchedule.domain.WeeklyScheduleSkippedSlot;
+import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleMaterializeResponse;
+import saomath.checkusserver.weeklySchedule.repository.WeeklyScheduleRepository;
+import saomath.checkusserver.weeklySchedule.repository.WeeklyScheduleSkippedSlotRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 주간 시간표 → 배정 공부 시간 일괄 생성
+ *
+ * 공부 배정 가능한 활동의 주간 시간표를 기간 안의 실제 날짜로 펼쳐 assigned_study_time에 저장합니다.
+ * - 시간표는 요일별로 한 번만 나눠 두고 날짜마다 해당 요일 묶음만 펼침
+ * - 기간과 겹치는 기존 배정을 한 번에 조회해, 이미 생성된 칸(시간표 ID + 시작 시각)과 직접 배정과 겹치는 칸은 건너뜀
+ * - 선생님이 삭제/수정한 칸은 weekly_schedule_skipped_slot에 남아 있으므로 다시 만들지 않음
+ * - 새 배정은 JDBC 배치로 저장
+ * 같은 기간으로 다시 실행해도 중복 생성되지 않으며, (weekly_schedule_id, start_time) 유니크 키가 이를 보장합니다.
+ * 시간표가 수정/삭제되면 아직 시작하지 않은 생성 배정을 지우고, 수정이면 지운 기간만큼 새 시간표로 다시 생성합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeeklyScheduleMaterializationService {
+
+    static final int MAX_DAYS = 62;
+
+    private final WeeklyScheduleRepository weeklyScheduleRepository;
+    private final AssignedStudyTimeRepository assignedStudyTimeRepository;
+    private final AssignedStudyTimeBatchRepository assignedStudyTimeBatchRepository;
+    private final WeeklyScheduleSkippedSlotRepository skippedSlotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    record Slot(Long weeklyScheduleId, LocalDateTime startTime) {
+    }
+
+    /**
+     * 기간 안의 주간 시간표를 배정 공부 시간으로 생성합니다. 이미 지난 시간은 생성하지 않습니다.
+     * @param startDate 시작 날짜
+     * @param days 생성할 일 수 (시작 날짜 포함)
+     * @param assignedBy 배정자로 기록할 사용자 ID
+     * @return 생성/건너뜀 건수 (선생님이 삭제/수정한 칸은 이미 생성된 칸으로 셈)
+     */
+    @Transactional
+    public WeeklyScheduleMaterializeResponse materialize(LocalDate startDate, int days, Long assignedBy) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new BusinessException("생성 기간은 1일 이상 " + MAX_DAYS + "일 이하여야 합니다.");
+        }
+        LocalDate endDate = startDate.plusDays(days - 1);
+        return materialize(weeklyScheduleRepository.findAllStudyAssignable(), startDate, endDate, assignedBy);
+    }
+
+    /**
+     * 수정된 시간표의 아직 시작하지 않은 생성 배정을 지우고, 지운 배정의 마지막 날짜까지 새 시간표로 다시 생성합니다.
+     * 출석 기록이 연결된 배정은 그대로 둡니다. 공부 배정 대상이 아니게 된 시간표는 지우기만 합니다.
+     */
+    @Transactional
+    public void refreshUpcoming(Long weeklyScheduleId) {
+        List<AssignedStudyTime> removed = removeUpcoming(weeklyScheduleId);
+        if (removed.isEmpty()) {
+            return;
+        }
+        weeklyScheduleRepository.findStudyAssignableById(weeklyScheduleId).ifPresent(schedule -> {
+            LocalDate endDate = removed.stream().map(AssignedStudyTime::getStartTime)
+                    .max(Comparator.naturalOrder()).orElseThrow().toLocalDate();
+            materialize(List.of(schedule), LocalDate.now(), endDate, removed.get(0).getAssignedBy());
+        });
+    }
+
+    /**
+     * 삭제되는 시간표의 아직 시작하지 않은 생성 배정과 건너뛸 칸 기록을 지웁니다.
+     * 출석 기록이 연결된 배정은 그대로 둡니다.
+     */
+    @Transactional
+    public void discardUpcoming(Long weeklyScheduleId) {
+        removeUpcoming(weeklyScheduleId);
+        skippedSlotRepository.deleteByWeeklyScheduleId(weeklyScheduleId);
+    }
+
+    private List<AssignedStudyTime> removeUpcoming(Long weeklyScheduleId) {
+        List<AssignedStudyTime> upcoming = assignedStudyTimeRepository.findUpcomingByWeeklyScheduleId(
+                weeklyScheduleId, LocalDateTime.now());
+        if (upcoming.isEmpty()) {
+            return upcoming;
+        }
+        assignedStudyTimeRepository.deleteAllInBatch(upcoming);
+        publishChanged(AssignedStudyTimeChangedEvent.ChangeType.DELETED, upcoming);
+
+        log.info("주간 시간표 변경으로 생성 배정 삭제 - 시간표 ID: {}, 삭제: {}건", weeklyScheduleId, upcoming.size());
+        return upcoming;
+    }
+
+    private WeeklyScheduleMaterializeResponse materialize(List<WeeklySchedule> schedules, LocalDate startDate,
+                                                          LocalDate endDate, Long assignedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay();
+
+        // 요일별 시간표 묶음 (index: 1=월요일 ... 7=일요일)
+        List<List<WeeklySchedule>> schedulesByDay = new ArrayList<>(8);
+        for (int i = 0; i <= 7; i++) {
+            schedulesByDay.add(new ArrayList<>());
+        }
+        for (WeeklySchedule schedule : schedules) {
+            schedulesByDay.get(schedule.getDayOfWeek()).add(schedule);
+        }
+
+        // 기간과 겹치는 기존 배정 (1회 조회)
+        Set<Slot> materialized = new HashSet<>();
+        Map<Long, List<AssignedStudyTime>> existingByStudent = new HashMap<>();
+        for (AssignedStudyTime existing : assignedStudyTimeRepository.findAllOverlapping(rangeStart, rangeEnd)) {
+            if (existing.getWeeklyScheduleId() != null) {
+                materialized.add(new Slot(existing.getWeeklyScheduleId(), existing.getStartTime()));
+            }
+            existingByStudent.computeIfAbsent(existing.getStudentId(), id -> new ArrayList<>()).add(existing);
+        }
+        // 선생님이 삭제/수정한 칸 (1회 조회)
+        for (WeeklyScheduleSkippedSlot skipped : skippedSlotRepository.findByStartTimeBetween(rangeStart, rangeEnd)) {
+            materialized.add(new Slot(skipped.getWeeklyScheduleId(), skipped.getStartTime()));
+        }
+
+        List<AssignedStudyTime> toInsert = new ArrayList<>();
+        int skippedExisting = 0;
+        int skippedConflicts = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            for (WeeklySchedule schedule : schedulesByDay.get(date.getDayOfWeek().getValue())) {
+                LocalDateTime start = LocalDateTime.of(date, schedule.getStartTime());
+                LocalDateTime end = LocalDateTime.of(date, schedule.getEndTime());
+                if (start.isBefore(now)) {
+                    continue;
+                }
+                if (materialized.contains(new Slot(schedule.getId(), start))) {
+                    skippedExisting++;
+                    continue;
+                }
+                if (overlapsExisting(existingByStudent.get(schedule.getStudentId()), start, end)) {
+                    skippedConflicts++;
+                    continue;
+                }
+                toInsert.add(AssignedStudyTime.builder()
+                        .studentId(schedule.getStudentId())
+                        .title(schedule.getTitle())
+                        .activityId(schedule.getActivityId())
+                        .startTime(start)
+                        .endTime(end)
+                        .assignedBy(assignedBy)
+                        .weeklyScheduleId(schedule.getId())
+                        .build());
+            }
+        }
+
+        assignedStudyTimeBatchRepository.insertAll(toInsert);
+        publishChanged(AssignedStudyTimeChangedEvent.ChangeType.CREATED, toInsert);
+
+        log.info("주간 시간표 배정 생성 완료 - 기간: {} ~ {}, 생성: {}건, 기존: {}건, 겹침: {}건",
+                startDate, endDate, toInsert.size(), skippedExisting, skippedConflicts);
+        return new WeeklyScheduleMaterializeResponse(startDate, endDate, toInsert.size(), skippedExisting, skippedConflicts);
+    }
+
+    private void publishChanged(AssignedStudyTimeChangedEvent.ChangeType changeType, List<AssignedStudyTime> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        for (AssignedStudyTime assigned : changed) {
+            eventPublisher.publishEvent(AssignedStudyTimeChangedEvent.builder()
+                    .changeType(changeType)
+                    .assignedStudyTimeId(assigned.getId())
+                    .studentId(assigned.getStudentId())
+                    .title(assigned.getTitle())
+                    .activityId(assigned.getActivityId())
+                    .startTime(assigned.getStartTime())
+                    .endTime(assigned.getEndTime())
+                    .batched(true)
+                    .build());
+        }
+        // 학생별 재조회가 필요한 리스너(실시간 모니터링 뷰)는 한 번에 처리
+        eventPublisher.publishEvent(AssignedStudyTimeBatchEvent.builder()
+                .studentIds(changed.stream().map(AssignedStudyTime::getStudentId).collect(Collectors.toSet()))
+                .earliestStartTime(changed.stream().map(AssignedStudyTime::getStartTime)
+                        .min(Comparator.naturalOrder()).orElseThrow())
+                .latestStartTime(changed.stream().map(AssignedStudyTime::getStartTime)
+                        .max(Comparator.naturalOrder()).orElseThrow())
+                .build());
+    }
+
+    // 주간 시간표와 같은 기준: 경계가 맞닿는 것은 겹침이 아님
+    private static boolean overlapsExisting(List<AssignedStudyTime> existing, LocalDateTime start, LocalDateTime end) {
+        if (existing == null) {
+            return false;
+        }
+        for (AssignedStudyTime assigned : existing) {
+            if (assigned.getStartTime().isBefore(end) && assigned.getEndTime().isAfter(start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.weeklySchedule.dto.WeeklySchedulePeriodResponse;
 import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleRequest;
 import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleResponse;
@@ -20,6 +22,8 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +35,9 @@ public class WeeklyScheduleService {
     private final WeeklyScheduleRepository weeklyScheduleRepository;
     private final UserRepository userRepository;
     private final ActivityRepository activityRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ResourceVersions resourceVersions;
+    private final WeeklyScheduleMaterializationService materializationService;
 
     /**
      * 학생의 주간 시간표 조회
@@ -75,6 +82,7 @@ public class WeeklyScheduleService {
                 .build();
 
         WeeklySchedule savedSchedule = weeklyScheduleRepository.save(schedule);
+        resourceVersions.bumpAfterCommit(ResourceVersions.Resource.WEEKLY_SCHEDULE, request.getStudentId());
 
         // 연관 엔티티와 함께 다시 조회
         WeeklySchedule scheduleWithDetails = weeklyScheduleRepository.findById(savedSchedule.getId())
@@ -87,6 +95,7 @@ public class WeeklyScheduleService {
 
     /**
      * 주간 시간표 수정
+     * 내용이 바뀌면 아직 시작하지 않은 생성 배정도 새 시간표로 다시 만듭니다.
      */
     @Transactional
     public WeeklyScheduleResponse updateWeeklySchedule(Long scheduleId, WeeklyScheduleRequest request) {
@@ -103,6 +112,19 @@ public class WeeklyScheduleService {
         validateTimeOverlap(request.getStudentId(), request.getDayOfWeek(), 
                            request.getStartTime(), request.getEndTime(), scheduleId);
 
+        // 학생이 바뀌면 이전 학생의 시간표도 달라짐
+        resourceVersions.bumpAfterCommit(ResourceVersions.Resource.WEEKLY_SCHEDULE, existingSchedule.getStudentId());
+        if (!existingSchedule.getStudentId().equals(request.getStudentId())) {
+            resourceVersions.bumpAfterCommit(ResourceVersions.Resource.WEEKLY_SCHEDULE, request.getStudentId());
+        }
+
+        boolean changed = !existingSchedule.getStudentId().equals(request.getStudentId())
+                || !Objects.equals(existingSchedule.getTitle(), request.getTitle())
+                || !existingSchedule.getActivityId().equals(request.getActivityId())
+                || !existingSchedule.getDayOfWeek().equals(request.getDayOfWeek())
+                || !existingSchedule.getStartTime().equals(request.getStartTime())
+                || !existingSchedule.getEndTime().equals(request.getEndTime());
+
         // 시간표 업데이트
         existingSchedule.setStudentId(request.getStudentId());
         existingSchedule.setTitle(request.getTitle());
@@ -112,6 +134,9 @@ public class WeeklyScheduleService {
         existingSchedule.setEndTime(request.getEndTime());
 
         WeeklySchedule updatedSchedule = weeklyScheduleRepository.save(existingSchedule);
+        if (changed) {
+            materializationService.refreshUpcoming(scheduleId);
+        }
 
         log.info("주간 시간표 수정 성공 - id: {}", scheduleId);
 
@@ -120,16 +145,18 @@ public class WeeklyScheduleService {
 
     /**
      * 주간 시간표 삭제
+     * 아직 시작하지 않은 생성 배정도 함께 지웁니다.
      */
     @Transactional
     public void deleteWeeklySchedule(Long scheduleId) {
         log.debug("주간 시간표 삭제 - scheduleId: {}", scheduleId);
 
-        if (!weeklyScheduleRepository.existsById(scheduleId)) {
-            throw new ResourceNotFoundException("시간표를 찾을 수 없습니다. ID: " + scheduleId);
-        }
+        WeeklySchedule schedule = weeklyScheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new ResourceNotFoundException("시간표를 찾을 수 없습니다. ID: " + scheduleId));
 
+        materializationService.discardUpcoming(scheduleId);
         weeklyScheduleRepository.deleteById(scheduleId);
+        resourceVersions.bumpAfterCommit(ResourceVersions.Resource.WEEKLY_SCHEDULE, schedule.getStudentId());
 
         log.info("주간 시간표 삭제 성공 - id: {}", scheduleId);
     }
@@ -143,6 +170,10 @@ public class WeeklyScheduleService {
         // 학생의 주간 시간표 조회
         List<WeeklySchedule> weeklySchedules = weeklyScheduleRepository.findByStudentIdWithDetails(studentId);
 
+        // 요일별로 한 번만 나눠 둠 (1=월요일, 7=일요일)
+        Map<Integer, List<WeeklySchedule>> schedulesByDay = weeklySchedules.stream()
+                .collect(Collectors.groupingBy(WeeklySchedule::getDayOfWeek));
+
         List<WeeklySchedulePeriodResponse> result = new ArrayList<>();
 
         // 각 날짜에 대해 해당하는 시간표 찾기
@@ -150,13 +181,8 @@ public class WeeklyScheduleService {
             LocalDate currentDate = startDate.plusDays(i);
             int dayOfWeek = currentDate.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
 
-            // 해당 요일의 시간표들 찾기
-            List<WeeklySchedule> daySchedules = weeklySchedules.stream()
-                    .filter(schedule -> schedule.getDayOfWeek().equals(dayOfWeek))
-                    .collect(Collectors.toList());
-
             // 실제 날짜와 결합해서 응답 생성
-            for (WeeklySchedule schedule : daySchedules) {
+            for (WeeklySchedule schedule : schedulesByDay.getOrDefault(dayOfWeek, List.of())) {
                 WeeklySchedulePeriodResponse response = convertToPeriodResponse(schedule, currentDate);
                 result.add(response);
             }
@@ -185,7 +211,7 @@ public class WeeklyScheduleService {
         }
 
         // 활동 존재 여부 확인
-        if (!activityRepository.existsById(request.getActivityId())) {
+        if (referenceDataCache.findActivity(request.getActivityId()).isEmpty()) {
             throw new ResourceNotFoundException("활동을 찾을 수 없습니다. ID: " + request.getActivityId());
         }
 
@@ -227,7 +253,7 @@ public class WeeklyScheduleService {
         response.setDayOfWeekName(WeeklySchedule.DayOfWeek.fromValue(schedule.getDayOfWeek()).getKorean());
 
         // 연관 엔티티 정보 설정
-        Activity activity = activityRepository.findById(schedule.getActivityId()).orElseThrow();
+        Activity activity = referenceDataCache.findActivity(schedule.getActivityId()).orElseThrow();
         response.setActivityName(activity.getName());
         response.setIsStudyAssignable(activity.getIsStudyAssignable());
 
@@ -252,7 +278,7 @@ public class WeeklyScheduleService {
         // 요일 이름 설정
         response.setDayOfWeekName(WeeklySchedule.DayOfWeek.fromValue(schedule.getDayOfWeek()).getKorean());
 
-        Activity activity = activityRepository.findById(schedule.getActivityId()).orElseThrow();
+        Activity activity = referenceDataCache.findActivity(schedule.getActivityId()).orElseThrow();
         response.setActivityName(activity.getName());
         response.setIsStudyAssignable(activity.getIsStudyAssignable());
 
@@ -0,0 +1,2 @@
+-- Add composite index for looking up a student's in-progress sessions (end_time IS NULL)
+CREATE INDEX idx_actual_study_time_student_end ON actual_study_time(student_id, end_time);
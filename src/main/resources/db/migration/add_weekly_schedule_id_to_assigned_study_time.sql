@@ -0,0 +1,3 @@
+-- Link assignments materialized from a weekly schedule to their source row; one row per schedule and start time
+ALTER TABLE assigned_study_time ADD COLUMN weekly_schedule_id bigint NULL;
+CREATE UNIQUE INDEX uk_assigned_study_time_weekly_slot ON assigned_study_time(weekly_schedule_id, start_time);
@@ -0,0 +1,21 @@
+-- Durable notification outbox: rows are written in the triggering transaction and delivered by batch workers
+CREATE TABLE notification_outbox (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    dedupe_key varchar(255) NOT NULL,
+    channel varchar(20) NOT NULL,
+    recipient varchar(100) NOT NULL,
+    template_id varchar(100) NOT NULL,
+    variables text,
+    status varchar(20) NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp NOT NULL,
+    locked_until timestamp NULL,
+    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at timestamp NULL,
+    latency_ms bigint,
+    last_error varchar(1000),
+    UNIQUE KEY uk_notification_outbox_dedupe (dedupe_key)
+);
+
+-- Worker claim query: pending rows ordered by next attempt time
+CREATE INDEX idx_notification_outbox_status_next ON notification_outbox(status, next_attempt_at);
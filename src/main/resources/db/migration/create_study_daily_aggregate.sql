@@ -0,0 +1,17 @@
+-- Per-student daily study rollup: maintained incrementally from session/assignment changes, rebuildable from raw rows
+CREATE TABLE study_daily_aggregate (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    student_id bigint NOT NULL,
+    study_date date NOT NULL,
+    assigned_minutes integer NOT NULL DEFAULT 0,
+    attended_minutes integer NOT NULL DEFAULT 0,
+    late_count integer NOT NULL DEFAULT 0,
+    early_leave_count integer NOT NULL DEFAULT 0,
+    no_show_count integer NOT NULL DEFAULT 0,
+    updated_at timestamp NOT NULL,
+    UNIQUE KEY uk_study_daily_aggregate_student_date (student_id, study_date),
+    FOREIGN KEY (student_id) REFERENCES users (id)
+);
+
+-- Nightly rebuild looks up every existing row of a date
+CREATE INDEX idx_study_daily_aggregate_date ON study_daily_aggregate(study_date);
@@ -0,0 +1,10 @@
+-- Weekly schedule slots a teacher deleted or moved; materialization skips them. One row per schedule and start time
+CREATE TABLE weekly_schedule_skipped_slot (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    weekly_schedule_id bigint NOT NULL,
+    start_time timestamp NOT NULL,
+    UNIQUE KEY uk_weekly_schedule_skipped_slot (weekly_schedule_id, start_time)
+);
+
+-- Materialization looks up every skipped slot in the generated date range
+CREATE INDEX idx_weekly_schedule_skipped_slot_start ON weekly_schedule_skipped_slot(start_time);
@@ -99,9 +99,20 @@ CREATE TABLE assigned_study_time (
                                      start_time timestamp,
                                      end_time timestamp,
                                      assigned_by bigint,
-                                     FOREIGN KEY (activity_id) REFERENCES activity(id)
+                                     weekly_schedule_id bigint,
+                                     FOREIGN KEY (activity_id) REFERENCES activity(id),
+                                     UNIQUE KEY uk_assigned_study_time_weekly_slot (weekly_schedule_id, start_time)
 );
 
+-- 선생님이 삭제/수정해 다시 생성하지 않을 주간 시간표 칸
+CREATE TABLE weekly_schedule_skipped_slot (
+                                              id bigint AUTO_INCREMENT PRIMARY KEY,
+                                              weekly_schedule_id bigint NOT NULL,
+                                              start_time timestamp NOT NULL,
+                                              UNIQUE KEY uk_weekly_schedule_skipped_slot (weekly_schedule_id, start_time)
+);
+CREATE INDEX idx_weekly_schedule_skipped_slot_start ON weekly_schedule_skipped_slot(start_time);
+
 CREATE TABLE actual_study_time (
                                    id bigint AUTO_INCREMENT PRIMARY KEY,
                                    student_id bigint,
@@ -111,6 +122,22 @@ CREATE TABLE actual_study_time (
                                    source varchar(255),
                                    FOREIGN KEY (assigned_study_time_id) REFERENCES assigned_study_time(id)
 );
+CREATE INDEX idx_actual_study_time_student_end ON actual_study_time(student_id, end_time);
+
+-- 학생별 일일 공부 집계 (주간/월간 요약 조회용, 원본에서 재계산 가능)
+CREATE TABLE study_daily_aggregate (
+                                       id bigint AUTO_INCREMENT PRIMARY KEY,
+                                       student_id bigint NOT NULL,
+                                       study_date date NOT NULL,
+                                       assigned_minutes integer NOT NULL DEFAULT 0,
+                                       attended_minutes integer NOT NULL DEFAULT 0,
+                                       late_count integer NOT NULL DEFAULT 0,
+                                       early_leave_count integer NOT NULL DEFAULT 0,
+                                       no_show_count integer NOT NULL DEFAULT 0,
+                                       updated_at timestamp NOT NULL,
+                                       UNIQUE KEY uk_study_daily_aggregate_student_date (student_id, study_date)
+);
+CREATE INDEX idx_study_daily_aggregate_date ON study_daily_aggregate(study_date);
 
 CREATE TABLE task_type (
                            id bigint AUTO_INCREMENT PRIMARY KEY,
@@ -190,6 +217,26 @@ CREATE TABLE notification_setting (
 --                                       FOREIGN KEY (scheduled_notification_id) REFERENCES scheduled_notification (id)
 -- );
 
+-- 알림 발송 대기열 (outbox): 트랜잭션 안에서 기록하고 워커가 묶음 단위로 전송
+CREATE TABLE notification_outbox (
+                                     id bigint AUTO_INCREMENT PRIMARY KEY,
+                                     dedupe_key varchar(255) NOT NULL, -- 채널|수신자|템플릿|업무 키
+                                     channel varchar(20) NOT NULL, -- 'ALIMTALK', 'DISCORD' 등
+                                     recipient varchar(100) NOT NULL,
+                                     template_id varchar(100) NOT NULL,
+                                     variables text, -- 템플릿 변수 (JSON)
+                                     status varchar(20) NOT NULL, -- 'PENDING', 'PROCESSING', 'SENT', 'FAILED'
+                                     attempts integer NOT NULL DEFAULT 0,
+                                     next_attempt_at timestamp NOT NULL,
+                                     locked_until timestamp,
+                                     created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                     sent_at timestamp,
+                                     latency_ms bigint,
+                                     last_error varchar(1000),
+                                     UNIQUE KEY uk_notification_outbox_dedupe (dedupe_key)
+);
+CREATE INDEX idx_notification_outbox_status_next ON notification_outbox(status, next_attempt_at);
+
 CREATE TABLE refresh_token (
                                id bigint AUTO_INCREMENT PRIMARY KEY,
                                token varchar(1000) UNIQUE NOT NULL,
@@ -217,6 +264,7 @@ ALTER TABLE weekly_schedule ADD FOREIGN KEY (student_id) REFERENCES users (id);
 ALTER TABLE assigned_study_time ADD FOREIGN KEY (student_id) REFERENCES users (id);
 ALTER TABLE assigned_study_time ADD FOREIGN KEY (assigned_by) REFERENCES users (id);
 ALTER TABLE actual_study_time ADD FOREIGN KEY (student_id) REFERENCES users (id);
+ALTER TABLE study_daily_aggregate ADD FOREIGN KEY (student_id) REFERENCES users (id);
 ALTER TABLE task ADD FOREIGN KEY (type_id) REFERENCES task_type (id);
 ALTER TABLE task ADD FOREIGN KEY (parent_id) REFERENCES task (id);
 ALTER TABLE material ADD FOREIGN KEY (task_id) REFERENCES task (id);
@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.context.ApplicationEventPublisher;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
 import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.discord.service.VoiceChannelEventService;
 import saomath.checkusserver.notification.event.UserRegisteredEvent;
@@ -44,6 +45,9 @@ class AuthServiceTest {
     
     @Mock
     private SchoolRepository schoolRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
     
     @Mock
     private UserRoleService userRoleService;
@@ -90,7 +94,7 @@ class AuthServiceTest {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
         when(userRepository.existsByPhoneNumber("010-1234-5678")).thenReturn(false);
         when(passwordEncoder.encode("test123!@#")).thenReturn("encoded_password");
-        when(schoolRepository.findByName("테스트 학교")).thenReturn(Optional.of(mockSchool));
+        when(referenceDataCache.findSchoolByName("테스트 학교")).thenReturn(Optional.of(mockSchool));
         when(userRepository.save(any(User.class))).thenReturn(mockUser);
         when(studentProfileRepository.save(any(StudentProfile.class))).thenReturn(new StudentProfile());
         when(userRoleService.assignRole(any(User.class), eq(RoleConstants.STUDENT), eq(UserRole.RoleStatus.PENDING)))
@@ -102,4 +102,51 @@ class JwtTokenProviderTest {
         // 만료된 토큰은 검증에 실패해야 함
         assertFalse(shortExpiryProvider.validateToken(token));
     }
+
+    @Test
+    @DisplayName("토큰을 한 번 검증해 사용자 정보를 반환하고, 같은 토큰은 캐시된 결과를 재사용")
+    void verify_ParsesOnceAndCaches() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken(7L, "testuser", Arrays.asList("TEACHER"));
+
+        // When
+        VerifiedToken first = jwtTokenProvider.verify(token);
+        VerifiedToken second = jwtTokenProvider.verify(token);
+
+        // Then
+        assertEquals(7L, first.userId());
+        assertEquals("testuser", first.username());
+        assertEquals(List.of("TEACHER"), first.roles());
+        assertTrue(first.isAccessToken());
+        assertNotNull(first.expiresAt());
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 검증 실패")
+    void verify_TamperedToken() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken(1L, "testuser", Arrays.asList("STUDENT"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertThrows(io.jsonwebtoken.JwtException.class, () -> jwtTokenProvider.verify(tampered));
+        assertFalse(jwtTokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    @DisplayName("캐시에 있던 토큰도 만료 시각이 지나면 검증 실패")
+    void verify_CachedTokenExpires() throws InterruptedException {
+        // Given
+        jwtProperties.setAccessTokenExpiration(1000L); // 1초
+        JwtTokenProvider shortExpiryProvider = new JwtTokenProvider(jwtProperties);
+        String token = shortExpiryProvider.generateAccessToken(1L, "testuser", Arrays.asList("STUDENT"));
+        assertTrue(shortExpiryProvider.validateToken(token));
+
+        // When
+        Thread.sleep(1100);
+
+        // Then
+        assertThrows(io.jsonwebtoken.ExpiredJwtException.class, () -> shortExpiryProvider.verify(token));
+    }
 }
@@ -0,0 +1,39 @@
+package saomath.checkusserver.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedCache 테스트")
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 90%까지 줄이고, 여유분을 다 쓸 때까지는 다시 정리하지 않음")
+    void store_TrimsWithHeadroom() {
+        // given
+        BoundedCache<Integer, String> cache = new BoundedCache<>("test", 100, Duration.ofMinutes(10));
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, String::valueOf);
+        }
+        assertThat(cache.getEvictionCount()).isZero();
+
+        // when: 넘치는 순간 한 번에 정리
+        cache.get(100, String::valueOf);
+
+        // then
+        assertThat(cache.size()).isEqualTo(90);
+        assertThat(cache.getEvictionCount()).isEqualTo(11);
+
+        // when: 여유분(10건) 안의 저장은 정리 없이 들어감
+        for (int i = 101; i < 111; i++) {
+            cache.get(i, String::valueOf);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getEvictionCount()).isEqualTo(11);
+    }
+}
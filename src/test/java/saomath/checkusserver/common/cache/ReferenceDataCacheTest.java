@@ -0,0 +1,105 @@
+package saomath.checkusserver.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import saomath.checkusserver.auth.domain.Role;
+import saomath.checkusserver.auth.repository.RoleRepository;
+import saomath.checkusserver.classroom.repository.ClassRepository;
+import saomath.checkusserver.school.domain.School;
+import saomath.checkusserver.school.repository.SchoolRepository;
+import saomath.checkusserver.studyTime.domain.Activity;
+import saomath.checkusserver.studyTime.repository.ActivityRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceDataCache 테스트")
+class ReferenceDataCacheTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private SchoolRepository schoolRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private ClassRepository classRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReferenceDataCache referenceDataCache;
+
+    private final Activity selfStudy = Activity.builder().id(1L).name("자습").isStudyAssignable(true).build();
+    private final School school = School.builder().id(10L).name("이현중").build();
+
+    @BeforeEach
+    void setUp() {
+        referenceDataCache = new ReferenceDataCache(activityRepository, schoolRepository, roleRepository,
+                classRepository, transactionManager, 10);
+
+        Role student = new Role();
+        student.setId(3L);
+        student.setName("STUDENT");
+        when(activityRepository.findAll()).thenReturn(List.of(selfStudy));
+        when(schoolRepository.findAll()).thenReturn(List.of(school));
+        when(roleRepository.findAll()).thenReturn(List.of(student));
+        when(classRepository.findAll()).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 한 번 읽어 ID/이름 조회를 메모리에서 처리")
+    void lookups_ServedFromSnapshot() {
+        // when
+        Optional<Activity> first = referenceDataCache.findActivity(1L);
+        Optional<Activity> second = referenceDataCache.findActivity(1L);
+        Optional<School> byName = referenceDataCache.findSchoolByName("이현중");
+        Optional<Role> role = referenceDataCache.findRoleByName("STUDENT");
+
+        // then
+        assertThat(first).containsSame(selfStudy);
+        assertThat(second).containsSame(selfStudy);
+        assertThat(byName).containsSame(school);
+        assertThat(role).isPresent();
+        verify(activityRepository, times(1)).findAll();
+        verify(activityRepository, never()).findById(any());
+        verify(schoolRepository, never()).findByName(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 값은 저장소에서 직접 조회")
+    void miss_FallsBackToRepository() {
+        // given
+        Activity added = Activity.builder().id(2L).name("학원").isStudyAssignable(false).build();
+        when(activityRepository.findById(2L)).thenReturn(Optional.of(added));
+
+        // when & then
+        assertThat(referenceDataCache.findActivity(2L)).containsSame(added);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 다음 조회 때 스냅샷을 다시 읽음")
+    void changedEvent_ReloadsSnapshot() {
+        // given
+        referenceDataCache.findActivity(1L);
+
+        // when
+        referenceDataCache.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.ACTIVITY));
+        referenceDataCache.findActivity(1L);
+
+        // then
+        verify(activityRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,112 @@
+package saomath.checkusserver.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import saomath.checkusserver.common.cache.ResourceVersions.Resource;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResourceVersions 테스트")
+class ResourceVersionsTest {
+
+    private final ResourceVersions resourceVersions = new ResourceVersions();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("버전을 올리면 해당 리소스/범위의 ETag만 바뀜")
+    void bump_ChangesOnlyMatchingETag() {
+        // given
+        String students = resourceVersions.etag(Resource.STUDENTS);
+        String schedule1 = resourceVersions.etag(Resource.WEEKLY_SCHEDULE, 1L);
+        String schedule2 = resourceVersions.etag(Resource.WEEKLY_SCHEDULE, 2L);
+
+        // when
+        resourceVersions.bump(Resource.WEEKLY_SCHEDULE, 1L);
+
+        // then
+        assertThat(resourceVersions.etag(Resource.WEEKLY_SCHEDULE, 1L)).isNotEqualTo(schedule1);
+        assertThat(resourceVersions.etag(Resource.WEEKLY_SCHEDULE, 2L)).isEqualTo(schedule2);
+        assertThat(resourceVersions.etag(Resource.STUDENTS)).isEqualTo(students);
+        assertThat(schedule1).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("재시작 전 ETag와는 버전이 같아도 일치하지 않음")
+    void etag_DiffersAcrossRestarts() throws InterruptedException {
+        Thread.sleep(2);
+        ResourceVersions restarted = new ResourceVersions();
+
+        assertThat(restarted.etag(Resource.SCHOOLS)).isNotEqualTo(resourceVersions.etag(Resource.SCHOOLS));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 버전을 올림")
+    void bumpAfterCommit_WaitsForCommit() {
+        // given
+        String before = resourceVersions.etag(Resource.TEACHERS);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        resourceVersions.bumpAfterCommit(Resource.TEACHERS);
+
+        // then: 커밋 전에는 그대로
+        assertThat(resourceVersions.etag(Resource.TEACHERS)).isEqualTo(before);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(resourceVersions.etag(Resource.TEACHERS)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 버전을 올림")
+    void bumpAfterCommit_BumpsImmediatelyWithoutTransaction() {
+        String before = resourceVersions.etag(Resource.NOTIFICATION_SETTINGS, 3L);
+
+        resourceVersions.bumpAfterCommit(Resource.NOTIFICATION_SETTINGS, 3L);
+
+        assertThat(resourceVersions.etag(Resource.NOTIFICATION_SETTINGS, 3L)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("학생 변경 이벤트는 학생 목록과 해당 학생의 시간표/알림 설정 버전을 올림")
+    void onStudentChanged_BumpsStudentResources() {
+        // given
+        String students = resourceVersions.etag(Resource.STUDENTS);
+        String schedule = resourceVersions.etag(Resource.WEEKLY_SCHEDULE, 7L);
+        String settings = resourceVersions.etag(Resource.NOTIFICATION_SETTINGS, 7L);
+        String teachers = resourceVersions.etag(Resource.TEACHERS);
+
+        // when
+        resourceVersions.onStudentChanged(StudentChangedEvent.builder()
+                .studentId(7L)
+                .changeType(StudentChangedEvent.ChangeType.UPDATED)
+                .build());
+
+        // then
+        assertThat(resourceVersions.etag(Resource.STUDENTS)).isNotEqualTo(students);
+        assertThat(resourceVersions.etag(Resource.WEEKLY_SCHEDULE, 7L)).isNotEqualTo(schedule);
+        assertThat(resourceVersions.etag(Resource.NOTIFICATION_SETTINGS, 7L)).isNotEqualTo(settings);
+        assertThat(resourceVersions.etag(Resource.TEACHERS)).isEqualTo(teachers);
+    }
+
+    @Test
+    @DisplayName("활동 추가는 활동 목록 버전만 올림")
+    void onReferenceDataChanged_ActivityBumpsActivities() {
+        String activities = resourceVersions.etag(Resource.ACTIVITIES);
+        String schools = resourceVersions.etag(Resource.SCHOOLS);
+
+        resourceVersions.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.ACTIVITY));
+
+        assertThat(resourceVersions.etag(Resource.ACTIVITIES)).isNotEqualTo(activities);
+        assertThat(resourceVersions.etag(Resource.SCHOOLS)).isEqualTo(schools);
+    }
+}
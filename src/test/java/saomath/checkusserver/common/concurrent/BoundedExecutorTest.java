@@ -0,0 +1,164 @@
+package saomath.checkusserver.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedExecutor 테스트")
+class BoundedExecutorTest {
+
+    private BoundedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 작업 수는 concurrency를 넘지 않음")
+    void concurrencyLimit() throws Exception {
+        executor = new BoundedExecutor("test", 2, 100, BoundedExecutor.RejectionPolicy.ABORT);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            futures.add(executor.supply(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                running.decrementAndGet();
+                return value;
+            }));
+        }
+
+        int sum = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            sum += future.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(sum).isEqualTo(190);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ABORT: 실행 중 + 대기 작업이 가득 차면 거절")
+    void abortWhenSaturated() throws Exception {
+        executor = new BoundedExecutor("test", 1, 1, BoundedExecutor.RejectionPolicy.ABORT);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> first = executor.supply(() -> await(release));
+        CompletableFuture<Boolean> second = executor.supply(() -> await(release));
+        CompletableFuture<Boolean> third = executor.supply(() -> await(release));
+
+        assertThat(third).isCompletedExceptionally();
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS: 가득 차면 호출 스레드에서 실행")
+    void callerRunsWhenSaturated() throws Exception {
+        executor = new BoundedExecutor("test", 1, 0, BoundedExecutor.RejectionPolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocking = executor.supply(() -> await(release));
+
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> ranOn = executor.supply(Thread::currentThread);
+
+        assertThat(ranOn.get(1, TimeUnit.SECONDS)).isSameAs(caller);
+        release.countDown();
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("실행 중/대기 작업 수와 대기 시간 지표를 등록")
+    void metrics() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor = new BoundedExecutor("test", 1, 10, BoundedExecutor.RejectionPolicy.ABORT).bindTo(registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> first = executor.supply(() -> await(release));
+        CompletableFuture<Boolean> second = executor.supply(() -> true);
+        waitUntil(() -> executor.getActiveCount() == 1);
+
+        assertThat(registry.get("executor.active").tag("name", "test").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("executor.queued").tag("name", "test").gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        waitUntil(() -> registry.get("executor.run").tag("name", "test").timer().count() == 2);
+        assertThat(registry.get("executor.wait").tag("name", "test").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료로 대기 중인 작업이 중단되면 supply future를 실패로 완료")
+    void shutdownCompletesWaitingSupply() throws Exception {
+        executor = new BoundedExecutor("test", 1, 10, BoundedExecutor.RejectionPolicy.ABORT);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = executor.supply(() -> await(release));
+        CompletableFuture<Boolean> waiting = executor.supply(() -> true);
+        waitUntil(() -> executor.getActiveCount() == 1 && executor.getQueuedCount() == 1);
+
+        executor.shutdown(10);
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값은 생성 시 예외")
+    void invalidArguments() {
+        assertThatThrownBy(() -> new BoundedExecutor("test", 0, 10, BoundedExecutor.RejectionPolicy.ABORT))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BoundedExecutor("test", 1, -1, BoundedExecutor.RejectionPolicy.ABORT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
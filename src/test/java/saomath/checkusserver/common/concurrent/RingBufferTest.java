@@ -0,0 +1,51 @@
+package saomath.checkusserver.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RingBuffer 테스트")
+class RingBufferTest {
+
+    @Test
+    @DisplayName("가득 차면 가장 오래된 항목부터 덮어쓰고 오래된 순으로 반환")
+    void overwritesOldest() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i);
+        }
+
+        assertThat(buffer.snapshot()).containsExactly(3, 4, 5);
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 써도 크기를 넘지 않음")
+    void concurrentAdd() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(100);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.add(i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(buffer.snapshot()).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("크기는 1 이상")
+    void invalidCapacity() {
+        assertThatThrownBy(() -> new RingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package saomath.checkusserver.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("burst만큼은 바로 얻고, 그 이후는 채워질 때까지 얻지 못함")
+    void tryAcquire_Burst() {
+        TokenBucket bucket = new TokenBucket(1, 3);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 채워지는 속도만큼 대기 후 얻음")
+    void acquire_WaitsForRefill() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(50, 1);
+        bucket.acquire();
+
+        long startedAt = System.nanoTime();
+        bucket.acquire();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // 초당 50개 → 약 20ms
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 거부")
+    void invalidArguments() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
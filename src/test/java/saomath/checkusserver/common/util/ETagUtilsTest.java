@@ -0,0 +1,32 @@
+package saomath.checkusserver.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ETagUtils 테스트")
+class ETagUtilsTest {
+
+    @Test
+    @DisplayName("같은 내용은 같은 강한 ETag")
+    void strongETag_DependsOnContent() {
+        String a = ETagUtils.strongETag("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+        String b = ETagUtils.strongETag("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+        String c = ETagUtils.strongETag("{\"a\":2}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(a).isEqualTo(b).isNotEqualTo(c).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 여러 값, *, W/ 접두사를 허용")
+    void matches_IfNoneMatchRules() {
+        assertThat(ETagUtils.matches("\"x\"", "\"x\"")).isTrue();
+        assertThat(ETagUtils.matches("\"y\", W/\"x\"", "\"x\"")).isTrue();
+        assertThat(ETagUtils.matches("*", "\"x\"")).isTrue();
+        assertThat(ETagUtils.matches("\"y\"", "\"x\"")).isFalse();
+        assertThat(ETagUtils.matches(null, "\"x\"")).isFalse();
+    }
+}
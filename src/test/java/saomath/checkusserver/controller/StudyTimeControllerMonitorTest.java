@@ -6,29 +6,49 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import saomath.checkusserver.auth.jwt.JwtAuthenticationEntryPoint;
+import saomath.checkusserver.auth.domain.CustomUserPrincipal;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.config.SecurityConfig;
 import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.dto.StudyTimeSummaryResponse;
+import saomath.checkusserver.studyTime.service.LiveStudyMonitorView;
+import saomath.checkusserver.studyTime.service.MonitorSnapshotCache;
+import saomath.checkusserver.studyTime.service.StudyDailyAggregateService;
+import saomath.checkusserver.studyTime.service.StudyMonitorStreamService;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
 import saomath.checkusserver.studyTime.controller.StudyTimeController;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(StudyTimeController.class)
 @ActiveProfiles("test")
 @DisplayName("StudyTimeController 모니터링 엔드포인트 테스트")
+@Import({ResourceVersions.class, SecurityConfig.class, JwtAuthenticationEntryPoint.class})
 class StudyTimeControllerMonitorTest {
 
     @Autowired
@@ -37,6 +57,18 @@ class StudyTimeControllerMonitorTest {
     @MockitoBean
     private StudyTimeService studyTimeService;
 
+    @MockitoBean
+    private LiveStudyMonitorView liveStudyMonitorView;
+
+    @MockitoBean
+    private StudyMonitorStreamService studyMonitorStreamService;
+
+    @MockitoBean
+    private StudyDailyAggregateService studyDailyAggregateService;
+
+    @MockitoBean
+    private MonitorSnapshotCache monitorSnapshotCache;
+
     // JWT 관련 Mock Bean 추가 (보안 설정 때문에 필요)
     @MockitoBean
     private saomath.checkusserver.auth.jwt.JwtTokenProvider jwtTokenProvider;
@@ -210,6 +242,133 @@ class StudyTimeControllerMonitorTest {
                 .andExpect(jsonPath("$.message").value("데이터베이스 연결 오류"));
     }
 
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("성공: 끝난 날짜는 스냅샷과 ETag로 응답")
+    void getStudyTimeMonitor_PastDateSnapshot() throws Exception {
+        // given
+        String targetDate = "2025-06-18";
+        when(monitorSnapshotCache.get(LocalDate.parse(targetDate)))
+                .thenReturn(Optional.of(new MonitorSnapshotCache.Snapshot(mockResponse, "\"abc123\"")));
+
+        // when & then
+        mockMvc.perform(get("/study-time/monitor/{date}", targetDate)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(jsonPath("$.data.students[0].studentId").value(1));
+        verify(studyTimeService, never()).getStudyTimeMonitorByDate(any(LocalDate.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("성공: 끝난 날짜의 ETag가 같으면 304")
+    void getStudyTimeMonitor_PastDateNotModified() throws Exception {
+        // given
+        String targetDate = "2025-06-18";
+        when(monitorSnapshotCache.get(LocalDate.parse(targetDate)))
+                .thenReturn(Optional.of(new MonitorSnapshotCache.Snapshot(mockResponse, "\"abc123\"")));
+
+        // when & then
+        mockMvc.perform(get("/study-time/monitor/{date}", targetDate)
+                        .header("If-None-Match", "\"abc123\"")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("성공: 학생은 본인 주간 요약 조회 가능")
+    void getWeeklySummary_OwnStudent() throws Exception {
+        when(studyDailyAggregateService.getWeeklySummary(any(), any(LocalDate.class)))
+                .thenReturn(new StudyTimeSummaryResponse());
+
+        mockMvc.perform(get("/study-time/summary/student/{studentId}/weekly", 1L)
+                        .param("date", "2025-06-18")
+                        .with(user(principal(1L, "STUDENT"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("실패: 학생은 다른 학생의 요약 조회 불가")
+    void getWeeklySummary_OtherStudentForbidden() throws Exception {
+        mockMvc.perform(get("/study-time/summary/student/{studentId}/weekly", 2L)
+                        .param("date", "2025-06-18")
+                        .with(user(principal(1L, "STUDENT"))))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false));
+        verify(studyDailyAggregateService, never()).getWeeklySummary(any(), any());
+    }
+
+    @Test
+    @DisplayName("학부모는 연결된 학생의 월간 요약만 조회 가능")
+    void getMonthlySummary_GuardianLinkedOnly() throws Exception {
+        when(studyTimeService.isGuardianOf(5L, 1L)).thenReturn(true);
+        when(studyTimeService.isGuardianOf(5L, 2L)).thenReturn(false);
+        when(studyDailyAggregateService.getMonthlySummary(anyLong(), any()))
+                .thenReturn(new StudyTimeSummaryResponse());
+
+        mockMvc.perform(get("/study-time/summary/student/{studentId}/monthly", 1L)
+                        .param("month", "2025-06")
+                        .with(user(principal(5L, "GUARDIAN"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/study-time/summary/student/{studentId}/monthly", 2L)
+                        .param("month", "2025-06")
+                        .with(user(principal(5L, "GUARDIAN"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("실패: 학생은 일일 집계 재생성 불가")
+    void rebuildDailyAggregates_StudentForbidden() throws Exception {
+        mockMvc.perform(post("/study-time/summary/rebuild")
+                        .param("startDate", "2025-06-01")
+                        .param("endDate", "2025-06-18")
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+        verify(studyDailyAggregateService, never()).rebuild(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "GUARDIAN")
+    @DisplayName("실패: 학부모는 모니터링 뷰 재구성 불가")
+    void rebuildMonitorView_GuardianForbidden() throws Exception {
+        mockMvc.perform(post("/study-time/monitor/rebuild").with(csrf()))
+                .andExpect(status().isForbidden());
+        verify(liveStudyMonitorView, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("실패: 학생과 학부모는 모니터링 스트림 구독 불가")
+    void streamMonitor_StudentAndGuardianForbidden() throws Exception {
+        mockMvc.perform(get("/study-time/monitor/stream").with(user(principal(1L, "STUDENT"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/study-time/monitor/stream").with(user(principal(5L, "GUARDIAN"))))
+                .andExpect(status().isForbidden());
+        verify(studyMonitorStreamService, never()).subscribe();
+    }
+
+    @Test
+    @DisplayName("성공: 선생님은 모니터링 스트림 구독 가능")
+    void streamMonitor_TeacherAllowed() throws Exception {
+        when(studyMonitorStreamService.subscribe()).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/study-time/monitor/stream").with(user(principal(3L, "TEACHER"))))
+                .andExpect(status().isOk());
+        verify(studyMonitorStreamService).subscribe();
+    }
+
+    private CustomUserPrincipal principal(Long id, String role) {
+        return new CustomUserPrincipal(id, "user" + id, null, null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role)), true, true, true, true);
+    }
+
     private StudyTimeMonitorResponse createMockMonitorResponse() {
         StudyTimeMonitorResponse response = new StudyTimeMonitorResponse();
         response.setDate(LocalDate.parse("2025-06-18"));
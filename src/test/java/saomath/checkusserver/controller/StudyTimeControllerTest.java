@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
@@ -16,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.auth.domain.CustomUserPrincipal;
 import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.studyTime.dto.AssignStudyTimeRequest;
@@ -24,6 +26,10 @@ import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.studyTime.domain.ActualStudyTime;
 import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
+import saomath.checkusserver.studyTime.service.LiveStudyMonitorView;
+import saomath.checkusserver.studyTime.service.MonitorSnapshotCache;
+import saomath.checkusserver.studyTime.service.StudyDailyAggregateService;
+import saomath.checkusserver.studyTime.service.StudyMonitorStreamService;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
 import saomath.checkusserver.studyTime.controller.StudyTimeController;
 
@@ -45,6 +51,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                     SecurityFilterAutoConfiguration.class
             })
 @DisplayName("StudyTimeController 단위 테스트")
+@Import(ResourceVersions.class)
 class StudyTimeControllerTest {
 
     @Autowired
@@ -56,6 +63,18 @@ class StudyTimeControllerTest {
     @MockitoBean
     private StudyTimeService studyTimeService;
 
+    @MockitoBean
+    private LiveStudyMonitorView liveStudyMonitorView;
+
+    @MockitoBean
+    private StudyMonitorStreamService studyMonitorStreamService;
+
+    @MockitoBean
+    private StudyDailyAggregateService studyDailyAggregateService;
+
+    @MockitoBean
+    private MonitorSnapshotCache monitorSnapshotCache;
+
     // JWT 관련 Mock Bean 추가 (보안 설정 때문에 필요)
     @MockitoBean
     private saomath.checkusserver.auth.jwt.JwtTokenProvider jwtTokenProvider;
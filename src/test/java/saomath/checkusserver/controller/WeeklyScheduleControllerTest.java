@@ -6,10 +6,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import saomath.checkusserver.auth.jwt.JwtAuthenticationEntryPoint;
+import saomath.checkusserver.common.cache.ResourceVersions;
+import saomath.checkusserver.common.config.SecurityConfig;
 import saomath.checkusserver.auth.service.CustomUserDetailsService;
 import saomath.checkusserver.auth.jwt.JwtTokenProvider;
 import saomath.checkusserver.weeklySchedule.dto.WeeklySchedulePeriodResponse;
@@ -18,6 +22,7 @@ import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleResponse;
 import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
 import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleService;
+import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleMaterializationService;
 import saomath.checkusserver.weeklySchedule.controller.WeeklyScheduleController;
 
 import java.time.LocalDate;
@@ -33,6 +38,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(WeeklyScheduleController.class)
+@Import({ResourceVersions.class, SecurityConfig.class, JwtAuthenticationEntryPoint.class})
 class WeeklyScheduleControllerTest {
 
     @Autowired
@@ -41,6 +47,9 @@ class WeeklyScheduleControllerTest {
     @MockitoBean
     private WeeklyScheduleService weeklyScheduleService;
 
+    @MockitoBean
+    private WeeklyScheduleMaterializationService materializationService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -312,4 +321,15 @@ class WeeklyScheduleControllerTest {
                         .content(objectMapper.writeValueAsString(mockScheduleRequest)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("주간 시간표 배정 생성 - 학생 권한 없음")
+    void materialize_StudentForbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/weekly-schedule/materialize")
+                        .param("startDate", "2025-06-02")
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,158 @@
+package saomath.checkusserver.discord.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import net.dv8tion.jda.api.requests.restaction.CacheRestAction;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.discord.service.DiscordDirectMessageSender.DeliveryOutcome;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscordDirectMessageSender 테스트")
+class DiscordDirectMessageSenderTest {
+
+    @Mock
+    private JDA jda;
+
+    @Mock
+    private CacheRestAction<PrivateChannel> openAction;
+
+    @Mock
+    private PrivateChannel privateChannel;
+
+    @Mock
+    private MessageCreateAction messageAction;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DiscordDirectMessageSender sender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sender = new DiscordDirectMessageSender(jda, meterRegistry, 1000, 100, 100, 12);
+    }
+
+    @Test
+    @DisplayName("개인 채널은 사용자별로 한 번만 열고 이후 전송에 재사용")
+    void send_ReusesCachedChannel() {
+        // given
+        when(jda.openPrivateChannelById("u1")).thenReturn(openAction);
+        when(openAction.submit()).thenReturn(CompletableFuture.completedFuture(privateChannel));
+        when(privateChannel.sendMessage("hello")).thenReturn(messageAction);
+        when(messageAction.submit()).thenReturn(CompletableFuture.completedFuture(mock(Message.class)));
+
+        // when
+        DeliveryOutcome first = sender.send("u1", "hello").join();
+        DeliveryOutcome second = sender.send("u1", "hello").join();
+
+        // then
+        assertThat(first).isEqualTo(DeliveryOutcome.SENT);
+        assertThat(second).isEqualTo(DeliveryOutcome.SENT);
+        verify(jda, times(1)).openPrivateChannelById("u1");
+        verify(privateChannel, times(2)).sendMessage("hello");
+        assertThat(meterRegistry.get("discord.dm.sent").tag("outcome", "sent").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("채널을 여는 도중 같은 사용자에게 보내도 채널은 한 번만 열림")
+    void send_ConcurrentSendsOpenChannelOnce() throws Exception {
+        // given: 첫 번째 열기 요청이 끝나지 않은 상태에서 두 번째 전송
+        CountDownLatch opening = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jda.openPrivateChannelById("u1")).thenAnswer(invocation -> {
+            opening.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return openAction;
+        });
+        when(openAction.submit()).thenReturn(CompletableFuture.completedFuture(privateChannel));
+        when(privateChannel.sendMessage("hello")).thenReturn(messageAction);
+        when(messageAction.submit()).thenReturn(CompletableFuture.completedFuture(mock(Message.class)));
+
+        // when
+        CompletableFuture<CompletableFuture<DeliveryOutcome>> first =
+                CompletableFuture.supplyAsync(() -> sender.send("u1", "hello"));
+        assertThat(opening.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<DeliveryOutcome> second = sender.send("u1", "hello");
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS)).isEqualTo(DeliveryOutcome.SENT);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(DeliveryOutcome.SENT);
+        verify(jda, times(1)).openPrivateChannelById("u1");
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 UNKNOWN_USER로 분류하고 채널 열기 실패는 캐싱하지 않음")
+    void send_UnknownUserNotCached() {
+        // given
+        ErrorResponseException unknownUser = errorResponse(ErrorResponse.UNKNOWN_USER);
+        when(jda.openPrivateChannelById("ghost")).thenReturn(openAction);
+        when(openAction.submit()).thenReturn(CompletableFuture.failedFuture(unknownUser));
+
+        // when
+        DeliveryOutcome first = sender.send("ghost", "hello").join();
+        DeliveryOutcome second = sender.send("ghost", "hello").join();
+
+        // then
+        assertThat(first).isEqualTo(DeliveryOutcome.UNKNOWN_USER);
+        assertThat(second).isEqualTo(DeliveryOutcome.UNKNOWN_USER);
+        verify(jda, times(2)).openPrivateChannelById("ghost");
+        assertThat(meterRegistry.get("discord.dm.sent").tag("outcome", "unknown_user").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("브로드캐스트는 사용자별 결과를 반환하고 DM 차단 사용자를 구분")
+    void broadcast_PerRecipientOutcome() {
+        // given
+        PrivateChannel blockedChannel = mock(PrivateChannel.class);
+        MessageCreateAction blockedAction = mock(MessageCreateAction.class);
+        @SuppressWarnings("unchecked")
+        CacheRestAction<PrivateChannel> blockedOpen = mock(CacheRestAction.class);
+        ErrorResponseException cannotSend = errorResponse(ErrorResponse.CANNOT_SEND_TO_USER);
+
+        when(jda.openPrivateChannelById("u1")).thenReturn(openAction);
+        when(openAction.submit()).thenReturn(CompletableFuture.completedFuture(privateChannel));
+        when(privateChannel.sendMessage("notice")).thenReturn(messageAction);
+        when(messageAction.submit()).thenReturn(CompletableFuture.completedFuture(mock(Message.class)));
+
+        when(jda.openPrivateChannelById("u2")).thenReturn(blockedOpen);
+        when(blockedOpen.submit()).thenReturn(CompletableFuture.completedFuture(blockedChannel));
+        when(blockedChannel.sendMessage("notice")).thenReturn(blockedAction);
+        when(blockedAction.submit()).thenReturn(CompletableFuture.failedFuture(cannotSend));
+
+        // when: 중복 ID는 한 번만 전송
+        Map<String, DeliveryOutcome> outcomes = sender.broadcast(List.of("u1", "u2", "u1"), "notice").join();
+
+        // then
+        assertThat(outcomes).containsExactly(
+                Map.entry("u1", DeliveryOutcome.SENT),
+                Map.entry("u2", DeliveryOutcome.DM_BLOCKED));
+        verify(privateChannel, times(1)).sendMessage("notice");
+        assertThat(meterRegistry.get("discord.dm.broadcast").timer().count()).isEqualTo(1);
+    }
+
+    // 다른 when(...) 인자 안에서 호출하면 스터빙이 겹치므로 미리 만들어 둘 것
+    private static ErrorResponseException errorResponse(ErrorResponse response) {
+        ErrorResponseException exception = mock(ErrorResponseException.class);
+        when(exception.getErrorResponse()).thenReturn(response);
+        return exception;
+    }
+}
@@ -0,0 +1,144 @@
+package saomath.checkusserver.discord.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.notification.event.UserDiscordIdChangeEvent;
+import saomath.checkusserver.notification.event.UserRegisteredEvent;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscordUserResolver 테스트")
+class DiscordUserResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DiscordUserResolver discordUserResolver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        discordUserResolver = new DiscordUserResolver(userRepository, meterRegistry, 100, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 디스코드 ID는 한 번만 DB에서 조회")
+    void resolve_CachesResult() {
+        // given
+        User user = createUser(1L, "discord-1");
+        when(userRepository.findByDiscordId("discord-1")).thenReturn(Optional.of(user));
+
+        // when
+        discordUserResolver.resolve("discord-1");
+        Optional<User> second = discordUserResolver.resolve("discord-1");
+
+        // then
+        assertThat(second).contains(user);
+        verify(userRepository, times(1)).findByDiscordId("discord-1");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 사용자도 캐싱하고 가입 이벤트로 무효화")
+    void resolve_NegativeEntryInvalidatedByRegistration() {
+        // given
+        User user = createUser(1L, "discord-1");
+        when(userRepository.findByDiscordId("discord-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+
+        // when
+        assertThat(discordUserResolver.resolve("discord-1")).isEmpty();
+        assertThat(discordUserResolver.resolve("discord-1")).isEmpty();
+        discordUserResolver.onUserRegistered(new UserRegisteredEvent(user, "REGISTER"));
+
+        // then
+        assertThat(discordUserResolver.resolve("discord-1")).contains(user);
+        verify(userRepository, times(2)).findByDiscordId("discord-1");
+    }
+
+    @Test
+    @DisplayName("학생 삭제 이벤트는 해당 디스코드 ID 항목을 무효화")
+    void onStudentChanged_InvalidatesEntry() {
+        // given
+        when(userRepository.findByDiscordId("discord-1"))
+                .thenReturn(Optional.of(createUser(1L, "discord-1")))
+                .thenReturn(Optional.empty());
+        discordUserResolver.resolve("discord-1");
+
+        // when
+        discordUserResolver.onStudentChanged(StudentChangedEvent.builder()
+                .studentId(1L)
+                .changeType(StudentChangedEvent.ChangeType.DELETED)
+                .oldDiscordId("discord-1")
+                .newDiscordId("discord-1")
+                .build());
+
+        // then
+        assertThat(discordUserResolver.resolve("discord-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("디스코드 ID 변경은 바로 무효화하고, 커밋 전에 다시 캐싱된 항목도 커밋 후 무효화")
+    void onDiscordIdChanged_InvalidatesAgainAfterCommit() {
+        // given
+        User user = createUser(1L, "discord-new");
+        when(userRepository.findByDiscordId("discord-new"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when: 이벤트 처리 후 커밋 전에 다른 조회가 이전 상태(없음)를 다시 캐싱
+        discordUserResolver.onDiscordIdChanged(UserDiscordIdChangeEvent.builder()
+                .user(user)
+                .oldDiscordId("discord-old")
+                .newDiscordId("discord-new")
+                .build());
+        assertThat(discordUserResolver.resolve("discord-new")).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(discordUserResolver.resolve("discord-new")).contains(user);
+    }
+
+    @Test
+    @DisplayName("빈 디스코드 ID는 조회하지 않음")
+    void resolve_BlankId() {
+        assertThat(discordUserResolver.resolve(" ")).isEmpty();
+        verifyNoInteractions(userRepository);
+    }
+
+    private User createUser(Long id, String discordId) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("student" + id);
+        user.setName("학생" + id);
+        user.setDiscordId(discordId);
+        return user;
+    }
+}
@@ -0,0 +1,115 @@
+package saomath.checkusserver.discord.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.discord.entity.VoiceChannelEvent;
+import saomath.checkusserver.notification.event.StudyRoomEnterEvent;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.service.AssignmentIntervalIndex;
+import saomath.checkusserver.studyTime.service.StudyTimeService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("VoiceChannelEventService 입장/퇴장 묶기 테스트")
+class VoiceChannelEventServiceCoalescingTest {
+
+    private static final String DISCORD_ID = "discord-1";
+
+    private StudyTimeService studyTimeService;
+    private ApplicationEventPublisher eventPublisher;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        studyTimeService = mock(StudyTimeService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        student = User.builder().id(1L).username("student1").name("학생").discordId(DISCORD_ID).build();
+
+        when(studyTimeService.recordStudyStart(eq(1L), any(), anyString()))
+                .thenReturn(ActualStudyTime.builder().id(10L).studentId(1L).build());
+        when(studyTimeService.recordStudyEndByStudentId(eq(1L), any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("보류 시간 안에 재입장하면 새 세션과 입장 알림 없이 기존 세션 유지")
+    void rejoinWithinGrace_KeepsSession() {
+        // given
+        VoiceChannelEventService service = createService(30);
+        LocalDateTime now = LocalDateTime.now();
+        service.processVoiceChannelEvent(event(VoiceChannelEvent.EventType.JOIN, "c1", now));
+        when(studyTimeService.hasOngoingSession(1L)).thenReturn(true);
+
+        // when: 끊김 후 재접속, 이동
+        service.processVoiceChannelEvent(event(VoiceChannelEvent.EventType.LEAVE, "c1", now.plusSeconds(5)));
+        service.processVoiceChannelEvent(event(VoiceChannelEvent.EventType.JOIN, "c1", now.plusSeconds(8)));
+        service.processVoiceChannelEvent(event(VoiceChannelEvent.EventType.MOVE, "c2", now.plusSeconds(20)));
+
+        // then
+        verify(studyTimeService, times(1)).recordStudyStart(eq(1L), any(), anyString());
+        verify(studyTimeService, never()).recordStudyEndByStudentId(any(), any());
+        verify(eventPublisher, times(1)).publishEvent(any(StudyRoomEnterEvent.class));
+        assertThat(service.getPendingLeaveCount()).isZero();
+        assertThat(service.findChannelOf(DISCORD_ID)).contains("c2");
+    }
+
+    @Test
+    @DisplayName("보류 중인 퇴장은 종료 시 원래 퇴장 시각으로 세션을 종료")
+    void pendingLeave_FlushedWithOriginalTimestamp() {
+        // given
+        VoiceChannelEventService service = createService(30);
+        LocalDateTime leaveTime = LocalDateTime.now();
+        service.processVoiceChannelEvent(event(VoiceChannelEvent.EventType.LEAVE, "c1", leaveTime));
+        verify(studyTimeService, never()).recordStudyEndByStudentId(any(), any());
+
+        // when
+        service.flushPendingLeaves();
+
+        // then
+        verify(studyTimeService).recordStudyEndByStudentId(1L, leaveTime);
+        assertThat(service.getPendingLeaveCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보류 시간이 0이면 퇴장을 바로 처리")
+    void graceDisabled_LeavesImmediately() {
+        // given
+        VoiceChannelEventService service = createService(0);
+        LocalDateTime leaveTime = LocalDateTime.now();
+
+        // when
+        service.processVoiceChannelEvent(event(VoiceChannelEvent.EventType.LEAVE, "c1", leaveTime));
+
+        // then
+        verify(studyTimeService).recordStudyEndByStudentId(1L, leaveTime);
+    }
+
+    private VoiceChannelEventService createService(long graceSeconds) {
+        DiscordUserResolver resolver = mock(DiscordUserResolver.class);
+        when(resolver.resolve(DISCORD_ID)).thenReturn(Optional.of(student));
+        return new VoiceChannelEventService(mock(UserRepository.class), resolver,
+                mock(AssignmentIntervalIndex.class), studyTimeService, eventPublisher, graceSeconds);
+    }
+
+    private static VoiceChannelEvent event(VoiceChannelEvent.EventType type, String channelId, LocalDateTime timestamp) {
+        return VoiceChannelEvent.builder()
+                .userId(DISCORD_ID)
+                .username("student1")
+                .channelId(channelId)
+                .channelName("채널-" + channelId)
+                .eventType(type)
+                .timestamp(timestamp)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package saomath.checkusserver.discord.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import saomath.checkusserver.discord.config.VoiceIngestProperties;
+import saomath.checkusserver.discord.entity.VoiceChannelEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("VoiceEventIngestionQueue 테스트")
+class VoiceEventIngestionQueueTest {
+
+    private static final int USERS = 20;
+    private static final int EVENTS_PER_USER = 50;
+
+    private VoiceChannelEventService voiceChannelEventService;
+    private SimpleMeterRegistry meterRegistry;
+    private VoiceEventIngestionQueue queue;
+
+    private final Map<String, List<Integer>> processedOrder = new ConcurrentHashMap<>();
+    private CountDownLatch processedLatch;
+
+    @BeforeEach
+    void setUp() {
+        voiceChannelEventService = mock(VoiceChannelEventService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        processedLatch = new CountDownLatch(USERS * EVENTS_PER_USER);
+
+        doAnswer(invocation -> {
+            VoiceChannelEvent event = invocation.getArgument(0);
+            processedOrder.computeIfAbsent(event.getUserId(), k -> new CopyOnWriteArrayList<>())
+                    .add(event.getCurrentChannelMembers());
+            processedLatch.countDown();
+            return null;
+        }).when(voiceChannelEventService).processVoiceChannelEvent(any());
+
+        VoiceIngestProperties properties = new VoiceIngestProperties();
+        properties.setLanes(4);
+        properties.setLaneCapacity(16);
+        queue = new VoiceEventIngestionQueue(voiceChannelEventService, properties, meterRegistry);
+        queue.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 이벤트는 들어온 순서대로 처리되고 큐가 작아도 유실되지 않음")
+    void submit_PreservesPerUserOrder() throws InterruptedException {
+        // when: 사용자별 순번을 currentChannelMembers에 담아 번갈아 제출
+        for (int seq = 0; seq < EVENTS_PER_USER; seq++) {
+            for (int user = 0; user < USERS; user++) {
+                queue.submit(VoiceChannelEvent.builder()
+                        .userId("discord-" + user)
+                        .channelId("channel-1")
+                        .eventType(seq % 2 == 0 ? VoiceChannelEvent.EventType.JOIN : VoiceChannelEvent.EventType.LEAVE)
+                        .currentChannelMembers(seq)
+                        .withCurrentTimestamp()
+                        .build());
+            }
+        }
+
+        // then
+        assertThat(processedLatch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(processedOrder).hasSize(USERS);
+        processedOrder.values().forEach(order -> {
+            assertThat(order).hasSize(EVENTS_PER_USER);
+            for (int i = 0; i < EVENTS_PER_USER; i++) {
+                assertThat(order.get(i)).isEqualTo(i);
+            }
+        });
+        // 처리 카운터는 이벤트 처리가 끝난 뒤 올라가므로 마지막 이벤트의 카운트를 기다림
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processedCount() < USERS * EVENTS_PER_USER && System.currentTimeMillis() < deadline) {
+            sleep(10);
+        }
+        assertThat(processedCount()).isEqualTo(USERS * EVENTS_PER_USER);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 이벤트를 모두 처리")
+    void shutdown_DrainsPendingEvents() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            queue.submit(VoiceChannelEvent.builder()
+                    .userId("discord-" + i)
+                    .channelId("channel-1")
+                    .eventType(VoiceChannelEvent.EventType.JOIN)
+                    .currentChannelMembers(0)
+                    .withCurrentTimestamp()
+                    .build());
+        }
+
+        // when
+        queue.shutdown();
+
+        // then
+        assertThat(queue.getQueueDepth()).isZero();
+        assertThat(processedOrder).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("멈춘 동안 들어온 입장은 맞추기가 끝난 뒤 처리됨")
+    void pauseWhile_DefersJoinUntilReconciled() throws InterruptedException {
+        // given
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch joined = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            order.add("join");
+            joined.countDown();
+            return null;
+        }).when(voiceChannelEventService).processVoiceChannelEvent(any());
+
+        // when: 맞추기 도중 입장 이벤트 도착
+        queue.pauseWhile(() -> {
+            queue.submit(VoiceChannelEvent.builder()
+                    .userId("discord-join")
+                    .channelId("channel-1")
+                    .eventType(VoiceChannelEvent.EventType.JOIN)
+                    .withCurrentTimestamp()
+                    .build());
+            sleep(300);
+            order.add("reconcile");
+            return null;
+        });
+
+        // then
+        assertThat(joined.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("reconcile", "join");
+    }
+
+    private double processedCount() {
+        return meterRegistry.counter("discord.voice.ingest.processed").count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
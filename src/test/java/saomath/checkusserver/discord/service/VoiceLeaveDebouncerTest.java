@@ -0,0 +1,81 @@
+package saomath.checkusserver.discord.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import saomath.checkusserver.discord.entity.VoiceChannelEvent;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VoiceLeaveDebouncer 테스트")
+class VoiceLeaveDebouncerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-02T01:00:00Z");
+    private static final LocalDateTime LEAVE_TIME = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @Test
+    @DisplayName("보류 시간이 지나면 원래 퇴장 이벤트를 꺼냄")
+    void expire_ReturnsHeldLeave() {
+        VoiceLeaveDebouncer debouncer = new VoiceLeaveDebouncer(30, NOW);
+        VoiceChannelEvent leave = leave("u1", LEAVE_TIME);
+        debouncer.hold(leave, NOW);
+
+        assertThat(debouncer.expire(NOW.plusSeconds(29))).isEmpty();
+
+        List<VoiceLeaveDebouncer.PendingLeave> expired = debouncer.expire(NOW.plusSeconds(30));
+        assertThat(expired).hasSize(1);
+        assertThat(debouncer.claim(expired.get(0))).isSameAs(leave);
+        assertThat(debouncer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보류 중 재입장하면 취소되고 만기 시 처리하지 않음")
+    void cancel_BeforeExpiry() {
+        VoiceLeaveDebouncer debouncer = new VoiceLeaveDebouncer(30, NOW);
+        debouncer.hold(leave("u1", LEAVE_TIME), NOW);
+
+        assertThat(debouncer.cancel("u1")).isNotNull();
+
+        List<VoiceLeaveDebouncer.PendingLeave> expired = debouncer.expire(NOW.plusSeconds(60));
+        assertThat(expired).allSatisfy(pending -> assertThat(debouncer.claim(pending)).isNull());
+    }
+
+    @Test
+    @DisplayName("연속 퇴장은 하나로 합치고 처음 퇴장 시각을 유지")
+    void hold_KeepsEarliestLeave() {
+        VoiceLeaveDebouncer debouncer = new VoiceLeaveDebouncer(30, NOW);
+        VoiceChannelEvent first = leave("u1", LEAVE_TIME);
+        debouncer.hold(first, NOW);
+        debouncer.hold(leave("u1", LEAVE_TIME.plusSeconds(10)), NOW.plusSeconds(10));
+
+        // 첫 번째 보류의 만기는 무시되고 두 번째 보류 만기에 처음 퇴장 이벤트가 나옴
+        assertThat(debouncer.expire(NOW.plusSeconds(30)))
+                .allSatisfy(pending -> assertThat(debouncer.claim(pending)).isNull());
+        List<VoiceLeaveDebouncer.PendingLeave> expired = debouncer.expire(NOW.plusSeconds(40));
+        assertThat(expired).hasSize(1);
+        assertThat(debouncer.claim(expired.get(0))).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("종료 시 보류 중인 퇴장을 모두 꺼냄")
+    void drainAll() {
+        VoiceLeaveDebouncer debouncer = new VoiceLeaveDebouncer(30, NOW);
+        debouncer.hold(leave("u1", LEAVE_TIME), NOW);
+        debouncer.hold(leave("u2", LEAVE_TIME), NOW);
+
+        assertThat(debouncer.drainAll()).hasSize(2);
+        assertThat(debouncer.getPendingCount()).isZero();
+    }
+
+    private static VoiceChannelEvent leave(String userId, LocalDateTime timestamp) {
+        return VoiceChannelEvent.builder()
+                .userId(userId)
+                .channelId("c1")
+                .eventType(VoiceChannelEvent.EventType.LEAVE)
+                .timestamp(timestamp)
+                .build();
+    }
+}
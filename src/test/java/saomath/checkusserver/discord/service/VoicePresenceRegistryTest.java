@@ -0,0 +1,139 @@
+package saomath.checkusserver.discord.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VoicePresenceRegistry 테스트")
+class VoicePresenceRegistryTest {
+
+    @Test
+    @DisplayName("이동하면 이전 채널에서 빠지고 역색인이 새 채널을 가리킴")
+    void join_MovesBetweenChannels() {
+        VoicePresenceRegistry registry = new VoicePresenceRegistry();
+
+        registry.join("u1", "c1");
+        String previous = registry.join("u1", "c2");
+
+        assertThat(previous).isEqualTo("c1");
+        assertThat(registry.channelOf("u1")).contains("c2");
+        assertThat(registry.members("c1")).isEmpty();
+        assertThat(registry.members("c2")).containsExactly("u1");
+        assertThat(registry.channelCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 다른 채널로 이동한 뒤 늦게 도착한 퇴장은 무시")
+    void leave_IgnoresStaleChannel() {
+        VoicePresenceRegistry registry = new VoicePresenceRegistry();
+        registry.join("u1", "c1");
+        registry.join("u1", "c2");
+
+        assertThat(registry.leave("u1", "c1")).isFalse();
+        assertThat(registry.channelOf("u1")).contains("c2");
+
+        assertThat(registry.leave("u1", "c2")).isTrue();
+        assertThat(registry.channelOf("u1")).isEmpty();
+        assertThat(registry.snapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 교체 시 기존 상태를 비우고 새 상태로 구성")
+    void replaceAll() {
+        VoicePresenceRegistry registry = new VoicePresenceRegistry();
+        registry.join("old", "c1");
+
+        registry.replaceAll(Map.of("c2", List.of("u1", "u2")));
+
+        assertThat(registry.channelOf("old")).isEmpty();
+        assertThat(registry.members("c2")).containsExactlyInAnyOrder("u1", "u2");
+        assertThat(registry.userCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 교체 뒤의 입장은 교체에 덮이지 않음")
+    void replaceAll_ThenJoinIsKept() {
+        VoicePresenceRegistry registry = new VoicePresenceRegistry();
+
+        registry.replaceAll(Map.of("c1", List.of("u1")));
+        registry.join("u2", "c2");
+        registry.leave("u1", "c1");
+
+        assertThat(registry.channelOf("u1")).isEmpty();
+        assertThat(registry.members("c2")).containsExactly("u2");
+        assertThat(registry.snapshot()).containsOnlyKeys("c2");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 입장/이동/퇴장/전체 교체를 동시에 반복해도 채널 집합과 역색인이 일치")
+    void concurrentJoinMoveLeave_KeepsInvariants() throws Exception {
+        VoicePresenceRegistry registry = new VoicePresenceRegistry();
+        int threads = 16;
+        int operations = 20_000;
+        int users = 50;
+        int channels = 5;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < operations; i++) {
+                    String userId = "u" + random.nextInt(users);
+                    String channelId = "c" + random.nextInt(channels);
+                    if (i % 500 == 0) {
+                        registry.replaceAll(Map.of(channelId, List.of(userId, "u" + random.nextInt(users))));
+                    }
+                    switch (random.nextInt(3)) {
+                        case 0 -> registry.join(userId, channelId);
+                        case 1 -> registry.leave(userId, channelId);
+                        default -> registry.leave(userId, null);
+                    }
+                    // 읽기도 함께 섞음
+                    registry.channelOf(userId);
+                    registry.members(channelId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // 채널 집합 -> 역색인
+        Map<String, List<String>> snapshot = registry.snapshot();
+        Set<String> seen = new HashSet<>();
+        snapshot.forEach((channelId, members) -> {
+            assertThat(members).isNotEmpty();
+            for (String userId : members) {
+                assertThat(seen.add(userId)).as("한 사용자는 한 채널에만 있어야 함: %s", userId).isTrue();
+                assertThat(registry.channelOf(userId)).contains(channelId);
+            }
+        });
+        // 역색인 -> 채널 집합
+        for (int u = 0; u < users; u++) {
+            String userId = "u" + u;
+            Optional<String> channelId = registry.channelOf(userId);
+            channelId.ifPresent(id -> assertThat(registry.members(id)).contains(userId));
+            assertThat(channelId.isPresent()).isEqualTo(seen.contains(userId));
+        }
+        assertThat(registry.userCount()).isEqualTo(seen.size());
+    }
+}
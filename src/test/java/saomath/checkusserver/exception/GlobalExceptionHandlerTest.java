@@ -4,12 +4,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.studyTime.controller.StudyTimeController;
+import saomath.checkusserver.studyTime.service.LiveStudyMonitorView;
+import saomath.checkusserver.studyTime.service.MonitorSnapshotCache;
+import saomath.checkusserver.studyTime.service.StudyDailyAggregateService;
+import saomath.checkusserver.studyTime.service.StudyMonitorStreamService;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -22,6 +28,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                     SecurityFilterAutoConfiguration.class
             })
 @DisplayName("GlobalExceptionHandler 단위 테스트")
+@Import(ResourceVersions.class)
 class GlobalExceptionHandlerTest {
 
     @Autowired
@@ -30,6 +37,18 @@ class GlobalExceptionHandlerTest {
     @MockitoBean
     private StudyTimeService studyTimeService;
 
+    @MockitoBean
+    private LiveStudyMonitorView liveStudyMonitorView;
+
+    @MockitoBean
+    private StudyMonitorStreamService studyMonitorStreamService;
+
+    @MockitoBean
+    private StudyDailyAggregateService studyDailyAggregateService;
+
+    @MockitoBean
+    private MonitorSnapshotCache monitorSnapshotCache;
+
     @MockitoBean
     private saomath.checkusserver.auth.jwt.JwtTokenProvider jwtTokenProvider;
 
@@ -16,6 +16,7 @@ import saomath.checkusserver.studyTime.repository.ActivityRepository;
 import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
 
 import java.time.LocalDateTime;
 
@@ -43,6 +44,9 @@ class SessionConnectionTest {
     @Autowired
     private ActualStudyTimeRepository actualStudyTimeRepository;
 
+    @Autowired
+    private OpenSessionRegistry openSessionRegistry;
+
     private User testStudent;
     private Activity testActivity;
 
@@ -57,6 +61,8 @@ class SessionConnectionTest {
                 .discordId("123456789")
                 .build();
         testStudent = userRepository.save(testStudent);
+        // 진행 중 세션을 저장소로 직접 만들므로 레지스트리가 DB에서 다시 확인하도록 표시
+        openSessionRegistry.evict(testStudent.getId());
 
         // 테스트 활동 생성
         testActivity = Activity.builder()
@@ -260,15 +266,10 @@ class SessionConnectionTest {
         LocalDateTime assignedStartTime = now.plusMinutes(10);
         LocalDateTime assignedEndTime = now.plusMinutes(70);
 
-        AssignedStudyTime assignedStudyTime = AssignedStudyTime.builder()
-                .studentId(testStudent.getId())
-                .title("수학 공부")
-                .activityId(testActivity.getId())
-                .startTime(assignedStartTime)
-                .endTime(assignedEndTime)
-                .assignedBy(testStudent.getId())
-                .build();
-        assignedStudyTime = assignedStudyTimeRepository.save(assignedStudyTime);
+        // 배정 서비스를 거쳐야 배정 구간 인덱스에도 반영됨
+        AssignedStudyTime assignedStudyTime = studyTimeService.assignStudyTime(
+                testStudent.getId(), "수학 공부", testActivity.getId(),
+                assignedStartTime, assignedEndTime, testStudent.getId());
 
         // When: 할당된 시간 범위 내에 접속
         LocalDateTime connectionTime = now.plusMinutes(30);
@@ -0,0 +1,116 @@
+package saomath.checkusserver.notification.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDispatchPlanner 테스트")
+class NotificationDispatchPlannerTest {
+
+    @Mock
+    private UnifiedNotificationScheduler notificationScheduler;
+
+    @Mock
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    private NotificationDispatchPlanner planner;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        planner = new NotificationDispatchPlanner(notificationScheduler, assignedStudyTimeRepository, 120);
+        base = LocalDateTime.now().withSecond(0).withNano(0).plusMinutes(1);
+    }
+
+    @Test
+    @DisplayName("구간을 읽은 뒤에는 발송 시점에만 스케줄러를 호출하고 DB를 다시 조회하지 않음")
+    void loadWindow_FiresAtPlannedMinutes() {
+        // given
+        LocalDateTime startTime = base.plusMinutes(20);
+        when(assignedStudyTimeRepository.findDistinctStartTimesBetween(any(), any()))
+                .thenReturn(List.of(startTime));
+
+        // when
+        int planned = planner.loadWindow(base);
+
+        // then
+        assertThat(planned).isEqualTo(3);
+
+        planner.tick(base.plusMinutes(5));
+        verifyNoInteractions(notificationScheduler);
+
+        planner.tick(base.plusMinutes(10));
+        verify(notificationScheduler).sendStudyReminder10Min(startTime);
+
+        planner.tick(base.plusMinutes(20).plusSeconds(3));
+        verify(notificationScheduler).sendStudyStartNotificationAndConnectSessions(startTime);
+
+        planner.tick(base.plusMinutes(35));
+        verify(notificationScheduler).checkNoShow(startTime);
+
+        assertThat(planner.pendingTaskCount()).isZero();
+        verify(assignedStudyTimeRepository, times(1)).findDistinctStartTimesBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("틱이 밀려도 지난 작업은 다음 틱에서 실행되고 같은 작업은 한 번만 실행")
+    void tick_CatchesUpMissedMinutes() {
+        // given
+        LocalDateTime startTime = base.plusMinutes(12);
+        when(assignedStudyTimeRepository.findDistinctStartTimesBetween(any(), any()))
+                .thenReturn(List.of(startTime, startTime));
+        planner.loadWindow(base);
+
+        // when
+        planner.tick(base.plusMinutes(13));
+        planner.tick(base.plusMinutes(13));
+
+        // then
+        verify(notificationScheduler, times(1)).sendStudyReminder10Min(startTime);
+        verify(notificationScheduler, times(1)).sendStudyStartNotificationAndConnectSessions(startTime);
+        verify(notificationScheduler, never()).checkNoShow(any());
+    }
+
+    @Test
+    @DisplayName("구간 안의 배정 생성 이벤트는 바로 계획에 추가하고, 구간 밖은 다음 구간 조회에 맡김")
+    void onAssignedStudyTimeChanged_PlansWithinHorizon() {
+        // given
+        when(assignedStudyTimeRepository.findDistinctStartTimesBetween(any(), any())).thenReturn(List.of());
+        planner.loadWindow(base);
+        LocalDateTime inside = base.plusMinutes(30);
+        LocalDateTime outside = base.plusMinutes(300);
+
+        // when
+        planner.onAssignedStudyTimeChanged(event(AssignedStudyTimeChangedEvent.ChangeType.CREATED, inside));
+        planner.onAssignedStudyTimeChanged(event(AssignedStudyTimeChangedEvent.ChangeType.CREATED, outside));
+        planner.onAssignedStudyTimeChanged(event(AssignedStudyTimeChangedEvent.ChangeType.DELETED, base.plusMinutes(40)));
+
+        // then
+        assertThat(planner.pendingTaskCount()).isEqualTo(3);
+        planner.tick(base.plusMinutes(20));
+        verify(notificationScheduler).sendStudyReminder10Min(inside);
+    }
+
+    private AssignedStudyTimeChangedEvent event(AssignedStudyTimeChangedEvent.ChangeType changeType, LocalDateTime startTime) {
+        return AssignedStudyTimeChangedEvent.builder()
+                .changeType(changeType)
+                .assignedStudyTimeId(1L)
+                .studentId(1L)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .build();
+    }
+}
@@ -98,9 +98,9 @@ class UnifiedNotificationSchedulerMockTest {
         NotificationTargetService.StudyTarget target = createMockStudyTarget();
         when(targetService.getStudyTargetsForTime(any(LocalDateTime.class)))
             .thenReturn(Arrays.asList(target));
-        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class)))
+        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
-        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any()))
+        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
         // 스케줄러에서 getAssignedStudyTimesByDateRange가 한 번만 호출됨
         when(studyTimeService.getAssignedStudyTimesByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
@@ -116,8 +116,8 @@ class UnifiedNotificationSchedulerMockTest {
         verify(targetService).getStudyTargetsForTime(argThat(dateTime -> 
             dateTime.getSecond() == 0 && dateTime.getNano() == 0
         ));
-        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class));
-        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any());
+        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class), anyString());
+        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString());
         // 한 번만 호출됨
         verify(studyTimeService, times(1)).getAssignedStudyTimesByDateRange(any(LocalDateTime.class), any(LocalDateTime.class));
     }
@@ -152,7 +152,7 @@ class UnifiedNotificationSchedulerMockTest {
         when(targetService.getStudyTargetsForTime(now)).thenReturn(Arrays.asList(target));
         
         // 알림 서비스 Mock 설정 (NullPointerException 방지)
-        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class)))
+        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class), anyString()))
                 .thenReturn(CompletableFuture.completedFuture(true));
 
         // When: 스케줄러 실행
@@ -161,7 +161,7 @@ class UnifiedNotificationSchedulerMockTest {
         // Then: 호출 순서와 횟수 검증
         verify(studyTimeService, times(1)).getAssignedStudyTimesByDateRange(any(), any());
         verify(studyTimeService).connectSessionOnStart(testAssignment.getId());
-        verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any());
+        verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any(), any());
     }
 
     @Test
@@ -334,7 +334,7 @@ class UnifiedNotificationSchedulerMockTest {
         when(targetService.getStudyTargetsForTime(now)).thenReturn(Arrays.asList(target));
         
         // 알림 서비스 Mock 설정 (NullPointerException 방지)
-        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class)))
+        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class), anyString()))
                 .thenReturn(CompletableFuture.completedFuture(true));
 
         // When: 스케줄러 실행
@@ -342,12 +342,12 @@ class UnifiedNotificationSchedulerMockTest {
 
         // Then: 세션 연결이 알림 발송보다 먼저 호출되어야 함
         verify(studyTimeService).connectSessionOnStart(testAssignment.getId());
-        verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any());
+        verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any(), any());
         
         // 호출 순서 검증을 위해 InOrder 사용
         var inOrder = inOrder(studyTimeService, notificationService);
         inOrder.verify(studyTimeService).connectSessionOnStart(testAssignment.getId());
-        inOrder.verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any());
+        inOrder.verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any(), any());
     }
 
     private NotificationTargetService.StudyTarget createMockStudyTarget() {
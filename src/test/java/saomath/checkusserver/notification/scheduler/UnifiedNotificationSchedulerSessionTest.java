@@ -19,6 +19,7 @@ import saomath.checkusserver.studyTime.repository.ActivityRepository;
 import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -49,6 +50,9 @@ class UnifiedNotificationSchedulerSessionTest {
     @Autowired
     private ActualStudyTimeRepository actualStudyTimeRepository;
 
+    @Autowired
+    private OpenSessionRegistry openSessionRegistry;
+
     @MockitoBean
     private MultiChannelNotificationService notificationService;
 
@@ -72,6 +76,8 @@ class UnifiedNotificationSchedulerSessionTest {
                 .discordId("123456789")
                 .build();
         testStudent = userRepository.save(testStudent);
+        // 진행 중 세션을 저장소로 직접 만들므로 레지스트리가 DB에서 다시 확인하도록 표시
+        openSessionRegistry.evict(testStudent.getId());
 
         // 테스트 활동 생성
         testActivity = Activity.builder()
@@ -81,7 +87,7 @@ class UnifiedNotificationSchedulerSessionTest {
         testActivity = activityRepository.save(testActivity);
 
         // Mock 설정
-        when(notificationService.sendNotification(any(), any(), any()))
+        when(notificationService.sendNotification(any(), any(), any(), any()))
                 .thenReturn(java.util.concurrent.CompletableFuture.completedFuture(true));
     }
 
@@ -131,7 +137,7 @@ class UnifiedNotificationSchedulerSessionTest {
         assertThat(updatedSession.getAssignedStudyTimeId()).isEqualTo(currentAssignment.getId());
 
         // And: 알림도 발송되어야 함
-        verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any());
+        verify(notificationService).sendNotification(eq(testStudent.getId()), any(), any(), any());
     }
 
     @Test
@@ -199,6 +205,7 @@ class UnifiedNotificationSchedulerSessionTest {
                 .discordId("987654321")
                 .build();
         student2 = userRepository.save(student2);
+        openSessionRegistry.evict(student2.getId());
 
         LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
 
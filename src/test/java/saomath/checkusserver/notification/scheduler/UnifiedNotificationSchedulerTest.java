@@ -45,9 +45,9 @@ class UnifiedNotificationSchedulerTest {
         NotificationTargetService.StudyTarget target = createMockStudyTarget();
         when(targetService.getStudyTargetsForTime(any(LocalDateTime.class)))
             .thenReturn(List.of(target));
-        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class)))
+        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
-        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any()))
+        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
 
         // When
@@ -57,8 +57,8 @@ class UnifiedNotificationSchedulerTest {
         verify(targetService).getStudyTargetsForTime(argThat(dateTime -> 
             dateTime.getSecond() == 0 && dateTime.getNano() == 0
         ));
-        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class));
-        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any());
+        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class), anyString());
+        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString());
     }
 
     @Test
@@ -68,9 +68,9 @@ class UnifiedNotificationSchedulerTest {
         NotificationTargetService.StudyTarget target = createMockStudyTarget();
         when(targetService.getStudyTargetsForTime(any(LocalDateTime.class)))
             .thenReturn(List.of(target));
-        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class)))
+        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
-        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any()))
+        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
         // 스케줄러에서 getAssignedStudyTimesByDateRange가 한 번 호출됨 (즉시 연결용만)
         when(studyTimeService.getAssignedStudyTimesByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
@@ -83,8 +83,8 @@ class UnifiedNotificationSchedulerTest {
         verify(targetService).getStudyTargetsForTime(argThat(dateTime -> 
             dateTime.getSecond() == 0 && dateTime.getNano() == 0
         ));
-        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class));
-        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any());
+        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class), anyString());
+        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString());
         // 즉시 연결용만 1번 호출
         verify(studyTimeService, times(1)).getAssignedStudyTimesByDateRange(any(LocalDateTime.class), any(LocalDateTime.class));
     }
@@ -101,8 +101,8 @@ class UnifiedNotificationSchedulerTest {
 
         // Then
         verify(targetService).getStudyTargetsForTime(any(LocalDateTime.class));
-        verify(notificationService, never()).sendNotification(anyLong(), anyString(), any(Map.class));
-        verify(notificationService, never()).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any());
+        verify(notificationService, never()).sendNotification(anyLong(), anyString(), any(Map.class), anyString());
+        verify(notificationService, never()).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString());
     }
 
     @Test
@@ -112,9 +112,9 @@ class UnifiedNotificationSchedulerTest {
         NotificationTargetService.NoShowTarget target = createMockNoShowTarget();
         when(targetService.getNoShowTargets(any(LocalDateTime.class)))
             .thenReturn(List.of(target));
-        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class)))
+        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
-        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any()))
+        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString()))
             .thenReturn(CompletableFuture.completedFuture(true));
 
         // When
@@ -122,8 +122,8 @@ class UnifiedNotificationSchedulerTest {
 
         // Then
         verify(targetService).getNoShowTargets(any(LocalDateTime.class));
-        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class));
-        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any());
+        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class), anyString());
+        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString());
     }
 
     @Test
@@ -133,17 +133,17 @@ class UnifiedNotificationSchedulerTest {
         NotificationTargetService.StudyTarget target = createMockStudyTarget();
         when(targetService.getStudyTargetsForTime(any(LocalDateTime.class)))
             .thenReturn(List.of(target));
-        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class)))
+        when(notificationService.sendNotification(anyLong(), anyString(), any(Map.class), anyString()))
             .thenReturn(CompletableFuture.completedFuture(false));
-        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any()))
+        when(notificationService.sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString()))
             .thenReturn(CompletableFuture.completedFuture(false));
 
         // When
         scheduler.sendStudyReminder10Min();
 
         // Then
-        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class));
-        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any());
+        verify(notificationService, times(1)).sendNotification(anyLong(), anyString(), any(Map.class), anyString());
+        verify(notificationService, times(1)).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString());
     }
 
     @Test
@@ -158,8 +158,8 @@ class UnifiedNotificationSchedulerTest {
 
         // Then
         verify(targetService, times(1)).getStudyTargetsForTime(any(LocalDateTime.class));
-        verify(notificationService, never()).sendNotification(anyLong(), anyString(), any(Map.class));
-        verify(notificationService, never()).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any());
+        verify(notificationService, never()).sendNotification(anyLong(), anyString(), any(Map.class), anyString());
+        verify(notificationService, never()).sendNotificationToChannel(anyString(), anyString(), any(Map.class), any(), anyString());
     }
 
     private NotificationTargetService.StudyTarget createMockStudyTarget() {
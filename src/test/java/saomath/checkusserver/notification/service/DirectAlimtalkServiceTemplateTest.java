@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.common.concurrent.BoundedExecutor;
 import saomath.checkusserver.notification.config.BizgoProperties;
 import saomath.checkusserver.notification.domain.AlimtalkTemplate;
 
@@ -30,7 +31,8 @@ class DirectAlimtalkServiceTemplateTest {
         bizgoProperties.setApi(api);
         bizgoProperties.setSenderKey("test-sender-key");
         
-        directAlimtalkService = new DirectAlimtalkService(bizgoProperties);
+        directAlimtalkService = new DirectAlimtalkService(bizgoProperties,
+                new BoundedExecutor("alimtalk-test", 1, 0, BoundedExecutor.RejectionPolicy.ABORT));
     }
     
     @Test
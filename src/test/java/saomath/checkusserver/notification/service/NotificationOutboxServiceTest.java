@@ -0,0 +1,129 @@
+package saomath.checkusserver.notification.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.notification.domain.NotificationOutbox;
+import saomath.checkusserver.notification.repository.NotificationOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxService 테스트")
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    private NotificationOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new NotificationOutboxService(outboxRepository, 3, 30, 30, 120);
+    }
+
+    @Test
+    @DisplayName("알림 등록 시 변수를 저장하고, 같은 업무 키의 알림은 다시 등록하지 않음")
+    void enqueue_Dedupe() {
+        // given
+        String key = NotificationOutboxService.dedupeKey(
+                NotificationService.NotificationChannel.ALIMTALK, "01012345678", "NO_SHOW", "2026-01-01T10:00");
+        when(outboxRepository.existsByDedupeKey(key)).thenReturn(false).thenReturn(true);
+
+        // when
+        boolean first = outboxService.enqueue(NotificationService.NotificationChannel.ALIMTALK,
+                "01012345678", "NO_SHOW", Map.of("이름", "학생"), "2026-01-01T10:00");
+        boolean second = outboxService.enqueue(NotificationService.NotificationChannel.ALIMTALK,
+                "01012345678", "NO_SHOW", Map.of("이름", "학생"), "2026-01-01T10:00");
+
+        // then: 이미 있는 키는 INSERT 없이 false
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        ArgumentCaptor<String> variables = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository, times(1)).insertIfAbsent(eq(key), eq("ALIMTALK"), eq("01012345678"),
+                eq("NO_SHOW"), variables.capture(), any());
+        verify(outboxRepository, never()).save(any());
+        NotificationOutbox stored = NotificationOutbox.builder().variables(variables.getValue()).build();
+        assertThat(outboxService.readVariables(stored)).containsEntry("이름", "학생");
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 등록하지 않음")
+    void enqueue_BlankRecipient() {
+        assertThat(outboxService.enqueue(NotificationService.NotificationChannel.DISCORD,
+                null, "STUDY_START", Map.of(), "key")).isFalse();
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    @DisplayName("실패 시 지수 백오프로 재시도하고, 최대 횟수를 넘기면 FAILED")
+    void markFailed_BackoffThenFailed() {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .id(1L)
+                .channel(NotificationService.NotificationChannel.ALIMTALK)
+                .status(NotificationOutbox.Status.PROCESSING)
+                .attempts(2)
+                .build();
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        // when: 2번째 실패
+        LocalDateTime before = LocalDateTime.now();
+        outboxService.markFailed(1L, 120L, "timeout");
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(outbox.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(60));
+        assertThat(outbox.getLastError()).isEqualTo("timeout");
+        assertThat(outbox.getLatencyMs()).isEqualTo(120L);
+
+        // when: 3번째 실패 (최대 횟수)
+        outbox.setAttempts(3);
+        outboxService.markFailed(1L, 80L, "timeout");
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutbox.Status.FAILED);
+    }
+
+    @Test
+    @DisplayName("백오프는 실패 횟수마다 두 배로 늘고 최대값을 넘지 않음")
+    void backoff_Exponential() {
+        assertThat(outboxService.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(outboxService.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(outboxService.backoff(4)).isEqualTo(Duration.ofSeconds(240));
+        assertThat(outboxService.backoff(30)).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("점유한 묶음은 전송 중 상태로 바뀌고 시도 횟수가 증가")
+    void claimBatch_MarksProcessing() {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .id(1L)
+                .status(NotificationOutbox.Status.PENDING)
+                .attempts(0)
+                .build();
+        when(outboxRepository.findClaimable(any(), any(), any(), any())).thenReturn(List.of(outbox));
+
+        // when
+        outboxService.claimBatch(10);
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutbox.Status.PROCESSING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getLockedUntil()).isAfter(LocalDateTime.now());
+    }
+}
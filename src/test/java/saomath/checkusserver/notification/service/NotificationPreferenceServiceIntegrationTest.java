@@ -18,8 +18,10 @@ import saomath.checkusserver.notification.dto.NotificationSettingUpdateDto;
 import saomath.checkusserver.notification.repository.NotificationSettingRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.auth.repository.UserRoleRepository;
+import saomath.checkusserver.common.cache.ResourceVersions;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +44,9 @@ class NotificationPreferenceServiceIntegrationTest {
     @Mock
     private NotificationSettingRepository notificationSettingRepository;
     
+    @Mock
+    private ResourceVersions resourceVersions;
+    
     @InjectMocks
     private NotificationPreferenceServiceImpl notificationPreferenceService;
     
@@ -310,4 +315,94 @@ class NotificationPreferenceServiceIntegrationTest {
         assertThat(studyReminder.getDeliveryMethods().get("alimtalk").isChangeable()).isTrue();
         assertThat(studyReminder.getDeliveryMethods().get("discord").isChangeable()).isTrue();
     }
+    
+    @Test
+    @DisplayName("알림 설정 조회 결과는 캐싱되어 반복 조회 시 DB를 다시 읽지 않음")
+    void getUserPreferences_Cached() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRoleRepository.findByUserIdAndStatus(1L, UserRole.RoleStatus.ACTIVE))
+            .thenReturn(List.of(studentRole));
+        when(notificationSettingRepository.findByUserId(1L)).thenReturn(List.of());
+        
+        // when
+        notificationPreferenceService.getUserPreferences(1L, AlimtalkTemplate.STUDY_REMINDER_10MIN.name());
+        List<NotificationPreference> result = notificationPreferenceService
+            .getUserPreferences(1L, AlimtalkTemplate.NO_SHOW.name());
+        
+        // then
+        assertThat(result).hasSize(2);
+        verify(userRepository, times(1)).findById(1L);
+        verify(notificationSettingRepository, times(1)).findByUserId(1L);
+    }
+    
+    @Test
+    @DisplayName("알림 설정 변경 시 캐시가 무효화되어 변경 내용이 바로 반영됨")
+    void updateNotificationSetting_EvictsCache() {
+        // given
+        NotificationSetting disabledDiscord = NotificationSetting.builder()
+            .id(10L)
+            .userId(1L)
+            .templateName(AlimtalkTemplate.TODAY_TASKS.name())
+            .deliveryMethod("discord")
+            .isEnabled(false)
+            .advanceMinutes(0)
+            .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRoleRepository.findByUserIdAndStatus(1L, UserRole.RoleStatus.ACTIVE))
+            .thenReturn(List.of(studentRole));
+        when(notificationSettingRepository.findByUserId(1L))
+            .thenReturn(List.of())
+            .thenReturn(List.of(disabledDiscord));
+        when(notificationSettingRepository.findByUserIdAndTemplateNameAndDeliveryMethod(
+            1L, AlimtalkTemplate.TODAY_TASKS.name(), "discord")).thenReturn(Optional.empty());
+        when(notificationSettingRepository.save(any(NotificationSetting.class))).thenReturn(disabledDiscord);
+        
+        assertThat(notificationPreferenceService.getUserPreferences(1L, AlimtalkTemplate.TODAY_TASKS.name()))
+            .hasSize(2);
+        
+        // when
+        NotificationSettingUpdateDto updateDto = new NotificationSettingUpdateDto();
+        updateDto.setEnabled(false);
+        notificationPreferenceService.updateNotificationSetting(1L, AlimtalkTemplate.TODAY_TASKS.name(), "discord", updateDto);
+        
+        // then
+        List<NotificationPreference> result = notificationPreferenceService
+            .getUserPreferences(1L, AlimtalkTemplate.TODAY_TASKS.name());
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getChannel()).isEqualTo(NotificationService.NotificationChannel.ALIMTALK);
+    }
+    
+    @Test
+    @DisplayName("여러 사용자 알림 설정 일괄 조회는 사용자/역할/예외 설정을 한 번씩만 조회")
+    void getUserPreferences_Batch() {
+        // given
+        User otherUser = User.builder()
+            .id(2L)
+            .name("다른학생")
+            .phoneNumber("01098765432")
+            .build();
+        UserRole otherRole = new UserRole();
+        otherRole.setId(new UserRole.UserRoleId(2L, 1L));
+        otherRole.setRole(studentRole.getRole());
+        otherRole.setStatus(UserRole.RoleStatus.ACTIVE);
+        
+        when(userRepository.findAllById(any())).thenReturn(List.of(testUser, otherUser));
+        when(userRoleRepository.findByUserIdInAndStatus(any(), eq(UserRole.RoleStatus.ACTIVE)))
+            .thenReturn(List.of(studentRole, otherRole));
+        when(notificationSettingRepository.findByUserIdIn(any())).thenReturn(List.of());
+        
+        // when
+        Map<Long, List<NotificationPreference>> result = notificationPreferenceService
+            .getUserPreferences(List.of(1L, 2L, 3L), AlimtalkTemplate.STUDY_REMINDER_10MIN.name());
+        
+        // then: 디스코드 ID가 없는 사용자는 알림톡만, 없는 사용자는 빈 목록
+        assertThat(result.get(1L)).hasSize(2);
+        assertThat(result.get(2L)).hasSize(1);
+        assertThat(result.get(3L)).isEmpty();
+        
+        // 이후 단건 조회는 캐시 사용
+        notificationPreferenceService.getUserPreferences(2L, AlimtalkTemplate.NO_SHOW.name());
+        verify(userRepository, never()).findById(any());
+    }
 }
@@ -0,0 +1,156 @@
+package saomath.checkusserver.notification.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.studyTime.domain.Activity;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.repository.ActivityRepository;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.user.domain.StudentGuardian;
+import saomath.checkusserver.user.repository.StudentGuardianRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 대상자 조회 쿼리 수 회귀 테스트
+ * 대상 학생 수와 관계없이 일정 조회 1회 + 보호자 일괄 조회 1회만 실행되어야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("NotificationTargetService 쿼리 수 테스트")
+class NotificationTargetServiceQueryCountTest {
+
+    private static final int STUDENT_COUNT = 10;
+
+    @Autowired
+    private NotificationTargetService notificationTargetService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    @Autowired
+    private ActualStudyTimeRepository actualStudyTimeRepository;
+
+    @Autowired
+    private StudentGuardianRepository studentGuardianRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private LocalDateTime startTime;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        startTime = LocalDateTime.now().plusHours(1).withSecond(0).withNano(0);
+
+        User teacher = userRepository.save(createUser("qc_teacher", null));
+        Activity activity = activityRepository.save(Activity.builder()
+                .name("수학")
+                .isStudyAssignable(true)
+                .build());
+
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            User student = userRepository.save(createUser("qc_student" + i, "0101111" + String.format("%04d", i)));
+            User guardian = userRepository.save(createUser("qc_guardian" + i, "0102222" + String.format("%04d", i)));
+            studentGuardianRepository.save(StudentGuardian.builder()
+                    .id(new StudentGuardian.StudentGuardianId(student.getId(), guardian.getId()))
+                    .student(student)
+                    .guardian(guardian)
+                    .relationship("parent")
+                    .build());
+
+            AssignedStudyTime assigned = assignedStudyTimeRepository.save(AssignedStudyTime.builder()
+                    .title("공부" + i)
+                    .studentId(student.getId())
+                    .activityId(activity.getId())
+                    .startTime(startTime)
+                    .endTime(startTime.plusHours(2))
+                    .assignedBy(teacher.getId())
+                    .build());
+
+            // 짝수 학생은 출석
+            if (i % 2 == 0) {
+                actualStudyTimeRepository.save(ActualStudyTime.builder()
+                        .studentId(student.getId())
+                        .assignedStudyTimeId(assigned.getId())
+                        .startTime(startTime)
+                        .source("discord")
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("공부 일정 대상자 조회는 학생 수와 관계없이 2회 쿼리")
+    void getStudyTargetsForTime_FixedQueryCount() {
+        // when
+        List<NotificationTargetService.StudyTarget> targets = notificationTargetService.getStudyTargetsForTime(startTime);
+
+        // then
+        assertThat(targets).hasSize(STUDENT_COUNT);
+        assertThat(targets).allSatisfy(target -> assertThat(target.getParentPhone()).startsWith("0102222"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("미접속 대상자 조회는 출석 여부를 쿼리 안에서 판단해 2회 쿼리")
+    void getNoShowTargets_FixedQueryCount() {
+        // when
+        List<NotificationTargetService.NoShowTarget> targets = notificationTargetService.getNoShowTargets(startTime);
+
+        // then
+        assertThat(targets).hasSize(STUDENT_COUNT / 2);
+        assertThat(targets).allSatisfy(target -> assertThat(target.getParentPhone()).startsWith("0102222"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private User createUser(String username, String phoneNumber) {
+        return User.builder()
+                .username(username)
+                .name(username)
+                .phoneNumber(phoneNumber)
+                .password("password")
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package saomath.checkusserver.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.notification.domain.NotificationOutbox;
+import saomath.checkusserver.notification.repository.NotificationOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("NotificationOutboxRepository 테스트")
+class NotificationOutboxRepositoryTest {
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Test
+    @DisplayName("같은 dedupe_key로 다시 등록하면 예외 없이 건너뜀")
+    void insertIfAbsent_DuplicateIgnored() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.insertIfAbsent("ALIMTALK:01012345678:NO_SHOW:key", "ALIMTALK", "01012345678",
+                "NO_SHOW", "{}", now);
+
+        // when
+        outboxRepository.insertIfAbsent("ALIMTALK:01012345678:NO_SHOW:key", "ALIMTALK", "01012345678",
+                "NO_SHOW", "{\"이름\":\"학생\"}", now.plusMinutes(1));
+
+        // then: 처음 등록한 행만 남고 같은 트랜잭션에서 계속 조회 가능
+        List<NotificationOutbox> rows = outboxRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getVariables()).isEqualTo("{}");
+        assertThat(rows.get(0).getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(outboxRepository.existsByDedupeKey("ALIMTALK:01012345678:NO_SHOW:key")).isTrue();
+    }
+
+    @Test
+    @DisplayName("중복 키가 아닌 제약 위반은 건너뛰지 않고 예외 발생")
+    void insertIfAbsent_OtherViolationsPropagate() {
+        // 수신자 길이 초과 (100자)
+        assertThatThrownBy(() -> outboxRepository.insertIfAbsent("DISCORD:long:STUDY_START:key", "DISCORD",
+                "1".repeat(101), "STUDY_START", "{}", LocalDateTime.now()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // 템플릿 ID 누락 (NOT NULL)
+        assertThatThrownBy(() -> outboxRepository.insertIfAbsent("DISCORD:123:null:key", "DISCORD",
+                "123", null, "{}", LocalDateTime.now()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -5,9 +5,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.common.exception.DuplicateResourceException;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
@@ -19,6 +23,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -31,6 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
     })
 @DisplayName("SchoolController 테스트")
+@Import(ResourceVersions.class)
 class SchoolControllerTest {
 
     @Autowired
@@ -75,6 +82,25 @@ class SchoolControllerTest {
                 .andExpect(jsonPath("$.data[1].studentCount").value(8));
     }
 
+    @Test
+    @DisplayName("GET /schools - 변경이 없으면 If-None-Match에 304로 응답하고 서비스를 호출하지 않음")
+    void getSchools_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        // given
+        when(schoolService.getAllSchools()).thenReturn(List.of(new SchoolResponse(1L, "이현중학교", 15L)));
+        MvcResult first = mockMvc.perform(get("/schools"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/schools").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(schoolService, times(1)).getAllSchools();
+    }
+
     @Test
     @DisplayName("POST /schools - 학교 생성 성공")
     void createSchool_ShouldSucceed_WhenValidRequest() throws Exception {
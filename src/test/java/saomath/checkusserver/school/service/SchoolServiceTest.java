@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.common.exception.DuplicateResourceException;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
@@ -29,6 +30,9 @@ class SchoolServiceTest {
     @Mock
     private SchoolRepository schoolRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private SchoolService schoolService;
 
@@ -0,0 +1,134 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.common.exception.BusinessException;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.dto.ActualStudyTimeCompactionResponse;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.ActualStudyTimeCompactionService;
+import saomath.checkusserver.util.TestDataFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정리 작업은 학생 묶음마다 별도 트랜잭션으로 커밋하므로, 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ActualStudyTimeCompactionService 테스트")
+class ActualStudyTimeCompactionServiceTest {
+
+    @Autowired
+    private ActualStudyTimeCompactionService compactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActualStudyTimeRepository actualStudyTimeRepository;
+
+    private User student;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        student = userRepository.save(TestDataFactory.createStudent("compactStudent", "정리 학생", "01033330001"));
+        day = LocalDate.now().minusDays(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        actualStudyTimeRepository.deleteAll(sessionsOfDay());
+        userRepository.delete(student);
+    }
+
+    @Test
+    @DisplayName("맞닿거나 겹치는 세션은 하나로 합치고, 떨어진 세션은 유지")
+    void compact_MergesContiguousSessions() {
+        // given: 10:00-10:20, 10:20-10:40(맞닿음), 10:30-10:50(겹침), 12:00-12:30(떨어짐)
+        LocalDateTime base = day.atTime(10, 0);
+        session(base, base.plusMinutes(20));
+        session(base.plusMinutes(20), base.plusMinutes(40));
+        session(base.plusMinutes(30), base.plusMinutes(50));
+        session(base.plusHours(2), base.plusHours(2).plusMinutes(30));
+
+        // when
+        ActualStudyTimeCompactionResponse result = compactionService.compact(day, day);
+
+        // then
+        assertThat(result.getRowsBefore() - result.getRowsAfter()).isEqualTo(2);
+        List<ActualStudyTime> remaining = sessionsOfDay();
+        assertThat(remaining).hasSize(2);
+        assertThat(remaining.get(0).getStartTime()).isEqualTo(base);
+        assertThat(remaining.get(0).getEndTime()).isEqualTo(base.plusMinutes(50));
+        assertThat(remaining.get(1).getStartTime()).isEqualTo(base.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("짧게라도 떨어진 세션은 간격 시간을 인정하지 않도록 합치지 않음")
+    void compact_KeepsSessionsWithGap() {
+        // given: 10:00-10:20, 10:21-10:40 (1분 간격)
+        LocalDateTime base = day.atTime(10, 0);
+        session(base, base.plusMinutes(20));
+        session(base.plusMinutes(21), base.plusMinutes(40));
+
+        // when
+        ActualStudyTimeCompactionResponse result = compactionService.compact(day, day);
+
+        // then
+        assertThat(result.getRowsAfter()).isEqualTo(result.getRowsBefore());
+        assertThat(sessionsOfDay()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("다시 실행해도 결과가 바뀌지 않음")
+    void compact_Idempotent() {
+        // given
+        LocalDateTime base = day.atTime(9, 0);
+        session(base, base.plusMinutes(10));
+        session(base.plusMinutes(10), base.plusMinutes(30));
+        compactionService.compact(day, day);
+
+        // when
+        compactionService.compact(day, day);
+
+        // then
+        List<ActualStudyTime> remaining = sessionsOfDay();
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getEndTime()).isEqualTo(base.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("오늘 이후 날짜는 정리할 수 없음")
+    void compact_RejectsToday() {
+        assertThatThrownBy(() -> compactionService.compact(LocalDate.now(), LocalDate.now()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private void session(LocalDateTime start, LocalDateTime end) {
+        actualStudyTimeRepository.save(ActualStudyTime.builder()
+                .studentId(student.getId())
+                .startTime(start)
+                .endTime(end)
+                .source("discord")
+                .build());
+    }
+
+    private List<ActualStudyTime> sessionsOfDay() {
+        return actualStudyTimeRepository.findByStudentIdAndDateRange(
+                student.getId(), day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+}
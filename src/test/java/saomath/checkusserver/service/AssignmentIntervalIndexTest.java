@@ -0,0 +1,147 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.AssignmentIntervalIndex;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AssignmentIntervalIndex 테스트")
+class AssignmentIntervalIndexTest {
+
+    @Mock
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    private AssignmentIntervalIndex index;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        index = new AssignmentIntervalIndex(assignedStudyTimeRepository, 12, 36);
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    @Test
+    @DisplayName("구간 안의 조회는 DB 없이 포함/겹침 배정을 시작 시각 순으로 반환")
+    void queries_AnsweredFromIndex() {
+        // given: 학생 1의 배정 3건 (지금 진행 중, 20분 뒤 시작, 3시간 뒤 시작)
+        when(assignedStudyTimeRepository.findAllOverlapping(any(), any())).thenReturn(List.of(
+                assigned(3L, 1L, now.plusHours(3), now.plusHours(4)),
+                assigned(1L, 1L, now.minusMinutes(30), now.plusMinutes(10)),
+                assigned(2L, 1L, now.plusMinutes(20), now.plusMinutes(80))));
+        index.reload();
+
+        // when
+        List<AssignedStudyTime> containing = index.findContaining(1L, now);
+        List<AssignedStudyTime> nearby = index.findOverlapping(1L, now.minusMinutes(30), now.plusMinutes(30));
+        List<AssignedStudyTime> otherStudent = index.findContaining(2L, now);
+
+        // then
+        assertThat(containing).extracting(AssignedStudyTime::getId).containsExactly(1L);
+        assertThat(nearby).extracting(AssignedStudyTime::getId).containsExactly(1L, 2L);
+        assertThat(otherStudent).isEmpty();
+        verify(assignedStudyTimeRepository, never()).findByStudentIdAndTimeRange(any(), any());
+        verify(assignedStudyTimeRepository, never()).findOverlappingStudyTimes(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("경계 시각도 포함으로 처리")
+    void findContaining_InclusiveBoundaries() {
+        // given
+        when(assignedStudyTimeRepository.findAllOverlapping(any(), any())).thenReturn(List.of(
+                assigned(1L, 1L, now, now.plusHours(1))));
+        index.reload();
+
+        // then
+        assertThat(index.findContaining(1L, now)).hasSize(1);
+        assertThat(index.findContaining(1L, now.plusHours(1))).hasSize(1);
+        assertThat(index.findContaining(1L, now.plusHours(1).plusSeconds(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배정 생성/수정/삭제 이벤트를 바로 반영")
+    void events_UpdateIndex() {
+        // given
+        when(assignedStudyTimeRepository.findAllOverlapping(any(), any())).thenReturn(List.of());
+        index.reload();
+
+        // when: 생성
+        index.onAssignedStudyTimeChanged(event(AssignedStudyTimeChangedEvent.ChangeType.CREATED,
+                10L, now.minusMinutes(5), now.plusMinutes(55)));
+
+        // then
+        assertThat(index.findContaining(1L, now)).extracting(AssignedStudyTime::getId).containsExactly(10L);
+
+        // when: 수정 (2시간 뒤로 이동)
+        index.onAssignedStudyTimeChanged(event(AssignedStudyTimeChangedEvent.ChangeType.UPDATED,
+                10L, now.plusHours(2), now.plusHours(3)));
+
+        // then
+        assertThat(index.findContaining(1L, now)).isEmpty();
+        assertThat(index.findContaining(1L, now.plusHours(2))).extracting(AssignedStudyTime::getId).containsExactly(10L);
+
+        // when: 삭제
+        index.onAssignedStudyTimeChanged(event(AssignedStudyTimeChangedEvent.ChangeType.DELETED,
+                10L, now.plusHours(2), now.plusHours(3)));
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.findContaining(1L, now.plusHours(2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구간 밖 조회나 구성 전 조회는 DB로 조회")
+    void outsideWindow_FallsBackToRepository() {
+        // given: 구성 전
+        index.findContaining(1L, now);
+        verify(assignedStudyTimeRepository).findByStudentIdAndTimeRange(1L, now);
+
+        // given: 구성 후, 구간(36시간 뒤) 밖
+        when(assignedStudyTimeRepository.findAllOverlapping(any(), any())).thenReturn(List.of());
+        index.reload();
+        LocalDateTime later = now.plusDays(3);
+        index.findOverlapping(1L, later, later.plusMinutes(30));
+
+        // then
+        verify(assignedStudyTimeRepository).findOverlappingStudyTimes(1L, later, later.plusMinutes(30));
+    }
+
+    private AssignedStudyTime assigned(Long id, Long studentId, LocalDateTime start, LocalDateTime end) {
+        return AssignedStudyTime.builder()
+                .id(id)
+                .studentId(studentId)
+                .title("자습")
+                .activityId(1L)
+                .startTime(start)
+                .endTime(end)
+                .assignedBy(99L)
+                .build();
+    }
+
+    private AssignedStudyTimeChangedEvent event(AssignedStudyTimeChangedEvent.ChangeType changeType,
+                                                Long id, LocalDateTime start, LocalDateTime end) {
+        return AssignedStudyTimeChangedEvent.builder()
+                .changeType(changeType)
+                .assignedStudyTimeId(id)
+                .studentId(1L)
+                .title("자습")
+                .activityId(1L)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+}
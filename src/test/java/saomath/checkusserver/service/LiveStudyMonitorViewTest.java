@@ -0,0 +1,343 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeBatchEvent;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.LiveStudyMonitorView;
+import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveStudyMonitorView 테스트")
+class LiveStudyMonitorViewTest {
+
+    @Mock
+    private StudyTimeService studyTimeService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    @Mock
+    private ActualStudyTimeRepository actualStudyTimeRepository;
+
+    @InjectMocks
+    private LiveStudyMonitorView liveStudyMonitorView;
+
+    private LocalDateTime dayStart;
+    private LocalDateTime dayEnd;
+
+    @BeforeEach
+    void setUp() {
+        dayStart = LocalDate.now().atStartOfDay();
+        dayEnd = LocalDate.now().plusDays(1).atTime(6, 0);
+    }
+
+    @Test
+    @DisplayName("오늘 범위 조회는 최초 한 번만 DB에서 구성하고 이후에는 메모리에서 응답")
+    void getMonitor_ServedFromMemoryAfterFirstBuild() {
+        // given
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L)));
+
+        // when
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+        Optional<StudyTimeMonitorResponse> second = liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        // then
+        assertThat(second).isPresent();
+        assertThat(second.get().getStudents()).hasSize(1);
+        verify(studyTimeService, times(1)).getStudyTimeMonitorByTimeRangeOptimized(any(), any());
+    }
+
+    @Test
+    @DisplayName("오늘 범위를 벗어난 조회는 empty를 반환")
+    void getMonitor_OutsideWindow() {
+        // when
+        Optional<StudyTimeMonitorResponse> result = liveStudyMonitorView.getMonitor(
+                dayStart.minusDays(1), dayStart.plusHours(1));
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(studyTimeService);
+    }
+
+    @Test
+    @DisplayName("세션 시작/종료 이벤트는 DB 조회 없이 뷰에 반영")
+    void sessionEvents_PatchedInMemory() {
+        // given
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L)));
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        // when: 배정 시간에 연결된 세션 시작
+        liveStudyMonitorView.onActualStudyTimeChanged(ActualStudyTimeChangedEvent.builder()
+                .changeType(ActualStudyTimeChangedEvent.ChangeType.STARTED)
+                .actualStudyTimeId(100L)
+                .studentId(1L)
+                .assignedStudyTimeId(10L)
+                .startTime(dayStart.plusHours(10))
+                .build());
+
+        // then
+        StudyTimeMonitorResponse.AssignedStudyInfo assigned = liveStudyMonitorView.getMonitor(dayStart, dayEnd)
+                .orElseThrow().getStudents().get(0).getAssignedStudyTimes().get(0);
+        assertThat(assigned.getConnectedActualStudyTimes()).hasSize(1);
+        assertThat(assigned.getConnectedActualStudyTimes().get(0).getEndTime()).isNull();
+
+        // when: 세션 종료
+        liveStudyMonitorView.onActualStudyTimeChanged(ActualStudyTimeChangedEvent.builder()
+                .changeType(ActualStudyTimeChangedEvent.ChangeType.ENDED)
+                .actualStudyTimeId(100L)
+                .studentId(1L)
+                .assignedStudyTimeId(10L)
+                .startTime(dayStart.plusHours(10))
+                .endTime(dayStart.plusHours(11))
+                .build());
+
+        // then
+        assigned = liveStudyMonitorView.getMonitor(dayStart, dayEnd)
+                .orElseThrow().getStudents().get(0).getAssignedStudyTimes().get(0);
+        assertThat(assigned.getConnectedActualStudyTimes().get(0).getEndTime()).isEqualTo(dayStart.plusHours(11));
+        verify(studyTimeService, times(1)).getStudyTimeMonitorByTimeRangeOptimized(any(), any());
+        verify(studyTimeService, never()).getStudentStudyInfo(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("배정 변경 이벤트는 해당 학생만 다시 조회")
+    void assignedChanged_ReloadsOnlyThatStudent() {
+        // given
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L)));
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        StudyTimeMonitorResponse.StudentStudyInfo reloaded = createStudent(1L, 10L);
+        reloaded.getAssignedStudyTimes().add(createAssigned(11L, dayStart.plusHours(15)));
+        when(studyTimeService.getStudentStudyInfo(eq(1L), eq(dayStart), eq(dayEnd)))
+                .thenReturn(Optional.of(reloaded));
+
+        // when
+        liveStudyMonitorView.onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent.builder()
+                .changeType(AssignedStudyTimeChangedEvent.ChangeType.CREATED)
+                .assignedStudyTimeId(11L)
+                .studentId(1L)
+                .startTime(dayStart.plusHours(15))
+                .endTime(dayStart.plusHours(17))
+                .build());
+
+        // then
+        StudyTimeMonitorResponse result = liveStudyMonitorView.getMonitor(dayStart, dayEnd).orElseThrow();
+        assertThat(result.getStudents().get(0).getAssignedStudyTimes()).hasSize(2);
+        verify(studyTimeService, times(1)).getStudyTimeMonitorByTimeRangeOptimized(any(), any());
+    }
+
+    @Test
+    @DisplayName("재조회 도중 세션 이벤트로 바뀐 학생은 읽은 결과를 버리고 다시 조회")
+    void reload_DiscardedWhenPatchedDuringRead() {
+        // given
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L)));
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        ActualStudyTimeChangedEvent sessionStarted = ActualStudyTimeChangedEvent.builder()
+                .changeType(ActualStudyTimeChangedEvent.ChangeType.STARTED)
+                .actualStudyTimeId(100L)
+                .studentId(1L)
+                .assignedStudyTimeId(10L)
+                .startTime(dayStart.plusHours(10))
+                .build();
+        StudyTimeMonitorResponse.StudentStudyInfo withSession = createStudent(1L, 10L);
+        withSession.getAssignedStudyTimes().get(0).getConnectedActualStudyTimes().add(
+                new StudyTimeMonitorResponse.ConnectedActualStudyInfo(100L, dayStart.plusHours(10), null));
+        // 첫 조회: 읽는 도중 세션 시작이 반영되고, 결과는 그 세션이 없는 이전 상태
+        when(studyTimeService.getStudentStudyInfo(eq(1L), eq(dayStart), eq(dayEnd)))
+                .thenAnswer(invocation -> {
+                    liveStudyMonitorView.onActualStudyTimeChanged(sessionStarted);
+                    return Optional.of(createStudent(1L, 10L));
+                })
+                .thenReturn(Optional.of(withSession));
+
+        // when
+        liveStudyMonitorView.onStudentChanged(StudentChangedEvent.builder()
+                .studentId(1L)
+                .changeType(StudentChangedEvent.ChangeType.UPDATED)
+                .build());
+
+        // then: 세션 시작이 덮어써지지 않음
+        StudyTimeMonitorResponse.AssignedStudyInfo assigned = liveStudyMonitorView.getMonitor(dayStart, dayEnd)
+                .orElseThrow().getStudents().get(0).getAssignedStudyTimes().get(0);
+        assertThat(assigned.getConnectedActualStudyTimes()).hasSize(1);
+        verify(studyTimeService, times(2)).getStudentStudyInfo(eq(1L), any(), any());
+    }
+
+    @Test
+    @DisplayName("재구성 도중 세션 이벤트가 들어오면 읽은 결과를 버리고 다시 재구성")
+    void rebuild_RetriedWhenPatchedDuringRead() {
+        // given
+        StudyTimeMonitorResponse.StudentStudyInfo withSession = createStudent(1L, 10L);
+        withSession.getAssignedStudyTimes().get(0).getConnectedActualStudyTimes().add(
+                new StudyTimeMonitorResponse.ConnectedActualStudyInfo(100L, dayStart.plusHours(10), null));
+        // 최초 구성 후, 재구성 첫 조회 도중 세션 시작이 반영되고 결과는 그 세션이 없는 이전 상태
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L)))
+                .thenAnswer(invocation -> {
+                    liveStudyMonitorView.onActualStudyTimeChanged(sessionStarted(1L, 100L));
+                    return createResponse(createStudent(1L, 10L));
+                })
+                .thenReturn(createResponse(withSession));
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        // when
+        int rebuilt = liveStudyMonitorView.rebuild();
+
+        // then: 세션 시작이 덮어써지지 않음
+        assertThat(rebuilt).isEqualTo(1);
+        StudyTimeMonitorResponse.AssignedStudyInfo assigned = liveStudyMonitorView.getMonitor(dayStart, dayEnd)
+                .orElseThrow().getStudents().get(0).getAssignedStudyTimes().get(0);
+        assertThat(assigned.getConnectedActualStudyTimes()).hasSize(1);
+        verify(studyTimeService, times(3)).getStudyTimeMonitorByTimeRangeOptimized(any(), any());
+    }
+
+    @Test
+    @DisplayName("재구성 도중 계속 바뀌면 마지막 시도에서 바뀐 학생만 현재 값을 유지")
+    void rebuild_KeepsPatchedStudentsOnLastAttempt() {
+        // given: 학생 1은 재구성 조회마다 새 세션이 시작되고, 학생 2는 조회 결과에서 배정이 바뀜
+        StudyTimeMonitorResponse.StudentStudyInfo student2Reloaded = createStudent(2L, 21L);
+        long[] nextActualId = {100L};
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L), createStudent(2L, 20L)))
+                .thenAnswer(invocation -> {
+                    liveStudyMonitorView.onActualStudyTimeChanged(sessionStarted(1L, nextActualId[0]++));
+                    return createResponse(createStudent(1L, 10L), student2Reloaded);
+                });
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        // when
+        liveStudyMonitorView.rebuild();
+
+        // then: 학생 1은 조회 중 시작된 세션이 모두 남고, 학생 2는 새로 읽은 값으로 교체
+        List<StudyTimeMonitorResponse.StudentStudyInfo> students =
+                liveStudyMonitorView.getMonitor(dayStart, dayEnd).orElseThrow().getStudents();
+        assertThat(students).extracting(StudyTimeMonitorResponse.StudentStudyInfo::getStudentId)
+                .containsExactly(1L, 2L);
+        assertThat(students.get(0).getAssignedStudyTimes().get(0).getConnectedActualStudyTimes()).hasSize(3);
+        assertThat(students.get(1).getAssignedStudyTimes().get(0).getAssignedStudyTimeId()).isEqualTo(21L);
+        verify(studyTimeService, times(4)).getStudyTimeMonitorByTimeRangeOptimized(any(), any());
+    }
+
+    @Test
+    @DisplayName("대량 배정은 학생별 이벤트를 무시하고 배치 이벤트로 한 번만 다시 조회")
+    void assignedBatch_ReloadsStudentsWithSingleQuery() {
+        // given
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L), createStudent(2L, 20L)));
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        StudyTimeMonitorResponse.StudentStudyInfo reloaded1 = createStudent(1L, 10L);
+        reloaded1.getAssignedStudyTimes().add(createAssigned(11L, dayStart.plusHours(15)));
+        StudyTimeMonitorResponse.StudentStudyInfo reloaded2 = createStudent(2L, 20L);
+        reloaded2.getAssignedStudyTimes().add(createAssigned(21L, dayStart.plusHours(15)));
+        when(studyTimeService.getStudentStudyInfos(eq(Set.of(1L, 2L)), eq(dayStart), eq(dayEnd)))
+                .thenReturn(Map.of(1L, reloaded1, 2L, reloaded2));
+
+        // when
+        for (long studentId : List.of(1L, 2L)) {
+            liveStudyMonitorView.onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent.builder()
+                    .changeType(AssignedStudyTimeChangedEvent.ChangeType.CREATED)
+                    .assignedStudyTimeId(studentId * 10 + 1)
+                    .studentId(studentId)
+                    .startTime(dayStart.plusHours(15))
+                    .endTime(dayStart.plusHours(17))
+                    .batched(true)
+                    .build());
+        }
+        liveStudyMonitorView.onAssignedStudyTimeBatch(AssignedStudyTimeBatchEvent.builder()
+                .studentIds(Set.of(1L, 2L))
+                .earliestStartTime(dayStart.plusHours(15))
+                .latestStartTime(dayStart.plusHours(15))
+                .build());
+
+        // then
+        StudyTimeMonitorResponse result = liveStudyMonitorView.getMonitor(dayStart, dayEnd).orElseThrow();
+        assertThat(result.getStudents()).allSatisfy(info -> assertThat(info.getAssignedStudyTimes()).hasSize(2));
+        verify(studyTimeService, never()).getStudentStudyInfo(any(), any(), any());
+        verify(studyTimeService, times(1)).getStudentStudyInfos(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("뷰 범위 밖의 대량 배정은 다시 조회하지 않음")
+    void assignedBatch_OutsideWindowIgnored() {
+        when(studyTimeService.getStudyTimeMonitorByTimeRangeOptimized(dayStart, dayEnd))
+                .thenReturn(createResponse(createStudent(1L, 10L)));
+        liveStudyMonitorView.getMonitor(dayStart, dayEnd);
+
+        liveStudyMonitorView.onAssignedStudyTimeBatch(AssignedStudyTimeBatchEvent.builder()
+                .studentIds(Set.of(1L))
+                .earliestStartTime(dayStart.plusDays(2))
+                .latestStartTime(dayStart.plusDays(9))
+                .build());
+
+        verify(studyTimeService, never()).getStudentStudyInfos(any(), any(), any());
+    }
+
+    private StudyTimeMonitorResponse createResponse(StudyTimeMonitorResponse.StudentStudyInfo... students) {
+        StudyTimeMonitorResponse response = new StudyTimeMonitorResponse();
+        response.setStartTime(dayStart);
+        response.setEndTime(dayEnd);
+        response.setStudents(new ArrayList<>(List.of(students)));
+        return response;
+    }
+
+    private ActualStudyTimeChangedEvent sessionStarted(Long studentId, Long actualStudyTimeId) {
+        return ActualStudyTimeChangedEvent.builder()
+                .changeType(ActualStudyTimeChangedEvent.ChangeType.STARTED)
+                .actualStudyTimeId(actualStudyTimeId)
+                .studentId(studentId)
+                .assignedStudyTimeId(10L)
+                .startTime(dayStart.plusHours(10))
+                .build();
+    }
+
+    private StudyTimeMonitorResponse.StudentStudyInfo createStudent(Long studentId, Long assignedId) {
+        StudyTimeMonitorResponse.StudentStudyInfo info = new StudyTimeMonitorResponse.StudentStudyInfo();
+        info.setStudentId(studentId);
+        info.setStudentName("김학생");
+        info.setStudentPhone("010-1234-5678");
+        info.setStatus(StudyTimeMonitorResponse.StudentCurrentStatus.NO_ASSIGNED_TIME);
+        info.setGuardians(new ArrayList<>());
+        info.setAssignedStudyTimes(new ArrayList<>(List.of(createAssigned(assignedId, dayStart.plusHours(10)))));
+        info.setUnassignedActualStudyTimes(new ArrayList<>());
+        return info;
+    }
+
+    private StudyTimeMonitorResponse.AssignedStudyInfo createAssigned(Long assignedId, LocalDateTime startTime) {
+        return new StudyTimeMonitorResponse.AssignedStudyInfo(
+                assignedId, "수학 공부", startTime, startTime.plusHours(2), new ArrayList<>());
+    }
+}
@@ -0,0 +1,114 @@
+package saomath.checkusserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.service.MonitorSnapshotCache;
+import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.user.event.StudentChangedEvent;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonitorSnapshotCache 테스트")
+class MonitorSnapshotCacheTest {
+
+    @Mock
+    private StudyTimeService studyTimeService;
+
+    private MonitorSnapshotCache snapshotCache;
+    private LocalDate pastDate;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCache = new MonitorSnapshotCache(studyTimeService, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), 100, 24);
+        pastDate = LocalDate.now().minusDays(3);
+    }
+
+    @Test
+    @DisplayName("끝난 날짜는 한 번만 계산하고 같은 ETag를 반환")
+    void get_CachesCompletedDate() {
+        // given
+        when(studyTimeService.getStudyTimeMonitorByDate(pastDate)).thenReturn(response(pastDate));
+
+        // when
+        MonitorSnapshotCache.Snapshot first = snapshotCache.get(pastDate).orElseThrow();
+        MonitorSnapshotCache.Snapshot second = snapshotCache.get(pastDate).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        verify(studyTimeService, times(1)).getStudyTimeMonitorByDate(pastDate);
+    }
+
+    @Test
+    @DisplayName("오늘은 아직 끝나지 않은 날짜라 캐싱하지 않음")
+    void get_SkipsToday() {
+        assertThat(snapshotCache.get(LocalDate.now())).isEmpty();
+        verify(studyTimeService, never()).getStudyTimeMonitorByDate(any());
+    }
+
+    @Test
+    @DisplayName("새벽 6시 이전 배정 변경은 그날과 전날 스냅샷을 함께 무효화")
+    void assignedChange_InvalidatesOwningDates() {
+        // given
+        LocalDate nextDate = pastDate.plusDays(1);
+        when(studyTimeService.getStudyTimeMonitorByDate(any(LocalDate.class)))
+                .thenAnswer(invocation -> response(invocation.getArgument(0)));
+        snapshotCache.get(pastDate);
+        snapshotCache.get(nextDate);
+        snapshotCache.get(pastDate.minusDays(1));
+
+        // when
+        snapshotCache.onAssignedStudyTimeChanged(AssignedStudyTimeChangedEvent.builder()
+                .changeType(AssignedStudyTimeChangedEvent.ChangeType.UPDATED)
+                .studentId(1L)
+                .startTime(nextDate.atTime(2, 0))
+                .build());
+
+        // then: 다른 날짜는 유지
+        assertThat(snapshotCache.size()).isEqualTo(1);
+        snapshotCache.get(pastDate);
+        verify(studyTimeService, times(2)).getStudyTimeMonitorByDate(pastDate);
+        verify(studyTimeService, times(1)).getStudyTimeMonitorByDate(pastDate.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("학생 정보 변경은 모든 날짜 스냅샷을 무효화")
+    void studentChange_InvalidatesAll() {
+        // given
+        when(studyTimeService.getStudyTimeMonitorByDate(any(LocalDate.class)))
+                .thenAnswer(invocation -> response(invocation.getArgument(0)));
+        snapshotCache.get(pastDate);
+        snapshotCache.get(pastDate.minusDays(1));
+
+        // when
+        snapshotCache.onStudentChanged(StudentChangedEvent.builder()
+                .studentId(1L)
+                .changeType(StudentChangedEvent.ChangeType.UPDATED)
+                .build());
+
+        // then
+        assertThat(snapshotCache.size()).isZero();
+    }
+
+    private static StudyTimeMonitorResponse response(LocalDate date) {
+        StudyTimeMonitorResponse response = new StudyTimeMonitorResponse();
+        response.setDate(date);
+        response.setStudents(List.of());
+        return response;
+    }
+}
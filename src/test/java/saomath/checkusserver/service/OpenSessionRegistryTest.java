@@ -0,0 +1,102 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenSessionRegistry 테스트")
+class OpenSessionRegistryTest {
+
+    @Mock
+    private ActualStudyTimeRepository actualStudyTimeRepository;
+
+    @InjectMocks
+    private OpenSessionRegistry openSessionRegistry;
+
+    @Test
+    @DisplayName("세션 시작/종료 이벤트로 진행 중 세션 갱신")
+    void sessionEvents_UpdateRegistry() {
+        // given
+        openSessionRegistry.initialize();
+
+        // when
+        openSessionRegistry.onActualStudyTimeChanged(event(ActualStudyTimeChangedEvent.ChangeType.STARTED, 1L, 100L));
+        openSessionRegistry.onActualStudyTimeChanged(event(ActualStudyTimeChangedEvent.ChangeType.STARTED, 1L, 101L));
+        openSessionRegistry.onActualStudyTimeChanged(event(ActualStudyTimeChangedEvent.ChangeType.ENDED, 1L, 100L));
+
+        // then
+        assertThat(openSessionRegistry.getOpenSessionIds(1L)).hasValue(List.of(101L));
+        assertThat(openSessionRegistry.getOpenSessionIds(2L)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("구성 전에는 모든 학생을 모름으로 응답")
+    void getOpenSessionIds_UnknownBeforeInitialize() {
+        openSessionRegistry.onActualStudyTimeChanged(event(ActualStudyTimeChangedEvent.ChangeType.STARTED, 1L, 100L));
+
+        assertThat(openSessionRegistry.getOpenSessionIds(1L)).isEmpty();
+        assertThat(openSessionRegistry.getOpenSessionIds(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비운 학생은 DB 조회로 교체되거나 정합성 검사가 돌 때까지 모름으로 응답")
+    void evict_MarksUnknownUntilReplacedOrReconciled() {
+        // given
+        openSessionRegistry.initialize();
+        openSessionRegistry.evict(1L);
+        openSessionRegistry.evict(2L);
+        assertThat(openSessionRegistry.getOpenSessionIds(1L)).isEmpty();
+
+        // when & then: 1번은 DB 조회 결과로 교체
+        openSessionRegistry.replace(1L, List.of(
+                ActualStudyTime.builder().id(100L).studentId(1L).startTime(LocalDateTime.now()).build()));
+        assertThat(openSessionRegistry.getOpenSessionIds(1L)).hasValue(List.of(100L));
+        assertThat(openSessionRegistry.getOpenSessionIds(2L)).isEmpty();
+
+        // when & then: 2번은 정합성 검사로 확인
+        openSessionRegistry.reconcile();
+        assertThat(openSessionRegistry.getOpenSessionIds(2L)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 테이블 기준으로 어긋난 항목을 바로잡음")
+    void reconcile_CorrectsDrift() {
+        // given: 레지스트리에는 종료된 세션이 남아 있고, 테이블에는 다른 학생의 세션이 열려 있음
+        openSessionRegistry.initialize();
+        openSessionRegistry.onActualStudyTimeChanged(event(ActualStudyTimeChangedEvent.ChangeType.STARTED, 1L, 100L));
+        when(actualStudyTimeRepository.findByEndTimeIsNull()).thenReturn(List.of(
+                ActualStudyTime.builder().id(200L).studentId(2L).startTime(LocalDateTime.now()).build()));
+
+        // when
+        int count = openSessionRegistry.reconcile();
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(openSessionRegistry.getOpenSessionIds(1L)).hasValue(List.of());
+        assertThat(openSessionRegistry.getOpenSessionIds(2L)).hasValue(List.of(200L));
+    }
+
+    private ActualStudyTimeChangedEvent event(ActualStudyTimeChangedEvent.ChangeType changeType,
+                                              Long studentId, Long sessionId) {
+        return ActualStudyTimeChangedEvent.builder()
+                .changeType(changeType)
+                .studentId(studentId)
+                .actualStudyTimeId(sessionId)
+                .startTime(LocalDateTime.now())
+                .build();
+    }
+}
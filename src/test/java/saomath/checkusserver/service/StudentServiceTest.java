@@ -18,6 +18,8 @@ import saomath.checkusserver.user.domain.StudentGuardian;
 import saomath.checkusserver.user.domain.StudentProfile;
 import saomath.checkusserver.user.dto.StudentDetailResponse;
 import saomath.checkusserver.user.dto.StudentListResponse;
+import saomath.checkusserver.user.dto.StudentPageResponse;
+import saomath.checkusserver.common.exception.BusinessException;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
 import saomath.checkusserver.user.repository.StudentGuardianRepository;
 import saomath.checkusserver.user.repository.StudentProfileRepository;
@@ -105,11 +107,11 @@ class StudentServiceTest {
         // Given
         when(userRepository.findStudentsWithFilters(eq(1L), eq(2), eq(StudentProfile.StudentStatus.ENROLLED), eq(1L)))
                 .thenReturn(Arrays.asList(mockStudent));
-        when(studentProfileRepository.findByUserId(4L))
-                .thenReturn(Optional.of(mockStudentProfile));
-        when(studentClassRepository.findByStudentId(4L))
+        when(studentProfileRepository.findByUserIdsWithSchool(List.of(4L)))
+                .thenReturn(Arrays.asList(mockStudentProfile));
+        when(studentClassRepository.findByStudentIdsWithClass(List.of(4L)))
                 .thenReturn(Arrays.asList(createMockStudentClass()));
-        when(studentGuardianRepository.findByStudentId(4L))
+        when(studentGuardianRepository.findByStudentIds(List.of(4L)))
                 .thenReturn(Arrays.asList(createMockStudentGuardian()));
 
         // When
@@ -134,11 +136,11 @@ class StudentServiceTest {
         // Given
         when(userRepository.findAllStudents())
                 .thenReturn(Arrays.asList(mockStudent));
-        when(studentProfileRepository.findByUserId(4L))
-                .thenReturn(Optional.of(mockStudentProfile));
-        when(studentClassRepository.findByStudentId(4L))
+        when(studentProfileRepository.findByUserIdsWithSchool(List.of(4L)))
+                .thenReturn(Arrays.asList(mockStudentProfile));
+        when(studentClassRepository.findByStudentIdsWithClass(List.of(4L)))
                 .thenReturn(Arrays.asList(createMockStudentClass()));
-        when(studentGuardianRepository.findByStudentId(4L))
+        when(studentGuardianRepository.findByStudentIds(List.of(4L)))
                 .thenReturn(Arrays.asList(createMockStudentGuardian()));
 
         // When
@@ -225,6 +227,48 @@ class StudentServiceTest {
                 .hasMessageContaining("학생 프로필을 찾을 수 없습니다");
     }
 
+    @Test
+    @DisplayName("학생 목록 페이지 조회 - 다음 페이지 커서로 이어서 조회")
+    void getStudentPage_KeysetCursor() {
+        // Given
+        User other = User.builder().id(9L).name("최학생").build();
+        when(userRepository.findStudentPageOrderByName(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any()))
+                .thenReturn(Arrays.asList(mockStudent, other));
+        when(studentProfileRepository.findByUserIdsWithSchool(List.of(4L)))
+                .thenReturn(Arrays.asList(mockStudentProfile));
+        when(studentClassRepository.findByStudentIdsWithClass(List.of(4L)))
+                .thenReturn(List.of());
+        when(studentGuardianRepository.findByStudentIds(List.of(4L)))
+                .thenReturn(List.of());
+
+        // When
+        StudentPageResponse first = studentService.getStudentPage(null, null, null, null, null, null, 1);
+
+        // Then
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.getContent().get(0).getId()).isEqualTo(4L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        // When: 다음 페이지는 마지막 학생(이름, ID) 이후부터 조회
+        when(userRepository.findStudentPageOrderByName(isNull(), isNull(), isNull(), isNull(), eq("박학생"), eq(4L), any()))
+                .thenReturn(List.of());
+        StudentPageResponse second = studentService.getStudentPage(null, null, null, null, null, first.getNextCursor(), 1);
+
+        // Then
+        assertThat(second.getContent()).isEmpty();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("학생 목록 페이지 조회 - 잘못된 커서")
+    void getStudentPage_InvalidCursor() {
+        assertThatThrownBy(() -> studentService.getStudentPage(null, null, null, null,
+                StudentPageResponse.Sort.ID, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
     private StudentClass createMockStudentClass() {
         StudentClass studentClass = new StudentClass();
         studentClass.setStudent(mockStudent);
@@ -0,0 +1,199 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.common.exception.BusinessException;
+import saomath.checkusserver.studyTime.domain.Activity;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.domain.StudyDailyAggregate;
+import saomath.checkusserver.studyTime.dto.StudyDailyAggregateResponse;
+import saomath.checkusserver.studyTime.dto.StudyTimeSummaryResponse;
+import saomath.checkusserver.studyTime.event.ActualStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.repository.ActivityRepository;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.StudyDailyAggregateRepository;
+import saomath.checkusserver.studyTime.service.StudyDailyAggregateService;
+import saomath.checkusserver.util.TestDataFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 집계는 학생 묶음마다 별도 트랜잭션으로 커밋하므로, 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("StudyDailyAggregateService 테스트")
+class StudyDailyAggregateServiceTest {
+
+    @Autowired
+    private StudyDailyAggregateService studyDailyAggregateService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    @Autowired
+    private ActualStudyTimeRepository actualStudyTimeRepository;
+
+    @Autowired
+    private StudyDailyAggregateRepository studyDailyAggregateRepository;
+
+    private User student;
+    private User teacher;
+    private Activity activity;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        student = userRepository.save(TestDataFactory.createStudent("aggregateStudent", "집계 학생", "01044440001"));
+        teacher = userRepository.save(TestDataFactory.createTeacher("aggregateTeacher", "집계 선생님", "01044440002"));
+        activity = activityRepository.save(TestDataFactory.createActivity("집계 활동", true));
+        day = LocalDate.now().minusDays(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        studyDailyAggregateRepository.deleteAll(aggregates());
+        actualStudyTimeRepository.deleteAll(actualStudyTimeRepository.findByStudentIdAndDateRange(
+                student.getId(), day.minusDays(1).atStartOfDay(), day.plusDays(2).atStartOfDay()));
+        assignedStudyTimeRepository.deleteAll(assignedStudyTimeRepository.findByStudentIdAndStartTimeBetween(
+                student.getId(), day.minusDays(1).atStartOfDay(), day.plusDays(2).atStartOfDay()));
+        activityRepository.delete(activity);
+        userRepository.delete(student);
+        userRepository.delete(teacher);
+    }
+
+    @Test
+    @DisplayName("재생성: 배정 시간, 겹치는 세션을 한 번만 센 접속 시간, 지각/조기 퇴장/미접속을 집계")
+    void rebuild_ComputesDailyAggregate() {
+        // given
+        // 10:00-12:00 배정, 10:10-11:30 접속 -> 지각 + 조기 퇴장
+        assignment(day.atTime(10, 0), day.atTime(12, 0));
+        session(day.atTime(10, 10), day.atTime(11, 30));
+        // 14:00-15:00 배정, 접속 없음 -> 미접속
+        assignment(day.atTime(14, 0), day.atTime(15, 0));
+        // 16:00-17:00 배정, 15:55-16:30 + 16:20-17:00 (겹침) -> 정상
+        assignment(day.atTime(16, 0), day.atTime(17, 0));
+        session(day.atTime(15, 55), day.atTime(16, 30));
+        session(day.atTime(16, 20), day.atTime(17, 0));
+
+        // when
+        studyDailyAggregateService.rebuild(day, day);
+
+        // then
+        List<StudyDailyAggregate> rows = aggregates();
+        assertThat(rows).hasSize(1);
+        StudyDailyAggregate row = rows.get(0);
+        assertThat(row.getAssignedMinutes()).isEqualTo(240);
+        assertThat(row.getAttendedMinutes()).isEqualTo(80 + 65);
+        assertThat(row.getLateCount()).isEqualTo(1);
+        assertThat(row.getEarlyLeaveCount()).isEqualTo(1);
+        assertThat(row.getNoShowCount()).isEqualTo(1);
+
+        // 주간/월간 요약은 집계 행을 합산
+        StudyTimeSummaryResponse weekly = studyDailyAggregateService.getWeeklySummary(student.getId(), day);
+        assertThat(weekly.getAttendedMinutes()).isEqualTo(145);
+        assertThat(weekly.getDays()).extracting(StudyDailyAggregateResponse::getDate).containsExactly(day);
+        StudyTimeSummaryResponse monthly = studyDailyAggregateService.getMonthlySummary(student.getId(), YearMonth.from(day));
+        assertThat(monthly.getAssignedMinutes()).isEqualTo(240);
+        assertThat(monthly.getNoShowCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세션 종료 이벤트는 해당 학생/날짜만 다시 계산하고, 원본이 사라지면 재생성 시 집계도 삭제")
+    void sessionEnded_RecomputesDirtyDay() {
+        // given
+        ActualStudyTime session = session(day.atTime(20, 0), day.atTime(21, 30));
+
+        // when
+        eventPublisher.publishEvent(ActualStudyTimeChangedEvent.builder()
+                .changeType(ActualStudyTimeChangedEvent.ChangeType.ENDED)
+                .actualStudyTimeId(session.getId())
+                .studentId(student.getId())
+                .startTime(session.getStartTime())
+                .endTime(session.getEndTime())
+                .source(session.getSource())
+                .build());
+        studyDailyAggregateService.flushDirty();
+
+        // then
+        assertThat(aggregates()).singleElement()
+                .satisfies(row -> assertThat(row.getAttendedMinutes()).isEqualTo(90));
+
+        // when: 원본 삭제 후 재생성
+        actualStudyTimeRepository.delete(session);
+        studyDailyAggregateService.rebuild(day, day);
+
+        // then
+        assertThat(aggregates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 세션은 날짜별로 나눠 집계")
+    void rebuild_SplitsSessionAcrossMidnight() {
+        // given
+        session(day.atTime(23, 30), day.plusDays(1).atTime(0, 45));
+
+        // when
+        studyDailyAggregateService.rebuild(day, day.plusDays(1));
+
+        // then
+        assertThat(aggregates()).extracting(StudyDailyAggregate::getAttendedMinutes).containsExactly(30, 45);
+    }
+
+    @Test
+    @DisplayName("미래 날짜는 집계할 수 없음")
+    void rebuild_RejectsFutureDate() {
+        assertThatThrownBy(() -> studyDailyAggregateService.rebuild(LocalDate.now(), LocalDate.now().plusDays(1)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private AssignedStudyTime assignment(LocalDateTime start, LocalDateTime end) {
+        return assignedStudyTimeRepository.save(AssignedStudyTime.builder()
+                .title("집계 배정")
+                .studentId(student.getId())
+                .activityId(activity.getId())
+                .startTime(start)
+                .endTime(end)
+                .assignedBy(teacher.getId())
+                .build());
+    }
+
+    private ActualStudyTime session(LocalDateTime start, LocalDateTime end) {
+        return actualStudyTimeRepository.save(ActualStudyTime.builder()
+                .studentId(student.getId())
+                .startTime(start)
+                .endTime(end)
+                .source("discord")
+                .build());
+    }
+
+    private List<StudyDailyAggregate> aggregates() {
+        return studyDailyAggregateRepository.findByStudentIdAndStudyDateBetweenOrderByStudyDate(
+                student.getId(), day.minusDays(1), day.plusDays(1));
+    }
+}
@@ -0,0 +1,123 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
+import saomath.checkusserver.studyTime.service.LiveStudyMonitorView;
+import saomath.checkusserver.studyTime.service.StudyMonitorStreamService;
+import saomath.checkusserver.studyTime.service.StudyTimeService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyMonitorStreamService 테스트")
+class StudyMonitorStreamServiceTest {
+
+    @Mock
+    private LiveStudyMonitorView liveStudyMonitorView;
+
+    @Mock
+    private StudyTimeService studyTimeService;
+
+    @InjectMocks
+    private StudyMonitorStreamService studyMonitorStreamService;
+
+    @Test
+    @DisplayName("구독 시 메모리 뷰의 오늘 스냅샷을 사용하고 DB는 조회하지 않음")
+    void subscribe_UsesLiveViewSnapshot() {
+        // given
+        when(liveStudyMonitorView.getMonitorByDate(any(LocalDate.class)))
+                .thenReturn(Optional.of(createSnapshot(StudyTimeMonitorResponse.StudentCurrentStatus.ABSENT)));
+
+        // when
+        studyMonitorStreamService.subscribe();
+
+        // then
+        assertThat(studyMonitorStreamService.getSubscriberCount()).isEqualTo(1);
+        verifyNoInteractions(studyTimeService);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽기 전에 구독을 등록해 그 사이의 변경도 받음")
+    void subscribe_RegistersBeforeReadingSnapshot() {
+        // given: 스냅샷을 읽는 도중 상태 재계산이 실행됨
+        when(liveStudyMonitorView.getCurrentStatuses()).thenReturn(Map.of());
+        when(liveStudyMonitorView.getMonitorByDate(any(LocalDate.class))).thenAnswer(invocation -> {
+            studyMonitorStreamService.broadcastStatusChanges();
+            return Optional.of(createSnapshot(StudyTimeMonitorResponse.StudentCurrentStatus.ABSENT));
+        });
+
+        // when
+        studyMonitorStreamService.subscribe();
+
+        // then: 구독자가 이미 등록되어 있어 재계산이 건너뛰어지지 않음
+        verify(liveStudyMonitorView, times(1)).getCurrentStatuses();
+        assertThat(studyMonitorStreamService.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태 재계산 시 상태가 바뀐 학생만 변경 이벤트 전송")
+    void broadcastStatusChanges_OnlyChangedStudents() {
+        // given
+        when(liveStudyMonitorView.getMonitorByDate(any(LocalDate.class)))
+                .thenReturn(Optional.of(createSnapshot(StudyTimeMonitorResponse.StudentCurrentStatus.ABSENT)));
+        studyMonitorStreamService.subscribe();
+
+        Map<Long, StudyTimeMonitorResponse.StudentCurrentStatus> statuses = new LinkedHashMap<>();
+        statuses.put(1L, StudyTimeMonitorResponse.StudentCurrentStatus.ATTENDING);
+        statuses.put(2L, StudyTimeMonitorResponse.StudentCurrentStatus.ABSENT);
+        when(liveStudyMonitorView.getCurrentStatuses()).thenReturn(statuses);
+        when(liveStudyMonitorView.getStudent(1L)).thenReturn(Optional.of(createStudent(1L,
+                StudyTimeMonitorResponse.StudentCurrentStatus.ATTENDING)));
+
+        // when
+        studyMonitorStreamService.broadcastStatusChanges();
+        studyMonitorStreamService.broadcastStatusChanges();
+
+        // then
+        verify(liveStudyMonitorView, times(1)).getStudent(1L);
+        verify(liveStudyMonitorView, never()).getStudent(2L);
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 상태 재계산을 하지 않음")
+    void broadcastStatusChanges_NoSubscribers() {
+        // when
+        studyMonitorStreamService.broadcastStatusChanges();
+
+        // then
+        verify(liveStudyMonitorView, never()).getCurrentStatuses();
+    }
+
+    private StudyTimeMonitorResponse createSnapshot(StudyTimeMonitorResponse.StudentCurrentStatus status) {
+        StudyTimeMonitorResponse response = new StudyTimeMonitorResponse();
+        response.setDate(LocalDate.now());
+        response.setStudents(new ArrayList<>(List.of(createStudent(1L, status), createStudent(2L, status))));
+        return response;
+    }
+
+    private StudyTimeMonitorResponse.StudentStudyInfo createStudent(Long studentId,
+                                                                    StudyTimeMonitorResponse.StudentCurrentStatus status) {
+        StudyTimeMonitorResponse.StudentStudyInfo info = new StudyTimeMonitorResponse.StudentStudyInfo();
+        info.setStudentId(studentId);
+        info.setStudentName("학생" + studentId);
+        info.setStatus(status);
+        info.setGuardians(new ArrayList<>());
+        info.setAssignedStudyTimes(new ArrayList<>());
+        info.setUnassignedActualStudyTimes(new ArrayList<>());
+        return info;
+    }
+}
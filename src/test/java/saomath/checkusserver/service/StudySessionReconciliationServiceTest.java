@@ -0,0 +1,166 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.studyTime.domain.Activity;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.repository.ActivityRepository;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
+import saomath.checkusserver.studyTime.service.StudySessionReconciliationService;
+import saomath.checkusserver.util.TestDataFactory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("StudySessionReconciliationService 테스트")
+class StudySessionReconciliationServiceTest {
+
+    @Autowired
+    private StudySessionReconciliationService reconciliationService;
+
+    @Autowired
+    private OpenSessionRegistry openSessionRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActualStudyTimeRepository actualStudyTimeRepository;
+
+    @Autowired
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    private User present;
+    private User absent;
+    private User newcomer;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        present = userRepository.save(TestDataFactory.createStudent("reconcilePresent", "접속 유지", "01022220001"));
+        absent = userRepository.save(TestDataFactory.createStudent("reconcileAbsent", "비정상 종료", "01022220002"));
+        newcomer = userRepository.save(TestDataFactory.createStudent("reconcileNew", "재시작 중 입장", "01022220003"));
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("채널에 없는 학생의 열린 세션은 종료하고, 세션 없이 접속 중인 학생은 세션을 시작")
+    void reconcile_ClosesStaleAndOpensMissing() {
+        // given
+        ActualStudyTime kept = openSession(present, now.minusHours(1));
+        ActualStudyTime stale = openSession(absent, now.minusHours(3));
+
+        // when
+        StudySessionReconciliationService.Result result =
+                reconciliationService.reconcile(Set.of(present.getId(), newcomer.getId()), now);
+
+        // then
+        // 다른 테스트가 남긴 열린 세션도 함께 종료될 수 있음
+        assertThat(result.closed()).isGreaterThanOrEqualTo(1);
+        assertThat(result.opened()).isEqualTo(1);
+        assertThat(result.kept()).isEqualTo(1);
+
+        // 배정 없는 세션은 서버가 내려가 있던 시간을 인정하지 않도록 시작 시각으로 닫음
+        assertThat(actualStudyTimeRepository.findById(stale.getId()).orElseThrow().getEndTime())
+                .isEqualTo(stale.getStartTime());
+        assertThat(actualStudyTimeRepository.findById(kept.getId()).orElseThrow().getEndTime()).isNull();
+
+        List<ActualStudyTime> opened = actualStudyTimeRepository
+                .findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(newcomer.getId());
+        assertThat(opened).hasSize(1);
+        assertThat(opened.get(0).getStartTime()).isEqualTo(now);
+        assertThat(opened.get(0).getSource()).isEqualTo("discord");
+
+        // 진행 중 세션 레지스트리도 이벤트로 함께 갱신
+        assertThat(openSessionRegistry.getOpenSessionIds(newcomer.getId())).hasValue(List.of(opened.get(0).getId()));
+        assertThat(openSessionRegistry.getOpenSessionIds(absent.getId())).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("배정에 연결된 남은 세션은 재시작 시각이 아니라 배정 종료 시각으로 닫음")
+    void reconcile_ClosesAssignedStaleSessionAtAssignmentEnd() {
+        // given: 21:00-23:00 배정 중 접속했다가 밤사이 서버가 내려감
+        User teacher = userRepository.save(TestDataFactory.createTeacher("reconcileTeacher", "배정 선생님", "01022220004"));
+        Activity activity = activityRepository.save(TestDataFactory.createActivity("재시작 활동", true));
+        LocalDateTime assignmentStart = now.minusHours(12);
+        AssignedStudyTime assignment = assignedStudyTimeRepository.save(AssignedStudyTime.builder()
+                .title("야간 자습")
+                .studentId(absent.getId())
+                .activityId(activity.getId())
+                .startTime(assignmentStart)
+                .endTime(assignmentStart.plusHours(2))
+                .assignedBy(teacher.getId())
+                .build());
+        ActualStudyTime stale = actualStudyTimeRepository.save(ActualStudyTime.builder()
+                .studentId(absent.getId())
+                .assignedStudyTimeId(assignment.getId())
+                .startTime(assignmentStart.plusMinutes(5))
+                .source("discord")
+                .build());
+
+        // when
+        reconciliationService.reconcile(Set.of(), now);
+
+        // then
+        assertThat(actualStudyTimeRepository.findById(stale.getId()).orElseThrow().getEndTime())
+                .isEqualTo(assignment.getEndTime());
+    }
+
+    @Test
+    @DisplayName("채널을 훑은 뒤 처리된 입장으로 열린 세션은 닫지 않음")
+    void reconcile_KeepsSessionOpenedAfterScan() {
+        // given: 훑을 때는 없었지만 그 뒤 입장 이벤트로 세션이 열림
+        ActualStudyTime joined = openSession(absent, now.plusSeconds(1));
+
+        // when
+        reconciliationService.reconcile(Set.of(), now);
+
+        // then
+        assertThat(actualStudyTimeRepository.findById(joined.getId()).orElseThrow().getEndTime()).isNull();
+    }
+
+    @Test
+    @DisplayName("다시 실행해도 이미 맞춰진 상태는 바꾸지 않음")
+    void reconcile_Idempotent() {
+        // given
+        reconciliationService.reconcile(Set.of(newcomer.getId()), now);
+
+        // when
+        StudySessionReconciliationService.Result second =
+                reconciliationService.reconcile(Set.of(newcomer.getId()), now.plusMinutes(1));
+
+        // then
+        assertThat(second.opened()).isZero();
+        assertThat(second.kept()).isEqualTo(1);
+        assertThat(actualStudyTimeRepository.findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(newcomer.getId()))
+                .hasSize(1);
+    }
+
+    private ActualStudyTime openSession(User student, LocalDateTime startTime) {
+        return actualStudyTimeRepository.save(ActualStudyTime.builder()
+                .studentId(student.getId())
+                .startTime(startTime)
+                .source("discord")
+                .build());
+    }
+}
@@ -0,0 +1,146 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.classroom.domain.ClassEntity;
+import saomath.checkusserver.classroom.domain.StudentClass;
+import saomath.checkusserver.classroom.repository.ClassRepository;
+import saomath.checkusserver.classroom.repository.StudentClassRepository;
+import saomath.checkusserver.common.exception.BusinessException;
+import saomath.checkusserver.studyTime.domain.Activity;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.dto.AssignStudyTimeRequest;
+import saomath.checkusserver.studyTime.repository.ActivityRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.util.TestDataFactory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("StudyTimeService 대량 배정 테스트")
+class StudyTimeServiceBulkAssignTest {
+
+    private static final int CLASS_SIZE = 5;
+
+    @Autowired
+    private StudyTimeService studyTimeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ClassRepository classRepository;
+
+    @Autowired
+    private StudentClassRepository studentClassRepository;
+
+    @Autowired
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    private User teacher;
+    private Activity activity;
+    private ClassEntity classEntity;
+    private final List<User> students = new ArrayList<>();
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(TestDataFactory.createTeacher("bulkTeacher", "선생님", "01000000000"));
+        activity = activityRepository.save(Activity.builder().name("대량 배정 자습").isStudyAssignable(true).build());
+        classEntity = classRepository.save(ClassEntity.builder().name("대량 배정반").build());
+
+        for (int i = 0; i < CLASS_SIZE; i++) {
+            User student = userRepository.save(
+                    TestDataFactory.createStudent("bulkStudent" + i, "학생" + i, "0101111000" + i));
+            students.add(student);
+            studentClassRepository.save(StudentClass.builder()
+                    .id(new StudentClass.StudentClassId(student.getId(), classEntity.getId()))
+                    .student(student)
+                    .classEntity(classEntity)
+                    .build());
+        }
+        startTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    @Test
+    @DisplayName("반 전체 배정 시 모든 학생에게 ID가 채워진 배정이 저장됨")
+    void assignStudyTimeToClass_Success() {
+        // when
+        List<AssignedStudyTime> result = studyTimeService.assignStudyTimeToClass(
+                classEntity.getId(), "반 자습", activity.getId(), startTime, startTime.plusHours(2), teacher.getId());
+
+        // then
+        assertThat(result).hasSize(CLASS_SIZE);
+        assertThat(result).allSatisfy(assigned -> {
+            assertThat(assigned.getId()).isNotNull();
+            assertThat(assigned.getStudent()).isNotNull();
+            assertThat(assigned.getActivity().getName()).isEqualTo("대량 배정 자습");
+        });
+        for (User student : students) {
+            assertThat(assignedStudyTimeRepository.findOverlappingStudyTimes(
+                    student.getId(), startTime, startTime.plusHours(2))).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("한 건이라도 기존 배정과 겹치면 아무것도 배정하지 않음")
+    void assignStudyTimes_OverlapRejectsAll() {
+        // given: 마지막 학생은 이미 같은 시간에 배정됨
+        User busy = students.get(CLASS_SIZE - 1);
+        studyTimeService.assignStudyTime(busy.getId(), "기존 일정", activity.getId(),
+                startTime.plusMinutes(30), startTime.plusHours(1), teacher.getId());
+
+        List<AssignStudyTimeRequest> items = students.stream()
+                .map(student -> item(student.getId(), startTime, startTime.plusHours(2)))
+                .toList();
+
+        // when & then
+        assertThatThrownBy(() -> studyTimeService.assignStudyTimes(items, teacher.getId()))
+                .isInstanceOf(BusinessException.class);
+        assertThat(assignedStudyTimeRepository.findOverlappingStudyTimes(
+                students.get(0).getId(), startTime, startTime.plusHours(2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서 한 학생의 시간이 서로 겹치면 거부")
+    void assignStudyTimes_OverlapWithinRequest() {
+        // given
+        Long studentId = students.get(0).getId();
+        List<AssignStudyTimeRequest> items = List.of(
+                item(studentId, startTime, startTime.plusHours(1)),
+                item(studentId, startTime.plusMinutes(30), startTime.plusHours(2)));
+
+        // when & then
+        assertThatThrownBy(() -> studyTimeService.assignStudyTimes(items, teacher.getId()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private AssignStudyTimeRequest item(Long studentId, LocalDateTime start, LocalDateTime end) {
+        AssignStudyTimeRequest item = new AssignStudyTimeRequest();
+        item.setStudentId(studentId);
+        item.setTitle("자습");
+        item.setActivityId(activity.getId());
+        item.setStartTime(start);
+        item.setEndTime(end);
+        return item;
+    }
+}
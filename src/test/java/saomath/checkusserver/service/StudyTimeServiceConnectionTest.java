@@ -15,6 +15,7 @@ import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
 import saomath.checkusserver.util.TestDataFactory;
 
 import java.time.LocalDateTime;
@@ -42,6 +43,9 @@ public class StudyTimeServiceConnectionTest {
     @Autowired
     private AssignedStudyTimeRepository assignedStudyTimeRepository;
 
+    @Autowired
+    private OpenSessionRegistry openSessionRegistry;
+
     @Test
     @DisplayName("할당 시점에 기존 접속중인 세션이 자동으로 연결되지 않아야 한다")
     void shouldNotAutoConnectExistingSessionsWhenAssigning() {
@@ -49,6 +53,8 @@ public class StudyTimeServiceConnectionTest {
         User student = TestDataFactory.createStudent("student1", "학생1", "01012345678");
         User teacher = TestDataFactory.createTeacher("teacher1", "선생님1", "01087654321");
         student = userRepository.save(student);
+        // 진행 중 세션을 저장소로 직접 만들므로 레지스트리가 DB에서 다시 확인하도록 표시
+        openSessionRegistry.evict(student.getId());
         teacher = userRepository.save(teacher);
 
         Activity activity = Activity.builder()
@@ -116,6 +122,8 @@ public class StudyTimeServiceConnectionTest {
         User student = TestDataFactory.createStudent("student2", "학생2", "01012345679");
         User teacher = TestDataFactory.createTeacher("teacher2", "선생님2", "01087654322");
         student = userRepository.save(student);
+        // 진행 중 세션을 저장소로 직접 만들므로 레지스트리가 DB에서 다시 확인하도록 표시
+        openSessionRegistry.evict(student.getId());
         teacher = userRepository.save(teacher);
 
         Activity activity = Activity.builder()
@@ -169,6 +177,8 @@ public class StudyTimeServiceConnectionTest {
         User student = TestDataFactory.createStudent("student3", "학생3", "01012345680");
         User teacher = TestDataFactory.createTeacher("teacher3", "선생님3", "01087654323");
         student = userRepository.save(student);
+        // 진행 중 세션을 저장소로 직접 만들므로 레지스트리가 DB에서 다시 확인하도록 표시
+        openSessionRegistry.evict(student.getId());
         teacher = userRepository.save(teacher);
 
         Activity activity = Activity.builder()
@@ -216,6 +226,8 @@ public class StudyTimeServiceConnectionTest {
         User student = TestDataFactory.createStudent("student4", "학생4", "01012345681");
         User teacher = TestDataFactory.createTeacher("teacher4", "선생님4", "01087654324");
         student = userRepository.save(student);
+        // 진행 중 세션을 저장소로 직접 만들므로 레지스트리가 DB에서 다시 확인하도록 표시
+        openSessionRegistry.evict(student.getId());
         teacher = userRepository.save(teacher);
 
         Activity activity = Activity.builder()
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.studyTime.dto.StudyTimeMonitorResponse;
@@ -15,6 +16,7 @@ import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.studyTime.repository.ActivityRepository;
 import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
 import saomath.checkusserver.user.domain.StudentGuardian;
 import saomath.checkusserver.user.repository.StudentGuardianRepository;
@@ -52,6 +54,12 @@ class StudyTimeServiceMonitorTest {
     @Mock
     private StudentProfileRepository studentProfileRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OpenSessionRegistry openSessionRegistry;
+
     @InjectMocks
     private StudyTimeService studyTimeService;
 
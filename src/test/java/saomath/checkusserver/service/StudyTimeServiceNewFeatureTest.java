@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.studyTime.domain.ActualStudyTime;
 import saomath.checkusserver.common.exception.ResourceNotFoundException;
@@ -13,6 +14,8 @@ import saomath.checkusserver.studyTime.repository.ActivityRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.studyTime.service.AssignmentIntervalIndex;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
 
 import java.time.LocalDateTime;
@@ -40,6 +43,15 @@ class StudyTimeServiceNewFeatureTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OpenSessionRegistry openSessionRegistry;
+
+    @Mock
+    private AssignmentIntervalIndex assignmentIntervalIndex;
+
     @InjectMocks
     private StudyTimeService studyTimeService;
 
@@ -69,7 +81,7 @@ class StudyTimeServiceNewFeatureTest {
                 .build();
 
         when(userRepository.existsById(studentId)).thenReturn(true);
-        when(assignedStudyTimeRepository.findByStudentIdAndTimeRange(studentId, startTime))
+        when(assignmentIntervalIndex.findContaining(studentId, startTime))
                 .thenReturn(assignedList);
         when(actualStudyTimeRepository.save(any(ActualStudyTime.class))).thenReturn(expectedResult);
 
@@ -84,7 +96,7 @@ class StudyTimeServiceNewFeatureTest {
         assertEquals(source, result.getSource());
 
         verify(userRepository).existsById(studentId);
-        verify(assignedStudyTimeRepository).findByStudentIdAndTimeRange(studentId, startTime);
+        verify(assignmentIntervalIndex).findContaining(studentId, startTime);
         verify(actualStudyTimeRepository).save(any(ActualStudyTime.class));
     }
 
@@ -104,7 +116,7 @@ class StudyTimeServiceNewFeatureTest {
                 .build();
 
         when(userRepository.existsById(studentId)).thenReturn(true);
-        when(assignedStudyTimeRepository.findByStudentIdAndTimeRange(studentId, startTime))
+        when(assignmentIntervalIndex.findContaining(studentId, startTime))
                 .thenReturn(new ArrayList<>());
         when(actualStudyTimeRepository.save(any(ActualStudyTime.class))).thenReturn(expectedResult);
 
@@ -119,7 +131,7 @@ class StudyTimeServiceNewFeatureTest {
         assertEquals(source, result.getSource());
 
         verify(userRepository).existsById(studentId);
-        verify(assignedStudyTimeRepository).findByStudentIdAndTimeRange(studentId, startTime);
+        verify(assignmentIntervalIndex).findContaining(studentId, startTime);
         verify(actualStudyTimeRepository).save(any(ActualStudyTime.class));
     }
 
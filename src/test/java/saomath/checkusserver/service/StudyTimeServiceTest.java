@@ -6,6 +6,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
 import saomath.checkusserver.studyTime.domain.Activity;
 import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
 import saomath.checkusserver.studyTime.domain.ActualStudyTime;
@@ -14,7 +16,11 @@ import saomath.checkusserver.studyTime.repository.ActivityRepository;
 import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
 import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.studyTime.event.AssignedStudyTimeChangedEvent;
+import saomath.checkusserver.studyTime.service.AssignmentIntervalIndex;
+import saomath.checkusserver.studyTime.service.OpenSessionRegistry;
 import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.weeklySchedule.repository.WeeklyScheduleSkippedSlotRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -41,6 +47,21 @@ class StudyTimeServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OpenSessionRegistry openSessionRegistry;
+
+    @Mock
+    private AssignmentIntervalIndex assignmentIntervalIndex;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private WeeklyScheduleSkippedSlotRepository weeklyScheduleSkippedSlotRepository;
+
     @InjectMocks
     private StudyTimeService studyTimeService;
 
@@ -72,7 +93,7 @@ class StudyTimeServiceTest {
 
         when(userRepository.existsById(studentId)).thenReturn(true);
         when(userRepository.existsById(teacherId)).thenReturn(true);
-        when(activityRepository.findById(activityId)).thenReturn(Optional.of(activity));
+        when(referenceDataCache.findActivity(activityId)).thenReturn(Optional.of(activity));
         when(assignedStudyTimeRepository.findOverlappingStudyTimes(studentId, startTime, endTime))
                 .thenReturn(new ArrayList<>());
         when(assignedStudyTimeRepository.save(any(AssignedStudyTime.class))).thenReturn(expectedResult);
@@ -91,7 +112,7 @@ class StudyTimeServiceTest {
 
         verify(userRepository).existsById(studentId);
         verify(userRepository).existsById(teacherId);
-        verify(activityRepository).findById(activityId);
+        verify(referenceDataCache).findActivity(activityId);
         verify(assignedStudyTimeRepository).findOverlappingStudyTimes(studentId, startTime, endTime);
         verify(assignedStudyTimeRepository).save(any(AssignedStudyTime.class));
         
@@ -122,7 +143,7 @@ class StudyTimeServiceTest {
 
         when(userRepository.existsById(studentId)).thenReturn(true);
         when(userRepository.existsById(teacherId)).thenReturn(true);
-        when(activityRepository.findById(activityId)).thenReturn(Optional.of(activity));
+        when(referenceDataCache.findActivity(activityId)).thenReturn(Optional.of(activity));
         when(assignedStudyTimeRepository.findOverlappingStudyTimes(studentId, startTime, endTime))
                 .thenReturn(overlappingTimes);
 
@@ -139,14 +160,52 @@ class StudyTimeServiceTest {
     void deleteAssignedStudyTime_Success() {
         // Given
         Long assignedId = 1L;
-        when(assignedStudyTimeRepository.existsById(assignedId)).thenReturn(true);
+        AssignedStudyTime existing = AssignedStudyTime.builder()
+                .id(assignedId)
+                .studentId(1L)
+                .title("수학 공부")
+                .activityId(1L)
+                .startTime(LocalDateTime.now().plusHours(1))
+                .endTime(LocalDateTime.now().plusHours(3))
+                .assignedBy(2L)
+                .build();
+        when(assignedStudyTimeRepository.findById(assignedId)).thenReturn(Optional.of(existing));
 
         // When
         studyTimeService.deleteAssignedStudyTime(assignedId);
 
         // Then
-        verify(assignedStudyTimeRepository).existsById(assignedId);
+        verify(assignedStudyTimeRepository).findById(assignedId);
         verify(assignedStudyTimeRepository).deleteById(assignedId);
+        verify(eventPublisher).publishEvent(any(AssignedStudyTimeChangedEvent.class));
+        verifyNoInteractions(weeklyScheduleSkippedSlotRepository);
+    }
+
+    @Test
+    @DisplayName("주간 시간표에서 생성된 배정을 삭제하면 같은 칸을 다시 생성하지 않도록 기록")
+    void deleteAssignedStudyTime_MaterializedRecordsSkippedSlot() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        AssignedStudyTime existing = AssignedStudyTime.builder()
+                .id(1L)
+                .studentId(1L)
+                .title("자습")
+                .activityId(1L)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .assignedBy(2L)
+                .weeklyScheduleId(10L)
+                .build();
+        when(assignedStudyTimeRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(weeklyScheduleSkippedSlotRepository.existsByWeeklyScheduleIdAndStartTime(10L, startTime)).thenReturn(false);
+
+        // When
+        studyTimeService.deleteAssignedStudyTime(1L);
+
+        // Then
+        verify(weeklyScheduleSkippedSlotRepository).save(argThat(slot ->
+                slot.getWeeklyScheduleId().equals(10L) && slot.getStartTime().equals(startTime)));
+        verify(assignedStudyTimeRepository).deleteById(1L);
     }
 
     @Test
@@ -227,7 +286,7 @@ class StudyTimeServiceTest {
                 .build();
 
         when(userRepository.existsById(studentId)).thenReturn(true);
-        when(assignedStudyTimeRepository.findByStudentIdAndTimeRange(studentId, startTime))
+        when(assignmentIntervalIndex.findContaining(studentId, startTime))
                 .thenReturn(assignedList);
         when(actualStudyTimeRepository.save(any(ActualStudyTime.class))).thenReturn(expectedResult);
 
@@ -242,7 +301,7 @@ class StudyTimeServiceTest {
         assertEquals(source, result.getSource());
 
         verify(userRepository).existsById(studentId);
-        verify(assignedStudyTimeRepository).findByStudentIdAndTimeRange(studentId, startTime);
+        verify(assignmentIntervalIndex).findContaining(studentId, startTime);
         verify(actualStudyTimeRepository).save(any(ActualStudyTime.class));
     }
 
@@ -262,7 +321,7 @@ class StudyTimeServiceTest {
                 .build();
 
         when(userRepository.existsById(studentId)).thenReturn(true);
-        when(assignedStudyTimeRepository.findByStudentIdAndTimeRange(studentId, startTime))
+        when(assignmentIntervalIndex.findContaining(studentId, startTime))
                 .thenReturn(new ArrayList<>());
         when(actualStudyTimeRepository.save(any(ActualStudyTime.class))).thenReturn(expectedResult);
 
@@ -277,7 +336,7 @@ class StudyTimeServiceTest {
         assertEquals(source, result.getSource());
 
         verify(userRepository).existsById(studentId);
-        verify(assignedStudyTimeRepository).findByStudentIdAndTimeRange(studentId, startTime);
+        verify(assignmentIntervalIndex).findContaining(studentId, startTime);
         verify(actualStudyTimeRepository).save(any(ActualStudyTime.class));
     }
 
@@ -370,6 +429,103 @@ class StudyTimeServiceTest {
         verify(actualStudyTimeRepository, never()).save(any(ActualStudyTime.class));
     }
 
+    @Test
+    @DisplayName("퇴장 처리 - 레지스트리에 진행 중 세션이 있으면 진행 중 세션 쿼리 없이 종료")
+    void recordStudyEndByStudentId_UsesRegistry() {
+        // Given
+        Long studentId = 10L;
+        LocalDateTime endTime = LocalDateTime.now();
+        ActualStudyTime ongoingSession = ActualStudyTime.builder()
+                .id(100L)
+                .studentId(studentId)
+                .startTime(endTime.minusHours(1))
+                .source("discord")
+                .build();
+
+        when(userRepository.existsById(studentId)).thenReturn(true);
+        when(openSessionRegistry.getOpenSessionIds(studentId)).thenReturn(Optional.of(List.of(100L)));
+        when(actualStudyTimeRepository.findAllById(List.of(100L))).thenReturn(List.of(ongoingSession));
+        when(actualStudyTimeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<ActualStudyTime> result = studyTimeService.recordStudyEndByStudentId(studentId, endTime);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(endTime, result.get(0).getEndTime());
+        verify(actualStudyTimeRepository, never()).findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(any());
+    }
+
+    @Test
+    @DisplayName("진행 중 세션 확인 - 레지스트리가 세션 없음을 알면 DB를 조회하지 않음")
+    void hasOngoingSession_KnownNoneSkipsDb() {
+        // Given
+        Long studentId = 10L;
+        when(openSessionRegistry.getOpenSessionIds(studentId)).thenReturn(Optional.of(List.of()));
+
+        // When & Then
+        assertFalse(studyTimeService.hasOngoingSession(studentId));
+        verify(actualStudyTimeRepository, never()).findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(any());
+        verify(actualStudyTimeRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("퇴장 처리 - 레지스트리의 세션이 이미 종료되었으면 DB 기준으로 다시 조회")
+    void recordStudyEndByStudentId_RegistryDrift() {
+        // Given
+        Long studentId = 10L;
+        LocalDateTime endTime = LocalDateTime.now();
+        ActualStudyTime alreadyEnded = ActualStudyTime.builder()
+                .id(100L)
+                .studentId(studentId)
+                .startTime(endTime.minusHours(2))
+                .endTime(endTime.minusHours(1))
+                .build();
+
+        when(userRepository.existsById(studentId)).thenReturn(true);
+        when(openSessionRegistry.getOpenSessionIds(studentId)).thenReturn(Optional.of(List.of(100L)));
+        when(actualStudyTimeRepository.findAllById(List.of(100L))).thenReturn(List.of(alreadyEnded));
+        when(actualStudyTimeRepository.findByStudentIdAndEndTimeIsNullOrderByStartTimeDesc(studentId))
+                .thenReturn(new ArrayList<>());
+
+        // When
+        List<ActualStudyTime> result = studyTimeService.recordStudyEndByStudentId(studentId, endTime);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(openSessionRegistry).replace(studentId, new ArrayList<>());
+        verify(actualStudyTimeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("퇴장 처리 - 보류된 퇴장이 배정 시작으로 새로 열린 세션보다 이르면 종료 시각을 세션 시작으로 맞춤")
+    void recordStudyEndByStudentId_LeaveBeforeStartBoundary() {
+        // Given: 09:59:45 퇴장이 보류된 사이 10:00 배정 시작으로 세션이 나뉨
+        Long studentId = 10L;
+        LocalDateTime assignmentStart = LocalDateTime.of(2025, 6, 2, 10, 0);
+        LocalDateTime leaveTime = assignmentStart.minusSeconds(15);
+        ActualStudyTime splitSession = ActualStudyTime.builder()
+                .id(101L)
+                .studentId(studentId)
+                .assignedStudyTimeId(5L)
+                .startTime(assignmentStart)
+                .source("discord")
+                .build();
+
+        when(userRepository.existsById(studentId)).thenReturn(true);
+        when(openSessionRegistry.getOpenSessionIds(studentId)).thenReturn(Optional.of(List.of(101L)));
+        when(actualStudyTimeRepository.findAllById(List.of(101L))).thenReturn(List.of(splitSession));
+        when(actualStudyTimeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<ActualStudyTime> result = studyTimeService.recordStudyEndByStudentId(studentId, leaveTime);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(assignmentStart, result.get(0).getEndTime());
+        assertFalse(result.get(0).getEndTime().isBefore(result.get(0).getStartTime()));
+    }
+
     @Test
     @DisplayName("공부 배정 가능한 활동 목록 조회 성공")
     void getStudyAssignableActivities_Success() {
@@ -0,0 +1,319 @@
+package saomath.checkusserver.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import saomath.checkusserver.auth.domain.User;
+import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.studyTime.domain.Activity;
+import saomath.checkusserver.studyTime.domain.ActualStudyTime;
+import saomath.checkusserver.studyTime.domain.AssignedStudyTime;
+import saomath.checkusserver.studyTime.repository.ActivityRepository;
+import saomath.checkusserver.studyTime.repository.ActualStudyTimeRepository;
+import saomath.checkusserver.studyTime.repository.AssignedStudyTimeRepository;
+import saomath.checkusserver.studyTime.service.StudyTimeService;
+import saomath.checkusserver.util.TestDataFactory;
+import saomath.checkusserver.weeklySchedule.domain.WeeklySchedule;
+import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleMaterializeResponse;
+import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleRequest;
+import saomath.checkusserver.weeklySchedule.repository.WeeklyScheduleRepository;
+import saomath.checkusserver.weeklySchedule.repository.WeeklyScheduleSkippedSlotRepository;
+import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleMaterializationService;
+import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("WeeklyScheduleMaterializationService 테스트")
+class WeeklyScheduleMaterializationServiceTest {
+
+    @Autowired
+    private WeeklyScheduleMaterializationService materializationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private WeeklyScheduleRepository weeklyScheduleRepository;
+
+    @Autowired
+    private AssignedStudyTimeRepository assignedStudyTimeRepository;
+
+    @Autowired
+    private ActualStudyTimeRepository actualStudyTimeRepository;
+
+    @Autowired
+    private WeeklyScheduleSkippedSlotRepository skippedSlotRepository;
+
+    @Autowired
+    private StudyTimeService studyTimeService;
+
+    @Autowired
+    private WeeklyScheduleService weeklyScheduleService;
+
+    private User teacher;
+    private User student;
+    private Activity studyActivity;
+    private Activity academy;
+    private WeeklySchedule mondayStudy;
+    private LocalDate startDate;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(TestDataFactory.createTeacher("materializeTeacher", "선생님", "01000000001"));
+        student = userRepository.save(TestDataFactory.createStudent("materializeStudent", "학생", "01000000002"));
+        studyActivity = activityRepository.save(Activity.builder().name("자습").isStudyAssignable(true).build());
+        academy = activityRepository.save(Activity.builder().name("학원").isStudyAssignable(false).build());
+
+        // 월/수 자습, 화 학원 (학원은 배정 대상 아님)
+        mondayStudy = saveSchedule(1, studyActivity, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        saveSchedule(3, studyActivity, LocalTime.of(14, 0), LocalTime.of(16, 0));
+        saveSchedule(2, academy, LocalTime.of(18, 0), LocalTime.of(20, 0));
+
+        // 내일부터 7일 (요일마다 정확히 한 번)
+        startDate = LocalDate.now().plusDays(1);
+    }
+
+    @Test
+    @DisplayName("공부 배정 가능한 시간표만 실제 날짜로 생성")
+    void materialize_CreatesStudyAssignableSlots() {
+        // when
+        WeeklyScheduleMaterializeResponse result = materializationService.materialize(startDate, 7, teacher.getId());
+
+        // then
+        assertThat(result.getCreated()).isEqualTo(2);
+        List<AssignedStudyTime> assigned = assignedStudyTimeRepository.findByStudentIdAndStartTimeBetween(
+                student.getId(), startDate.atStartOfDay(), startDate.plusDays(7).atStartOfDay());
+        assertThat(assigned).hasSize(2);
+        assertThat(assigned).allSatisfy(a -> {
+            assertThat(a.getWeeklyScheduleId()).isNotNull();
+            assertThat(a.getActivityId()).isEqualTo(studyActivity.getId());
+            assertThat(a.getAssignedBy()).isEqualTo(teacher.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("다시 실행해도 중복 생성하지 않음")
+    void materialize_Idempotent() {
+        // given
+        materializationService.materialize(startDate, 7, teacher.getId());
+
+        // when
+        WeeklyScheduleMaterializeResponse second = materializationService.materialize(startDate, 7, teacher.getId());
+
+        // then
+        assertThat(second.getCreated()).isZero();
+        assertThat(second.getSkippedExisting()).isEqualTo(2);
+        assertThat(assignedStudyTimeRepository.findByStudentIdAndStartTimeBetween(
+                student.getId(), startDate.atStartOfDay(), startDate.plusDays(7).atStartOfDay())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("직접 배정된 공부 시간과 겹치는 칸은 건너뜀")
+    void materialize_SkipsConflicts() {
+        // given: 기간 안의 월요일 9시 반에 직접 배정
+        LocalDate monday = startDate;
+        while (monday.getDayOfWeek().getValue() != 1) {
+            monday = monday.plusDays(1);
+        }
+        assignedStudyTimeRepository.save(AssignedStudyTime.builder()
+                .studentId(student.getId())
+                .title("직접 배정")
+                .activityId(studyActivity.getId())
+                .startTime(LocalDateTime.of(monday, LocalTime.of(9, 30)))
+                .endTime(LocalDateTime.of(monday, LocalTime.of(11, 0)))
+                .assignedBy(teacher.getId())
+                .build());
+
+        // when
+        WeeklyScheduleMaterializeResponse result = materializationService.materialize(startDate, 7, teacher.getId());
+
+        // then
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getSkippedConflicts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선생님이 삭제하거나 수정한 칸은 다시 생성하지 않음")
+    void materialize_SkipsTeacherChangedSlots() {
+        // given
+        materializationService.materialize(startDate, 7, teacher.getId());
+        List<AssignedStudyTime> assigned = findAssigned();
+        AssignedStudyTime deleted = assigned.get(0);
+        AssignedStudyTime moved = assigned.get(1);
+        studyTimeService.deleteAssignedStudyTime(deleted.getId());
+        studyTimeService.updateAssignedStudyTime(moved.getId(), null, null,
+                moved.getStartTime().plusHours(5), moved.getEndTime().plusHours(5));
+
+        // when
+        WeeklyScheduleMaterializeResponse result = materializationService.materialize(startDate, 7, teacher.getId());
+
+        // then
+        assertThat(result.getCreated()).isZero();
+        assertThat(result.getSkippedExisting()).isEqualTo(2);
+        List<AssignedStudyTime> remaining = findAssigned();
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getWeeklyScheduleId()).isNull();
+    }
+
+    @Test
+    @DisplayName("시간표가 바뀌면 아직 시작하지 않은 생성 배정을 새 시간으로 다시 만듦")
+    void refreshUpcoming_MovesMaterializedSlots() {
+        // given
+        materializationService.materialize(startDate, 7, teacher.getId());
+        mondayStudy.setStartTime(LocalTime.of(11, 0));
+        mondayStudy.setEndTime(LocalTime.of(12, 0));
+        weeklyScheduleRepository.save(mondayStudy);
+
+        // when
+        materializationService.refreshUpcoming(mondayStudy.getId());
+
+        // then
+        List<AssignedStudyTime> monday = findMonday();
+        assertThat(monday).hasSize(1);
+        assertThat(monday.get(0).getStartTime().toLocalTime()).isEqualTo(LocalTime.of(11, 0));
+        assertThat(monday.get(0).getAssignedBy()).isEqualTo(teacher.getId());
+        assertThat(findAssigned()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("시간표 수정 API로 시간을 바꾸면 생성 배정이 따라 옮겨짐")
+    void updateWeeklySchedule_MovesMaterializedSlots() {
+        // given
+        materializationService.materialize(startDate, 7, teacher.getId());
+
+        // when
+        weeklyScheduleService.updateWeeklySchedule(mondayStudy.getId(), new WeeklyScheduleRequest(
+                student.getId(), studyActivity.getName(), studyActivity.getId(), 1,
+                LocalTime.of(11, 0), LocalTime.of(12, 0)));
+
+        // then
+        List<AssignedStudyTime> monday = findMonday();
+        assertThat(monday).hasSize(1);
+        assertThat(monday.get(0).getStartTime().toLocalTime()).isEqualTo(LocalTime.of(11, 0));
+        assertThat(monday.get(0).getEndTime().toLocalTime()).isEqualTo(LocalTime.of(12, 0));
+    }
+
+    @Test
+    @DisplayName("시간표를 공부 배정 대상이 아닌 활동으로 바꾸면 생성 배정은 지우기만 함")
+    void updateWeeklySchedule_NonStudyActivityRemovesSlots() {
+        // given
+        materializationService.materialize(startDate, 7, teacher.getId());
+
+        // when
+        weeklyScheduleService.updateWeeklySchedule(mondayStudy.getId(), new WeeklyScheduleRequest(
+                student.getId(), academy.getName(), academy.getId(), 1,
+                LocalTime.of(9, 0), LocalTime.of(10, 0)));
+
+        // then
+        assertThat(findMonday()).isEmpty();
+        assertThat(findAssigned()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("출석 기록이 연결된 생성 배정은 시간표를 수정해도 그대로 둠")
+    void updateWeeklySchedule_KeepsAttendedSlots() {
+        // given
+        materializationService.materialize(startDate, 7, teacher.getId());
+        AssignedStudyTime attended = findMonday().get(0);
+        linkAttendance(attended);
+
+        // when
+        weeklyScheduleService.updateWeeklySchedule(mondayStudy.getId(), new WeeklyScheduleRequest(
+                student.getId(), studyActivity.getName(), studyActivity.getId(), 1,
+                LocalTime.of(11, 0), LocalTime.of(12, 0)));
+
+        // then
+        List<AssignedStudyTime> monday = findMonday();
+        assertThat(monday).hasSize(1);
+        assertThat(monday.get(0).getId()).isEqualTo(attended.getId());
+        assertThat(monday.get(0).getStartTime().toLocalTime()).isEqualTo(LocalTime.of(9, 0));
+    }
+
+    @Test
+    @DisplayName("시간표가 삭제되면 아직 시작하지 않은 생성 배정도 지움")
+    void discardUpcoming_RemovesMaterializedSlots() {
+        // given
+        materializationService.materialize(startDate, 7, teacher.getId());
+
+        // when
+        materializationService.discardUpcoming(mondayStudy.getId());
+
+        // then
+        assertThat(findAssigned())
+                .hasSize(1)
+                .noneMatch(a -> mondayStudy.getId().equals(a.getWeeklyScheduleId()));
+    }
+
+    @Test
+    @DisplayName("시간표 삭제 API는 생성 배정과 건너뛸 칸 기록을 지우고, 출석 기록이 연결된 배정은 남김")
+    void deleteWeeklySchedule_RemovesUpcomingAndSkippedSlots() {
+        // given: 수요일 칸은 선생님이 삭제, 월요일 칸은 출석 기록 연결
+        materializationService.materialize(startDate, 7, teacher.getId());
+        Long wednesdayScheduleId = findAssigned().stream()
+                .filter(a -> !mondayStudy.getId().equals(a.getWeeklyScheduleId()))
+                .findFirst().orElseThrow().getWeeklyScheduleId();
+        AssignedStudyTime wednesday = findAssigned().stream()
+                .filter(a -> wednesdayScheduleId.equals(a.getWeeklyScheduleId()))
+                .findFirst().orElseThrow();
+        studyTimeService.deleteAssignedStudyTime(wednesday.getId());
+        AssignedStudyTime attended = findMonday().get(0);
+        linkAttendance(attended);
+
+        // when
+        weeklyScheduleService.deleteWeeklySchedule(wednesdayScheduleId);
+        weeklyScheduleService.deleteWeeklySchedule(mondayStudy.getId());
+
+        // then
+        assertThat(findAssigned()).extracting(AssignedStudyTime::getId).containsExactly(attended.getId());
+        assertThat(skippedSlotRepository.existsByWeeklyScheduleIdAndStartTime(
+                wednesdayScheduleId, wednesday.getStartTime())).isFalse();
+        assertThat(weeklyScheduleRepository.findById(wednesdayScheduleId)).isEmpty();
+    }
+
+    private List<AssignedStudyTime> findMonday() {
+        return findAssigned().stream()
+                .filter(a -> mondayStudy.getId().equals(a.getWeeklyScheduleId()))
+                .toList();
+    }
+
+    private void linkAttendance(AssignedStudyTime assigned) {
+        actualStudyTimeRepository.save(ActualStudyTime.builder()
+                .studentId(assigned.getStudentId())
+                .assignedStudyTimeId(assigned.getId())
+                .startTime(assigned.getStartTime())
+                .endTime(assigned.getEndTime())
+                .source("discord")
+                .build());
+    }
+
+    private List<AssignedStudyTime> findAssigned() {
+        return assignedStudyTimeRepository.findByStudentIdAndStartTimeBetween(
+                student.getId(), startDate.atStartOfDay(), startDate.plusDays(7).atStartOfDay());
+    }
+
+    private WeeklySchedule saveSchedule(int dayOfWeek, Activity activity, LocalTime start, LocalTime end) {
+        return weeklyScheduleRepository.save(WeeklySchedule.builder()
+                .studentId(student.getId())
+                .title(activity.getName())
+                .activityId(activity.getId())
+                .dayOfWeek(dayOfWeek)
+                .startTime(start)
+                .endTime(end)
+                .build());
+    }
+}
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import saomath.checkusserver.common.cache.ReferenceDataCache;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.weeklySchedule.dto.WeeklySchedulePeriodResponse;
 import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleRequest;
 import saomath.checkusserver.weeklySchedule.dto.WeeklyScheduleResponse;
@@ -18,6 +20,7 @@ import saomath.checkusserver.common.exception.ResourceNotFoundException;
 import saomath.checkusserver.studyTime.repository.ActivityRepository;
 import saomath.checkusserver.auth.repository.UserRepository;
 import saomath.checkusserver.weeklySchedule.repository.WeeklyScheduleRepository;
+import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleMaterializationService;
 import saomath.checkusserver.weeklySchedule.service.WeeklyScheduleService;
 
 import java.time.LocalDate;
@@ -42,6 +45,15 @@ class WeeklyScheduleServiceTest {
     @Mock
     private ActivityRepository activityRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Mock
+    private WeeklyScheduleMaterializationService materializationService;
+
     @InjectMocks
     private WeeklyScheduleService weeklyScheduleService;
 
@@ -93,7 +105,7 @@ class WeeklyScheduleServiceTest {
         when(userRepository.existsById(1L)).thenReturn(true);
         when(weeklyScheduleRepository.findByStudentIdWithDetails(1L))
                 .thenReturn(Arrays.asList(mockSchedule));
-        when(activityRepository.findById(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
 
         // When
         List<WeeklyScheduleResponse> result = weeklyScheduleService.getWeeklyScheduleByStudent(1L);
@@ -127,14 +139,14 @@ class WeeklyScheduleServiceTest {
     void createWeeklySchedule_Success() {
         // Given
         when(userRepository.existsById(1L)).thenReturn(true);
-        when(activityRepository.existsById(1L)).thenReturn(true);
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity));
         when(weeklyScheduleRepository.countOverlappingSchedules(any(), any(), any(), any(), any()))
                 .thenReturn(0L);
         when(weeklyScheduleRepository.save(any(WeeklySchedule.class)))
                 .thenReturn(mockSchedule);
         when(weeklyScheduleRepository.findById(1L))
                 .thenReturn(Optional.of(mockSchedule));
-        when(activityRepository.findById(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
 
         // When
         WeeklyScheduleResponse result = weeklyScheduleService.createWeeklySchedule(mockRequest);
@@ -164,7 +176,7 @@ class WeeklyScheduleServiceTest {
     void createWeeklySchedule_ActivityNotFound() {
         // Given
         when(userRepository.existsById(1L)).thenReturn(true);
-        when(activityRepository.existsById(1L)).thenReturn(false);
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> weeklyScheduleService.createWeeklySchedule(mockRequest))
@@ -177,7 +189,7 @@ class WeeklyScheduleServiceTest {
     void createWeeklySchedule_TimeOverlap() {
         // Given
         when(userRepository.existsById(1L)).thenReturn(true);
-        when(activityRepository.existsById(1L)).thenReturn(true);
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity));
         when(weeklyScheduleRepository.countOverlappingSchedules(any(), any(), any(), any(), any()))
                 .thenReturn(1L); // 겹치는 시간표 존재
 
@@ -197,7 +209,7 @@ class WeeklyScheduleServiceTest {
                 LocalTime.of(10, 0)   // 종료시간 (시작시간보다 빠름)
         );
         when(userRepository.existsById(1L)).thenReturn(true);
-        when(activityRepository.existsById(1L)).thenReturn(true);
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity));
 
         // When & Then
         assertThatThrownBy(() -> weeklyScheduleService.createWeeklySchedule(invalidRequest))
@@ -211,12 +223,12 @@ class WeeklyScheduleServiceTest {
         // Given
         when(weeklyScheduleRepository.findById(1L)).thenReturn(Optional.of(mockSchedule));
         when(userRepository.existsById(1L)).thenReturn(true);
-        when(activityRepository.existsById(1L)).thenReturn(true);
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity));
         when(weeklyScheduleRepository.countOverlappingSchedules(any(), any(), any(), any(), any()))
                 .thenReturn(0L);
         when(weeklyScheduleRepository.save(any(WeeklySchedule.class)))
                 .thenReturn(mockSchedule);
-        when(activityRepository.findById(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
 
         // When
         WeeklyScheduleResponse result = weeklyScheduleService.updateWeeklySchedule(1L, mockRequest);
@@ -225,6 +237,28 @@ class WeeklyScheduleServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         verify(weeklyScheduleRepository).save(any(WeeklySchedule.class));
+        verify(materializationService, never()).refreshUpcoming(any());
+    }
+
+    @Test
+    @DisplayName("주간 시간표 수정 - 시간이 바뀌면 생성된 배정도 다시 만듦")
+    void updateWeeklySchedule_RefreshesMaterialized() {
+        // Given
+        WeeklyScheduleRequest moved = new WeeklyScheduleRequest(
+                1L, "수학 공부", 1L, 1, LocalTime.of(11, 0), LocalTime.of(12, 0));
+        when(weeklyScheduleRepository.findById(1L)).thenReturn(Optional.of(mockSchedule));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity));
+        when(weeklyScheduleRepository.countOverlappingSchedules(any(), any(), any(), any(), any()))
+                .thenReturn(0L);
+        when(weeklyScheduleRepository.save(any(WeeklySchedule.class)))
+                .thenReturn(mockSchedule);
+
+        // When
+        weeklyScheduleService.updateWeeklySchedule(1L, moved);
+
+        // Then
+        verify(materializationService).refreshUpcoming(1L);
     }
 
     @Test
@@ -243,20 +277,22 @@ class WeeklyScheduleServiceTest {
     @DisplayName("주간 시간표 삭제 - 성공")
     void deleteWeeklySchedule_Success() {
         // Given
-        when(weeklyScheduleRepository.existsById(1L)).thenReturn(true);
+        when(weeklyScheduleRepository.findById(1L)).thenReturn(Optional.of(mockSchedule));
 
         // When
         weeklyScheduleService.deleteWeeklySchedule(1L);
 
         // Then
         verify(weeklyScheduleRepository).deleteById(1L);
+        verify(materializationService).discardUpcoming(1L);
+        verify(resourceVersions).bumpAfterCommit(ResourceVersions.Resource.WEEKLY_SCHEDULE, 1L);
     }
 
     @Test
     @DisplayName("주간 시간표 삭제 - 시간표를 찾을 수 없음")
     void deleteWeeklySchedule_ScheduleNotFound() {
         // Given
-        when(weeklyScheduleRepository.existsById(999L)).thenReturn(false);
+        when(weeklyScheduleRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> weeklyScheduleService.deleteWeeklySchedule(999L))
@@ -271,7 +307,7 @@ class WeeklyScheduleServiceTest {
         LocalDate startDate = LocalDate.of(2025, 6, 2); // 월요일
         when(weeklyScheduleRepository.findByStudentIdWithDetails(1L))
                 .thenReturn(Arrays.asList(mockSchedule));
-        when(activityRepository.findById(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
+        when(referenceDataCache.findActivity(1L)).thenReturn(Optional.of(mockActivity)); // Mock 추가
 
         // When
         List<WeeklySchedulePeriodResponse> result = weeklyScheduleService.getWeeklyScheduleForPeriod(
@@ -11,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.auth.domain.UserRole;
 import saomath.checkusserver.auth.jwt.JwtTokenProvider;
 import saomath.checkusserver.auth.service.CustomUserDetailsService;
@@ -34,6 +35,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(TeacherController.class)
 @DisplayName("TeacherController 통합 테스트")
+@Import(ResourceVersions.class)
 class TeacherControllerTest {
 
     @Autowired
@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import saomath.checkusserver.auth.domain.User;
 import saomath.checkusserver.auth.domain.UserRole;
 import saomath.checkusserver.auth.repository.UserRepository;
+import saomath.checkusserver.common.cache.ResourceVersions;
 import saomath.checkusserver.classroom.domain.ClassEntity;
 import saomath.checkusserver.classroom.domain.TeacherClass;
 import saomath.checkusserver.classroom.repository.ClassRepository;
@@ -47,6 +48,9 @@ class TeacherServiceTest {
     @Mock
     private UserRoleService userRoleService;
 
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private TeacherService teacherService;
 